@@ -0,0 +1,68 @@
+package com.mzc.secondproject.serverless;
+
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage;
+import com.mzc.secondproject.serverless.domain.vocabulary.model.Word;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 벤치마크용 in-memory 픽스처
+ * AWS 리소스 없이 실제 모델과 동일한 형태의 데이터를 생성
+ */
+public final class BenchmarkFixtures {
+	
+	private BenchmarkFixtures() {
+	}
+	
+	public static Word word(int index) {
+		String wordId = "word-" + index;
+		return Word.builder()
+				.pk("WORD#" + wordId)
+				.sk("METADATA")
+				.gsi1pk("LEVEL#BEGINNER")
+				.gsi1sk("WORD#" + wordId)
+				.gsi2pk("CATEGORY#DAILY")
+				.gsi2sk("WORD#" + wordId)
+				.wordId(wordId)
+				.english("apple" + index)
+				.korean("사과" + index)
+				.example("I eat an apple every morning.")
+				.level("BEGINNER")
+				.category("DAILY")
+				.createdAt("2026-01-20T09:00:00Z")
+				.build();
+	}
+	
+	public static ChatMessage chatMessage(int index) {
+		String messageId = "msg-" + index;
+		String now = "2026-01-20T09:00:00Z";
+		return ChatMessage.builder()
+				.pk("ROOM#room-1")
+				.sk("MSG#" + now + "#" + messageId)
+				.gsi1pk("USER#user-1")
+				.gsi1sk("MSG#" + now)
+				.gsi2pk("MSG#" + messageId)
+				.gsi2sk("ROOM#room-1")
+				.messageId(messageId)
+				.roomId("room-1")
+				.userId("user-1")
+				.nickname("tester")
+				.content("Hello, how are you doing today?")
+				.messageType("TEXT")
+				.createdAt(now)
+				.build();
+	}
+	
+	/**
+	 * 서명 검증 없이 payload만 파싱하는 JwtUtil 특성상 서명은 임의 값 사용
+	 */
+	public static String jwt(String sub, String email, long exp) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("{\"alg\":\"RS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+		String payload = encoder.encodeToString(String.format(
+				"{\"sub\":\"%s\",\"email\":\"%s\",\"exp\":%d,\"token_use\":\"id\",\"cognito:username\":\"%s\"}",
+				sub, email, exp, sub).getBytes(StandardCharsets.UTF_8));
+		return header + "." + payload + ".c2lnbmF0dXJl";
+	}
+}
@@ -0,0 +1,86 @@
+package com.mzc.secondproject.serverless.common.router;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HandlerRouter.route 벤치마크
+ * NewsHandler와 동일한 라우트 테이블을 in-memory 핸들러로 구성하여
+ * 라우트 매칭 + 파라미터 검증 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-jmh.xml")
+@State(Scope.Benchmark)
+public class HandlerRouterBenchmark {
+	
+	private static final APIGatewayProxyResponseEvent OK = new APIGatewayProxyResponseEvent().withStatusCode(200);
+	
+	private HandlerRouter router;
+	private APIGatewayProxyRequestEvent firstRouteRequest;
+	private APIGatewayProxyRequestEvent lastRouteRequest;
+	private APIGatewayProxyRequestEvent paramRouteRequest;
+	private APIGatewayProxyRequestEvent notFoundRequest;
+	
+	@Setup
+	public void setUp() {
+		router = new HandlerRouter().addRoutes(
+				Route.get("/news/today", r -> OK),
+				Route.get("/news/recommended", r -> OK),
+				Route.get("/news/stats", r -> OK),
+				Route.get("/news/bookmarks", r -> OK),
+				Route.get("/news/words", r -> OK),
+				Route.get("/news/quiz/history", r -> OK),
+				Route.get("/news/{articleId}/words/{word}", r -> OK),
+				Route.post("/news/{articleId}/words", r -> OK),
+				Route.delete("/news/{articleId}/words/{word}", r -> OK),
+				Route.post("/news/words/{word}/sync", r -> OK),
+				Route.get("/news/{articleId}/quiz", r -> OK),
+				Route.post("/news/{articleId}/quiz", r -> OK),
+				Route.post("/news/{articleId}/read", r -> OK),
+				Route.post("/news/{articleId}/bookmark", r -> OK),
+				Route.get("/news/{articleId}/audio", r -> OK),
+				Route.get("/news/{articleId}", r -> OK),
+				Route.get("/news", r -> OK)
+		);
+		
+		firstRouteRequest = request("GET", "/news/today", Map.of());
+		lastRouteRequest = request("GET", "/news", Map.of());
+		paramRouteRequest = request("GET", "/news/article-123/words/serendipity",
+				Map.of("articleId", "article-123", "word", "serendipity"));
+		notFoundRequest = request("PATCH", "/news/article-123", Map.of("articleId", "article-123"));
+	}
+	
+	@Benchmark
+	public APIGatewayProxyResponseEvent routeFirstEntry() {
+		return router.route(firstRouteRequest);
+	}
+	
+	@Benchmark
+	public APIGatewayProxyResponseEvent routeLastEntry() {
+		return router.route(lastRouteRequest);
+	}
+	
+	@Benchmark
+	public APIGatewayProxyResponseEvent routeWithPathParams() {
+		return router.route(paramRouteRequest);
+	}
+	
+	@Benchmark
+	public APIGatewayProxyResponseEvent routeNotFound() {
+		return router.route(notFoundRequest);
+	}
+	
+	private static APIGatewayProxyRequestEvent request(String method, String path, Map<String, String> pathParams) {
+		return new APIGatewayProxyRequestEvent()
+				.withHttpMethod(method)
+				.withPath(path)
+				.withPathParameters(pathParams);
+	}
+}
@@ -0,0 +1,44 @@
+package com.mzc.secondproject.serverless.common.util;
+
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CursorUtil 인코딩/디코딩 벤치마크
+ * GSI 쿼리의 lastEvaluatedKey(PK, SK, GSI1PK, GSI1SK) 기준
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-jmh.xml")
+@State(Scope.Benchmark)
+public class CursorUtilBenchmark {
+	
+	private Map<String, AttributeValue> lastEvaluatedKey;
+	private String cursor;
+	
+	@Setup
+	public void setUp() {
+		lastEvaluatedKey = Map.of(
+				"PK", AttributeValue.builder().s("ROOM#8f14e45f-ceea-467a-9575-3d4b0c1e2a11").build(),
+				"SK", AttributeValue.builder().s("MSG#2026-01-20T09:00:00Z#c9f0f895-fb98-4b21-a0f3-1f4a5b6c7d8e").build(),
+				"GSI1PK", AttributeValue.builder().s("USER#user-1").build(),
+				"GSI1SK", AttributeValue.builder().s("MSG#2026-01-20T09:00:00Z").build()
+		);
+		cursor = CursorUtil.encode(lastEvaluatedKey);
+	}
+	
+	@Benchmark
+	public String encode() {
+		return CursorUtil.encode(lastEvaluatedKey);
+	}
+	
+	@Benchmark
+	public Map<String, AttributeValue> decode() {
+		return CursorUtil.decode(cursor);
+	}
+}
@@ -0,0 +1,53 @@
+package com.mzc.secondproject.serverless.common.util;
+
+import com.mzc.secondproject.serverless.BenchmarkFixtures;
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage;
+import com.mzc.secondproject.serverless.domain.vocabulary.model.Word;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtil(Gson) DTO 직렬화/역직렬화 왕복 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-jmh.xml")
+@State(Scope.Benchmark)
+public class JsonUtilBenchmark {
+	
+	private ChatMessage chatMessage;
+	private Word word;
+	private String chatMessageJson;
+	private String wordJson;
+	
+	@Setup
+	public void setUp() {
+		chatMessage = BenchmarkFixtures.chatMessage(1);
+		word = BenchmarkFixtures.word(1);
+		chatMessageJson = JsonUtil.toJson(chatMessage);
+		wordJson = JsonUtil.toJson(word);
+	}
+	
+	@Benchmark
+	public String chatMessageToJson() {
+		return JsonUtil.toJson(chatMessage);
+	}
+	
+	@Benchmark
+	public ChatMessage chatMessageFromJson() {
+		return JsonUtil.fromJson(chatMessageJson, ChatMessage.class);
+	}
+	
+	@Benchmark
+	public Word wordRoundTrip() {
+		return JsonUtil.fromJson(JsonUtil.toJson(word), Word.class);
+	}
+	
+	@Benchmark
+	public Word wordFromJson() {
+		return JsonUtil.fromJson(wordJson, Word.class);
+	}
+}
@@ -0,0 +1,42 @@
+package com.mzc.secondproject.serverless.common.util;
+
+import com.mzc.secondproject.serverless.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil claim 추출 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-jmh.xml")
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+	
+	private String bearerToken;
+	
+	@Setup
+	public void setUp() {
+		long exp = System.currentTimeMillis() / 1000 + 3600;
+		bearerToken = "Bearer " + BenchmarkFixtures.jwt("0f1e2d3c-4b5a-6978-8695-a4b3c2d1e0f9", "tester@example.com", exp);
+	}
+	
+	@Benchmark
+	public Optional<String> extractSub() {
+		return JwtUtil.extractClaim(bearerToken, "sub");
+	}
+	
+	@Benchmark
+	public Optional<String> extractMissingClaim() {
+		return JwtUtil.extractClaim(bearerToken, "custom:role");
+	}
+	
+	@Benchmark
+	public boolean isValid() {
+		return JwtUtil.isValid(bearerToken);
+	}
+}
@@ -0,0 +1,49 @@
+package com.mzc.secondproject.serverless.common.util;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.mzc.secondproject.serverless.BenchmarkFixtures;
+import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
+import com.mzc.secondproject.serverless.common.exception.CommonErrorCode;
+import com.mzc.secondproject.serverless.domain.vocabulary.model.Word;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseGenerator 직렬화 벤치마크
+ * 단어 목록(대용량 리스트)과 에러 응답 생성 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-jmh.xml")
+@State(Scope.Benchmark)
+public class ResponseGeneratorBenchmark {
+	
+	@Param({"20", "100"})
+	private int wordCount;
+	
+	private PaginatedResult<Word> wordPage;
+	
+	@Setup
+	public void setUp() {
+		List<Word> words = new ArrayList<>(wordCount);
+		for (int i = 0; i < wordCount; i++) {
+			words.add(BenchmarkFixtures.word(i));
+		}
+		wordPage = new PaginatedResult<>(words, "bmV4dEN1cnNvcg==");
+	}
+	
+	@Benchmark
+	public APIGatewayProxyResponseEvent okWordList() {
+		return ResponseGenerator.ok("Words retrieved", wordPage);
+	}
+	
+	@Benchmark
+	public APIGatewayProxyResponseEvent failWithErrorCode() {
+		return ResponseGenerator.fail(CommonErrorCode.RESOURCE_NOT_FOUND);
+	}
+}
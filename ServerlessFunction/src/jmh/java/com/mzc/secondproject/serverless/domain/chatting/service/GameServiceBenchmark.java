@@ -0,0 +1,29 @@
+package com.mzc.secondproject.serverless.domain.chatting.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐치마인드 정답 정규화/비교 벤치마크
+ * 채팅 메시지마다 호출되는 GameService.isCorrectAnswer 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-jmh.xml")
+@State(Scope.Benchmark)
+public class GameServiceBenchmark {
+	
+	@Param({"아이스 크림", " Ice Cream ", "completely wrong guess"})
+	private String input;
+	
+	private final String koreanAnswer = "아이스크림";
+	private final String englishAnswer = "ice cream";
+	
+	@Benchmark
+	public boolean isCorrectAnswer() {
+		return GameService.isCorrectAnswer(input, koreanAnswer, englishAnswer);
+	}
+}
@@ -0,0 +1,44 @@
+package com.mzc.secondproject.serverless.domain.vocabulary.state;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaced Repetition 간격 계산 및 상태 전이 벤치마크
+ * 상태 전이는 컨텍스트를 변경하므로 매 호출마다 새 컨텍스트를 생성 (생성 비용 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-jmh.xml")
+@State(Scope.Thread)
+public class SpacedRepetitionBenchmark {
+	
+	private SpacedRepetitionContext context;
+	
+	@Setup
+	public void setUp() {
+		context = new SpacedRepetitionContext(3, 6, 2.5, 3, 1);
+	}
+	
+	@Benchmark
+	public int calculateNextInterval() {
+		return context.calculateNextInterval();
+	}
+	
+	@Benchmark
+	public int reviewingCorrectAnswer() {
+		SpacedRepetitionContext fresh = new SpacedRepetitionContext(3, 6, 2.5, 3, 1);
+		WordState next = WordStateFactory.fromString("REVIEWING").onCorrectAnswer(fresh);
+		return next.getIntervalDays(fresh);
+	}
+	
+	@Benchmark
+	public int learningWrongAnswer() {
+		SpacedRepetitionContext fresh = new SpacedRepetitionContext(1, 1, 2.5, 1, 0);
+		WordState next = WordStateFactory.fromString("LEARNING").onWrongAnswer(fresh);
+		return next.getIntervalDays(fresh);
+	}
+}
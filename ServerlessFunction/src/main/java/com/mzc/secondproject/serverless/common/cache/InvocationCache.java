@@ -0,0 +1,116 @@
+package com.mzc.secondproject.serverless.common.cache;
+
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 요청(Lambda invocation) 단위 read-through 캐시 (Unit of Work / Identity Map)
+ * <p>
+ * Handler가 {@link #begin()}으로 스코프를 열면, 스코프가 닫힐 때까지
+ * 같은 키(테이블 + 키 또는 쿼리 시그니처)의 조회는 DynamoDB를 한 번만 호출합니다.
+ * 스코프 밖에서는 항상 loader를 호출하므로 기존 동작과 동일합니다.
+ * <p>
+ * 키 규칙: "{namespace}|{key}" - Repository는 쓰기 시 {@link #invalidateNamespace}로
+ * 해당 엔티티의 조회 결과를 모두 무효화합니다 (write-through invalidation).
+ * <pre>
+ * try (InvocationCache.Scope scope = InvocationCache.begin()) {
+ *     ... // 요청 처리
+ * }
+ * </pre>
+ */
+public final class InvocationCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(InvocationCache.class);
+
+	private static final String METRIC_OPERATION = "InvocationCache";
+
+	private static final ThreadLocal<Map<String, Object>> CURRENT = new ThreadLocal<>();
+
+	private InvocationCache() {
+		// 인스턴스화 방지
+	}
+
+	/**
+	 * 캐시 스코프 시작
+	 * 이미 열린 스코프가 있으면 바깥 스코프를 그대로 사용 (중첩 close는 무시)
+	 */
+	public static Scope begin() {
+		if (CURRENT.get() != null) {
+			return Scope.NESTED;
+		}
+		CURRENT.set(new HashMap<>());
+		return Scope.OWNER;
+	}
+
+	/**
+	 * 현재 스레드에 스코프가 열려 있는지 여부
+	 */
+	public static boolean isActive() {
+		return CURRENT.get() != null;
+	}
+
+	/**
+	 * 캐시 조회, 없으면 loader 호출 후 저장 (null 결과도 캐싱)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T getOrLoad(String namespace, String key, Supplier<T> loader) {
+		Map<String, Object> cache = CURRENT.get();
+		if (cache == null) {
+			return loader.get();
+		}
+
+		String cacheKey = namespace + "|" + key;
+		if (cache.containsKey(cacheKey)) {
+			logger.debug("Invocation cache hit: {}", cacheKey);
+			Metrics.increment(Metrics.CACHE_HIT, METRIC_OPERATION);
+			return (T) cache.get(cacheKey);
+		}
+
+		Metrics.increment(Metrics.CACHE_MISS, METRIC_OPERATION);
+
+		T value = loader.get();
+		cache.put(cacheKey, value);
+		return value;
+	}
+
+	/**
+	 * 단일 키 무효화
+	 */
+	public static void invalidate(String namespace, String key) {
+		Map<String, Object> cache = CURRENT.get();
+		if (cache != null) {
+			cache.remove(namespace + "|" + key);
+		}
+	}
+
+	/**
+	 * 네임스페이스 전체 무효화 (쓰기 후 관련 쿼리 결과 제거)
+	 */
+	public static void invalidateNamespace(String namespace) {
+		Map<String, Object> cache = CURRENT.get();
+		if (cache != null) {
+			String prefix = namespace + "|";
+			cache.keySet().removeIf(cacheKey -> cacheKey.startsWith(prefix));
+		}
+	}
+
+	/**
+	 * 캐시 스코프 (try-with-resources로 사용)
+	 */
+	public enum Scope implements AutoCloseable {
+		OWNER,
+		NESTED;
+
+		@Override
+		public void close() {
+			if (this == OWNER) {
+				CURRENT.remove();
+			}
+		}
+	}
+}
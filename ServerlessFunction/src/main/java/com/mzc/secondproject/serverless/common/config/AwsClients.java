@@ -1,11 +1,21 @@
 package com.mzc.secondproject.serverless.common.config;
 
 import com.amazonaws.xray.interceptors.TracingInterceptor;
+import com.mzc.secondproject.serverless.common.metrics.MetricsInterceptor;
+import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiAsyncClient;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 import software.amazon.awssdk.services.comprehend.ComprehendClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.polly.PollyClient;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -14,112 +24,311 @@ import software.amazon.awssdk.services.ses.SesClient;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+import java.net.URI;
 
 /**
  * AWS SDK 클라이언트 싱글톤 관리
- * Lambda Cold Start 최적화를 위해 static final로 선언
- * X-Ray TracingInterceptor 적용으로 다운스트림 서비스 추적
+ * 클라이언트별 Holder 클래스로 지연 초기화하여 실제 사용하는 클라이언트만 생성
+ * (예: PreSignUpHandler는 어떤 클라이언트도 생성하지 않음)
+ * X-Ray TracingInterceptor 적용으로 다운스트림 서비스 추적, MetricsInterceptor로 호출 지연시간 수집
+ * <p>
+ * 모든 sync 클라이언트는 하나의 Apache 커넥션 풀을, async 클라이언트는 하나의 Netty 이벤트 루프를 공유합니다.
+ * 풀 크기/타임아웃/엔드포인트 오버라이드는 {@link AwsHttpConfig} 참고
+ * <p>
+ * SnapStart 함수는 {@link SnapStartPriming#register(Client...)}로 필요한 클라이언트를 선언하면
+ * 스냅샷 생성 전에 미리 초기화됩니다.
  */
 public final class AwsClients {
-	
-	private static final ClientOverrideConfiguration XRAY_CONFIG = ClientOverrideConfiguration.builder()
-			.addExecutionInterceptor(new TracingInterceptor())
-			.build();
-	
-	// DynamoDB
-	private static final DynamoDbClient DYNAMO_DB_CLIENT = DynamoDbClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-	private static final DynamoDbEnhancedClient DYNAMO_DB_ENHANCED_CLIENT = DynamoDbEnhancedClient.builder()
-			.dynamoDbClient(DYNAMO_DB_CLIENT)
-			.build();
-	// S3
-	private static final S3Client S3_CLIENT = S3Client.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-	private static final S3Presigner S3_PRESIGNER = S3Presigner.builder().build();
-	// Polly
-	private static final PollyClient POLLY_CLIENT = PollyClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-	// SNS
-	private static final SnsClient SNS_CLIENT = SnsClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-	// Bedrock
-	private static final BedrockRuntimeClient BEDROCK_CLIENT = BedrockRuntimeClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-	private static final BedrockRuntimeAsyncClient BEDROCK_ASYNC_CLIENT = BedrockRuntimeAsyncClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-	// Comprehend
-	private static final ComprehendClient COMPREHEND_CLIENT = ComprehendClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-	
-	// SSM (Parameter Store)
-	private static final SsmClient SSM_CLIENT = SsmClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-
-	// SQS
-	private static final SqsClient SQS_CLIENT = SqsClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
-
-	// SES
-	private static final SesClient SES_CLIENT = SesClient.builder()
-			.overrideConfiguration(XRAY_CONFIG)
-			.build();
 
 	private AwsClients() {
 		// 인스턴스화 방지
 	}
-	
+
+	/**
+	 * 함수별로 선언 가능한 클라이언트 종류
+	 */
+	public enum Client {
+		DYNAMO_DB,
+		DYNAMO_DB_ASYNC,
+		S3,
+		S3_PRESIGNER,
+		POLLY,
+		SNS,
+		BEDROCK,
+		BEDROCK_ASYNC,
+		COMPREHEND,
+		SSM,
+		SQS,
+		SES,
+		API_GATEWAY_MANAGEMENT_ASYNC
+	}
+
+	/**
+	 * 선언된 클라이언트 조회 (최초 호출 시 생성)
+	 */
+	public static SdkAutoCloseable get(Client client) {
+		return switch (client) {
+			case DYNAMO_DB -> dynamoDb();
+			case DYNAMO_DB_ASYNC -> dynamoDbAsync();
+			case S3 -> s3();
+			case S3_PRESIGNER -> s3Presigner();
+			case POLLY -> polly();
+			case SNS -> sns();
+			case BEDROCK -> bedrock();
+			case BEDROCK_ASYNC -> bedrockAsync();
+			case COMPREHEND -> comprehend();
+			case SSM -> ssm();
+			case SQS -> sqs();
+			case SES -> ses();
+			case API_GATEWAY_MANAGEMENT_ASYNC -> apiGatewayManagementAsync();
+		};
+	}
+
 	public static DynamoDbClient dynamoDb() {
-		return DYNAMO_DB_CLIENT;
+		return DynamoDbHolder.CLIENT;
 	}
-	
+
 	public static DynamoDbEnhancedClient dynamoDbEnhanced() {
-		return DYNAMO_DB_ENHANCED_CLIENT;
+		return DynamoDbHolder.ENHANCED_CLIENT;
 	}
-	
+
+	public static DynamoDbAsyncClient dynamoDbAsync() {
+		return DynamoDbAsyncHolder.CLIENT;
+	}
+
+	public static DynamoDbEnhancedAsyncClient dynamoDbEnhancedAsync() {
+		return DynamoDbAsyncHolder.ENHANCED_CLIENT;
+	}
+
 	public static S3Client s3() {
-		return S3_CLIENT;
+		return S3Holder.CLIENT;
 	}
-	
+
 	public static S3Presigner s3Presigner() {
-		return S3_PRESIGNER;
+		return S3PresignerHolder.PRESIGNER;
 	}
-	
+
 	public static PollyClient polly() {
-		return POLLY_CLIENT;
+		return PollyHolder.CLIENT;
 	}
-	
+
 	public static SnsClient sns() {
-		return SNS_CLIENT;
+		return SnsHolder.CLIENT;
 	}
-	
+
 	public static BedrockRuntimeClient bedrock() {
-		return BEDROCK_CLIENT;
+		return BedrockHolder.CLIENT;
 	}
-	
+
 	public static BedrockRuntimeAsyncClient bedrockAsync() {
-		return BEDROCK_ASYNC_CLIENT;
+		return BedrockAsyncHolder.CLIENT;
 	}
-	
+
 	public static ComprehendClient comprehend() {
-		return COMPREHEND_CLIENT;
+		return ComprehendHolder.CLIENT;
 	}
-	
+
 	public static SsmClient ssm() {
-		return SSM_CLIENT;
+		return SsmHolder.CLIENT;
 	}
 
 	public static SqsClient sqs() {
-		return SQS_CLIENT;
+		return SqsHolder.CLIENT;
+	}
+
+	public static SesClient ses() { return SesHolder.CLIENT; }
+
+	/**
+	 * WebSocket API Gateway Management 비동기 클라이언트
+	 * 엔드포인트: AWS_ENDPOINT_URL_APIGATEWAYMANAGEMENTAPI 또는 WEBSOCKET_ENDPOINT
+	 */
+	public static ApiGatewayManagementApiAsyncClient apiGatewayManagementAsync() {
+		return ApiGatewayManagementAsyncHolder.CLIENT;
+	}
+
+	/**
+	 * WebSocket 전송(PostToConnection) 클라이언트 설정
+	 * PostToConnection은 멱등이 아니므로 재시도는 SDK 기본 조건(스로틀링/5xx)에서만 수행하고
+	 * 횟수는 WEBSOCKET_BROADCAST_MAX_RETRIES로 제한 (애플리케이션 레벨 재시도 없음)
+	 */
+	public static ClientOverrideConfiguration webSocketOverrideConfiguration() {
+		return XRayHolder.CONFIG.toBuilder()
+				.retryPolicy(RetryPolicy.builder().numRetries(WebSocketConfig.broadcastMaxRetries()).build())
+				.build();
+	}
+
+	/**
+	 * 공유 sync HTTP 클라이언트
+	 * 개별 생성하는 클라이언트(예: API별 ApiGatewayManagementApiClient)도 이 풀을 사용
+	 * 서비스 클라이언트를 close해도 외부에서 주입한 HTTP 클라이언트는 닫히지 않음
+	 */
+	public static SdkHttpClient httpClient() {
+		return HttpClientHolder.SYNC;
+	}
+
+	/**
+	 * 공유 async HTTP 클라이언트 (Netty)
+	 */
+	public static SdkAsyncHttpClient asyncHttpClient() {
+		return HttpClientHolder.ASYNC;
+	}
+
+	/**
+	 * 엔드포인트 오버라이드가 설정된 경우 빌더에 적용
+	 */
+	private static <B extends SdkClientBuilder<B, ?>> B withEndpoint(B builder, String service) {
+		URI endpoint = AwsHttpConfig.endpointOverride(service);
+		return endpoint != null ? builder.endpointOverride(endpoint) : builder;
 	}
 
-	public static SesClient ses() { return SES_CLIENT; }
+	// ============ Lazy Holders ============
+	// Holder 클래스는 최초 접근 시점에 JVM이 스레드 안전하게 초기화
+
+	private static final class XRayHolder {
+		private static final ClientOverrideConfiguration CONFIG = ClientOverrideConfiguration.builder()
+				.addExecutionInterceptor(new TracingInterceptor())
+				.addExecutionInterceptor(new MetricsInterceptor())
+				.build();
+	}
+
+	// 공유 HTTP 전송 계층 (TCP_NODELAY는 Apache/Netty 모두 SDK 기본값으로 활성화)
+	private static final class HttpClientHolder {
+		private static final SdkHttpClient SYNC = ApacheHttpClient.builder()
+				.maxConnections(AwsHttpConfig.maxConnections())
+				.connectionTimeout(AwsHttpConfig.connectionTimeout())
+				.socketTimeout(AwsHttpConfig.socketTimeout())
+				.connectionMaxIdleTime(AwsHttpConfig.connectionMaxIdle())
+				.tcpKeepAlive(true)
+				.build();
+		private static final SdkAsyncHttpClient ASYNC = NettyNioAsyncHttpClient.builder()
+				.maxConcurrency(AwsHttpConfig.maxConnections())
+				.connectionTimeout(AwsHttpConfig.connectionTimeout())
+				.readTimeout(AwsHttpConfig.socketTimeout())
+				.writeTimeout(AwsHttpConfig.socketTimeout())
+				.connectionMaxIdleTime(AwsHttpConfig.connectionMaxIdle())
+				.tcpKeepAlive(true)
+				.build();
+	}
+
+	// DynamoDB
+	private static final class DynamoDbHolder {
+		private static final DynamoDbClient CLIENT = withEndpoint(DynamoDbClient.builder(), "DYNAMODB")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+		private static final DynamoDbEnhancedClient ENHANCED_CLIENT = DynamoDbEnhancedClient.builder()
+				.dynamoDbClient(CLIENT)
+				.build();
+	}
+
+	private static final class DynamoDbAsyncHolder {
+		private static final DynamoDbAsyncClient CLIENT = withEndpoint(DynamoDbAsyncClient.builder(), "DYNAMODB")
+				.httpClient(HttpClientHolder.ASYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+		private static final DynamoDbEnhancedAsyncClient ENHANCED_CLIENT = DynamoDbEnhancedAsyncClient.builder()
+				.dynamoDbClient(CLIENT)
+				.build();
+	}
+
+	// S3
+	private static final class S3Holder {
+		private static final S3Client CLIENT = withEndpoint(S3Client.builder(), "S3")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	// Presigner는 네트워크 호출이 없으므로 엔드포인트만 적용
+	private static final class S3PresignerHolder {
+		private static final S3Presigner PRESIGNER = buildPresigner();
+
+		private static S3Presigner buildPresigner() {
+			S3Presigner.Builder builder = S3Presigner.builder();
+			URI endpoint = AwsHttpConfig.endpointOverride("S3");
+			if (endpoint != null) {
+				builder.endpointOverride(endpoint);
+			}
+			return builder.build();
+		}
+	}
+
+	// Polly
+	private static final class PollyHolder {
+		private static final PollyClient CLIENT = withEndpoint(PollyClient.builder(), "POLLY")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	// SNS
+	private static final class SnsHolder {
+		private static final SnsClient CLIENT = withEndpoint(SnsClient.builder(), "SNS")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	// Bedrock
+	private static final class BedrockHolder {
+		private static final BedrockRuntimeClient CLIENT = withEndpoint(BedrockRuntimeClient.builder(), "BEDROCK_RUNTIME")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	private static final class BedrockAsyncHolder {
+		private static final BedrockRuntimeAsyncClient CLIENT = withEndpoint(BedrockRuntimeAsyncClient.builder(), "BEDROCK_RUNTIME")
+				.httpClient(HttpClientHolder.ASYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	// Comprehend
+	private static final class ComprehendHolder {
+		private static final ComprehendClient CLIENT = withEndpoint(ComprehendClient.builder(), "COMPREHEND")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	// SSM (Parameter Store)
+	private static final class SsmHolder {
+		private static final SsmClient CLIENT = withEndpoint(SsmClient.builder(), "SSM")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	// SQS
+	private static final class SqsHolder {
+		private static final SqsClient CLIENT = withEndpoint(SqsClient.builder(), "SQS")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	// SES
+	private static final class SesHolder {
+		private static final SesClient CLIENT = withEndpoint(SesClient.builder(), "SES")
+				.httpClient(HttpClientHolder.SYNC)
+				.overrideConfiguration(XRayHolder.CONFIG)
+				.build();
+	}
+
+	// API Gateway Management (WebSocket)
+	private static final class ApiGatewayManagementAsyncHolder {
+		private static final ApiGatewayManagementApiAsyncClient CLIENT = ApiGatewayManagementApiAsyncClient.builder()
+				.endpointOverride(websocketEndpoint())
+				.httpClient(HttpClientHolder.ASYNC)
+				.overrideConfiguration(webSocketOverrideConfiguration())
+				.build();
+
+		private static URI websocketEndpoint() {
+			URI override = AwsHttpConfig.serviceEndpointOverride("APIGATEWAYMANAGEMENTAPI");
+			return override != null ? override : URI.create(WebSocketConfig.websocketEndpoint());
+		}
+	}
 }
@@ -0,0 +1,93 @@
+package com.mzc.secondproject.serverless.common.config;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * AWS SDK HTTP 전송 계층 환경변수 설정
+ * Lambda 환경변수에서 값을 읽어오며, 없을 경우 기본값 사용
+ * <p>
+ * 엔드포인트 오버라이드:
+ * - AWS_ENDPOINT_URL_{SERVICE} (예: AWS_ENDPOINT_URL_DYNAMODB) 가 우선
+ * - 없으면 AWS_ENDPOINT_URL 을 모든 서비스에 적용 (로컬 스탠드인 연결용)
+ */
+public final class AwsHttpConfig {
+
+	// 환경변수 키
+	private static final String ENV_MAX_CONNECTIONS = "AWS_HTTP_MAX_CONNECTIONS";
+	private static final String ENV_CONNECTION_TIMEOUT_MS = "AWS_HTTP_CONNECTION_TIMEOUT_MS";
+	private static final String ENV_SOCKET_TIMEOUT_MS = "AWS_HTTP_SOCKET_TIMEOUT_MS";
+	private static final String ENV_CONNECTION_MAX_IDLE_MS = "AWS_HTTP_CONNECTION_MAX_IDLE_MS";
+	private static final String ENV_ENDPOINT_URL = "AWS_ENDPOINT_URL";
+	private static final String ENV_ENDPOINT_URL_PREFIX = "AWS_ENDPOINT_URL_";
+	// 기본값
+	private static final int DEFAULT_MAX_CONNECTIONS = 50;
+	private static final long DEFAULT_CONNECTION_TIMEOUT_MS = 2_000L;
+	private static final long DEFAULT_SOCKET_TIMEOUT_MS = 30_000L;
+	private static final long DEFAULT_CONNECTION_MAX_IDLE_MS = 60_000L;
+	// 캐시된 값 (Cold Start 최적화)
+	private static final int MAX_CONNECTIONS = EnvConfig.getIntOrDefault(ENV_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS);
+	private static final Duration CONNECTION_TIMEOUT = Duration.ofMillis(
+			EnvConfig.getLongOrDefault(ENV_CONNECTION_TIMEOUT_MS, DEFAULT_CONNECTION_TIMEOUT_MS));
+	private static final Duration SOCKET_TIMEOUT = Duration.ofMillis(
+			EnvConfig.getLongOrDefault(ENV_SOCKET_TIMEOUT_MS, DEFAULT_SOCKET_TIMEOUT_MS));
+	private static final Duration CONNECTION_MAX_IDLE = Duration.ofMillis(
+			EnvConfig.getLongOrDefault(ENV_CONNECTION_MAX_IDLE_MS, DEFAULT_CONNECTION_MAX_IDLE_MS));
+
+	private AwsHttpConfig() {
+		// 인스턴스화 방지
+	}
+
+	/**
+	 * 커넥션 풀 최대 크기 (sync: maxConnections, async: maxConcurrency)
+	 */
+	public static int maxConnections() {
+		return MAX_CONNECTIONS;
+	}
+
+	/**
+	 * TCP 연결 수립 타임아웃
+	 */
+	public static Duration connectionTimeout() {
+		return CONNECTION_TIMEOUT;
+	}
+
+	/**
+	 * 소켓 read/write 타임아웃
+	 */
+	public static Duration socketTimeout() {
+		return SOCKET_TIMEOUT;
+	}
+
+	/**
+	 * 유휴 커넥션 유지 시간 (keep-alive)
+	 */
+	public static Duration connectionMaxIdle() {
+		return CONNECTION_MAX_IDLE;
+	}
+
+	/**
+	 * 서비스별 엔드포인트 오버라이드
+	 *
+	 * @param service 서비스 식별자 (예: DYNAMODB, S3, SNS)
+	 * @return 오버라이드 URI (설정되지 않은 경우 null)
+	 */
+	public static URI endpointOverride(String service) {
+		String value = EnvConfig.get(ENV_ENDPOINT_URL_PREFIX + service);
+		if (value == null || value.isBlank()) {
+			value = EnvConfig.get(ENV_ENDPOINT_URL);
+		}
+		return value == null || value.isBlank() ? null : URI.create(value.trim());
+	}
+
+	/**
+	 * 서비스 전용 엔드포인트 오버라이드 (AWS_ENDPOINT_URL 전역값은 적용하지 않음)
+	 * API Gateway Management API처럼 API별 엔드포인트가 필요한 서비스에 사용
+	 *
+	 * @return 오버라이드 URI (설정되지 않은 경우 null)
+	 */
+	public static URI serviceEndpointOverride(String service) {
+		String value = EnvConfig.get(ENV_ENDPOINT_URL_PREFIX + service);
+		return value == null || value.isBlank() ? null : URI.create(value.trim());
+	}
+}
@@ -0,0 +1,126 @@
+package com.mzc.secondproject.serverless.common.config;
+
+import com.mzc.secondproject.serverless.common.util.ResponseGenerator;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DescribeEndpointsRequest;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SnapStart(CRaC) 스냅샷 priming
+ * <p>
+ * 각 Handler가 static 블록에서 필요한 AWS 클라이언트를 선언하면,
+ * 스냅샷 생성 직전(beforeCheckpoint)에 다음을 수행하여 복원 후 첫 요청 지연을 줄입니다.
+ * - 자격 증명 해석 (DefaultCredentialsProvider)
+ * - 선언된 클라이언트 생성 (AwsClients 지연 초기화)
+ * - DynamoDB DescribeEndpoints 호출로 커넥션 풀/TLS/마샬러 워밍업
+ * - AttributeValue / 응답 JSON 직렬화 더미 패스
+ * <p>
+ * priming 중 발생한 예외는 로그만 남기고 스냅샷 생성을 막지 않습니다.
+ */
+public final class SnapStartPriming implements Resource {
+
+	private static final Logger logger = LoggerFactory.getLogger(SnapStartPriming.class);
+
+	// CRaC Context는 Resource를 약한 참조로 보관하므로 static 필드로 유지
+	private static final SnapStartPriming INSTANCE = new SnapStartPriming();
+
+	private final EnumSet<AwsClients.Client> clients = EnumSet.noneOf(AwsClients.Client.class);
+	private boolean registered;
+
+	private SnapStartPriming() {
+	}
+
+	/**
+	 * 함수에서 사용하는 클라이언트 선언 및 CRaC 훅 등록
+	 * 여러 클래스에서 호출해도 훅은 한 번만 등록됩니다.
+	 */
+	public static void register(AwsClients.Client... required) {
+		INSTANCE.add(required);
+	}
+
+	/**
+	 * 현재까지 선언된 클라이언트 목록
+	 */
+	public static Set<AwsClients.Client> declaredClients() {
+		synchronized (INSTANCE) {
+			return EnumSet.copyOf(INSTANCE.clients);
+		}
+	}
+
+	private synchronized void add(AwsClients.Client... required) {
+		clients.addAll(Arrays.asList(required));
+		if (!registered) {
+			Core.getGlobalContext().register(this);
+			registered = true;
+		}
+	}
+
+	@Override
+	public void beforeCheckpoint(Context<? extends Resource> context) {
+		long start = System.currentTimeMillis();
+		Set<AwsClients.Client> targets = declaredClients();
+
+		primeCredentials();
+		for (AwsClients.Client client : targets) {
+			primeClient(client);
+		}
+		primeMarshalling();
+
+		logger.info("SnapStart priming completed: clients={}, elapsed={}ms", targets, System.currentTimeMillis() - start);
+	}
+
+	@Override
+	public void afterRestore(Context<? extends Resource> context) {
+		logger.info("SnapStart restored: clients={}", declaredClients());
+	}
+
+	private void primeCredentials() {
+		try {
+			DefaultCredentialsProvider.create().resolveCredentials();
+		} catch (Exception e) {
+			logger.warn("Credential priming skipped: {}", e.getMessage());
+		}
+	}
+
+	private void primeClient(AwsClients.Client client) {
+		try {
+			AwsClients.get(client);
+			switch (client) {
+				case DYNAMO_DB -> {
+					AwsClients.dynamoDbEnhanced();
+					AwsClients.dynamoDb().describeEndpoints(DescribeEndpointsRequest.builder().build());
+				}
+				case DYNAMO_DB_ASYNC -> {
+					AwsClients.dynamoDbEnhancedAsync();
+					AwsClients.dynamoDbAsync().describeEndpoints(DescribeEndpointsRequest.builder().build()).join();
+				}
+				default -> {
+				}
+			}
+		} catch (Exception e) {
+			logger.warn("Client priming failed: client={}, error={}", client, e.getMessage());
+		}
+	}
+
+	private void primeMarshalling() {
+		try {
+			Map<String, AttributeValue> item = Map.of(
+					"PK", AttributeValue.builder().s("PRIMING").build(),
+					"count", AttributeValue.builder().n("0").build()
+			);
+			ResponseGenerator.ok("priming", Map.of("pk", item.get("PK").s(), "count", item.get("count").n()));
+		} catch (Exception e) {
+			logger.warn("Marshalling priming failed: {}", e.getMessage());
+		}
+	}
+}
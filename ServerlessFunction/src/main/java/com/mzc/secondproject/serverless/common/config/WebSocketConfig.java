@@ -9,11 +9,23 @@ public final class WebSocketConfig {
 	// 환경변수 키
 	private static final String ENV_CONNECTION_TTL_SECONDS = "WEBSOCKET_CONNECTION_TTL_SECONDS";
 	private static final String ENV_WEBSOCKET_ENDPOINT = "WEBSOCKET_ENDPOINT";
+	private static final String ENV_BROADCAST_MODE = "WEBSOCKET_BROADCAST_MODE";
+	private static final String ENV_BROADCAST_CONCURRENCY = "WEBSOCKET_BROADCAST_CONCURRENCY";
+	private static final String ENV_BROADCAST_TIMEOUT_MS = "WEBSOCKET_BROADCAST_TIMEOUT_MS";
+	private static final String ENV_BROADCAST_MAX_RETRIES = "WEBSOCKET_BROADCAST_MAX_RETRIES";
 	// 기본값
 	private static final long DEFAULT_CONNECTION_TTL_SECONDS = 600L; // 10분
+	private static final String DEFAULT_BROADCAST_MODE = "async";
+	private static final int DEFAULT_BROADCAST_CONCURRENCY = 16;
+	private static final long DEFAULT_BROADCAST_TIMEOUT_MS = 2000L;
+	private static final int DEFAULT_BROADCAST_MAX_RETRIES = 2;
 	// 캐시된 값 (Cold Start 최적화)
 	private static final long CONNECTION_TTL_SECONDS = EnvConfig.getLongOrDefault(ENV_CONNECTION_TTL_SECONDS, DEFAULT_CONNECTION_TTL_SECONDS);
 	private static final String WEBSOCKET_ENDPOINT = EnvConfig.getRequired(ENV_WEBSOCKET_ENDPOINT);
+	private static final boolean BROADCAST_ASYNC = !"sequential".equalsIgnoreCase(EnvConfig.getOrDefault(ENV_BROADCAST_MODE, DEFAULT_BROADCAST_MODE));
+	private static final int BROADCAST_CONCURRENCY = Math.max(1, EnvConfig.getIntOrDefault(ENV_BROADCAST_CONCURRENCY, DEFAULT_BROADCAST_CONCURRENCY));
+	private static final long BROADCAST_TIMEOUT_MS = EnvConfig.getLongOrDefault(ENV_BROADCAST_TIMEOUT_MS, DEFAULT_BROADCAST_TIMEOUT_MS);
+	private static final int BROADCAST_MAX_RETRIES = Math.max(0, EnvConfig.getIntOrDefault(ENV_BROADCAST_MAX_RETRIES, DEFAULT_BROADCAST_MAX_RETRIES));
 	
 	private WebSocketConfig() {
 		// 인스턴스화 방지
@@ -33,4 +45,32 @@ public final class WebSocketConfig {
 	public static String websocketEndpoint() {
 		return WEBSOCKET_ENDPOINT;
 	}
+	
+	/**
+	 * 비동기 병렬 브로드캐스트 사용 여부 (WEBSOCKET_BROADCAST_MODE=sequential 이면 순차 전송)
+	 */
+	public static boolean broadcastAsync() {
+		return BROADCAST_ASYNC;
+	}
+	
+	/**
+	 * 브로드캐스트 동시 전송 최대 개수
+	 */
+	public static int broadcastConcurrency() {
+		return BROADCAST_CONCURRENCY;
+	}
+	
+	/**
+	 * 연결당 전송 타임아웃 (ms, SDK 재시도 포함 전체 호출 기준, 초과 시 재시도하지 않음)
+	 */
+	public static long broadcastTimeoutMs() {
+		return BROADCAST_TIMEOUT_MS;
+	}
+	
+	/**
+	 * 연결당 SDK 최대 재시도 횟수 (스로틀링/5xx만 재시도, GoneException 등 4xx는 재시도하지 않음)
+	 */
+	public static int broadcastMaxRetries() {
+		return BROADCAST_MAX_RETRIES;
+	}
 }
@@ -1,5 +1,7 @@
 package com.mzc.secondproject.serverless.common.dto;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
+
 /**
  * 표준 API 응답 래퍼
  *
@@ -8,6 +10,7 @@ package com.mzc.secondproject.serverless.common.dto;
  * @param data      응답 데이터
  * @param error     에러 메시지
  */
+@GenerateTypeAdapter
 public record ApiResponse<T>(
 		boolean isSuccess,
 		String message,
@@ -3,6 +3,7 @@ package com.mzc.secondproject.serverless.common.dto;
 import com.mzc.secondproject.serverless.common.exception.DomainErrorCode;
 import com.mzc.secondproject.serverless.common.exception.ErrorCode;
 import com.mzc.secondproject.serverless.common.exception.ServerlessException;
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 
 import java.util.Map;
 
@@ -26,6 +27,7 @@ import java.util.Map;
  * @param status  HTTP 상태 코드
  * @param details 추가 상세 정보 (선택)
  */
+@GenerateTypeAdapter
 public record ErrorInfo(
 		String code,
 		String message,
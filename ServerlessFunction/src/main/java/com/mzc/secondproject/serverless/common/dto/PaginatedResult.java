@@ -1,5 +1,7 @@
 package com.mzc.secondproject.serverless.common.dto;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
+
 import java.util.List;
 
 /**
@@ -8,6 +10,7 @@ import java.util.List;
  * @param items      결과 아이템 목록
  * @param nextCursor 다음 페이지 커서 (없으면 null)
  */
+@GenerateTypeAdapter
 public record PaginatedResult<T>(
 		List<T> items,
 		String nextCursor
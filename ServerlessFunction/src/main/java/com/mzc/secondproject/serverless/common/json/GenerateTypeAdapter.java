@@ -0,0 +1,22 @@
+package com.mzc.secondproject.serverless.common.json;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴파일 시 Gson TypeAdapter 생성 대상 표시
+ * <p>
+ * 어노테이션 프로세서가 같은 패키지에 {@code {클래스명}_GsonTypeAdapter}를 생성하고
+ * {@code GeneratedTypeAdapterFactory}에 등록합니다. {@link com.mzc.secondproject.serverless.common.util.JsonUtil#gson()}을
+ * 사용하면 리플렉션 대신 생성된 어댑터로 직렬화합니다.
+ * <p>
+ * 대상: record 또는 Lombok(@Data) 클래스 (getter/setter + 기본 생성자 필요, 상속 미지원)
+ * 직접 작성한 getter/setter는 필드를 그대로 반환/대입해야 합니다 (Gson 리플렉션과 결과가 달라지므로 컴파일 오류).
+ * 제네릭 타입은 요청된 TypeToken의 타입 인자로 필드 타입을 해석합니다.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateTypeAdapter {
+}
@@ -0,0 +1,102 @@
+package com.mzc.secondproject.serverless.common.metrics;
+
+/**
+ * HDR 스타일 로그-선형 지연시간 히스토그램 (마이크로초 단위)
+ * <p>
+ * 2의 거듭제곱 구간을 16개 선형 하위 구간으로 나누어 상대 오차 약 6% 이내로 기록합니다.
+ * 버킷 배열은 생성 시 한 번만 할당하고, 기록 시에는 추가 할당이 없습니다.
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKET_COUNT];
+	private long count;
+	private long sum;
+	private long min = Long.MAX_VALUE;
+	private long max;
+
+	/**
+	 * 지연시간 기록
+	 *
+	 * @param micros 마이크로초 (음수는 0으로 기록)
+	 */
+	synchronized void record(long micros) {
+		long value = Math.max(0, micros);
+		counts[bucketIndex(value)]++;
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	synchronized boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * 현재 값을 스냅샷으로 복사한 뒤 초기화
+	 */
+	synchronized Snapshot drain() {
+		int nonZero = 0;
+		for (long c : counts) {
+			if (c > 0) {
+				nonZero++;
+			}
+		}
+
+		long[] bucketValues = new long[nonZero];
+		long[] bucketCounts = new long[nonZero];
+		int i = 0;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			if (counts[index] > 0) {
+				bucketValues[i] = bucketMidpoint(index);
+				bucketCounts[i] = counts[index];
+				i++;
+				counts[index] = 0;
+			}
+		}
+
+		Snapshot snapshot = new Snapshot(bucketValues, bucketCounts, count, sum, count == 0 ? 0 : min, max);
+		count = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+		return snapshot;
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long bucketLowerBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		int subBucket = index % SUB_BUCKETS;
+		return (long) (SUB_BUCKETS + subBucket) << shift;
+	}
+
+	static long bucketMidpoint(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		return bucketLowerBound(index) + ((1L << shift) >> 1);
+	}
+
+	/**
+	 * 드레인 결과 (values는 버킷 대표값, 마이크로초)
+	 */
+	record Snapshot(long[] values, long[] counts, long count, long sum, long min, long max) {
+	}
+}
@@ -0,0 +1,258 @@
+package com.mzc.secondproject.serverless.common.metrics;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * CloudWatch Embedded Metric Format(EMF) 메트릭 facade
+ * <p>
+ * - 지연시간: {@link #recordLatency} / {@link #time} → HDR 스타일 히스토그램 (Values/Counts 분포로 전송)
+ * - 카운터: {@link #increment} / {@link #count}
+ * - {@link #flush()}: 요청당 한 번, Operation별 EMF JSON 한 줄씩 "EMF" 로거로 출력
+ *   (라우터 밖 핸들러는 {@link #flushAfter}로 감쌈)
+ * <p>
+ * 메트릭 키는 (메트릭 이름, Operation 차원)이며 히스토그램/카운터는 재사용되므로
+ * 기록 경로에서는 추가 할당이 거의 없습니다.
+ * <pre>
+ * Metrics.recordLatency(Metrics.ROUTE_LATENCY, "GET /news", startNanos);
+ * Metrics.increment(Metrics.CACHE_HIT, "InvocationCache");
+ * </pre>
+ */
+public final class Metrics {
+
+	private static final Logger logger = LoggerFactory.getLogger(Metrics.class);
+	// log4j2.xml의 EMF 로거 (메시지만 출력하는 Lambda appender)
+	private static final Logger emfLogger = LoggerFactory.getLogger("EMF");
+
+	// 메트릭 이름
+	public static final String ROUTE_LATENCY = "RouteLatency";
+	public static final String REPOSITORY_LATENCY = "RepositoryLatency";
+	public static final String AWS_CALL_LATENCY = "AwsCallLatency";
+	public static final String AWS_CALL_ERROR = "AwsCallError";
+	public static final String CACHE_HIT = "CacheHit";
+	public static final String CACHE_MISS = "CacheMiss";
+	public static final String BROADCAST_FAILURE = "BroadcastFailure";
+
+	private static final String NAMESPACE = EnvConfig.getOrDefault("METRICS_NAMESPACE", "LanguageStudy");
+	private static final boolean ENABLED = !"false".equalsIgnoreCase(EnvConfig.get("METRICS_ENABLED"));
+	private static final String FUNCTION_NAME = EnvConfig.getOrDefault("AWS_LAMBDA_FUNCTION_NAME", "local");
+
+	// EMF는 메트릭당 최대 100개의 Values/Counts 허용
+	private static final int MAX_DISTRIBUTION_VALUES = 100;
+
+	private static final Map<MetricKey, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+	private static final Map<MetricKey, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+	private Metrics() {
+		// 인스턴스화 방지
+	}
+
+	// === 기록 ===
+
+	/**
+	 * System.nanoTime() 기준 시작 시각부터 현재까지의 지연시간 기록
+	 */
+	public static void recordLatency(String metric, String operation, long startNanos) {
+		recordMicros(metric, operation, (System.nanoTime() - startNanos) / 1_000L);
+	}
+
+	/**
+	 * 마이크로초 단위 지연시간 기록
+	 */
+	public static void recordMicros(String metric, String operation, long micros) {
+		if (!ENABLED) {
+			return;
+		}
+		HISTOGRAMS.computeIfAbsent(new MetricKey(metric, operation), k -> new LatencyHistogram()).record(micros);
+	}
+
+	/**
+	 * 작업 실행 시간 측정 (예외가 발생해도 기록)
+	 */
+	public static <T> T time(String metric, String operation, Supplier<T> action) {
+		long start = System.nanoTime();
+		try {
+			return action.get();
+		} finally {
+			recordLatency(metric, operation, start);
+		}
+	}
+
+	public static void increment(String metric, String operation) {
+		count(metric, operation, 1);
+	}
+
+	public static void count(String metric, String operation, long delta) {
+		if (!ENABLED) {
+			return;
+		}
+		COUNTERS.computeIfAbsent(new MetricKey(metric, operation), k -> new LongAdder()).add(delta);
+	}
+
+	// === 전송 ===
+
+	/**
+	 * 누적된 메트릭을 EMF로 출력하고 초기화 (요청 종료 시 한 번 호출)
+	 */
+	public static void flush() {
+		if (!ENABLED) {
+			return;
+		}
+		try {
+			for (String document : drain(System.currentTimeMillis())) {
+				emfLogger.info(document);
+			}
+		} catch (Exception e) {
+			logger.warn("Failed to flush metrics: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 핸들러 실행 후 예외가 발생해도 flush
+	 * HandlerRouter를 거치지 않는 핸들러(WebSocket, Stream, SQS/SNS, 스케줄 등)의 handleRequest에서 사용
+	 */
+	public static <T> T flushAfter(Supplier<T> handler) {
+		try {
+			return handler.get();
+		} finally {
+			flush();
+		}
+	}
+
+	/**
+	 * Operation별 EMF JSON 문서 생성 후 누적값 초기화
+	 */
+	static synchronized List<String> drain(long timestamp) {
+		Map<String, List<Map.Entry<String, Object>>> byOperation = new TreeMap<>();
+
+		HISTOGRAMS.forEach((key, histogram) -> {
+			if (!histogram.isEmpty()) {
+				byOperation.computeIfAbsent(key.operation(), k -> new ArrayList<>())
+						.add(Map.entry(key.metric(), histogram.drain()));
+			}
+		});
+		COUNTERS.forEach((key, counter) -> {
+			long value = counter.sumThenReset();
+			if (value != 0) {
+				byOperation.computeIfAbsent(key.operation(), k -> new ArrayList<>())
+						.add(Map.entry(key.metric(), value));
+			}
+		});
+
+		List<String> documents = new ArrayList<>(byOperation.size());
+		StringBuilder sb = new StringBuilder(512);
+		byOperation.forEach((operation, metrics) -> {
+			sb.setLength(0);
+			appendDocument(sb, timestamp, operation, metrics);
+			documents.add(sb.toString());
+		});
+		return documents;
+	}
+
+	private static void appendDocument(StringBuilder sb, long timestamp, String operation,
+	                                   List<Map.Entry<String, Object>> metrics) {
+		sb.append("{\"_aws\":{\"Timestamp\":").append(timestamp)
+				.append(",\"CloudWatchMetrics\":[{\"Namespace\":");
+		appendString(sb, NAMESPACE);
+		sb.append(",\"Dimensions\":[[\"Operation\"]],\"Metrics\":[");
+		for (int i = 0; i < metrics.size(); i++) {
+			Map.Entry<String, Object> metric = metrics.get(i);
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append("{\"Name\":");
+			appendString(sb, metric.getKey());
+			sb.append(",\"Unit\":\"")
+					.append(metric.getValue() instanceof LatencyHistogram.Snapshot ? "Milliseconds" : "Count")
+					.append("\"}");
+		}
+		sb.append("]}]},\"Operation\":");
+		appendString(sb, operation);
+		sb.append(",\"FunctionName\":");
+		appendString(sb, FUNCTION_NAME);
+
+		for (Map.Entry<String, Object> metric : metrics) {
+			sb.append(',');
+			appendString(sb, metric.getKey());
+			sb.append(':');
+			if (metric.getValue() instanceof LatencyHistogram.Snapshot snapshot) {
+				appendDistribution(sb, snapshot);
+			} else {
+				sb.append(metric.getValue());
+			}
+		}
+		sb.append('}');
+	}
+
+	/**
+	 * 히스토그램을 EMF 분포 형식으로 출력 (ms 단위)
+	 * 버킷이 100개를 넘으면 인접 버킷을 가중 평균으로 병합
+	 */
+	private static void appendDistribution(StringBuilder sb, LatencyHistogram.Snapshot snapshot) {
+		long[] values = snapshot.values();
+		long[] counts = snapshot.counts();
+		int group = (values.length + MAX_DISTRIBUTION_VALUES - 1) / MAX_DISTRIBUTION_VALUES;
+
+		StringBuilder countsJson = new StringBuilder();
+		sb.append("{\"Values\":[");
+		for (int start = 0; start < values.length; start += Math.max(group, 1)) {
+			int end = Math.min(values.length, start + Math.max(group, 1));
+			long groupCount = 0;
+			double weighted = 0;
+			for (int i = start; i < end; i++) {
+				groupCount += counts[i];
+				weighted += (double) values[i] * counts[i];
+			}
+			if (start > 0) {
+				sb.append(',');
+				countsJson.append(',');
+			}
+			sb.append(toMillis(Math.round(weighted / groupCount)));
+			countsJson.append(groupCount);
+		}
+		sb.append("],\"Counts\":[").append(countsJson)
+				.append("],\"Min\":").append(toMillis(snapshot.min()))
+				.append(",\"Max\":").append(toMillis(snapshot.max()))
+				.append(",\"Sum\":").append(toMillis(snapshot.sum()))
+				.append(",\"Count\":").append(snapshot.count())
+				.append('}');
+	}
+
+	private static String toMillis(long micros) {
+		return Double.toString(micros / 1000.0);
+	}
+
+	private static void appendString(StringBuilder sb, String value) {
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> sb.append("\\\"");
+				case '\\' -> sb.append("\\\\");
+				case '\n' -> sb.append("\\n");
+				case '\r' -> sb.append("\\r");
+				case '\t' -> sb.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						sb.append(String.format("\\u%04x", (int) c));
+					} else {
+						sb.append(c);
+					}
+				}
+			}
+		}
+		sb.append('"');
+	}
+
+	private record MetricKey(String metric, String operation) {
+	}
+}
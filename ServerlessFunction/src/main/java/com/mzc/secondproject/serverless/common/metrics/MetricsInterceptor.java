@@ -0,0 +1,45 @@
+package com.mzc.secondproject.serverless.common.metrics;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * AWS SDK 호출 지연시간 수집 인터셉터
+ * 모든 클라이언트(DynamoDB, Bedrock, Polly 등)의 호출을 "{서비스}.{오퍼레이션}" 단위로 기록
+ * (예: DynamoDb.Query, BedrockRuntime.InvokeModel, Polly.SynthesizeSpeech)
+ */
+public final class MetricsInterceptor implements ExecutionInterceptor {
+
+	private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("MetricsStartNanos");
+
+	@Override
+	public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+		executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+	}
+
+	@Override
+	public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+		record(executionAttributes, false);
+	}
+
+	@Override
+	public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+		record(executionAttributes, true);
+	}
+
+	private void record(ExecutionAttributes executionAttributes, boolean failed) {
+		Long start = executionAttributes.getAttribute(START_NANOS);
+		if (start == null) {
+			return;
+		}
+		String operation = executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME)
+				+ "." + executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+		Metrics.recordLatency(Metrics.AWS_CALL_LATENCY, operation, start);
+		if (failed) {
+			Metrics.increment(Metrics.AWS_CALL_ERROR, operation);
+		}
+	}
+}
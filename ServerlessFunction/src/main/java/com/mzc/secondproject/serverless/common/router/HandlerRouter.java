@@ -2,24 +2,26 @@ package com.mzc.secondproject.serverless.common.router;
 
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.mzc.secondproject.serverless.common.cache.InvocationCache;
 import com.mzc.secondproject.serverless.common.dto.ErrorInfo;
 import com.mzc.secondproject.serverless.common.exception.CommonErrorCode;
 import com.mzc.secondproject.serverless.common.exception.ServerlessException;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.ResponseGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * Lambda Handler를 위한 HTTP 라우터
  * <p>
  * 선언적 라우팅 + 자동 Path/Query 파라미터 검증 제공
+ * 라우트는 세그먼트 트라이({@link RouteTrie})로 컴파일되어 O(경로 세그먼트 수)로 매칭
  * <p>
  * 사용 예시:
  * new HandlerRouter().addRoutes(
@@ -31,15 +33,13 @@ public class HandlerRouter {
 	
 	private static final Logger logger = LoggerFactory.getLogger(HandlerRouter.class);
 	
-	private final List<RouteEntry> routes = new ArrayList<>();
+	private final RouteTrie routeTrie = new RouteTrie();
 	
 	/**
 	 * 라우트 등록
 	 */
 	public HandlerRouter addRoute(Route route) {
-		String regex = convertPatternToRegex(route.pathPattern());
-		Pattern pattern = Pattern.compile(regex);
-		routes.add(new RouteEntry(route, pattern));
+		routeTrie.insert(route);
 		return this;
 	}
 	
@@ -62,39 +62,74 @@ public class HandlerRouter {
 		
 		logger.info("Routing request: {} {}", method, path);
 		
-		for (RouteEntry entry : routes) {
-			if (entry.matches(method, path)) {
-				logger.debug("Matched route: {} {}", entry.route.method(), entry.route.pathPattern());
-				
-				// Path/Query 파라미터 자동 검증
-				String validationError = validateParams(request, entry.route);
-				if (validationError != null) {
-					logger.warn("Validation failed: {}", validationError);
-					return ResponseGenerator.fail(CommonErrorCode.REQUIRED_FIELD_MISSING, validationError);
-				}
-				
-				try {
-					return entry.route.handler().apply(request);
-				} catch (ServerlessException e) {
-					return handleServerlessException(e);
-				} catch (IllegalArgumentException e) {
-					logger.warn("Bad request: {}", e.getMessage());
-					return ResponseGenerator.fail(CommonErrorCode.INVALID_INPUT, e.getMessage());
-				} catch (IllegalStateException e) {
-					logger.warn("Conflict: {}", e.getMessage());
-					return ResponseGenerator.fail(CommonErrorCode.RESOURCE_ALREADY_EXISTS, e.getMessage());
-				} catch (SecurityException e) {
-					logger.warn("Forbidden: {}", e.getMessage());
-					return ResponseGenerator.fail(CommonErrorCode.FORBIDDEN, e.getMessage());
-				} catch (Exception e) {
-					logger.error("Error handling request", e);
-					return ResponseGenerator.fail(CommonErrorCode.INTERNAL_SERVER_ERROR);
-				}
-			}
+		RouteTrie.Match match = routeTrie.find(method, path);
+		if (match == null) {
+			logger.warn("No route found for: {} {}", method, path);
+			return ResponseGenerator.fail(CommonErrorCode.RESOURCE_NOT_FOUND);
+		}
+		
+		Route route = match.route();
+		logger.debug("Matched route: {} {}", route.method(), route.pathPattern());
+		
+		// 트라이에서 추출한 Path 파라미터 보완 (API Gateway가 전달하지 않은 경우)
+		mergePathParams(request, match.pathParams());
+		
+		// Path/Query 파라미터 자동 검증
+		String validationError = validateParams(request, route);
+		if (validationError != null) {
+			logger.warn("Validation failed: {}", validationError);
+			return ResponseGenerator.fail(CommonErrorCode.REQUIRED_FIELD_MISSING, validationError);
+		}
+		
+		long startNanos = System.nanoTime();
+		
+		// 요청 단위 Repository 캐시 스코프
+		try (InvocationCache.Scope scope = InvocationCache.begin()) {
+			// ETag/304, gzip 협상은 정상 처리된 응답에만 적용
+			return ResponseGenerator.negotiate(request, route.handler().apply(request));
+		} catch (ServerlessException e) {
+			return handleServerlessException(e);
+		} catch (IllegalArgumentException e) {
+			logger.warn("Bad request: {}", e.getMessage());
+			return ResponseGenerator.fail(CommonErrorCode.INVALID_INPUT, e.getMessage());
+		} catch (IllegalStateException e) {
+			logger.warn("Conflict: {}", e.getMessage());
+			return ResponseGenerator.fail(CommonErrorCode.RESOURCE_ALREADY_EXISTS, e.getMessage());
+		} catch (SecurityException e) {
+			logger.warn("Forbidden: {}", e.getMessage());
+			return ResponseGenerator.fail(CommonErrorCode.FORBIDDEN, e.getMessage());
+		} catch (Exception e) {
+			logger.error("Error handling request", e);
+			return ResponseGenerator.fail(CommonErrorCode.INTERNAL_SERVER_ERROR);
+		} finally {
+			Metrics.recordLatency(Metrics.ROUTE_LATENCY, route.method() + " " + route.pathPattern(), startNanos);
+			Metrics.flush();
+		}
+	}
+	
+	/**
+	 * 추출한 Path 파라미터를 요청에 병합
+	 * API Gateway가 전달한 값이 있으면 그대로 유지
+	 */
+	private void mergePathParams(APIGatewayProxyRequestEvent request, Map<String, String> extracted) {
+		if (extracted.isEmpty()) {
+			return;
 		}
 		
-		logger.warn("No route found for: {} {}", method, path);
-		return ResponseGenerator.fail(CommonErrorCode.RESOURCE_NOT_FOUND);
+		Map<String, String> pathParams = request.getPathParameters();
+		if (pathParams != null && pathParams.keySet().containsAll(extracted.keySet())) {
+			return;
+		}
+		
+		Map<String, String> merged = new HashMap<>(extracted);
+		if (pathParams != null) {
+			pathParams.forEach((key, value) -> {
+				if (!isBlank(value)) {
+					merged.put(key, value);
+				}
+			});
+		}
+		request.setPathParameters(merged);
 	}
 	
 	/**
@@ -134,18 +169,6 @@ public class HandlerRouter {
 		return value == null || value.trim().isEmpty();
 	}
 	
-	/**
-	 * 경로 패턴을 정규식으로 변환
-	 * /rooms/{roomId} -> /rooms/[^/]+
-	 * /rooms/{roomId}/join -> /rooms/[^/]+/join
-	 */
-	private String convertPatternToRegex(String pathPattern) {
-		String regex = pathPattern
-				.replaceAll("\\{[^}]+\\}", "[^/]+")
-				.replace("/", "\\/");
-		return ".*" + regex + "$";
-	}
-	
 	/**
 	 * ServerlessException 처리
 	 * ErrorCode 기반의 표준화된 에러 응답 생성
@@ -161,17 +184,4 @@ public class HandlerRouter {
 		
 		return ResponseGenerator.createResponse(e.getStatusCode(), errorInfo);
 	}
-	
-	/**
-	 * 라우트 엔트리 (라우트 + 컴파일된 패턴)
-	 */
-	private record RouteEntry(Route route, Pattern pattern) {
-		boolean matches(String method, String path) {
-			if (!route.method().equalsIgnoreCase(method)) {
-				return false;
-			}
-			Matcher matcher = pattern.matcher(path);
-			return matcher.matches();
-		}
-	}
 }
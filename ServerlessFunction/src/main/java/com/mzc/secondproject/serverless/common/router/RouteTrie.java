@@ -0,0 +1,159 @@
+package com.mzc.secondproject.serverless.common.router;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 경로 세그먼트 기반 라우트 트라이
+ * <p>
+ * 등록 시 경로 패턴을 세그먼트 단위로 컴파일하여
+ * 요청 경로를 O(세그먼트 수)로 매칭하고 Path 파라미터를 직접 추출합니다.
+ * <p>
+ * 매칭 규칙:
+ * - 같은 위치에서는 리터럴 세그먼트가 {param} 세그먼트보다 우선
+ * - 경로 앞부분의 stage/base path 접두사는 무시 (기존 ".*" 정규식 매칭과 동일)
+ * - 같은 메서드 + 패턴이 중복 등록되면 먼저 등록된 라우트 사용
+ */
+final class RouteTrie {
+
+	private final Node root = new Node();
+
+	/**
+	 * 라우트 등록
+	 */
+	void insert(Route route) {
+		Node node = root;
+		List<String> paramNames = new ArrayList<>();
+
+		for (String segment : split(route.pathPattern())) {
+			if (isParamSegment(segment)) {
+				paramNames.add(segment.substring(1, segment.length() - 1));
+				if (node.paramChild == null) {
+					node.paramChild = new Node();
+				}
+				node = node.paramChild;
+			} else {
+				node = node.literalChildren.computeIfAbsent(segment, s -> new Node());
+			}
+		}
+
+		node.routes.putIfAbsent(route.method().toUpperCase(Locale.ROOT),
+				new Terminal(route, Collections.unmodifiableList(paramNames)));
+	}
+
+	/**
+	 * 요청 메서드/경로에 해당하는 라우트 검색
+	 *
+	 * @return 매칭 결과 (없으면 null)
+	 */
+	Match find(String method, String path) {
+		if (method == null || path == null) {
+			return null;
+		}
+
+		String normalizedMethod = method.toUpperCase(Locale.ROOT);
+		String[] segments = split(path);
+		String[] captured = new String[segments.length];
+
+		// 전체 경로부터 시도하고, 실패 시 앞 세그먼트를 접두사로 간주하여 건너뜀
+		for (int start = 0; start < segments.length; start++) {
+			Terminal terminal = match(root, segments, start, normalizedMethod, captured, 0);
+			if (terminal != null) {
+				return new Match(terminal.route(), terminal.toParams(captured));
+			}
+		}
+
+		// 루트 경로("/") 라우트
+		if (segments.length == 0) {
+			Terminal terminal = root.routes.get(normalizedMethod);
+			if (terminal != null) {
+				return new Match(terminal.route(), Map.of());
+			}
+		}
+
+		return null;
+	}
+
+	private Terminal match(Node node, String[] segments, int index, String method,
+	                       String[] captured, int paramCount) {
+		if (index == segments.length) {
+			return node.routes.get(method);
+		}
+
+		String segment = segments[index];
+
+		Node literal = node.literalChildren.get(segment);
+		if (literal != null) {
+			Terminal terminal = match(literal, segments, index + 1, method, captured, paramCount);
+			if (terminal != null) {
+				return terminal;
+			}
+		}
+
+		if (node.paramChild != null) {
+			captured[paramCount] = segment;
+			return match(node.paramChild, segments, index + 1, method, captured, paramCount + 1);
+		}
+
+		return null;
+	}
+
+	private static boolean isParamSegment(String segment) {
+		return segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+	}
+
+	/**
+	 * '/' 기준 세그먼트 분리 (빈 세그먼트 제외, 정규식 미사용)
+	 */
+	private static String[] split(String path) {
+		List<String> segments = new ArrayList<>();
+		int length = path.length();
+		int start = 0;
+
+		for (int i = 0; i <= length; i++) {
+			if (i == length || path.charAt(i) == '/') {
+				if (i > start) {
+					segments.add(path.substring(start, i));
+				}
+				start = i + 1;
+			}
+		}
+
+		return segments.toArray(new String[0]);
+	}
+
+	/**
+	 * 매칭 결과
+	 *
+	 * @param route      매칭된 라우트
+	 * @param pathParams 경로에서 추출한 Path 파라미터
+	 */
+	record Match(Route route, Map<String, String> pathParams) {
+	}
+
+	/**
+	 * 종단 노드에 저장되는 라우트 + 파라미터 이름 (등록 순서)
+	 */
+	private record Terminal(Route route, List<String> paramNames) {
+		Map<String, String> toParams(String[] captured) {
+			if (paramNames.isEmpty()) {
+				return Map.of();
+			}
+			Map<String, String> params = new HashMap<>();
+			for (int i = 0; i < paramNames.size(); i++) {
+				params.put(paramNames.get(i), captured[i]);
+			}
+			return params;
+		}
+	}
+
+	private static final class Node {
+		private final Map<String, Node> literalChildren = new HashMap<>();
+		private final Map<String, Terminal> routes = new HashMap<>();
+		private Node paramChild;
+	}
+}
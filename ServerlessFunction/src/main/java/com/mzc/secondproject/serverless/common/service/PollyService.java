@@ -1,6 +1,7 @@
 package com.mzc.secondproject.serverless.common.service;
 
 import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -48,12 +49,14 @@ public class PollyService {
 		// 캐시 확인: S3에 이미 존재하는지 체크
 		if (existsInS3(s3Key)) {
 			logger.info("Cache hit: {}", s3Key);
+			Metrics.increment(Metrics.CACHE_HIT, "PollyService");
 			String presignedUrl = getPresignedUrl(s3Key);
 			return new VoiceSynthesisResult(s3Key, presignedUrl, true);
 		}
 		
 		// 캐시 미스: Polly 변환 후 S3 저장
 		logger.info("Cache miss: synthesizing and saving to {}", s3Key);
+		Metrics.increment(Metrics.CACHE_MISS, "PollyService");
 		synthesizeAndSave(text, voice, s3Key);
 		String presignedUrl = getPresignedUrl(s3Key);
 		return new VoiceSynthesisResult(s3Key, presignedUrl, false);
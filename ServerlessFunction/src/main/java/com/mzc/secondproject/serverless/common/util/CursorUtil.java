@@ -1,25 +1,64 @@
 package com.mzc.secondproject.serverless.common.util;
 
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * DynamoDB 페이지네이션 커서 유틸리티
- * - lastEvaluatedKey를 Base64 인코딩/디코딩하여 커서로 사용
+ * - lastEvaluatedKey를 바이너리로 직렬화 후 Base64 URL-safe 인코딩하여 커서로 사용
+ * <p>
+ * 포맷 (v1):
+ * <pre>
+ * [version:1][flags:1][count:varint] ( [nameLen:varint][name] [type:1][value] )* [hmac:16]?
+ * </pre>
+ * - 값은 타입 태그(S/N/B/BOOL/NULL/SS/NS/BS/L/M)와 varint 길이로 인코딩하여 모든 AttributeValue 왕복 보장
+ * - CURSOR_HMAC_SECRET 환경변수가 설정되면 HMAC-SHA256(16바이트)으로 서명하고, 디코딩 시 서명을 검증
+ * - v1 이전의 "key=value|..." 텍스트 커서도 디코딩 지원 (서명 검증이 켜진 경우 제외)
  */
 public class CursorUtil {
-	
+
 	private static final Logger logger = LoggerFactory.getLogger(CursorUtil.class);
-	
+
+	private static final byte VERSION = 1;
+	private static final int FLAG_SIGNED = 0x01;
+	private static final int HMAC_LENGTH = 16;
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	// 타입 태그
+	private static final byte TYPE_S = 1;
+	private static final byte TYPE_N = 2;
+	private static final byte TYPE_B = 3;
+	private static final byte TYPE_BOOL = 4;
+	private static final byte TYPE_NULL = 5;
+	private static final byte TYPE_SS = 6;
+	private static final byte TYPE_NS = 7;
+	private static final byte TYPE_BS = 8;
+	private static final byte TYPE_L = 9;
+	private static final byte TYPE_M = 10;
+
+	private static final byte[] HMAC_SECRET = loadSecret();
+
 	private CursorUtil() {
 		// 유틸리티 클래스 - 인스턴스화 방지
 	}
-	
+
 	/**
 	 * DynamoDB lastEvaluatedKey를 Base64 인코딩된 커서로 변환
 	 *
@@ -27,47 +66,294 @@ public class CursorUtil {
 	 * @return Base64 URL-safe 인코딩된 커서 문자열, 또는 null (더 이상 페이지가 없는 경우)
 	 */
 	public static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
-		if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
-			return null;
-		}
-		
-		StringBuilder sb = new StringBuilder();
-		for (Map.Entry<String, AttributeValue> entry : lastEvaluatedKey.entrySet()) {
-			if (sb.length() > 0) {
-				sb.append("|");
-			}
-			sb.append(entry.getKey()).append("=").append(entry.getValue().s());
-		}
-		
-		return Base64.getUrlEncoder().encodeToString(sb.toString().getBytes());
+		return encode(lastEvaluatedKey, HMAC_SECRET);
 	}
-	
+
 	/**
 	 * Base64 인코딩된 커서를 DynamoDB exclusiveStartKey로 변환
 	 *
 	 * @param cursor Base64 URL-safe 인코딩된 커서 문자열
-	 * @return DynamoDB exclusiveStartKey로 사용할 Map, 또는 null (잘못된 커서인 경우)
+	 * @return DynamoDB exclusiveStartKey로 사용할 Map, 또는 null (잘못되었거나 변조된 커서인 경우)
 	 */
 	public static Map<String, AttributeValue> decode(String cursor) {
+		return decode(cursor, HMAC_SECRET);
+	}
+
+	static String encode(Map<String, AttributeValue> lastEvaluatedKey, byte[] secret) {
+		if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+			return null;
+		}
+
+		Writer writer = new Writer();
+		writer.writeByte(VERSION);
+		writer.writeByte(secret != null ? FLAG_SIGNED : 0);
+		writer.writeMap(lastEvaluatedKey);
+
+		if (secret != null) {
+			byte[] mac = hmac(writer.buffer(), writer.size(), secret);
+			writer.write(mac, 0, HMAC_LENGTH);
+		}
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(writer.toByteArray());
+	}
+
+	static Map<String, AttributeValue> decode(String cursor, byte[] secret) {
 		if (cursor == null || cursor.isEmpty()) {
 			return null;
 		}
-		
+
 		try {
-			String decoded = new String(Base64.getUrlDecoder().decode(cursor));
-			Map<String, AttributeValue> result = new HashMap<>();
-			
-			for (String pair : decoded.split("\\|")) {
-				String[] kv = pair.split("=", 2);
-				if (kv.length == 2) {
-					result.put(kv[0], AttributeValue.builder().s(kv[1]).build());
+			byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+			if (bytes.length == 0) {
+				return null;
+			}
+
+			if (bytes[0] != VERSION) {
+				return secret == null ? decodeLegacy(bytes) : null;
+			}
+
+			boolean signed = bytes.length > 1 && (bytes[1] & FLAG_SIGNED) != 0;
+			int end = bytes.length;
+
+			if (secret != null) {
+				if (!signed || bytes.length < 2 + HMAC_LENGTH) {
+					logger.warn("Rejected unsigned cursor");
+					return null;
 				}
+				end = bytes.length - HMAC_LENGTH;
+				byte[] expected = Arrays.copyOf(hmac(bytes, end, secret), HMAC_LENGTH);
+				byte[] actual = Arrays.copyOfRange(bytes, end, bytes.length);
+				if (!MessageDigest.isEqual(expected, actual)) {
+					logger.warn("Rejected tampered cursor");
+					return null;
+				}
+			} else if (signed) {
+				// 서명 키 없이 서명된 커서는 검증 불가
+				logger.warn("Rejected signed cursor: CURSOR_HMAC_SECRET is not configured");
+				return null;
+			}
+
+			Reader reader = new Reader(bytes, 2, end);
+			Map<String, AttributeValue> result = reader.readMap();
+			if (!reader.isExhausted()) {
+				throw new IllegalArgumentException("Trailing bytes in cursor");
 			}
-			
 			return result.isEmpty() ? null : result;
 		} catch (Exception e) {
 			logger.error("Failed to decode cursor: {}", cursor, e);
 			return null;
 		}
 	}
+
+	/**
+	 * v1 이전 텍스트 커서 ("key=value|key=value", 문자열 값만 지원)
+	 */
+	private static Map<String, AttributeValue> decodeLegacy(byte[] bytes) {
+		String decoded = new String(bytes, StandardCharsets.UTF_8);
+		Map<String, AttributeValue> result = new HashMap<>();
+
+		for (String pair : decoded.split("\\|")) {
+			String[] kv = pair.split("=", 2);
+			if (kv.length == 2) {
+				result.put(kv[0], AttributeValue.builder().s(kv[1]).build());
+			}
+		}
+
+		return result.isEmpty() ? null : result;
+	}
+
+	private static byte[] hmac(byte[] data, int length, byte[] secret) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+			mac.update(data, 0, length);
+			return mac.doFinal();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Failed to compute cursor HMAC", e);
+		}
+	}
+
+	private static byte[] loadSecret() {
+		String secret = EnvConfig.get("CURSOR_HMAC_SECRET");
+		return secret == null || secret.isBlank() ? null : secret.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 바이너리 커서 writer
+	 */
+	private static final class Writer extends ByteArrayOutputStream {
+
+		private Writer() {
+			super(64);
+		}
+
+		private byte[] buffer() {
+			return buf;
+		}
+
+		private void writeByte(int value) {
+			write(value);
+		}
+
+		private void writeVarint(int value) {
+			while ((value & ~0x7F) != 0) {
+				write((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			write(value);
+		}
+
+		private void writeBinary(byte[] bytes) {
+			writeVarint(bytes.length);
+			write(bytes, 0, bytes.length);
+		}
+
+		private void writeString(String value) {
+			writeBinary(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		private void writeMap(Map<String, AttributeValue> map) {
+			writeVarint(map.size());
+			for (Map.Entry<String, AttributeValue> entry : map.entrySet()) {
+				writeString(entry.getKey());
+				writeValue(entry.getValue());
+			}
+		}
+
+		private void writeValue(AttributeValue value) {
+			if (value.s() != null) {
+				writeByte(TYPE_S);
+				writeString(value.s());
+			} else if (value.n() != null) {
+				writeByte(TYPE_N);
+				writeString(value.n());
+			} else if (value.b() != null) {
+				writeByte(TYPE_B);
+				writeBinary(value.b().asByteArray());
+			} else if (value.bool() != null) {
+				writeByte(TYPE_BOOL);
+				writeByte(value.bool() ? 1 : 0);
+			} else if (Boolean.TRUE.equals(value.nul())) {
+				writeByte(TYPE_NULL);
+			} else if (value.hasSs()) {
+				writeByte(TYPE_SS);
+				writeVarint(value.ss().size());
+				value.ss().forEach(this::writeString);
+			} else if (value.hasNs()) {
+				writeByte(TYPE_NS);
+				writeVarint(value.ns().size());
+				value.ns().forEach(this::writeString);
+			} else if (value.hasBs()) {
+				writeByte(TYPE_BS);
+				writeVarint(value.bs().size());
+				value.bs().forEach(b -> writeBinary(b.asByteArray()));
+			} else if (value.hasL()) {
+				writeByte(TYPE_L);
+				writeVarint(value.l().size());
+				value.l().forEach(this::writeValue);
+			} else if (value.hasM()) {
+				writeByte(TYPE_M);
+				writeMap(value.m());
+			} else {
+				throw new IllegalArgumentException("Unsupported attribute value: " + value);
+			}
+		}
+	}
+
+	/**
+	 * 바이너리 커서 reader
+	 */
+	private static final class Reader {
+
+		private final byte[] bytes;
+		private final int end;
+		private int position;
+
+		private Reader(byte[] bytes, int start, int end) {
+			this.bytes = bytes;
+			this.position = start;
+			this.end = end;
+		}
+
+		private boolean isExhausted() {
+			return position == end;
+		}
+
+		private int readByte() {
+			if (position >= end) {
+				throw new IllegalArgumentException("Truncated cursor");
+			}
+			return bytes[position++] & 0xFF;
+		}
+
+		private int readVarint() {
+			int result = 0;
+			for (int shift = 0; shift < 32; shift += 7) {
+				int b = readByte();
+				result |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					if (result < 0) {
+						break;
+					}
+					return result;
+				}
+			}
+			throw new IllegalArgumentException("Malformed varint in cursor");
+		}
+
+		private byte[] readBytes() {
+			int length = readVarint();
+			if (length > end - position) {
+				throw new IllegalArgumentException("Truncated cursor");
+			}
+			byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+			position += length;
+			return value;
+		}
+
+		private String readString() {
+			int length = readVarint();
+			if (length > end - position) {
+				throw new IllegalArgumentException("Truncated cursor");
+			}
+			String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return value;
+		}
+
+		private Map<String, AttributeValue> readMap() {
+			int size = readVarint();
+			Map<String, AttributeValue> map = new HashMap<>();
+			for (int i = 0; i < size; i++) {
+				map.put(readString(), readValue());
+			}
+			return map;
+		}
+
+		private AttributeValue readValue() {
+			int type = readByte();
+			return switch (type) {
+				case TYPE_S -> AttributeValue.builder().s(readString()).build();
+				case TYPE_N -> AttributeValue.builder().n(readString()).build();
+				case TYPE_B -> AttributeValue.builder().b(SdkBytes.fromByteArray(readBytes())).build();
+				case TYPE_BOOL -> AttributeValue.builder().bool(readByte() != 0).build();
+				case TYPE_NULL -> AttributeValue.builder().nul(true).build();
+				case TYPE_SS -> AttributeValue.builder().ss(readList(this::readString)).build();
+				case TYPE_NS -> AttributeValue.builder().ns(readList(this::readString)).build();
+				case TYPE_BS -> AttributeValue.builder().bs(readList(() -> SdkBytes.fromByteArray(readBytes()))).build();
+				case TYPE_L -> AttributeValue.builder().l(readList(this::readValue)).build();
+				case TYPE_M -> AttributeValue.builder().m(readMap()).build();
+				default -> throw new IllegalArgumentException("Unknown attribute type in cursor: " + type);
+			};
+		}
+
+		private <T> List<T> readList(Supplier<T> elementReader) {
+			int size = readVarint();
+			List<T> list = new ArrayList<>(Math.min(size, end - position));
+			for (int i = 0; i < size; i++) {
+				list.add(elementReader.get());
+			}
+			return list;
+		}
+	}
 }
@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.mzc.secondproject.serverless.common.json.GeneratedTypeAdapterFactory;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,11 +14,22 @@ import java.util.List;
  */
 public class JsonUtil {
 
-	private static final Gson GSON = new GsonBuilder().create();
+	// @GenerateTypeAdapter 대상은 컴파일 시 생성된 어댑터 사용 (리플렉션 없음)
+	private static final Gson GSON = new GsonBuilder()
+			.registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+			.create();
 
 	private JsonUtil() {
 	}
 
+	/**
+	 * 공용 Gson 인스턴스 (스레드 안전, 어댑터 캐시 공유)
+	 * 특별한 설정이 필요 없는 곳은 new Gson() 대신 이 인스턴스를 사용
+	 */
+	public static Gson gson() {
+		return GSON;
+	}
+
 	/**
 	 * 객체를 JSON 문자열로 변환
 	 */
@@ -16,7 +16,7 @@ import java.util.Optional;
 public final class JwtUtil {
 	
 	private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
-	private static final Gson gson = new Gson();
+	private static final Gson gson = JsonUtil.gson();
 	
 	private JwtUtil() {
 		// 유틸리티 클래스 인스턴스화 방지
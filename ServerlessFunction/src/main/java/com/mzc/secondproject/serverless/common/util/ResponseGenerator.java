@@ -1,20 +1,47 @@
 package com.mzc.secondproject.serverless.common.util;
 
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
 import com.mzc.secondproject.serverless.common.dto.ApiResponse;
 import com.mzc.secondproject.serverless.common.dto.ErrorInfo;
 import com.mzc.secondproject.serverless.common.exception.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * API Gateway 응답 생성기
+ * <p>
+ * - Pretty print 없는 compact JSON을 스레드별 재사용 버퍼에 직접 직렬화
+ * - {@link #negotiate}: GET 200 응답에 ETag/304 적용, Accept-Encoding에 따른 gzip 압축
  */
 public final class ResponseGenerator {
 	
-	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+	private static final Logger logger = LoggerFactory.getLogger(ResponseGenerator.class);
+	
+	private static final Gson GSON = JsonUtil.gson();
+	
+	// 직렬화 버퍼 (Lambda 실행 환경은 요청을 순차 처리하므로 스레드당 1개면 충분)
+	private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+	private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+	private static final ThreadLocal<StringBuilder> BUFFER =
+			ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+	
+	// gzip 최소 크기 (bytes, 0 이하이면 비활성화)
+	// REST API는 base64 바이너리 응답에 BinaryMediaTypes 설정이 필요하므로 환경변수로 활성화
+	private static final int GZIP_MIN_BYTES = EnvConfig.getIntOrDefault("RESPONSE_GZIP_MIN_BYTES", 0);
 	
 	private static final Map<String, String> CORS_HEADERS = Map.of(
 			"Content-Type", "application/json",
@@ -32,7 +59,147 @@ public final class ResponseGenerator {
 		return new APIGatewayProxyResponseEvent()
 				.withStatusCode(statusCode)
 				.withHeaders(CORS_HEADERS)
-				.withBody(GSON.toJson(body));
+				.withBody(toJson(body));
+	}
+	
+	/**
+	 * compact JSON 직렬화 (재사용 버퍼에 직접 기록)
+	 */
+	public static String toJson(Object body) {
+		StringBuilder buffer = BUFFER.get();
+		buffer.setLength(0);
+		GSON.toJson(body, buffer);
+		String json = buffer.toString();
+		
+		// 대용량 응답 후에는 버퍼를 보관하지 않음
+		if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+			BUFFER.remove();
+		}
+		return json;
+	}
+	
+	// === 조건부 요청 / 압축 ===
+	
+	/**
+	 * 요청 헤더에 따라 응답 후처리
+	 * - GET 200: ETag 부여, If-None-Match 일치 시 본문 없는 304로 변환
+	 * - Accept-Encoding: gzip 이고 본문이 임계값 이상이면 gzip + base64 인코딩
+	 */
+	public static APIGatewayProxyResponseEvent negotiate(APIGatewayProxyRequestEvent request,
+	                                                     APIGatewayProxyResponseEvent response) {
+		return negotiate(request, response, GZIP_MIN_BYTES);
+	}
+	
+	static APIGatewayProxyResponseEvent negotiate(APIGatewayProxyRequestEvent request,
+	                                              APIGatewayProxyResponseEvent response, int gzipMinBytes) {
+		if (request == null || response == null || response.getBody() == null
+				|| Boolean.TRUE.equals(response.getIsBase64Encoded())) {
+			return response;
+		}
+		
+		byte[] bodyBytes = response.getBody().getBytes(StandardCharsets.UTF_8);
+		Map<String, String> headers = response.getHeaders() != null
+				? new HashMap<>(response.getHeaders())
+				: new HashMap<>(CORS_HEADERS);
+		
+		if ("GET".equalsIgnoreCase(request.getHttpMethod()) && Integer.valueOf(200).equals(response.getStatusCode())) {
+			String etag = etag(bodyBytes);
+			headers.put("ETag", etag);
+			
+			if (matchesEtag(header(request, "If-None-Match"), etag)) {
+				return new APIGatewayProxyResponseEvent()
+						.withStatusCode(304)
+						.withHeaders(headers);
+			}
+		}
+		
+		if (gzipMinBytes > 0 && bodyBytes.length >= gzipMinBytes && acceptsGzip(header(request, "Accept-Encoding"))) {
+			try {
+				headers.put("Content-Encoding", "gzip");
+				headers.put("Vary", "Accept-Encoding");
+				return response
+						.withHeaders(headers)
+						.withBody(Base64.getEncoder().encodeToString(gzip(bodyBytes)))
+						.withIsBase64Encoded(true);
+			} catch (IOException e) {
+				logger.warn("Failed to gzip response body: {}", e.getMessage());
+				headers.remove("Content-Encoding");
+				headers.remove("Vary");
+			}
+		}
+		
+		return response.withHeaders(headers);
+	}
+	
+	/**
+	 * 본문 기반 strong ETag (SHA-256 앞 16바이트)
+	 */
+	static String etag(byte[] body) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+	
+	private static boolean matchesEtag(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String value = candidate.trim();
+			if (value.startsWith("W/")) {
+				value = value.substring(2);
+			}
+			if (value.equals("*") || value.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String token : acceptEncoding.split(",")) {
+			String[] parts = token.trim().split(";");
+			if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+				continue;
+			}
+			// gzip;q=0 은 명시적 거부
+			return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+		}
+		return false;
+	}
+	
+	private static byte[] gzip(byte[] body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		}
+		return out.toByteArray();
+	}
+	
+	/**
+	 * 헤더 조회 (대소문자 무시)
+	 */
+	private static String header(APIGatewayProxyRequestEvent request, String name) {
+		Map<String, String> headers = request.getHeaders();
+		if (headers == null) {
+			return null;
+		}
+		String value = headers.get(name);
+		if (value != null) {
+			return value;
+		}
+		for (Map.Entry<String, String> entry : headers.entrySet()) {
+			if (name.equalsIgnoreCase(entry.getKey())) {
+				return entry.getValue();
+			}
+		}
+		return null;
 	}
 	
 	// === 성공 응답 ===
@@ -1,38 +1,98 @@
 package com.mzc.secondproject.serverless.common.util;
 
+import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.WebSocketConfig;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiAsyncClient;
 import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiClient;
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.GoneException;
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.PostToConnectionRequest;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 
 /**
  * WebSocket 연결들에게 메시지를 브로드캐스트하는 유틸리티
+ * <p>
+ * 기본은 비동기 병렬 전송(fan-out)입니다.
+ * - 동시 전송 수 제한 (WEBSOCKET_BROADCAST_CONCURRENCY)
+ * - 연결별 전체 호출 타임아웃 (WEBSOCKET_BROADCAST_TIMEOUT_MS, SDK가 요청을 취소하며 재시도하지 않음)
+ * - 재시도는 SDK 재시도 정책에만 맡김 (스로틀링/5xx, WEBSOCKET_BROADCAST_MAX_RETRIES회)
+ *   PostToConnection은 멱등이 아니므로 4xx나 타임아웃 후에는 다시 보내지 않음
+ * - GoneException은 {@link BroadcastResult#goneConnectionIds()}로 모아 반환
+ * WEBSOCKET_BROADCAST_MODE=sequential 이면 기존처럼 blocking 클라이언트로 순차 전송합니다.
  */
 public class WebSocketBroadcaster implements AutoCloseable {
 	
 	private static final Logger logger = LoggerFactory.getLogger(WebSocketBroadcaster.class);
 	
 	private final ApiGatewayManagementApiClient apiClient;
+	private final ApiGatewayManagementApiAsyncClient asyncClient;
+	private final boolean ownsAsyncClient;
+	private final int concurrency;
+	private final long timeoutMs;
 	
 	public WebSocketBroadcaster() {
-		String endpoint = WebSocketConfig.websocketEndpoint();
-		this.apiClient = ApiGatewayManagementApiClient.builder()
+		this(createApiClient(WebSocketConfig.websocketEndpoint()),
+				WebSocketConfig.broadcastAsync() ? AwsClients.apiGatewayManagementAsync() : null,
+				false);
+	}
+	
+	public WebSocketBroadcaster(String endpoint) {
+		this(createApiClient(endpoint),
+				WebSocketConfig.broadcastAsync() ? createAsyncClient(endpoint) : null,
+				true);
+	}
+	
+	private WebSocketBroadcaster(ApiGatewayManagementApiClient apiClient, ApiGatewayManagementApiAsyncClient asyncClient,
+	                             boolean ownsAsyncClient) {
+		this(apiClient, asyncClient, ownsAsyncClient, WebSocketConfig.broadcastConcurrency(),
+				WebSocketConfig.broadcastTimeoutMs());
+	}
+	
+	/**
+	 * 의존성 주입 생성자 (테스트 용이성)
+	 * asyncClient가 null이면 순차 전송, 재시도는 주입한 클라이언트의 재시도 정책을 따름
+	 */
+	public WebSocketBroadcaster(ApiGatewayManagementApiClient apiClient, ApiGatewayManagementApiAsyncClient asyncClient,
+	                            int concurrency, long timeoutMs) {
+		this(apiClient, asyncClient, false, concurrency, timeoutMs);
+	}
+	
+	private WebSocketBroadcaster(ApiGatewayManagementApiClient apiClient, ApiGatewayManagementApiAsyncClient asyncClient,
+	                             boolean ownsAsyncClient, int concurrency, long timeoutMs) {
+		this.apiClient = apiClient;
+		this.asyncClient = asyncClient;
+		this.ownsAsyncClient = ownsAsyncClient;
+		this.concurrency = Math.max(1, concurrency);
+		this.timeoutMs = timeoutMs;
+	}
+	
+	private static ApiGatewayManagementApiClient createApiClient(String endpoint) {
+		return ApiGatewayManagementApiClient.builder()
 				.endpointOverride(URI.create(endpoint))
+				.httpClient(AwsClients.httpClient())
+				.overrideConfiguration(AwsClients.webSocketOverrideConfiguration())
 				.build();
 	}
 	
-	public WebSocketBroadcaster(String endpoint) {
-		this.apiClient = ApiGatewayManagementApiClient.builder()
+	private static ApiGatewayManagementApiAsyncClient createAsyncClient(String endpoint) {
+		return ApiGatewayManagementApiAsyncClient.builder()
 				.endpointOverride(URI.create(endpoint))
+				.httpClient(AwsClients.asyncHttpClient())
+				.overrideConfiguration(AwsClients.webSocketOverrideConfiguration())
 				.build();
 	}
 	
@@ -42,45 +102,134 @@ public class WebSocketBroadcaster implements AutoCloseable {
 	 * @return 전송 성공 여부
 	 */
 	public boolean sendToConnection(String connectionId, String message) {
-		try {
-			PostToConnectionRequest request = PostToConnectionRequest.builder()
-					.connectionId(connectionId)
-					.data(SdkBytes.fromString(message, StandardCharsets.UTF_8))
-					.build();
-			
-			apiClient.postToConnection(request);
-			logger.debug("Message sent to connection: {}", connectionId);
-			return true;
-			
-		} catch (GoneException e) {
-			logger.warn("Connection gone: {}", connectionId);
-			return false;
-			
-		} catch (Exception e) {
-			logger.error("Failed to send message to connection {}: {}", connectionId, e.getMessage());
-			return false;
-		}
+		return sendBlocking(connectionId, SdkBytes.fromString(message, StandardCharsets.UTF_8)) == Outcome.DELIVERED;
 	}
 	
 	/**
 	 * 여러 연결에 메시지 브로드캐스트
 	 *
-	 * @return 전송 실패한 connectionId 목록
+	 * @return 전송 실패한 connectionId 목록 (Gone + 실패)
 	 */
 	public List<String> broadcast(List<Connection> connections, String message) {
-		List<String> failedConnections = new ArrayList<>();
+		BroadcastResult result = fanOut(connections, message);
+		List<String> failedConnections = new ArrayList<>(result.goneConnectionIds());
+		failedConnections.addAll(result.failedConnectionIds());
+		return failedConnections;
+	}
+	
+	/**
+	 * 여러 연결에 메시지 전송 후 결과 집계
+	 * 페이로드는 한 번만 직렬화하고, 비동기 모드에서는 최대 concurrency개를 동시에 전송
+	 */
+	public BroadcastResult fanOut(List<Connection> connections, String message) {
+		if (connections == null || connections.isEmpty()) {
+			return new BroadcastResult(0, List.of(), List.of());
+		}
+		
+		long startNanos = System.nanoTime();
+		SdkBytes data = SdkBytes.fromString(message, StandardCharsets.UTF_8);
+		List<String> connectionIds = connections.stream().map(Connection::getConnectionId).toList();
+		
+		List<Outcome> outcomes = asyncClient != null && connectionIds.size() > 1
+				? sendConcurrently(connectionIds, data)
+				: connectionIds.stream().map(connectionId -> sendBlocking(connectionId, data)).toList();
 		
-		for (Connection connection : connections) {
-			boolean success = sendToConnection(connection.getConnectionId(), message);
-			if (!success) {
-				failedConnections.add(connection.getConnectionId());
+		List<String> gone = new ArrayList<>();
+		List<String> failed = new ArrayList<>();
+		for (int i = 0; i < connectionIds.size(); i++) {
+			switch (outcomes.get(i)) {
+				case GONE -> gone.add(connectionIds.get(i));
+				case FAILED -> failed.add(connectionIds.get(i));
+				default -> {
+				}
 			}
 		}
 		
-		logger.info("Broadcast completed: total={}, failed={}",
-				connections.size(), failedConnections.size());
+		BroadcastResult result = new BroadcastResult(connectionIds.size(), gone, failed);
+		Metrics.recordLatency(Metrics.AWS_CALL_LATENCY, "WebSocketBroadcaster.fanOut", startNanos);
+		logger.info("Broadcast completed: total={}, gone={}, failed={}",
+				result.total(), gone.size(), failed.size());
+		return result;
+	}
+	
+	private List<Outcome> sendConcurrently(List<String> connectionIds, SdkBytes data) {
+		Semaphore permits = new Semaphore(concurrency);
+		List<CompletableFuture<Outcome>> futures = new ArrayList<>(connectionIds.size());
 		
-		return failedConnections;
+		for (String connectionId : connectionIds) {
+			permits.acquireUninterruptibly();
+			CompletableFuture<Outcome> future = sendAsync(connectionId, data);
+			future.whenComplete((outcome, error) -> permits.release());
+			futures.add(future);
+		}
+		
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		return futures.stream().map(CompletableFuture::join).toList();
+	}
+	
+	/**
+	 * 비동기 전송 (재시도는 SDK 정책에 맡기고, 타임아웃 시 SDK가 요청을 취소)
+	 */
+	private CompletableFuture<Outcome> sendAsync(String connectionId, SdkBytes data) {
+		return post(request(connectionId, data))
+				.handle((response, error) -> {
+					if (error == null) {
+						logger.debug("Message sent to connection: {}", connectionId);
+						return Outcome.DELIVERED;
+					}
+					return classify(connectionId, unwrap(error));
+				});
+	}
+	
+	/**
+	 * apiCallTimeout은 SDK 재시도를 포함한 전체 호출 기준이라 만료 후에는 다시 보내지 않음
+	 */
+	private PostToConnectionRequest request(String connectionId, SdkBytes data) {
+		return PostToConnectionRequest.builder()
+				.connectionId(connectionId)
+				.data(data)
+				.overrideConfiguration(AwsRequestOverrideConfiguration.builder()
+						.apiCallTimeout(Duration.ofMillis(timeoutMs))
+						.build())
+				.build();
+	}
+	
+	private CompletableFuture<?> post(PostToConnectionRequest request) {
+		try {
+			return asyncClient.postToConnection(request);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	private Outcome sendBlocking(String connectionId, SdkBytes data) {
+		try {
+			apiClient.postToConnection(request(connectionId, data));
+			logger.debug("Message sent to connection: {}", connectionId);
+			return Outcome.DELIVERED;
+		
+		} catch (Exception e) {
+			return classify(connectionId, e);
+		}
+	}
+	
+	private Outcome classify(String connectionId, Throwable error) {
+		if (error instanceof GoneException) {
+			logger.warn("Connection gone: {}", connectionId);
+			Metrics.increment(Metrics.BROADCAST_FAILURE, "WebSocketBroadcaster.Gone");
+			return Outcome.GONE;
+		}
+		logger.error("Failed to send message to connection {}: {}", connectionId, error.toString());
+		Metrics.increment(Metrics.BROADCAST_FAILURE, "WebSocketBroadcaster.Error");
+		return Outcome.FAILED;
+	}
+	
+	private static Throwable unwrap(Throwable error) {
+		Throwable cause = error;
+		while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		return cause;
 	}
 	
 	@Override
@@ -89,8 +238,31 @@ public class WebSocketBroadcaster implements AutoCloseable {
 			if (apiClient != null) {
 				apiClient.close();
 			}
+			if (ownsAsyncClient && asyncClient != null) {
+				asyncClient.close();
+			}
 		} catch (Exception e) {
 			logger.warn("Failed to close ApiGatewayManagementApiClient: {}", e.getMessage());
 		}
 	}
+	
+	private enum Outcome {
+		DELIVERED,
+		GONE,
+		FAILED
+	}
+	
+	/**
+	 * 브로드캐스트 결과
+	 *
+	 * @param total               전송 대상 수
+	 * @param goneConnectionIds   끊어진 연결 (GoneException) - 정리 대상
+	 * @param failedConnectionIds 전송 실패한 연결 (일시 오류, 연결은 유지)
+	 */
+	public record BroadcastResult(int total, List<String> goneConnectionIds, List<String> failedConnectionIds) {
+		
+		public int delivered() {
+			return total - goneConnectionIds.size() - failedConnectionIds.size();
+		}
+	}
 }
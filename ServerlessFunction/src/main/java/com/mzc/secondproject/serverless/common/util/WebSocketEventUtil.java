@@ -22,6 +22,29 @@ public final class WebSocketEventUtil {
 		return (String) requestContext.get("connectionId");
 	}
 	
+	/**
+	 * WebSocket 이벤트에서 연결 시각 추출 (requestContext.connectedAt, epoch ms)
+	 * Lambda 실행 시각이 아닌 API Gateway가 연결을 받은 시각이므로 늦게 처리된 $connect 판별에 사용
+	 *
+	 * @return 연결 시각 (없거나 형식이 다르면 null)
+	 */
+	@SuppressWarnings("unchecked")
+	public static Long extractConnectedAt(Map<String, Object> event) {
+		Map<String, Object> requestContext = (Map<String, Object>) event.get("requestContext");
+		Object connectedAt = requestContext != null ? requestContext.get("connectedAt") : null;
+		if (connectedAt instanceof Number number) {
+			return number.longValue();
+		}
+		if (connectedAt instanceof String text) {
+			try {
+				return Long.parseLong(text.trim());
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+	
 	/**
 	 * WebSocket 이벤트에서 queryStringParameters 추출
 	 */
@@ -14,6 +14,7 @@ public final class WebSocketMessageHelper {
 	public static final String DOMAIN_CHAT = "chat";
 	public static final String DOMAIN_GAME = "game";
 	public static final String DOMAIN_ROOM = "room";
+	public static final String DOMAIN_WORDCHAIN = "wordchain";
 	
 	private WebSocketMessageHelper() {
 	}
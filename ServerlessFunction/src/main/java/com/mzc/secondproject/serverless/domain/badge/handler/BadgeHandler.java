@@ -4,6 +4,8 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
 import com.mzc.secondproject.serverless.common.router.HandlerRouter;
 import com.mzc.secondproject.serverless.common.router.Route;
 import com.mzc.secondproject.serverless.common.util.ResponseGenerator;
@@ -19,6 +21,11 @@ import java.util.Map;
 public class BadgeHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(BadgeHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.S3_PRESIGNER, AwsClients.Client.SNS);
+	}
 	
 	private final BadgeService badgeService;
 	private final HandlerRouter router;
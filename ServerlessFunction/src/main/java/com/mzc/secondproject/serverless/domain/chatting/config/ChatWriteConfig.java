@@ -0,0 +1,25 @@
+package com.mzc.secondproject.serverless.domain.chatting.config;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+
+/**
+ * 채팅 메시지 저장 설정값
+ * 환경 변수로 오버라이드 가능
+ */
+public final class ChatWriteConfig {
+	
+	private static final long DEFAULT_LAST_MESSAGE_AT_INTERVAL_MS = 5000L;
+	
+	private static final long LAST_MESSAGE_AT_INTERVAL_MS = EnvConfig.getLongOrDefault("CHAT_LAST_MESSAGE_AT_INTERVAL_MS", DEFAULT_LAST_MESSAGE_AT_INTERVAL_MS);
+	
+	private ChatWriteConfig() {
+	}
+	
+	/**
+	 * 방별 lastMessageAt 업데이트 최소 간격 (ms, 0이면 메시지마다 업데이트)
+	 * 조건부 업데이트로 적용하므로 lastMessageAt은 최대 이 간격만큼 늦을 수 있음
+	 */
+	public static long lastMessageAtIntervalMs() {
+		return LAST_MESSAGE_AT_INTERVAL_MS;
+	}
+}
@@ -0,0 +1,62 @@
+package com.mzc.secondproject.serverless.domain.chatting.config;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+
+/**
+ * 방 연결 목록 캐시 설정값
+ * 환경 변수로 오버라이드 가능
+ */
+public final class ConnectionCacheConfig {
+	
+	private static final long DEFAULT_TTL_MS = 1000L;
+	private static final long DEFAULT_MAX_AGE_MS = 30_000L;
+	private static final long DEFAULT_INDEX_LAG_MS = 2000L;
+	private static final int DEFAULT_MAX_ROOMS = 500;
+	private static final long DEFAULT_VERSION_ITEM_TTL_SECONDS = 24 * 60 * 60L;
+	
+	private static final long TTL_MS = EnvConfig.getLongOrDefault("CONNECTION_CACHE_TTL_MS", DEFAULT_TTL_MS);
+	private static final long MAX_AGE_MS = EnvConfig.getLongOrDefault("CONNECTION_CACHE_MAX_AGE_MS", DEFAULT_MAX_AGE_MS);
+	private static final long INDEX_LAG_MS = EnvConfig.getLongOrDefault("CONNECTION_CACHE_INDEX_LAG_MS", DEFAULT_INDEX_LAG_MS);
+	private static final int MAX_ROOMS = EnvConfig.getIntOrDefault("CONNECTION_CACHE_MAX_ROOMS", DEFAULT_MAX_ROOMS);
+	private static final long VERSION_ITEM_TTL_SECONDS = EnvConfig.getLongOrDefault("CONNECTION_VERSION_TTL_SECONDS", DEFAULT_VERSION_ITEM_TTL_SECONDS);
+	
+	private ConnectionCacheConfig() {
+	}
+	
+	/**
+	 * 버전 확인 없이 캐시를 그대로 사용하는 시간 (ms, 0이면 매번 버전 확인)
+	 */
+	public static long ttlMs() {
+		return TTL_MS;
+	}
+	
+	/**
+	 * 버전이 같아도 GSI를 다시 조회하는 최대 캐시 수명 (ms)
+	 * 연결 TTL 만료 등 버전 증가 없이 사라진 연결을 주기적으로 반영
+	 */
+	public static long maxAgeMs() {
+		return MAX_AGE_MS;
+	}
+	
+	/**
+	 * 버전 증가 후 GSI 전파를 기다리는 시간 (ms)
+	 * 이 시간 안에 조회한 연결 목록은 버전이 같아도 재사용하지 않음
+	 */
+	public static long indexLagMs() {
+		return INDEX_LAG_MS;
+	}
+	
+	/**
+	 * 컨테이너당 캐시할 최대 방 수 (LRU)
+	 */
+	public static int maxRooms() {
+		return MAX_ROOMS;
+	}
+	
+	/**
+	 * 방 연결 버전 아이템 TTL (초)
+	 */
+	public static long versionItemTtlSeconds() {
+		return VERSION_ITEM_TTL_SECONDS;
+	}
+}
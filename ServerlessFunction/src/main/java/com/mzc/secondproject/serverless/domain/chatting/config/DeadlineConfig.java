@@ -0,0 +1,60 @@
+package com.mzc.secondproject.serverless.domain.chatting.config;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+
+/**
+ * 게임 기한(라운드/게임/턴 만료) 스위퍼 설정값
+ * 환경 변수로 오버라이드 가능
+ */
+public final class DeadlineConfig {
+	
+	private static final long DEFAULT_BUCKET_MS = 10_000L;
+	private static final long DEFAULT_TICK_MS = 250L;
+	private static final long DEFAULT_POLL_MS = 1_000L;
+	private static final long DEFAULT_LOOKBACK_MS = 300_000L;
+	private static final long DEFAULT_SWEEP_BUDGET_MS = 55_000L;
+	
+	private static final long BUCKET_MS = EnvConfig.getLongOrDefault("DEADLINE_BUCKET_MS", DEFAULT_BUCKET_MS);
+	private static final long TICK_MS = EnvConfig.getLongOrDefault("DEADLINE_TICK_MS", DEFAULT_TICK_MS);
+	private static final long POLL_MS = EnvConfig.getLongOrDefault("DEADLINE_POLL_MS", DEFAULT_POLL_MS);
+	private static final long LOOKBACK_MS = EnvConfig.getLongOrDefault("DEADLINE_LOOKBACK_MS", DEFAULT_LOOKBACK_MS);
+	private static final long SWEEP_BUDGET_MS = EnvConfig.getLongOrDefault("DEADLINE_SWEEP_BUDGET_MS", DEFAULT_SWEEP_BUDGET_MS);
+	
+	private DeadlineConfig() {
+	}
+	
+	/**
+	 * 기한 인덱스 버킷 크기 (ms) - 같은 버킷의 기한은 하나의 파티션(DEADLINE#{bucketStart})에 저장
+	 */
+	public static long bucketMs() {
+		return BUCKET_MS;
+	}
+	
+	/**
+	 * 스위퍼 타이밍 휠 틱 (ms) - 만료 처리의 시간 정밀도
+	 */
+	public static long tickMs() {
+		return TICK_MS;
+	}
+	
+	/**
+	 * 현재/다음 버킷을 다시 읽는 주기 (ms) - 새로 등록된 기한을 반영하는 지연
+	 */
+	public static long pollMs() {
+		return POLL_MS;
+	}
+	
+	/**
+	 * 스위퍼 시작 시 되돌아보는 구간 (ms) - 이전 실행 사이에 놓친 기한 처리
+	 */
+	public static long lookbackMs() {
+		return LOOKBACK_MS;
+	}
+	
+	/**
+	 * 스위퍼 1회 실행 시간 (ms) - 1분 주기 스케줄보다 짧게 설정해 실행이 겹치지 않도록 함
+	 */
+	public static long sweepBudgetMs() {
+		return SWEEP_BUDGET_MS;
+	}
+}
@@ -0,0 +1,50 @@
+package com.mzc.secondproject.serverless.domain.chatting.config;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+
+/**
+ * 끝말잇기 단어 사전 설정값
+ * 환경 변수로 오버라이드 가능
+ */
+public final class DictionaryConfig {
+	
+	private static final String DEFAULT_LEXICON_RESOURCE = "dictionary/en-words.txt.gz";
+	private static final String LEXICON_DISABLED = "none";
+	private static final int DEFAULT_DEFINITION_CACHE_MAX_ENTRIES = 5000;
+	private static final long DEFAULT_DEFINITION_WAIT_MS = 300L;
+	
+	private static final String LEXICON_RESOURCE =
+			EnvConfig.getOrDefault("DICTIONARY_LEXICON_RESOURCE", DEFAULT_LEXICON_RESOURCE);
+	private static final int DEFINITION_CACHE_MAX_ENTRIES =
+			EnvConfig.getIntOrDefault("DICTIONARY_DEFINITION_CACHE_MAX_ENTRIES", DEFAULT_DEFINITION_CACHE_MAX_ENTRIES);
+	private static final long DEFINITION_WAIT_MS =
+			EnvConfig.getLongOrDefault("DICTIONARY_DEFINITION_WAIT_MS", DEFAULT_DEFINITION_WAIT_MS);
+	
+	private DictionaryConfig() {
+	}
+	
+	/**
+	 * jar에 포함된 단어 목록 리소스 경로 (한 줄에 한 단어, .gz이면 gzip 압축)
+	 * 리소스가 없거나 "none"으로 지정하면 사전 API로 유효성을 검증
+	 *
+	 * @return 경로 ("none"이면 null)
+	 */
+	public static String lexiconResource() {
+		return LEXICON_DISABLED.equalsIgnoreCase(LEXICON_RESOURCE.trim()) ? null : LEXICON_RESOURCE;
+	}
+	
+	/**
+	 * 컨테이너에 보관할 단어 정의 최대 개수 (LRU)
+	 */
+	public static int definitionCacheMaxEntries() {
+		return DEFINITION_CACHE_MAX_ENTRIES;
+	}
+	
+	/**
+	 * 단어 사전이 있을 때 정의 조회를 기다리는 최대 시간 (ms)
+	 * 초과하면 정의 없이 응답하고 조회 결과는 이후 요청을 위해 캐시
+	 */
+	public static long definitionWaitMs() {
+		return DEFINITION_WAIT_MS;
+	}
+}
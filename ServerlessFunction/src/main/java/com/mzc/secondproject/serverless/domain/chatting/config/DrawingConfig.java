@@ -0,0 +1,33 @@
+package com.mzc.secondproject.serverless.domain.chatting.config;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+
+/**
+ * 캐치마인드 그림 전송 설정값
+ * 환경 변수로 오버라이드 가능
+ */
+public final class DrawingConfig {
+	
+	private static final int DEFAULT_MAX_STROKES_PER_FRAME = 64;
+	private static final int DEFAULT_MAX_POINTS_PER_FRAME = 4096;
+	
+	private static final int MAX_STROKES_PER_FRAME = EnvConfig.getIntOrDefault("DRAWING_MAX_STROKES_PER_FRAME", DEFAULT_MAX_STROKES_PER_FRAME);
+	private static final int MAX_POINTS_PER_FRAME = EnvConfig.getIntOrDefault("DRAWING_MAX_POINTS_PER_FRAME", DEFAULT_MAX_POINTS_PER_FRAME);
+	
+	private DrawingConfig() {
+	}
+	
+	/**
+	 * DRAWING_BATCH 한 번에 받을 수 있는 최대 획 수
+	 */
+	public static int maxStrokesPerFrame() {
+		return MAX_STROKES_PER_FRAME;
+	}
+	
+	/**
+	 * DRAWING_BATCH 한 번에 받을 수 있는 최대 좌표 수 (모든 획 합계)
+	 */
+	public static int maxPointsPerFrame() {
+		return MAX_POINTS_PER_FRAME;
+	}
+}
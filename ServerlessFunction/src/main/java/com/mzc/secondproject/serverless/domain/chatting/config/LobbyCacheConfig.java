@@ -0,0 +1,53 @@
+package com.mzc.secondproject.serverless.domain.chatting.config;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+
+/**
+ * 채팅방 목록(로비) 스냅샷 캐시 설정값
+ * 환경 변수로 오버라이드 가능
+ */
+public final class LobbyCacheConfig {
+	
+	private static final long DEFAULT_TTL_MS = 2000L;
+	private static final long DEFAULT_MAX_AGE_MS = 30_000L;
+	private static final long DEFAULT_INDEX_LAG_MS = 2000L;
+	private static final int DEFAULT_MAX_ROOMS = 1000;
+	
+	private static final long TTL_MS = EnvConfig.getLongOrDefault("LOBBY_CACHE_TTL_MS", DEFAULT_TTL_MS);
+	private static final long MAX_AGE_MS = EnvConfig.getLongOrDefault("LOBBY_CACHE_MAX_AGE_MS", DEFAULT_MAX_AGE_MS);
+	private static final long INDEX_LAG_MS = EnvConfig.getLongOrDefault("LOBBY_CACHE_INDEX_LAG_MS", DEFAULT_INDEX_LAG_MS);
+	private static final int MAX_ROOMS = EnvConfig.getIntOrDefault("LOBBY_SNAPSHOT_MAX_ROOMS", DEFAULT_MAX_ROOMS);
+	
+	private LobbyCacheConfig() {
+	}
+	
+	/**
+	 * 버전 확인 없이 스냅샷을 그대로 사용하는 시간 (ms, 0이면 매번 버전 확인)
+	 */
+	public static long ttlMs() {
+		return TTL_MS;
+	}
+	
+	/**
+	 * 버전이 같아도 GSI를 다시 조회하는 최대 스냅샷 수명 (ms)
+	 * 버전을 올리지 않는 변경(lastMessageAt)을 주기적으로 반영
+	 */
+	public static long maxAgeMs() {
+		return MAX_AGE_MS;
+	}
+	
+	/**
+	 * 버전 증가 후 GSI 전파를 기다리는 시간 (ms)
+	 * 이 시간 안에 만든 스냅샷은 버전이 같아도 재사용하지 않음
+	 */
+	public static long indexLagMs() {
+		return INDEX_LAG_MS;
+	}
+	
+	/**
+	 * 스냅샷으로 보관할 최대 방 수 (초과하면 요청마다 GSI 조회)
+	 */
+	public static int maxRooms() {
+		return MAX_ROOMS;
+	}
+}
@@ -0,0 +1,36 @@
+package com.mzc.secondproject.serverless.domain.chatting.config;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+
+/**
+ * 방별 최근 메시지 아이템(ROOM#{roomId} / RECENT) 설정값
+ * 환경 변수로 오버라이드 가능
+ */
+public final class RecentMessagesConfig {
+	
+	private static final int DEFAULT_SIZE = 20;
+	private static final int DEFAULT_TRIM_SLACK = 10;
+	
+	private static final int SIZE = EnvConfig.getIntOrDefault("CHAT_RECENT_MESSAGES_SIZE", DEFAULT_SIZE);
+	private static final int TRIM_SLACK = EnvConfig.getIntOrDefault("CHAT_RECENT_MESSAGES_TRIM_SLACK", DEFAULT_TRIM_SLACK);
+	
+	private RecentMessagesConfig() {
+	}
+	
+	/**
+	 * 최근 메시지 아이템에 유지할 메시지 수 (0이면 사용 안 함, 기본값은 첫 페이지 기본 limit과 같음)
+	 * 이보다 큰 limit의 첫 페이지 요청은 DynamoDB Query로 조회
+	 */
+	public static int size() {
+		return SIZE;
+	}
+	
+	/**
+	 * size를 넘어 쌓이도록 허용하는 메시지 수
+	 * size + trimSlack을 넘게 되는 추가에서 오래된 메시지를 함께 제거해 size개로 줄임
+	 * (정리 시에만 count/version을 읽으므로 조회 횟수와 아이템 크기의 절충)
+	 */
+	public static int trimSlack() {
+		return TRIM_SLACK;
+	}
+}
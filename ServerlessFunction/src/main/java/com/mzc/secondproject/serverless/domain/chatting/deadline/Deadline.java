@@ -0,0 +1,32 @@
+package com.mzc.secondproject.serverless.domain.chatting.deadline;
+
+import com.mzc.secondproject.serverless.domain.chatting.enums.DeadlineType;
+
+/**
+ * 게임 기한 (라운드/게임/턴 만료 시각)
+ * <p>
+ * 만료 처리 시 대상의 현재 상태(라운드 번호 등)가 token과 다르면 이미 지나간 기한으로 보고 무시하므로
+ * 라운드가 먼저 끝나도 기한을 취소할 필요가 없습니다.
+ *
+ * @param type     기한 종류
+ * @param targetId 게임 세션 ID
+ * @param roomId   방 ID (브로드캐스트용)
+ * @param token    기한을 등록한 시점의 라운드 번호
+ * @param dueAt    만료 시각 (epoch ms)
+ */
+public record Deadline(DeadlineType type, String targetId, String roomId, long token, long dueAt) {
+	
+	/**
+	 * 기한 식별자 - 같은 대상/라운드의 기한은 한 번만 저장
+	 */
+	public String key() {
+		return type.name() + "#" + targetId + "#" + token;
+	}
+	
+	/**
+	 * 시각이 속한 버킷의 시작 시각
+	 */
+	public static long bucketStart(long time, long bucketMs) {
+		return time - Math.floorMod(time, bucketMs);
+	}
+}
@@ -0,0 +1,21 @@
+package com.mzc.secondproject.serverless.domain.chatting.deadline;
+
+import java.util.List;
+
+/**
+ * 시간 버킷별 기한 저장소
+ */
+public interface DeadlineStore {
+	
+	/**
+	 * 버킷에 저장된 기한 조회
+	 *
+	 * @param bucketStart 버킷 시작 시각 (bucketMs 배수)
+	 */
+	List<Deadline> findBucket(long bucketStart);
+	
+	/**
+	 * 처리가 끝난 기한 삭제
+	 */
+	void deleteAll(List<Deadline> deadlines);
+}
@@ -0,0 +1,162 @@
+package com.mzc.secondproject.serverless.domain.chatting.deadline;
+
+import com.mzc.secondproject.serverless.domain.chatting.config.DeadlineConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 버킷에 저장된 게임 기한을 읽어 만료 시각에 처리하는 스위퍼
+ * <p>
+ * 1분마다 실행되는 Lambda 한 번이 budgetMs 동안 다음을 반복합니다.
+ * <ul>
+ *   <li>pollMs마다 아직 다 읽지 않은 버킷부터 (now + pollMs)가 속한 버킷까지 조회해 타이밍 휠에 추가</li>
+ *   <li>tickMs마다 휠을 진행해 만료된 기한을 한 번에 처리하고, 처리된 기한을 일괄 삭제</li>
+ *   <li>휠이 비면 현재 버킷부터 실행 종료 시각의 버킷까지 다시 읽고, 그래도 없으면 남은 시간을 기다리지 않고 종료</li>
+ * </ul>
+ * 게임이 없을 때는 조회 몇 번 만에 끝나므로 1분 주기 실행이 대부분 바로 종료됩니다.
+ * 시작 시 lookbackMs 이전 버킷부터 읽으므로 이전 실행 사이에 만료된 기한도 처리됩니다.
+ * 처리에 실패한 기한은 삭제하지 않고 다음 실행에서 다시 시도합니다.
+ * 시계와 대기 함수를 주입받으므로 로컬에서 가짜 시계로 검증할 수 있습니다.
+ */
+public class DeadlineSweeper {
+	
+	private static final Logger logger = LoggerFactory.getLogger(DeadlineSweeper.class);
+	private static final int WHEEL_SIZE = 64;
+	
+	private final DeadlineStore store;
+	private final Consumer<Deadline> dispatcher;
+	private final LongSupplier clock;
+	private final LongConsumer sleeper;
+	private final long bucketMs;
+	private final long tickMs;
+	private final long pollMs;
+	private final long lookbackMs;
+	
+	/**
+	 * 기본 생성자 (Lambda에서 사용)
+	 */
+	public DeadlineSweeper(DeadlineStore store, Consumer<Deadline> dispatcher) {
+		this(store, dispatcher, System::currentTimeMillis, DeadlineSweeper::sleep,
+				DeadlineConfig.bucketMs(), DeadlineConfig.tickMs(), DeadlineConfig.pollMs(), DeadlineConfig.lookbackMs());
+	}
+	
+	/**
+	 * 의존성 주입 생성자 (테스트 용이성)
+	 */
+	public DeadlineSweeper(DeadlineStore store, Consumer<Deadline> dispatcher, LongSupplier clock, LongConsumer sleeper,
+	                       long bucketMs, long tickMs, long pollMs, long lookbackMs) {
+		this.store = store;
+		this.dispatcher = dispatcher;
+		this.clock = clock;
+		this.sleeper = sleeper;
+		this.bucketMs = bucketMs;
+		this.tickMs = tickMs;
+		this.pollMs = pollMs;
+		this.lookbackMs = lookbackMs;
+	}
+	
+	/**
+	 * budgetMs 동안 만료된 기한 처리
+	 */
+	public SweepResult sweep(long budgetMs) {
+		long startedAt = clock.getAsLong();
+		long endAt = startedAt + budgetMs;
+		TimingWheel<Deadline> wheel = new TimingWheel<>(tickMs, WHEEL_SIZE, startedAt);
+		Set<String> loadedKeys = new HashSet<>();
+		
+		long nextBucket = Deadline.bucketStart(startedAt - lookbackMs, bucketMs);
+		long lastPollAt = Long.MIN_VALUE;
+		int fired = 0;
+		int failed = 0;
+		int polls = 0;
+		boolean idle = false;
+		
+		while (true) {
+			long now = clock.getAsLong();
+			
+			boolean polled = lastPollAt == Long.MIN_VALUE || now - lastPollAt >= pollMs;
+			if (polled) {
+				load(nextBucket, Deadline.bucketStart(now + pollMs, bucketMs), wheel, loadedKeys);
+				// 지난 버킷은 이번에 마지막으로 읽었으므로 현재 버킷부터 다시 읽음
+				nextBucket = Deadline.bucketStart(now, bucketMs);
+				lastPollAt = now;
+				polls++;
+			}
+			
+			List<Deadline> due = wheel.advance(now);
+			if (!due.isEmpty()) {
+				List<Deadline> done = new ArrayList<>(due.size());
+				for (Deadline deadline : due) {
+					try {
+						dispatcher.accept(deadline);
+						done.add(deadline);
+					} catch (RuntimeException e) {
+						failed++;
+						logger.error("Failed to fire deadline {}: {}", deadline.key(), e.getMessage(), e);
+					}
+				}
+				if (!done.isEmpty()) {
+					store.deleteAll(done);
+					fired += done.size();
+				}
+			}
+			
+			// 처리 중 등록된 기한도 보도록 현재 버킷부터 읽고, 실행 종료 시각 이후의 기한은 다음 실행에 맡김
+			if (polled && wheel.size() == 0) {
+				load(Deadline.bucketStart(now, bucketMs), Deadline.bucketStart(endAt, bucketMs), wheel, loadedKeys);
+				if (wheel.size() == 0) {
+					idle = true;
+					break;
+				}
+			}
+			
+			if (now >= endAt || Thread.currentThread().isInterrupted()) {
+				break;
+			}
+			sleeper.accept(Math.min(tickMs, endAt - now));
+		}
+		
+		logger.info("Deadline sweep finished: fired={}, failed={}, pending={}, polls={}, idle={}, elapsedMs={}",
+				fired, failed, wheel.size(), polls, idle, clock.getAsLong() - startedAt);
+		return new SweepResult(fired, failed, wheel.size());
+	}
+	
+	/**
+	 * 버킷 범위의 기한 중 아직 읽지 않은 것만 휠에 추가
+	 */
+	private void load(long fromBucket, long toBucket, TimingWheel<Deadline> wheel, Set<String> loadedKeys) {
+		for (long bucket = fromBucket; bucket <= toBucket; bucket += bucketMs) {
+			for (Deadline deadline : store.findBucket(bucket)) {
+				if (loadedKeys.add(deadline.key())) {
+					wheel.add(deadline.dueAt(), deadline);
+				}
+			}
+		}
+	}
+	
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * 스윕 결과
+	 *
+	 * @param fired   처리된 기한 수
+	 * @param failed  처리에 실패한 기한 수 (다음 실행에서 재시도)
+	 * @param pending 실행 종료 시 아직 만료되지 않은 기한 수 (다음 실행에서 처리)
+	 */
+	public record SweepResult(int fired, int failed, int pending) {
+	}
+}
@@ -0,0 +1,140 @@
+package com.mzc.secondproject.serverless.domain.chatting.deadline;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel)
+ * <p>
+ * 가장 낮은 단계는 tickMs 간격의 wheelSize개 슬롯으로 tickMs * wheelSize 구간을 담당하고,
+ * 그보다 먼 항목은 틱이 wheelSize배인 상위 단계(overflow)에 넣습니다.
+ * 하위 단계가 한 바퀴 돌 때마다 상위 단계의 현재 슬롯을 하위 단계로 내려보내므로
+ * 추가/만료 모두 항목 수와 무관하게 O(1)입니다 (틱 진행당 상수 비용).
+ * 스레드 안전하지 않으며 스위퍼 한 번의 실행 안에서만 사용합니다.
+ */
+final class TimingWheel<T> {
+	
+	private final long tickMs;
+	private final int wheelSize;
+	private final long interval;
+	private final List<List<Entry<T>>> buckets;
+	private long currentTime;
+	private TimingWheel<T> overflow;
+	private int size;
+	
+	TimingWheel(long tickMs, int wheelSize, long startMs) {
+		if (tickMs <= 0 || wheelSize <= 1) {
+			throw new IllegalArgumentException("tickMs must be positive and wheelSize greater than 1");
+		}
+		this.tickMs = tickMs;
+		this.wheelSize = wheelSize;
+		this.interval = tickMs * wheelSize;
+		this.currentTime = startMs - Math.floorMod(startMs, tickMs);
+		this.buckets = new ArrayList<>(wheelSize);
+		for (int i = 0; i < wheelSize; i++) {
+			buckets.add(new ArrayList<>());
+		}
+	}
+	
+	/**
+	 * 항목 추가 (이미 지난 시각이면 다음 advance에서 바로 만료)
+	 */
+	void add(long dueAt, T item) {
+		insert(new Entry<>(dueAt, item));
+		size++;
+	}
+	
+	/**
+	 * now까지 시간을 진행하고 만료된(dueAt <= now) 항목을 dueAt 순으로 반환
+	 */
+	List<T> advance(long now) {
+		List<Entry<T>> expired = new ArrayList<>();
+		long target = now - Math.floorMod(now, tickMs);
+		
+		while (true) {
+			drainCurrent(now, expired);
+			if (currentTime >= target) {
+				break;
+			}
+			if (size == expired.size()) {
+				// 남은 항목이 없으면 빈 틱을 건너뜀
+				currentTime = target;
+				overflow = null;
+				continue;
+			}
+			currentTime += tickMs;
+			if (overflow != null) {
+				for (Entry<T> entry : overflow.tick(currentTime)) {
+					insert(entry);
+				}
+			}
+		}
+		
+		size -= expired.size();
+		expired.sort(Comparator.comparingLong(Entry::dueAt));
+		List<T> items = new ArrayList<>(expired.size());
+		for (Entry<T> entry : expired) {
+			items.add(entry.item());
+		}
+		return items;
+	}
+	
+	int size() {
+		return size;
+	}
+	
+	private void insert(Entry<T> entry) {
+		if (entry.dueAt() < currentTime + interval) {
+			long tick = Math.max(entry.dueAt(), currentTime) / tickMs;
+			buckets.get((int) (tick % wheelSize)).add(entry);
+		} else {
+			if (overflow == null) {
+				overflow = new TimingWheel<>(interval, wheelSize, currentTime);
+			}
+			overflow.insert(entry);
+		}
+	}
+	
+	/**
+	 * 현재 슬롯에서 만료된 항목 꺼내기 (같은 틱이지만 아직 시각이 안 된 항목은 남김)
+	 */
+	private void drainCurrent(long now, List<Entry<T>> expired) {
+		Iterator<Entry<T>> it = bucketAt(currentTime).iterator();
+		while (it.hasNext()) {
+			Entry<T> entry = it.next();
+			if (entry.dueAt() <= now) {
+				expired.add(entry);
+				it.remove();
+			}
+		}
+	}
+	
+	/**
+	 * 상위 단계 시계 진행 - 새 틱에 들어서면 그 슬롯의 항목을 하위 단계로 내려보냄
+	 */
+	private List<Entry<T>> tick(long time) {
+		if (time < currentTime + tickMs) {
+			return List.of();
+		}
+		currentTime = time - Math.floorMod(time, tickMs);
+		if (overflow != null) {
+			for (Entry<T> entry : overflow.tick(currentTime)) {
+				insert(entry);
+			}
+		}
+		
+		List<Entry<T>> bucket = bucketAt(currentTime);
+		List<Entry<T>> cascaded = new ArrayList<>(bucket);
+		bucket.clear();
+		return cascaded;
+	}
+	
+	private List<Entry<T>> bucketAt(long time) {
+		return buckets.get((int) ((time / tickMs) % wheelSize));
+	}
+	
+	private record Entry<T>(long dueAt, T item) {
+	}
+}
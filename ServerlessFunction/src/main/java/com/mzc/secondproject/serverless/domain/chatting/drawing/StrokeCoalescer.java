@@ -0,0 +1,118 @@
+package com.mzc.secondproject.serverless.domain.chatting.drawing;
+
+import com.mzc.secondproject.serverless.domain.chatting.config.DrawingConfig;
+import com.mzc.secondproject.serverless.domain.chatting.dto.request.DrawingStroke;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DRAWING_BATCH 획 검증 및 병합
+ * <p>
+ * 클라이언트는 짧은 구간(예: 30~50ms) 동안 그린 획을 모아 한 번에 보내고,
+ * 서버는 이어지는 획(같은 색/굵기/지우개, 다음 획의 시작점 = 이전 획의 끝점)을 하나로 합칩니다.
+ * 합쳐진 결과는 {@link StrokeCodec}으로 인코딩되어 수신자마다 한 번만 전송됩니다.
+ */
+public class StrokeCoalescer {
+	
+	private final int maxStrokes;
+	private final int maxPoints;
+	
+	public StrokeCoalescer() {
+		this(DrawingConfig.maxStrokesPerFrame(), DrawingConfig.maxPointsPerFrame());
+	}
+	
+	public StrokeCoalescer(int maxStrokes, int maxPoints) {
+		this.maxStrokes = maxStrokes;
+		this.maxPoints = maxPoints;
+	}
+	
+	/**
+	 * @throws IllegalArgumentException 획/좌표 수 초과 또는 잘못된 좌표 배열
+	 */
+	public List<DrawingStroke> coalesce(List<DrawingStroke> strokes) {
+		if (strokes.size() > maxStrokes) {
+			throw new IllegalArgumentException("Too many strokes in frame: " + strokes.size() + " (max " + maxStrokes + ")");
+		}
+		
+		List<DrawingStroke> merged = new ArrayList<>(strokes.size());
+		DrawingStroke current = null;
+		int[] currentEnd = null;
+		int totalPoints = 0;
+		
+		for (DrawingStroke stroke : strokes) {
+			int[] points = validPoints(stroke);
+			totalPoints += points.length / 2;
+			if (totalPoints > maxPoints) {
+				throw new IllegalArgumentException("Too many points in frame (max " + maxPoints + ")");
+			}
+			
+			if (current != null && continues(current, currentEnd, stroke)) {
+				current = appendContinuation(current, points);
+			} else {
+				if (current != null) {
+					merged.add(current);
+				}
+				current = stroke;
+			}
+			// 이어붙인 경우에도 끝점은 마지막 획의 끝점과 같음
+			currentEnd = endPoint(points);
+		}
+		if (current != null) {
+			merged.add(current);
+		}
+		return merged;
+	}
+	
+	private static int[] validPoints(DrawingStroke stroke) {
+		if (stroke == null) {
+			throw new IllegalArgumentException("Stroke must not be null");
+		}
+		int[] points = stroke.getPoints();
+		if (points == null || points.length < 2 || points.length % 2 != 0) {
+			throw new IllegalArgumentException("Stroke points must be [x0, y0, dx1, dy1, ...]");
+		}
+		if (stroke.getWidth() != null && stroke.getWidth() <= 0) {
+			throw new IllegalArgumentException("Stroke width must be positive");
+		}
+		StrokeCodec.parseColor(stroke.getColor());
+		return points;
+	}
+	
+	private static boolean continues(DrawingStroke previous, int[] previousEnd, DrawingStroke next) {
+		return StrokeCodec.parseColor(previous.getColor()) == StrokeCodec.parseColor(next.getColor())
+				&& Objects.equals(previous.getWidth(), next.getWidth())
+				&& Boolean.TRUE.equals(previous.getEraser()) == Boolean.TRUE.equals(next.getEraser())
+				&& previousEnd[0] == next.getPoints()[0]
+				&& previousEnd[1] == next.getPoints()[1];
+	}
+	
+	/**
+	 * 이어지는 획의 시작점은 이전 획의 끝점과 같으므로 제외하고 delta만 이어붙임
+	 */
+	private static DrawingStroke appendContinuation(DrawingStroke previous, int[] nextPoints) {
+		int[] points = Arrays.copyOf(previous.getPoints(), previous.getPoints().length + nextPoints.length - 2);
+		System.arraycopy(nextPoints, 2, points, previous.getPoints().length, nextPoints.length - 2);
+		return DrawingStroke.builder()
+				.color(previous.getColor())
+				.width(previous.getWidth())
+				.eraser(previous.getEraser())
+				.points(points)
+				.build();
+	}
+	
+	/**
+	 * delta 좌표 배열의 마지막 절대 좌표
+	 */
+	static int[] endPoint(int[] points) {
+		int x = 0;
+		int y = 0;
+		for (int i = 0; i < points.length; i += 2) {
+			x += points[i];
+			y += points[i + 1];
+		}
+		return new int[]{x, y};
+	}
+}
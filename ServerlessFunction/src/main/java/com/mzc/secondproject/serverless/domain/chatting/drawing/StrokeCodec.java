@@ -0,0 +1,160 @@
+package com.mzc.secondproject.serverless.domain.chatting.drawing;
+
+import com.mzc.secondproject.serverless.domain.chatting.dto.request.DrawingStroke;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 캐치마인드 획 목록 바이너리 인코딩 (stroke-v1)
+ * <p>
+ * 좌표는 이미 직전 점과의 차이(delta)이므로 대부분 한 바이트 varint로 표현됩니다.
+ * <pre>
+ * frame  := version(1B) strokeCount(varint) stroke*
+ * stroke := rgb(3B) width(varint) flags(1B, bit0 = eraser) pointCount(varint) (x y)*
+ * x, y   := zigzag varint (첫 점은 절대 좌표, 이후 delta)
+ * </pre>
+ * WebSocket 텍스트 프레임으로 보내기 위해 결과는 base64 문자열입니다.
+ */
+public final class StrokeCodec {
+	
+	public static final String ENCODING = "stroke-v1";
+	
+	private static final int VERSION = 1;
+	private static final int FLAG_ERASER = 1;
+	
+	private StrokeCodec() {
+	}
+	
+	public static String encode(List<DrawingStroke> strokes) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(64 + strokes.size() * 16);
+		out.write(VERSION);
+		writeVarint(out, strokes.size());
+		
+		for (DrawingStroke stroke : strokes) {
+			int rgb = parseColor(stroke.getColor());
+			out.write(rgb >>> 16 & 0xFF);
+			out.write(rgb >>> 8 & 0xFF);
+			out.write(rgb & 0xFF);
+			writeVarint(out, stroke.getWidth() != null ? stroke.getWidth() : 1);
+			out.write(Boolean.TRUE.equals(stroke.getEraser()) ? FLAG_ERASER : 0);
+			
+			int[] points = stroke.getPoints();
+			writeVarint(out, points.length / 2);
+			for (int value : points) {
+				writeVarint(out, zigzag(value));
+			}
+		}
+		return Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+	
+	public static List<DrawingStroke> decode(String frame) {
+		byte[] bytes;
+		try {
+			bytes = Base64.getDecoder().decode(frame);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid stroke frame encoding", e);
+		}
+		
+		Reader in = new Reader(bytes);
+		int version = in.readByte();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported stroke frame version: " + version);
+		}
+		
+		int strokeCount = in.readVarint();
+		if (strokeCount < 0) {
+			throw new IllegalArgumentException("Malformed stroke frame");
+		}
+		List<DrawingStroke> strokes = new ArrayList<>(Math.min(strokeCount, in.remaining()));
+		for (int i = 0; i < strokeCount; i++) {
+			int rgb = in.readByte() << 16 | in.readByte() << 8 | in.readByte();
+			int width = in.readVarint();
+			boolean eraser = (in.readByte() & FLAG_ERASER) != 0;
+			int pointCount = in.readVarint();
+			// 좌표 하나당 최소 1바이트 - 남은 길이보다 큰 값은 손상된 프레임
+			if (pointCount < 0 || pointCount > in.remaining() / 2) {
+				throw new IllegalArgumentException("Truncated stroke frame");
+			}
+			int[] points = new int[pointCount * 2];
+			for (int p = 0; p < points.length; p++) {
+				points[p] = unzigzag(in.readVarint());
+			}
+			strokes.add(DrawingStroke.builder()
+					.color(String.format("#%06x", rgb))
+					.width(width)
+					.eraser(eraser)
+					.points(points)
+					.build());
+		}
+		return strokes;
+	}
+	
+	/**
+	 * "#rrggbb" 또는 "rrggbb" → 24bit RGB (null이면 검정)
+	 */
+	static int parseColor(String color) {
+		if (color == null || color.isEmpty()) {
+			return 0;
+		}
+		String hex = color.startsWith("#") ? color.substring(1) : color;
+		if (hex.length() != 6) {
+			throw new IllegalArgumentException("Invalid stroke color: " + color);
+		}
+		try {
+			return Integer.parseInt(hex, 16);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid stroke color: " + color);
+		}
+	}
+	
+	private static int zigzag(int value) {
+		return value << 1 ^ value >> 31;
+	}
+	
+	private static int unzigzag(int value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+	
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write(value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+	
+	private static final class Reader {
+		private final byte[] bytes;
+		private int position;
+		
+		Reader(byte[] bytes) {
+			this.bytes = bytes;
+		}
+		
+		int remaining() {
+			return bytes.length - position;
+		}
+		
+		int readByte() {
+			if (position >= bytes.length) {
+				throw new IllegalArgumentException("Truncated stroke frame");
+			}
+			return bytes[position++] & 0xFF;
+		}
+		
+		int readVarint() {
+			int value = 0;
+			for (int shift = 0; shift < 35; shift += 7) {
+				int b = readByte();
+				value |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed varint in stroke frame");
+		}
+	}
+}
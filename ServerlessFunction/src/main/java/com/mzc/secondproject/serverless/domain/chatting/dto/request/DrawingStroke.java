@@ -0,0 +1,25 @@
+package com.mzc.secondproject.serverless.domain.chatting.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐치마인드 획(stroke) 데이터
+ * points는 [x0, y0, dx1, dy1, dx2, dy2, ...] 형태 (첫 점은 절대 좌표, 이후는 직전 점과의 차이)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DrawingStroke {
+	
+	private String color;
+	
+	private Integer width;
+	
+	private Boolean eraser;
+	
+	private int[] points;
+}
@@ -1,10 +1,12 @@
 package com.mzc.secondproject.serverless.domain.chatting.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import com.mzc.secondproject.serverless.domain.chatting.enums.MessageType;
 
 /**
  * 슬래시 명령어 처리 결과
  */
+@GenerateTypeAdapter
 public record CommandResult(
 		MessageType messageType,
 		String message,
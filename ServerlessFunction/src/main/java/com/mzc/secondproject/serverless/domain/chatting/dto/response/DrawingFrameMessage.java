@@ -0,0 +1,58 @@
+package com.mzc.secondproject.serverless.domain.chatting.dto.response;
+
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
+import com.mzc.secondproject.serverless.common.util.WebSocketMessageHelper;
+import com.mzc.secondproject.serverless.domain.chatting.drawing.StrokeCodec;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 그림 데이터 브로드캐스트 메시지 DTO
+ * - DRAWING / DRAWING_CLEAR: 클라이언트가 보낸 content 그대로 전달
+ * - DRAWING_BATCH: 여러 획을 {@link StrokeCodec}으로 인코딩한 frame(base64) 전달
+ */
+@GenerateTypeAdapter
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DrawingFrameMessage {
+	private String domain;
+	private String messageType;
+	private String roomId;
+	private String userId;
+	private String content;
+	private String encoding;
+	private String frame;
+	private Integer strokeCount;
+	private String createdAt;
+	private Long timestamp;
+	
+	public static DrawingFrameMessage raw(String messageType, String roomId, String userId, String content) {
+		return base(messageType, roomId, userId)
+				.content(content)
+				.build();
+	}
+	
+	public static DrawingFrameMessage batch(String roomId, String userId, String frame, int strokeCount) {
+		return base("DRAWING_BATCH", roomId, userId)
+				.encoding(StrokeCodec.ENCODING)
+				.frame(frame)
+				.strokeCount(strokeCount)
+				.build();
+	}
+	
+	private static DrawingFrameMessageBuilder base(String messageType, String roomId, String userId) {
+		return DrawingFrameMessage.builder()
+				.domain(WebSocketMessageHelper.DOMAIN_GAME)
+				.messageType(messageType)
+				.roomId(roomId)
+				.userId(userId)
+				.createdAt(Instant.now().toString())
+				.timestamp(System.currentTimeMillis());
+	}
+}
@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.chatting.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import com.mzc.secondproject.serverless.domain.chatting.model.GameSession;
 
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Map;
 /**
  * 게임 상태 응답 DTO
  */
+@GenerateTypeAdapter
 public record GameStatusResponse(
 		String gameStatus,
 		Integer currentRound,
@@ -1,11 +1,13 @@
 package com.mzc.secondproject.serverless.domain.chatting.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom;
 
 /**
  * 채팅방 입장 응답
  * 방 정보와 WebSocket 연결용 토큰 포함
  */
+@GenerateTypeAdapter
 public record JoinRoomResponse(
 		ChatRoom room,
 		String roomToken,
@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.chatting.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom;
 import com.mzc.secondproject.serverless.domain.chatting.model.GameSettings;
 import lombok.AllArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.List;
  * 방 목록 조회 시 사용되는 응답 DTO
  * ChatRoom + hostNickname 포함
  */
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
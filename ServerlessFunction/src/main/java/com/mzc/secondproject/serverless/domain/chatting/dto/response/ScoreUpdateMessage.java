@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.chatting.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +12,7 @@ import java.util.Map;
 /**
  * 실시간 점수 업데이트 메시지 DTO
  */
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
@@ -64,6 +66,7 @@ public class ScoreUpdateMessage {
 				.toList();
 	}
 	
+	@GenerateTypeAdapter
 	@Data
 	@Builder
 	@NoArgsConstructor
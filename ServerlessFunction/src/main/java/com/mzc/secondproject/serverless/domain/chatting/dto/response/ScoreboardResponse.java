@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.chatting.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import com.mzc.secondproject.serverless.domain.chatting.model.GameSession;
 
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Map;
 /**
  * 점수판 응답 DTO
  */
+@GenerateTypeAdapter
 public record ScoreboardResponse(
 		Map<String, Integer> scores,
 		List<RankEntry> ranking,
@@ -42,6 +44,7 @@ public record ScoreboardResponse(
 				.toList();
 	}
 	
+	@GenerateTypeAdapter
 	public record RankEntry(
 			int rank,
 			String userId,
@@ -0,0 +1,20 @@
+package com.mzc.secondproject.serverless.domain.chatting.enums;
+
+/**
+ * 서버 측 게임 기한 종류 (DeadlineSweepHandler가 만료 처리)
+ */
+public enum DeadlineType {
+	CATCHMIND_ROUND("캐치마인드 라운드 시간 만료"),
+	CATCHMIND_GAME("캐치마인드 게임 전체 시간 만료"),
+	WORDCHAIN_TURN("끝말잇기 턴 시간 만료");
+	
+	private final String description;
+	
+	DeadlineType(String description) {
+		this.description = description;
+	}
+	
+	public String getDescription() {
+		return description;
+	}
+}
@@ -15,6 +15,7 @@ public enum MessageType {
 	ROUND_END("round_end", "라운드 종료"),
 	DRAWING("drawing", "그림 데이터"),
 	DRAWING_CLEAR("drawing_clear", "그림 초기화"),
+	DRAWING_BATCH("drawing_batch", "그림 데이터 묶음"),
 	CORRECT_ANSWER("correct_answer", "정답"),
 	SCORE_UPDATE("score_update", "점수 업데이트"),
 	SYSTEM_COMMAND("system_command", "시스템 명령"),
@@ -4,6 +4,8 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
 import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
 import com.mzc.secondproject.serverless.common.router.HandlerRouter;
 import com.mzc.secondproject.serverless.common.router.Route;
@@ -12,7 +14,6 @@ import com.mzc.secondproject.serverless.common.validation.BeanValidator;
 import com.mzc.secondproject.serverless.domain.chatting.dto.request.SendMessageRequest;
 import com.mzc.secondproject.serverless.domain.chatting.exception.ChattingErrorCode;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage;
-import com.mzc.secondproject.serverless.domain.chatting.repository.ChatRoomRepository;
 import com.mzc.secondproject.serverless.domain.chatting.service.ChatMessageService;
 import com.mzc.secondproject.serverless.domain.user.model.User;
 import com.mzc.secondproject.serverless.domain.user.service.UserService;
@@ -28,9 +29,13 @@ import java.util.UUID;
 public class ChatMessageHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(ChatMessageHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.S3_PRESIGNER);
+	}
 	
 	private final ChatMessageService chatMessageService;
-	private final ChatRoomRepository chatRoomRepository;
 	private final UserService userService;
 	private final HandlerRouter router;
 	
@@ -38,15 +43,14 @@ public class ChatMessageHandler implements RequestHandler<APIGatewayProxyRequest
 	 * 기본 생성자 (Lambda에서 사용)
 	 */
 	public ChatMessageHandler() {
-		this(new ChatMessageService(), new ChatRoomRepository(), new UserService());
+		this(new ChatMessageService(), new UserService());
 	}
 	
 	/**
 	 * 의존성 주입 생성자 (테스트 용이성)
 	 */
-	public ChatMessageHandler(ChatMessageService chatMessageService, ChatRoomRepository chatRoomRepository, UserService userService) {
+	public ChatMessageHandler(ChatMessageService chatMessageService, UserService userService) {
 		this.chatMessageService = chatMessageService;
-		this.chatRoomRepository = chatRoomRepository;
 		this.userService = userService;
 		this.router = initRouter();
 	}
@@ -103,8 +107,8 @@ public class ChatMessageHandler implements RequestHandler<APIGatewayProxyRequest
 					.createdAt(now)
 					.build();
 			
+			// 응답 전에 저장 (lastMessageAt은 방별 간격 단위로 반영)
 			ChatMessage savedMessage = chatMessageService.saveMessage(message);
-			chatRoomRepository.updateLastMessageAt(roomId, now);
 			
 			logger.info("Message sent: {} in room: {}", messageId, roomId);
 			return ResponseGenerator.created("Message sent", savedMessage);
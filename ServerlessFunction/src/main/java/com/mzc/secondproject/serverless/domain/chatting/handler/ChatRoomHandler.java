@@ -4,6 +4,8 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
 import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
 import com.mzc.secondproject.serverless.common.router.HandlerRouter;
 import com.mzc.secondproject.serverless.common.router.Route;
@@ -29,6 +31,11 @@ import java.util.Optional;
 public class ChatRoomHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(ChatRoomHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB);
+	}
 	
 	private final ChatRoomCommandService commandService;
 	private final ChatRoomQueryService queryService;
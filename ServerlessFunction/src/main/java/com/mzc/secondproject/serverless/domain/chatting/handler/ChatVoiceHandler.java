@@ -4,8 +4,11 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
 import com.mzc.secondproject.serverless.common.exception.CommonErrorCode;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.service.PollyService;
 import com.mzc.secondproject.serverless.common.service.PollyService.VoiceSynthesisResult;
 import com.mzc.secondproject.serverless.common.util.ResponseGenerator;
@@ -23,6 +26,11 @@ import java.util.Optional;
 public class ChatVoiceHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(ChatVoiceHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.POLLY, AwsClients.Client.S3, AwsClients.Client.S3_PRESIGNER);
+	}
 	private static final String BUCKET_NAME = EnvConfig.getRequired("CHAT_BUCKET_NAME");
 	
 	private final PollyService pollyService;
@@ -45,6 +53,10 @@ public class ChatVoiceHandler implements RequestHandler<APIGatewayProxyRequestEv
 	
 	@Override
 	public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+		return Metrics.flushAfter(() -> handle(request, context));
+	}
+	
+	private APIGatewayProxyResponseEvent handle(APIGatewayProxyRequestEvent request, Context context) {
 		logger.info("Received voice synthesis request");
 		
 		try {
@@ -99,6 +111,7 @@ public class ChatVoiceHandler implements RequestHandler<APIGatewayProxyRequestEv
 				message.setFemaleVoiceKey(result.getS3Key());
 			}
 			messageRepository.save(message);
+			invalidateRecentMessages(roomId);
 			
 			audioUrl = result.getAudioUrl();
 			cached = result.isCached();
@@ -112,4 +125,15 @@ public class ChatVoiceHandler implements RequestHandler<APIGatewayProxyRequestEv
 				)
 		);
 	}
+	
+	/**
+	 * 최근 메시지 아이템의 사본에는 새 음성 키가 없으므로 무효화 (다음 첫 페이지 조회 때 Query로 재구성)
+	 */
+	private void invalidateRecentMessages(String roomId) {
+		try {
+			messageRepository.deleteRecent(roomId);
+		} catch (RuntimeException e) {
+			logger.warn("Failed to invalidate recent messages: roomId={}, error={}", roomId, e.getMessage());
+		}
+	}
 }
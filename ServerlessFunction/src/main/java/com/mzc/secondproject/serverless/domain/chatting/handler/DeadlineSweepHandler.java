@@ -0,0 +1,102 @@
+package com.mzc.secondproject.serverless.domain.chatting.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.domain.chatting.config.DeadlineConfig;
+import com.mzc.secondproject.serverless.domain.chatting.deadline.Deadline;
+import com.mzc.secondproject.serverless.domain.chatting.deadline.DeadlineSweeper;
+import com.mzc.secondproject.serverless.domain.chatting.dto.response.CommandResult;
+import com.mzc.secondproject.serverless.domain.chatting.repository.DeadlineRepository;
+import com.mzc.secondproject.serverless.domain.chatting.service.GameService;
+import com.mzc.secondproject.serverless.domain.chatting.service.WordChainService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * 게임 기한 스위퍼 Lambda 핸들러
+ * EventBridge 규칙으로 1분마다 호출되어 실행 시간 동안 만료된 기한을 처리
+ * (실행 시간 안에 만료될 기한이 없으면 바로 종료하므로 진행 중인 게임이 있을 때만 오래 실행됨)
+ * <p>
+ * 캐치마인드 라운드/게임 시간 만료와 끝말잇기 턴 시간 만료를 서버에서 처리하므로
+ * 클라이언트 타이머 요청이 없어도 게임이 진행됩니다.
+ * 이미 지난 라운드/턴의 기한은 서비스에서 무시하므로 기한을 취소할 필요가 없습니다.
+ */
+public class DeadlineSweepHandler implements RequestHandler<Map<String, Object>, String> {
+	
+	private static final Logger logger = LoggerFactory.getLogger(DeadlineSweepHandler.class);
+	// 다음 실행과 겹치지 않도록 Lambda 제한 시간 전에 남겨둘 여유 (ms)
+	private static final long TIMEOUT_MARGIN_MS = 5000L;
+	
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.S3_PRESIGNER, AwsClients.Client.SNS);
+	}
+	
+	private final GameService gameService;
+	private final WordChainService wordChainService;
+	private final RoomBroadcaster roomBroadcaster;
+	private final DeadlineSweeper sweeper;
+	
+	/**
+	 * 기본 생성자 (Lambda에서 사용)
+	 */
+	public DeadlineSweepHandler() {
+		this.gameService = new GameService();
+		this.wordChainService = new WordChainService();
+		this.roomBroadcaster = new RoomBroadcaster();
+		this.sweeper = new DeadlineSweeper(new DeadlineRepository(), this::dispatch);
+	}
+	
+	/**
+	 * 의존성 주입 생성자 (테스트 용이성)
+	 */
+	public DeadlineSweepHandler(GameService gameService, WordChainService wordChainService,
+	                            RoomBroadcaster roomBroadcaster, DeadlineRepository deadlineRepository) {
+		this.gameService = gameService;
+		this.wordChainService = wordChainService;
+		this.roomBroadcaster = roomBroadcaster;
+		this.sweeper = new DeadlineSweeper(deadlineRepository, this::dispatch);
+	}
+	
+	@Override
+	public String handleRequest(Map<String, Object> event, Context context) {
+		long budgetMs = DeadlineConfig.sweepBudgetMs();
+		if (context != null) {
+			budgetMs = Math.min(budgetMs, context.getRemainingTimeInMillis() - TIMEOUT_MARGIN_MS);
+		}
+		
+		try {
+			DeadlineSweeper.SweepResult result = sweeper.sweep(Math.max(0, budgetMs));
+			return String.format("SUCCESS: fired=%d, failed=%d, pending=%d",
+					result.fired(), result.failed(), result.pending());
+		} finally {
+			Metrics.flush();
+		}
+	}
+	
+	/**
+	 * 만료된 기한 처리 후 결과 브로드캐스트
+	 */
+	private void dispatch(Deadline deadline) {
+		logger.info("Deadline fired: key={}, roomId={}, lateMs={}",
+				deadline.key(), deadline.roomId(), System.currentTimeMillis() - deadline.dueAt());
+		
+		switch (deadline.type()) {
+			case CATCHMIND_ROUND -> gameService.endRoundByDeadline(deadline.targetId(), (int) deadline.token())
+					.ifPresent(result -> roomBroadcaster.broadcastCommandResult(deadline.roomId(), result));
+			case CATCHMIND_GAME -> {
+				CommandResult result = gameService.finishGameByTimeout(deadline.targetId());
+				if (result.success()) {
+					roomBroadcaster.broadcastGameTimeout(deadline.roomId(), result.message());
+				}
+			}
+			case WORDCHAIN_TURN -> wordChainService.handleTurnDeadline(deadline.targetId(), (int) deadline.token())
+					.ifPresent(result -> roomBroadcaster.broadcastWordChainResult(deadline.roomId(), result));
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.mzc.secondproject.serverless.domain.chatting.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
+import com.amazonaws.services.lambda.runtime.events.StreamsEventResponse;
+import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.domain.badge.model.UserBadge;
+import com.mzc.secondproject.serverless.domain.chatting.model.GameSession;
+import com.mzc.secondproject.serverless.domain.chatting.service.GameStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 종료 후처리 DynamoDB Streams 핸들러
+ * GameSession이 FINISHED로 전환된 레코드만 받아(FilterCriteria) 참가자 통계/뱃지를 갱신
+ * <p>
+ * finishGame 요청 경로에서 분리된 비동기 파이프라인으로, 실패한 레코드는 batchItemFailures로
+ * 보고해 재시도합니다. 통계 증가는 같은 트랜잭션에 게임별 마커 아이템(STATS#GAME#{gameId})을
+ * 조건부로 넣으므로 재시도 순서와 관계없이 중복 반영되지 않습니다.
+ */
+public class GameStatsStreamHandler implements RequestHandler<DynamodbEvent, StreamsEventResponse> {
+	
+	private static final Logger logger = LoggerFactory.getLogger(GameStatsStreamHandler.class);
+	
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.SNS);
+	}
+	
+	private final GameStatsService gameStatsService;
+	
+	/**
+	 * 기본 생성자 (Lambda에서 사용)
+	 */
+	public GameStatsStreamHandler() {
+		this(new GameStatsService());
+	}
+	
+	/**
+	 * 의존성 주입 생성자 (테스트 용이성)
+	 */
+	public GameStatsStreamHandler(GameStatsService gameStatsService) {
+		this.gameStatsService = gameStatsService;
+	}
+	
+	@Override
+	public StreamsEventResponse handleRequest(DynamodbEvent event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private StreamsEventResponse handle(DynamodbEvent event, Context context) {
+		logger.info("Received {} game session stream records", event.getRecords().size());
+		
+		for (DynamodbEvent.DynamodbStreamRecord record : event.getRecords()) {
+			try {
+				processRecord(record);
+			} catch (Exception e) {
+				// 샤드 내 순서를 유지하도록 첫 실패 레코드부터 재시도
+				logger.error("Failed to process game stats record: {}", record.getEventID(), e);
+				return StreamsEventResponse.builder()
+						.withBatchItemFailures(List.of(StreamsEventResponse.BatchItemFailure.builder()
+								.withItemIdentifier(record.getDynamodb().getSequenceNumber())
+								.build()))
+						.build();
+			}
+		}
+		
+		return StreamsEventResponse.builder().withBatchItemFailures(List.of()).build();
+	}
+	
+	private void processRecord(DynamodbEvent.DynamodbStreamRecord record) {
+		Map<String, AttributeValue> newImage = record.getDynamodb().getNewImage();
+		if (newImage == null || !"FINISHED".equals(getStringValue(newImage, "status"))) {
+			return;
+		}
+		
+		GameSession session = toSession(newImage);
+		if (session.getGameSessionId() == null || session.getRoomId() == null) {
+			logger.warn("Missing required fields in GameSession record: {}", record.getEventID());
+			return;
+		}
+		
+		Map<String, List<UserBadge>> newBadges = gameStatsService.updateGameStats(session);
+		logger.info("Post-game stats processed: sessionId={}, roomId={}, newBadges={}",
+				session.getGameSessionId(), session.getRoomId(), newBadges.size());
+	}
+	
+	/**
+	 * 스트림 NEW_IMAGE에서 통계 집계에 필요한 필드만 GameSession으로 변환
+	 */
+	private GameSession toSession(Map<String, AttributeValue> image) {
+		Map<String, Integer> scores = new HashMap<>();
+		AttributeValue scoresValue = image.get("scores");
+		if (scoresValue != null && scoresValue.getM() != null) {
+			scoresValue.getM().forEach((userId, score) -> {
+				if (score.getN() != null) {
+					scores.put(userId, Integer.parseInt(score.getN()));
+				}
+			});
+		}
+		
+		List<String> players = new ArrayList<>();
+		AttributeValue playersValue = image.get("players");
+		if (playersValue != null && playersValue.getL() != null) {
+			playersValue.getL().stream()
+					.map(AttributeValue::getS)
+					.filter(userId -> userId != null)
+					.forEach(players::add);
+		}
+		
+		AttributeValue startedAt = image.get("startedAt");
+		AttributeValue endedAt = image.get("endedAt");
+		
+		return GameSession.builder()
+				.gameSessionId(getStringValue(image, "gameSessionId"))
+				.roomId(getStringValue(image, "roomId"))
+				.status(getStringValue(image, "status"))
+				.startedAt(startedAt != null && startedAt.getN() != null ? Long.parseLong(startedAt.getN()) : null)
+				.endedAt(endedAt != null && endedAt.getN() != null ? Long.parseLong(endedAt.getN()) : null)
+				.scores(scores)
+				.players(players)
+				.build();
+	}
+	
+	private String getStringValue(Map<String, AttributeValue> item, String key) {
+		AttributeValue value = item.get(key);
+		return value != null ? value.getS() : null;
+	}
+}
@@ -0,0 +1,330 @@
+package com.mzc.secondproject.serverless.domain.chatting.handler;
+
+import com.google.gson.Gson;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
+import com.mzc.secondproject.serverless.common.util.WebSocketBroadcaster;
+import com.mzc.secondproject.serverless.common.util.WebSocketMessageHelper;
+import com.mzc.secondproject.serverless.domain.chatting.dto.response.CommandResult;
+import com.mzc.secondproject.serverless.domain.chatting.enums.MessageType;
+import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
+import com.mzc.secondproject.serverless.domain.chatting.repository.ConnectionRepository;
+import com.mzc.secondproject.serverless.domain.chatting.service.WordChainService.WordSubmitResult;
+import com.mzc.secondproject.serverless.domain.vocabulary.model.Word;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 방 단위 WebSocket 브로드캐스트
+ * <p>
+ * 게임 진행 메시지(캐치마인드 명령 결과, 끝말잇기 결과, 시간 만료)를 만들어 방 접속자에게 전송하고
+ * 끊어진(Gone) 연결은 일괄 정리합니다.
+ * WebSocket 메시지 핸들러, 끝말잇기 REST 핸들러, 기한 스위퍼가 같은 형식으로 전송하도록 공유합니다.
+ */
+public class RoomBroadcaster {
+	
+	private static final Logger logger = LoggerFactory.getLogger(RoomBroadcaster.class);
+	private static final Gson gson = JsonUtil.gson();
+	
+	private final ConnectionRepository connectionRepository;
+	private final WebSocketBroadcaster broadcaster;
+	
+	/**
+	 * 기본 생성자 (Lambda에서 사용)
+	 */
+	public RoomBroadcaster() {
+		this(new ConnectionRepository(), new WebSocketBroadcaster());
+	}
+	
+	/**
+	 * 의존성 주입 생성자 (테스트 용이성)
+	 */
+	public RoomBroadcaster(ConnectionRepository connectionRepository, WebSocketBroadcaster broadcaster) {
+		this.connectionRepository = connectionRepository;
+		this.broadcaster = broadcaster;
+	}
+	
+	/**
+	 * 병렬 브로드캐스트 후 끊어진(Gone) 연결만 일괄 정리
+	 * 일시적 전송 실패는 연결을 유지 (다음 메시지에서 재시도)
+	 */
+	public void broadcast(String roomId, List<Connection> connections, String broadcastPayload) {
+		WebSocketBroadcaster.BroadcastResult result = broadcaster.fanOut(connections, broadcastPayload);
+		cleanupGoneConnections(roomId, result.goneConnectionIds());
+	}
+	
+	/**
+	 * 방 전체 브로드캐스트
+	 */
+	public void broadcastToRoom(String roomId, Map<String, Object> payload) {
+		broadcast(roomId, connectionRepository.findByRoomId(roomId), gson.toJson(payload));
+	}
+	
+	/**
+	 * 연결별로 페이로드가 다른 메시지 전송 (출제자에게만 제시어 포함 등)
+	 * 같은 페이로드끼리 묶어 병렬 전송하므로 대부분 1~2회 fan-out으로 끝남
+	 */
+	public void broadcastPersonalized(String roomId, Map<Connection, String> payloads) {
+		Map<String, List<Connection>> groups = new LinkedHashMap<>();
+		payloads.forEach((conn, payload) -> groups.computeIfAbsent(payload, key -> new ArrayList<>()).add(conn));
+		
+		List<String> goneConnectionIds = new ArrayList<>();
+		groups.forEach((payload, group) -> goneConnectionIds.addAll(broadcaster.fanOut(group, payload).goneConnectionIds()));
+		cleanupGoneConnections(roomId, goneConnectionIds);
+	}
+	
+	/**
+	 * 캐치마인드 명령 결과 브로드캐스트 (방 접속자 조회 포함)
+	 */
+	public void broadcastCommandResult(String roomId, CommandResult result) {
+		broadcastCommandResult(roomId, connectionRepository.findByRoomId(roomId), result);
+	}
+	
+	/**
+	 * 캐치마인드 명령 결과 브로드캐스트
+	 * ROUND_END는 다음 출제자에게만 제시어를 포함하고, 나머지는 시스템 메시지로 전송
+	 */
+	public void broadcastCommandResult(String roomId, List<Connection> connections, CommandResult result) {
+		// ROUND_END는 특별 처리 (다음 출제자에게만 제시어 전송 + serverTime 포함)
+		if (result.messageType() == MessageType.ROUND_END && result.data() instanceof Map) {
+			@SuppressWarnings("unchecked")
+			Map<String, Object> data = (Map<String, Object>) result.data();
+			broadcastRoundEnd(connections, result, data, roomId);
+			return;
+		}
+		
+		// 일반 시스템 메시지
+		String messageId = UUID.randomUUID().toString();
+		String now = Instant.now().toString();
+		
+		// 메시지 타입에 따라 domain 결정
+		String domain = determineDomain(result.messageType());
+		
+		// domain 필드 포함을 위해 Map으로 생성
+		Map<String, Object> systemMessage = new HashMap<>();
+		systemMessage.put("domain", domain);
+		systemMessage.put("messageId", messageId);
+		systemMessage.put("roomId", roomId);
+		systemMessage.put("userId", "SYSTEM");
+		systemMessage.put("content", result.message());
+		systemMessage.put("messageType", result.messageType().getCode());
+		systemMessage.put("createdAt", now);
+		systemMessage.put("timestamp", System.currentTimeMillis());
+		
+		// 추가 데이터가 있으면 포함
+		if (result.data() != null) {
+			systemMessage.put("data", result.data());
+		}
+		
+		broadcast(roomId, connections, gson.toJson(systemMessage));
+		
+		logger.info("Command result broadcasted: type={}, domain={}, roomId={}", result.messageType(), domain, roomId);
+	}
+	
+	/**
+	 * 캐치마인드 게임 시간 만료 종료 메시지 브로드캐스트
+	 */
+	public void broadcastGameTimeout(String roomId, String message) {
+		String messageId = UUID.randomUUID().toString();
+		String now = Instant.now().toString();
+		
+		Map<String, Object> gameEndMessage = new HashMap<>();
+		gameEndMessage.put("domain", WebSocketMessageHelper.DOMAIN_GAME);
+		gameEndMessage.put("messageId", messageId);
+		gameEndMessage.put("roomId", roomId);
+		gameEndMessage.put("userId", "SYSTEM");
+		gameEndMessage.put("content", "⏰ 시간 초과! " + message);
+		gameEndMessage.put("messageType", MessageType.GAME_END.getCode());
+		gameEndMessage.put("createdAt", now);
+		gameEndMessage.put("timestamp", System.currentTimeMillis());
+		gameEndMessage.put("reason", "TIME_EXPIRED");
+		
+		List<Connection> connections = connectionRepository.findByRoomId(roomId);
+		broadcast(roomId, connections, gson.toJson(gameEndMessage));
+		
+		logger.info("Game end broadcasted: roomId={}, connections={}", roomId, connections.size());
+	}
+	
+	/**
+	 * 끝말잇기 결과 브로드캐스트 (정답/오답/타임아웃/게임 종료)
+	 */
+	public void broadcastWordChainResult(String roomId, WordSubmitResult result) {
+		String messageId = UUID.randomUUID().toString();
+		String now = Instant.now().toString();
+		long serverTime = System.currentTimeMillis();
+		
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("domain", WebSocketMessageHelper.DOMAIN_WORDCHAIN);
+		payload.put("messageId", messageId);
+		payload.put("roomId", roomId);
+		payload.put("userId", "SYSTEM");
+		payload.put("createdAt", now);
+		payload.put("timestamp", serverTime);
+		payload.put("serverTime", serverTime);
+		payload.put("resultType", result.type().name());
+		
+		switch (result.type()) {
+			case CORRECT -> {
+				payload.put("messageType", MessageType.WORDCHAIN_CORRECT.getCode());
+				payload.put("content", String.format("✅ %s: \"%s\" (+%d점)\n뜻: %s\n다음 글자: '%c'",
+						result.playerNickname(),
+						result.word(),
+						result.score(),
+						result.definition() != null ? result.definition() : "(정의 없음)",
+						result.nextLetter()));
+				payload.put("word", result.word());
+				payload.put("definition", result.definition());
+				payload.put("phonetic", result.phonetic());
+				payload.put("score", result.score());
+				payload.put("nextLetter", result.nextLetter());
+				payload.put("nextPlayerId", result.nextPlayerId());
+				payload.put("nextTimeLimit", result.nextTimeLimit());
+				payload.put("playerNickname", result.playerNickname());
+				if (result.session() != null) {
+					payload.put("turnStartTime", result.session().getTurnStartTime());
+					payload.put("scores", result.session().getScores());
+				}
+			}
+			case WRONG_LETTER -> {
+				payload.put("messageType", MessageType.WORDCHAIN_WRONG.getCode());
+				payload.put("content", result.error());
+				payload.put("error", result.error());
+			}
+			case INVALID_WORD -> {
+				payload.put("messageType", MessageType.WORDCHAIN_WRONG.getCode());
+				payload.put("content", "❌ " + result.error());
+				payload.put("error", result.error());
+			}
+			case TIMEOUT -> {
+				payload.put("messageType", MessageType.WORDCHAIN_TIMEOUT.getCode());
+				payload.put("content", String.format("⏰ %s 시간 초과! 탈락!",
+						result.eliminatedNickname()));
+				payload.put("eliminatedPlayerId", result.eliminatedPlayerId());
+				payload.put("eliminatedNickname", result.eliminatedNickname());
+				payload.put("nextPlayerId", result.nextPlayerId());
+				payload.put("nextTimeLimit", result.nextTimeLimit());
+				if (result.session() != null) {
+					payload.put("nextLetter", result.session().getNextLetter());
+					payload.put("turnStartTime", result.session().getTurnStartTime());
+					payload.put("activePlayers", result.session().getActivePlayers());
+				}
+			}
+			case GAME_END -> {
+				payload.put("messageType", MessageType.WORDCHAIN_END.getCode());
+				String winnerMsg = result.winnerId() != null
+						? String.format("🏆 승자: %s!", result.winnerNickname())
+						: "게임 종료!";
+				payload.put("content", winnerMsg);
+				payload.put("winnerId", result.winnerId());
+				payload.put("winnerNickname", result.winnerNickname());
+				payload.put("ranking", result.ranking());
+				if (result.session() != null) {
+					payload.put("usedWords", result.session().getUsedWords());
+					payload.put("wordDefinitions", result.session().getWordDefinitions());
+					payload.put("scores", result.session().getScores());
+				}
+			}
+			case ERROR -> {
+				// 에러는 브로드캐스트하지 않음 (요청자에게만 응답)
+				return;
+			}
+		}
+		
+		broadcastToRoom(roomId, payload);
+		logger.info("WordChain result broadcasted: roomId={}, type={}", roomId, result.type());
+	}
+	
+	/**
+	 * ROUND_END 메시지 브로드캐스트 - 다음 출제자에게만 제시어 포함, serverTime 추가
+	 */
+	private void broadcastRoundEnd(List<Connection> connections, CommandResult result,
+	                               Map<String, Object> data, String roomId) {
+		String messageId = UUID.randomUUID().toString();
+		String now = Instant.now().toString();
+		long serverTime = System.currentTimeMillis();
+		
+		String nextDrawer = (String) data.get("nextDrawer");
+		Object nextWordObj = data.get("nextWord");
+		
+		Map<Connection, String> payloads = new LinkedHashMap<>();
+		for (Connection conn : connections) {
+			Map<String, Object> message = new HashMap<>();
+			message.put("domain", WebSocketMessageHelper.DOMAIN_GAME);
+			message.put("messageId", messageId);
+			message.put("roomId", roomId);
+			message.put("userId", "SYSTEM");
+			message.put("content", result.message());
+			message.put("messageType", result.messageType().getCode());
+			message.put("createdAt", now);
+			message.put("timestamp", serverTime);
+			
+			// 기본 데이터 복사 (nextWord 제외)
+			Map<String, Object> messageData = new HashMap<>();
+			messageData.put("answer", data.get("answer"));
+			messageData.put("nextRound", data.get("nextRound"));
+			messageData.put("nextDrawer", nextDrawer);
+			messageData.put("ranking", data.get("ranking"));
+			messageData.put("currentRound", data.get("currentRound"));
+			messageData.put("totalRounds", data.get("totalRounds"));
+			
+			// 타이머 동기화용 필드 (핵심!)
+			messageData.put("serverTime", serverTime);
+			if (data.get("roundStartTime") != null) {
+				messageData.put("roundStartTime", data.get("roundStartTime"));
+			}
+			if (data.get("roundDuration") != null) {
+				messageData.put("roundDuration", data.get("roundDuration"));
+			}
+			
+			// 다음 출제자에게만 제시어 전송
+			if (conn.getUserId().equals(nextDrawer) && nextWordObj != null) {
+				if (nextWordObj instanceof Word nextWord) {
+					Map<String, String> wordInfo = new HashMap<>();
+					wordInfo.put("wordId", nextWord.getWordId());
+					wordInfo.put("word", nextWord.getEnglish());
+					messageData.put("nextWord", wordInfo);
+				}
+			}
+			
+			message.put("data", messageData);
+			
+			payloads.put(conn, gson.toJson(message));
+		}
+		broadcastPersonalized(roomId, payloads);
+		
+		logger.info("ROUND_END broadcasted: roomId={}, serverTime={}", roomId, serverTime);
+	}
+	
+	/**
+	 * 메시지 타입에 따라 domain 결정
+	 */
+	private String determineDomain(MessageType messageType) {
+		return switch (messageType) {
+			// 게임 관련 메시지
+			case GAME_START, GAME_END, ROUND_START, ROUND_END, DRAWING, DRAWING_CLEAR,
+			     CORRECT_ANSWER, SCORE_UPDATE, HINT -> WebSocketMessageHelper.DOMAIN_GAME;
+			// 방 상태 관련 메시지
+			case ROOM_STATUS_CHANGE, HOST_CHANGE -> WebSocketMessageHelper.DOMAIN_ROOM;
+			// 채팅 관련 메시지 (기본값)
+			default -> WebSocketMessageHelper.DOMAIN_CHAT;
+		};
+	}
+	
+	/**
+	 * 끊어진 연결 일괄 삭제 (BatchWriteItem)
+	 */
+	private void cleanupGoneConnections(String roomId, List<String> goneConnectionIds) {
+		if (goneConnectionIds.isEmpty()) {
+			return;
+		}
+		connectionRepository.deleteAll(roomId, goneConnectionIds);
+		logger.info("Deleted stale connections: roomId={}, connectionIds={}", roomId, goneConnectionIds);
+	}
+}
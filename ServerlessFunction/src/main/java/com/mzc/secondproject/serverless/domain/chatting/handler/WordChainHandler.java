@@ -4,16 +4,15 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
 import com.mzc.secondproject.serverless.common.router.HandlerRouter;
 import com.mzc.secondproject.serverless.common.router.Route;
 import com.mzc.secondproject.serverless.common.util.ResponseGenerator;
-import com.mzc.secondproject.serverless.common.util.WebSocketBroadcaster;
 import com.mzc.secondproject.serverless.common.util.WebSocketMessageHelper;
 import com.mzc.secondproject.serverless.domain.chatting.enums.MessageType;
 import com.mzc.secondproject.serverless.domain.chatting.exception.ChattingErrorCode;
-import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
 import com.mzc.secondproject.serverless.domain.chatting.model.WordChainSession;
-import com.mzc.secondproject.serverless.domain.chatting.repository.ConnectionRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.WordChainSessionRepository;
 import com.mzc.secondproject.serverless.domain.chatting.service.WordChainService;
 import com.mzc.secondproject.serverless.domain.chatting.service.WordChainService.*;
@@ -29,12 +28,15 @@ import java.util.*;
 public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
 	private static final Logger logger = LoggerFactory.getLogger(WordChainHandler.class);
-	private static final String DOMAIN_WORDCHAIN = "wordchain";
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB);
+	}
 
 	private final WordChainService wordChainService;
 	private final WordChainSessionRepository sessionRepository;
-	private final ConnectionRepository connectionRepository;
-	private final WebSocketBroadcaster broadcaster;
+	private final RoomBroadcaster roomBroadcaster;
 	private final HandlerRouter router;
 
 	/**
@@ -43,8 +45,7 @@ public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEv
 	public WordChainHandler() {
 		this(new WordChainService(),
 				new WordChainSessionRepository(),
-				new ConnectionRepository(),
-				new WebSocketBroadcaster());
+				new RoomBroadcaster());
 	}
 
 	/**
@@ -52,12 +53,10 @@ public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEv
 	 */
 	public WordChainHandler(WordChainService wordChainService,
 	                        WordChainSessionRepository sessionRepository,
-	                        ConnectionRepository connectionRepository,
-	                        WebSocketBroadcaster broadcaster) {
+	                        RoomBroadcaster roomBroadcaster) {
 		this.wordChainService = wordChainService;
 		this.sessionRepository = sessionRepository;
-		this.connectionRepository = connectionRepository;
-		this.broadcaster = broadcaster;
+		this.roomBroadcaster = roomBroadcaster;
 		this.router = initRouter();
 	}
 
@@ -113,7 +112,7 @@ public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEv
 		WordSubmitResult result = wordChainService.submitWord(roomId, userId, word);
 
 		// 결과에 따라 브로드캐스트
-		broadcastWordResult(roomId, result);
+		roomBroadcaster.broadcastWordChainResult(roomId, result);
 
 		return buildSubmitResponse(result);
 	}
@@ -127,7 +126,7 @@ public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEv
 		WordSubmitResult result = wordChainService.handleTimeout(roomId, userId);
 
 		// 타임아웃 결과 브로드캐스트
-		broadcastWordResult(roomId, result);
+		roomBroadcaster.broadcastWordChainResult(roomId, result);
 
 		return buildSubmitResponse(result);
 	}
@@ -145,7 +144,7 @@ public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEv
 		}
 
 		// 게임 종료 브로드캐스트
-		broadcastWordResult(roomId, result);
+		roomBroadcaster.broadcastWordChainResult(roomId, result);
 
 		return ResponseGenerator.ok("Game stopped", Map.of("message", "게임이 종료되었습니다."));
 	}
@@ -161,7 +160,10 @@ public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEv
 			return ResponseGenerator.ok("No active game", Map.of("gameStatus", "NONE"));
 		}
 
-		Map<String, Object> response = buildGameStatusResponse(optSession.get());
+		WordChainSession session = optSession.get();
+		sessionRepository.loadHistory(session);
+
+		Map<String, Object> response = buildGameStatusResponse(session);
 		return ResponseGenerator.ok("Game status retrieved", response);
 	}
 
@@ -259,7 +261,7 @@ public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEv
 				session.getTimeLimit());
 
 		Map<String, Object> payload = new LinkedHashMap<>();
-		payload.put("domain", DOMAIN_WORDCHAIN);
+		payload.put("domain", WebSocketMessageHelper.DOMAIN_WORDCHAIN);
 		payload.put("messageId", messageId);
 		payload.put("roomId", roomId);
 		payload.put("userId", "SYSTEM");
@@ -277,106 +279,8 @@ public class WordChainHandler implements RequestHandler<APIGatewayProxyRequestEv
 		payload.put("players", session.getPlayers());
 		payload.put("activePlayers", session.getActivePlayers());
 
-		broadcastToRoom(roomId, payload);
+		roomBroadcaster.broadcastToRoom(roomId, payload);
 		logger.info("WordChain game start broadcasted: roomId={}, starterWord={}",
 				roomId, result.starterWord());
 	}
-
-	/**
-	 * 단어 제출 결과 브로드캐스트
-	 */
-	private void broadcastWordResult(String roomId, WordSubmitResult result) {
-		String messageId = UUID.randomUUID().toString();
-		String now = Instant.now().toString();
-		long serverTime = System.currentTimeMillis();
-
-		Map<String, Object> payload = new LinkedHashMap<>();
-		payload.put("domain", DOMAIN_WORDCHAIN);
-		payload.put("messageId", messageId);
-		payload.put("roomId", roomId);
-		payload.put("userId", "SYSTEM");
-		payload.put("createdAt", now);
-		payload.put("timestamp", serverTime);
-		payload.put("serverTime", serverTime);
-		payload.put("resultType", result.type().name());
-
-		switch (result.type()) {
-			case CORRECT -> {
-				payload.put("messageType", MessageType.WORDCHAIN_CORRECT.getCode());
-				payload.put("content", String.format("✅ %s: \"%s\" (+%d점)\n뜻: %s\n다음 글자: '%c'",
-						result.playerNickname(),
-						result.word(),
-						result.score(),
-						result.definition() != null ? result.definition() : "(정의 없음)",
-						result.nextLetter()));
-				payload.put("word", result.word());
-				payload.put("definition", result.definition());
-				payload.put("phonetic", result.phonetic());
-				payload.put("score", result.score());
-				payload.put("nextLetter", result.nextLetter());
-				payload.put("nextPlayerId", result.nextPlayerId());
-				payload.put("nextTimeLimit", result.nextTimeLimit());
-				payload.put("playerNickname", result.playerNickname());
-				if (result.session() != null) {
-					payload.put("turnStartTime", result.session().getTurnStartTime());
-					payload.put("scores", result.session().getScores());
-				}
-			}
-			case WRONG_LETTER -> {
-				payload.put("messageType", MessageType.WORDCHAIN_WRONG.getCode());
-				payload.put("content", result.error());
-				payload.put("error", result.error());
-			}
-			case INVALID_WORD -> {
-				payload.put("messageType", MessageType.WORDCHAIN_WRONG.getCode());
-				payload.put("content", "❌ " + result.error());
-				payload.put("error", result.error());
-			}
-			case TIMEOUT -> {
-				payload.put("messageType", MessageType.WORDCHAIN_TIMEOUT.getCode());
-				payload.put("content", String.format("⏰ %s 시간 초과! 탈락!",
-						result.eliminatedNickname()));
-				payload.put("eliminatedPlayerId", result.eliminatedPlayerId());
-				payload.put("eliminatedNickname", result.eliminatedNickname());
-				payload.put("nextPlayerId", result.nextPlayerId());
-				payload.put("nextTimeLimit", result.nextTimeLimit());
-				if (result.session() != null) {
-					payload.put("nextLetter", result.session().getNextLetter());
-					payload.put("turnStartTime", result.session().getTurnStartTime());
-					payload.put("activePlayers", result.session().getActivePlayers());
-				}
-			}
-			case GAME_END -> {
-				payload.put("messageType", MessageType.WORDCHAIN_END.getCode());
-				String winnerMsg = result.winnerId() != null
-						? String.format("🏆 승자: %s!", result.winnerNickname())
-						: "게임 종료!";
-				payload.put("content", winnerMsg);
-				payload.put("winnerId", result.winnerId());
-				payload.put("winnerNickname", result.winnerNickname());
-				payload.put("ranking", result.ranking());
-				if (result.session() != null) {
-					payload.put("usedWords", result.session().getUsedWords());
-					payload.put("wordDefinitions", result.session().getWordDefinitions());
-					payload.put("scores", result.session().getScores());
-				}
-			}
-			case ERROR -> {
-				// 에러는 브로드캐스트하지 않음 (요청자에게만 응답)
-				return;
-			}
-		}
-
-		broadcastToRoom(roomId, payload);
-		logger.info("WordChain result broadcasted: roomId={}, type={}", roomId, result.type());
-	}
-
-	/**
-	 * 방에 메시지 브로드캐스트
-	 */
-	private void broadcastToRoom(String roomId, Map<String, Object> payload) {
-		List<Connection> connections = connectionRepository.findByRoomId(roomId);
-		String jsonPayload = ResponseGenerator.gson().toJson(payload);
-		broadcaster.broadcast(connections, jsonPayload);
-	}
 }
@@ -2,7 +2,10 @@ package com.mzc.secondproject.serverless.domain.chatting.handler.websocket;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
 import com.mzc.secondproject.serverless.common.config.WebSocketConfig;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.WebSocketEventUtil;
 import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
 import com.mzc.secondproject.serverless.domain.chatting.model.RoomToken;
@@ -22,6 +25,11 @@ import java.util.Optional;
 public class WebSocketConnectHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(WebSocketConnectHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB);
+	}
 	
 	private final ConnectionRepository connectionRepository;
 	private final RoomTokenService roomTokenService;
@@ -33,6 +41,10 @@ public class WebSocketConnectHandler implements RequestHandler<Map<String, Objec
 	
 	@Override
 	public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private Map<String, Object> handle(Map<String, Object> event, Context context) {
 		logger.info("WebSocket connect event: {}", event);
 		
 		try {
@@ -92,10 +104,11 @@ public class WebSocketConnectHandler implements RequestHandler<Map<String, Objec
 				logger.warn("닉네임 표시 실패: {}", ex.getMessage());
 			}
 
-			// 같은 방에서 기존 연결 삭제 (새로고침 시 중복 연결 방지)
-			connectionRepository.deleteUserConnectionsInRoom(userId, roomId);
-			
-			String now = Instant.now().toString();
+			// 좌석 교체 판단은 API Gateway의 연결 시각 기준 (Lambda 실행 순서와 무관하게 늦게 연결된 쪽이 유지됨)
+			Long connectedAtMs = WebSocketEventUtil.extractConnectedAt(event);
+			String connectedAt = connectedAtMs != null
+					? Instant.ofEpochMilli(connectedAtMs).toString()
+					: Instant.now().toString();
 			long ttl = Instant.now().plusSeconds(WebSocketConfig.connectionTtlSeconds()).getEpochSecond();
 			
 			Connection connection = Connection.builder()
@@ -109,11 +122,15 @@ public class WebSocketConnectHandler implements RequestHandler<Map<String, Objec
 					.userId(userId)
 					.nickname(nickname)
 					.roomId(roomId)
-					.connectedAt(now)
+					.connectedAt(connectedAt)
 					.ttl(ttl)
 					.build();
 			
-			connectionRepository.save(connection);
+			// 같은 방의 기존 연결을 교체하며 저장 (새로고침 시 중복 연결 방지)
+			if (!connectionRepository.saveReplacingUserConnection(connection)) {
+				logger.warn("Superseded connect rejected: connectionId={}, userId={}, roomId={}", connectionId, userId, roomId);
+				return WebSocketEventUtil.createResponse(409, "Superseded by a newer connection");
+			}
 			
 			logger.info("Connection saved: connectionId={}, userId={}, roomId={}", connectionId, userId, roomId);
 			return WebSocketEventUtil.ok("Connected");
@@ -2,6 +2,9 @@ package com.mzc.secondproject.serverless.domain.chatting.handler.websocket;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.WebSocketEventUtil;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom;
 import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
@@ -24,6 +27,11 @@ import java.util.Optional;
 public class WebSocketDisconnectHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(WebSocketDisconnectHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB);
+	}
 	
 	private final ConnectionRepository connectionRepository;
 	private final ChatRoomRepository chatRoomRepository;
@@ -37,6 +45,10 @@ public class WebSocketDisconnectHandler implements RequestHandler<Map<String, Ob
 	
 	@Override
 	public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private Map<String, Object> handle(Map<String, Object> event, Context context) {
 		logger.info("WebSocket disconnect event: {}", event);
 		
 		try {
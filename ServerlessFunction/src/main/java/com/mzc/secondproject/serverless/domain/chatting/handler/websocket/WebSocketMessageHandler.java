@@ -3,29 +3,36 @@ package com.mzc.secondproject.serverless.domain.chatting.handler.websocket;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.mzc.secondproject.serverless.common.util.WebSocketBroadcaster;
+import com.mzc.secondproject.serverless.common.cache.InvocationCache;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.common.util.WebSocketEventUtil;
 import com.mzc.secondproject.serverless.common.util.WebSocketMessageHelper;
+import com.mzc.secondproject.serverless.domain.chatting.drawing.StrokeCodec;
+import com.mzc.secondproject.serverless.domain.chatting.drawing.StrokeCoalescer;
+import com.mzc.secondproject.serverless.domain.chatting.dto.request.DrawingStroke;
 import com.mzc.secondproject.serverless.domain.chatting.dto.response.CommandResult;
+import com.mzc.secondproject.serverless.domain.chatting.dto.response.DrawingFrameMessage;
 import com.mzc.secondproject.serverless.domain.chatting.dto.response.ScoreUpdateMessage;
 import com.mzc.secondproject.serverless.domain.chatting.enums.MessageType;
+import com.mzc.secondproject.serverless.domain.chatting.handler.RoomBroadcaster;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage;
 import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
 import com.mzc.secondproject.serverless.domain.chatting.model.GameSession;
-import com.mzc.secondproject.serverless.domain.chatting.repository.ChatRoomRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.ConnectionRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.GameSessionRepository;
 import com.mzc.secondproject.serverless.domain.chatting.service.ChatMessageService;
 import com.mzc.secondproject.serverless.domain.chatting.service.CommandService;
 import com.mzc.secondproject.serverless.domain.chatting.service.GameService;
-import com.mzc.secondproject.serverless.domain.user.model.User;
 import com.mzc.secondproject.serverless.domain.user.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -37,33 +44,40 @@ import java.util.UUID;
 public class WebSocketMessageHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(WebSocketMessageHandler.class);
-	private static final Gson gson = new GsonBuilder().create();
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.S3_PRESIGNER, AwsClients.Client.SNS);
+	}
+	private static final Gson gson = JsonUtil.gson();
 	
 	private final ChatMessageService chatMessageService;
-	private final ChatRoomRepository chatRoomRepository;
 	private final ConnectionRepository connectionRepository;
 	private final GameSessionRepository gameSessionRepository;
-	private final WebSocketBroadcaster broadcaster;
+	private final RoomBroadcaster roomBroadcaster;
 	private final CommandService commandService;
 	private final GameService gameService;
 	private final UserService userService;
+	private final StrokeCoalescer strokeCoalescer;
 	
 	public WebSocketMessageHandler() {
 		this.chatMessageService = new ChatMessageService();
-		this.chatRoomRepository = new ChatRoomRepository();
 		this.connectionRepository = new ConnectionRepository();
 		this.gameSessionRepository = new GameSessionRepository();
-		this.broadcaster = new WebSocketBroadcaster();
+		this.roomBroadcaster = new RoomBroadcaster();
 		this.commandService = new CommandService();
 		this.gameService = new GameService();
 		this.userService = new UserService();
+		this.strokeCoalescer = new StrokeCoalescer();
 	}
 	
 	@Override
 	public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
 		logger.info("WebSocket message event: {}", event);
+		long startNanos = System.nanoTime();
 		
-		try {
+		// 같은 요청 안에서 연결 목록/게임 세션 중복 조회 방지
+		try (InvocationCache.Scope scope = InvocationCache.begin()) {
 			String connectionId = WebSocketEventUtil.extractConnectionId(event);
 			String body = (String) event.get("body");
 			
@@ -82,6 +96,7 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 			// 메시지 타입별 처리
 			return switch (messageType.toUpperCase()) {
 				case "DRAWING", "DRAWING_CLEAR" -> handleDrawingMessage(connectionId, payload, messageType);
+				case "DRAWING_BATCH" -> handleDrawingBatch(connectionId, payload);
 				case "ROUND_TIMEOUT" -> handleRoundTimeout(payload);
 				default -> handleRegularMessage(connectionId, payload, messageType);
 			};
@@ -89,6 +104,9 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 		} catch (Exception e) {
 			logger.error("Error handling message: {}", e.getMessage(), e);
 			return WebSocketEventUtil.serverError("Internal server error");
+		} finally {
+			Metrics.recordLatency(Metrics.ROUTE_LATENCY, "WebSocket.message", startNanos);
+			Metrics.flush();
 		}
 	}
 	
@@ -99,37 +117,54 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 	 * - 본인 제외 브로드캐스트
 	 */
 	private Map<String, Object> handleDrawingMessage(String connectionId, MessagePayload payload, String messageType) {
-		logger.info("Drawing message: type={}, roomId={}, userId={}", messageType, payload.roomId, payload.userId);
+		logger.debug("Drawing message: type={}, roomId={}, userId={}", messageType, payload.roomId, payload.userId);
 		
 		// 그림 데이터 메시지 생성 (저장 안 함)
-		Map<String, Object> drawingMessage = new HashMap<>();
-		drawingMessage.put("domain", WebSocketMessageHelper.DOMAIN_GAME);
-		drawingMessage.put("messageType", messageType);
-		drawingMessage.put("roomId", payload.roomId);
-		drawingMessage.put("userId", payload.userId);
-		drawingMessage.put("content", payload.content);
-		drawingMessage.put("createdAt", Instant.now().toString());
-		drawingMessage.put("timestamp", System.currentTimeMillis());
-		
-		// 본인 제외 브로드캐스트
-		List<Connection> connections = connectionRepository.findByRoomId(payload.roomId);
-		List<Connection> otherConnections = connections.stream()
-				.filter(c -> !c.getConnectionId().equals(connectionId))
-				.toList();
-		
-		String broadcastPayload = gson.toJson(drawingMessage);
-		List<String> failedConnections = broadcaster.broadcast(otherConnections, broadcastPayload);
+		DrawingFrameMessage drawingMessage = DrawingFrameMessage.raw(messageType, payload.roomId, payload.userId, payload.content);
+		broadcastDrawing(connectionId, payload.roomId, gson.toJson(drawingMessage));
+		return WebSocketEventUtil.ok("Drawing sent");
+	}
+	
+	/**
+	 * 묶음 그림 데이터 처리 (DRAWING_BATCH)
+	 * - 클라이언트가 짧은 구간 동안 모은 획들을 한 번에 전송
+	 * - 이어지는 획은 병합 후 delta/varint 바이너리(base64)로 인코딩
+	 * - 수신자마다 한 번만 브로드캐스트
+	 */
+	private Map<String, Object> handleDrawingBatch(String connectionId, MessagePayload payload) {
+		if (payload.strokes == null || payload.strokes.isEmpty()) {
+			return WebSocketEventUtil.badRequest("strokes are required");
+		}
 		
-		// 실패한 연결 정리
-		for (String failedConnectionId : failedConnections) {
-			connectionRepository.delete(failedConnectionId);
-			logger.info("Deleted stale connection: {}", failedConnectionId);
+		List<DrawingStroke> strokes;
+		String frame;
+		try {
+			strokes = strokeCoalescer.coalesce(payload.strokes);
+			frame = StrokeCodec.encode(strokes);
+		} catch (IllegalArgumentException e) {
+			return WebSocketEventUtil.badRequest(e.getMessage());
 		}
 		
-		logger.info("Drawing broadcasted to {} connections (excluding sender)", otherConnections.size());
+		logger.debug("Drawing batch: roomId={}, userId={}, strokes={} -> {}",
+				payload.roomId, payload.userId, payload.strokes.size(), strokes.size());
+		
+		DrawingFrameMessage drawingMessage = DrawingFrameMessage.batch(payload.roomId, payload.userId, frame, strokes.size());
+		broadcastDrawing(connectionId, payload.roomId, gson.toJson(drawingMessage));
 		return WebSocketEventUtil.ok("Drawing sent");
 	}
 	
+	/**
+	 * 그림 데이터 본인 제외 브로드캐스트
+	 */
+	private void broadcastDrawing(String connectionId, String roomId, String broadcastPayload) {
+		List<Connection> otherConnections = connectionRepository.findByRoomId(roomId).stream()
+				.filter(c -> !c.getConnectionId().equals(connectionId))
+				.toList();
+		
+		roomBroadcaster.broadcast(roomId, otherConnections, broadcastPayload);
+		logger.debug("Drawing broadcasted to {} connections (excluding sender)", otherConnections.size());
+	}
+	
 	/**
 	 * 일반 메시지 처리 (TEXT 등)
 	 */
@@ -160,17 +195,10 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 		String messageId = UUID.randomUUID().toString();
 		String now = Instant.now().toString();
 
-		// 닉네임 조회
-		String nickname = "Unknown";
+		// 닉네임 조회 (컨테이너 캐시, 없으면 userId 사용)
+		String nickname;
 		try {
-			// DB에서 유저 정보(닉네임) 가져오기
-			User user = userService.getUserProfile(payload.userId);
-			if (user != null && user.getNickname() != null) {
-				nickname = user.getNickname();
-			} else {
-				// 혹시 없으면 UUID 사용
-				nickname = payload.userId;
-			}
+			nickname = userService.getNickname(payload.userId);
 		} catch (Exception e) {
 			nickname = payload.userId;
 		}
@@ -191,32 +219,24 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 				.createdAt(now)
 				.build();
 		
-		ChatMessage savedMessage = chatMessageService.saveMessage(message);
-		chatRoomRepository.updateLastMessageAt(payload.roomId, now);
-		
-		logger.info("Message saved: messageId={}, roomId={}", messageId, payload.roomId);
-		
 		// 브로드캐스트 (domain 필드 포함을 위해 Map으로 변환)
 		Map<String, Object> broadcastMessage = new HashMap<>();
 		broadcastMessage.put("domain", WebSocketMessageHelper.DOMAIN_CHAT);
-		broadcastMessage.put("messageId", savedMessage.getMessageId());
-		broadcastMessage.put("roomId", savedMessage.getRoomId());
-		broadcastMessage.put("userId", savedMessage.getUserId());
-		broadcastMessage.put("nickname", savedMessage.getNickname());
-		broadcastMessage.put("content", savedMessage.getContent());
-		broadcastMessage.put("messageType", savedMessage.getMessageType());
-		broadcastMessage.put("createdAt", savedMessage.getCreatedAt());
+		broadcastMessage.put("messageId", message.getMessageId());
+		broadcastMessage.put("roomId", message.getRoomId());
+		broadcastMessage.put("userId", message.getUserId());
+		broadcastMessage.put("nickname", message.getNickname());
+		broadcastMessage.put("content", message.getContent());
+		broadcastMessage.put("messageType", message.getMessageType());
+		broadcastMessage.put("createdAt", message.getCreatedAt());
 		broadcastMessage.put("timestamp", System.currentTimeMillis());
 		
 		List<Connection> connections = connectionRepository.findByRoomId(payload.roomId);
 		String broadcastPayload = gson.toJson(broadcastMessage);
-		List<String> failedConnections = broadcaster.broadcast(connections, broadcastPayload);
+		roomBroadcaster.broadcast(payload.roomId, connections, broadcastPayload);
 		
-		// 실패한 연결 정리
-		for (String failedConnectionId : failedConnections) {
-			connectionRepository.delete(failedConnectionId);
-			logger.info("Deleted stale connection: {}", failedConnectionId);
-		}
+		// 브로드캐스트 후 같은 요청에서 저장 (이미 전달된 메시지이므로 저장 실패는 로그/메트릭으로만 기록)
+		chatMessageService.saveBroadcastMessage(message);
 		
 		return WebSocketEventUtil.ok("Message sent");
 	}
@@ -241,8 +261,7 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 		
 		List<Connection> connections = connectionRepository.findByRoomId(payload.roomId);
 		String broadcastPayload = gson.toJson(guessMessage);
-		List<String> failedConnections = broadcaster.broadcast(connections, broadcastPayload);
-		cleanupFailedConnections(failedConnections);
+		roomBroadcaster.broadcast(payload.roomId, connections, broadcastPayload);
 		
 		logger.info("Guess message broadcasted (not saved): roomId={}, userId={}", payload.roomId, payload.userId);
 		return WebSocketEventUtil.ok("Guess sent");
@@ -294,8 +313,7 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 		correctMessage.put("timestamp", System.currentTimeMillis());
 		
 		String broadcastPayload = gson.toJson(correctMessage);
-		List<String> failedConnections = broadcaster.broadcast(connections, broadcastPayload);
-		cleanupFailedConnections(failedConnections);
+		roomBroadcaster.broadcast(payload.roomId, connections, broadcastPayload);
 	}
 	
 	/**
@@ -315,23 +333,12 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 		);
 		
 		String broadcastPayload = gson.toJson(scoreUpdate);
-		List<String> failedConnections = broadcaster.broadcast(connections, broadcastPayload);
-		cleanupFailedConnections(failedConnections);
+		roomBroadcaster.broadcast(roomId, connections, broadcastPayload);
 		
 		logger.info("Score update broadcasted: roomId={}, scorerId={}, scoreGained={}",
 				roomId, scorerId, scoreGained);
 	}
 	
-	/**
-	 * 실패한 연결 정리
-	 */
-	private void cleanupFailedConnections(List<String> failedConnections) {
-		for (String failedConnectionId : failedConnections) {
-			connectionRepository.delete(failedConnectionId);
-			logger.info("Deleted stale connection: {}", failedConnectionId);
-		}
-	}
-	
 	/**
 	 * 전원 정답 시 라운드 종료
 	 */
@@ -390,60 +397,11 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 			return WebSocketEventUtil.ok("Command executed");
 		}
 
-		// ROUND_END는 특별 처리 (다음 출제자에게만 제시어 전송 + serverTime 포함)
-		if (result.messageType() == MessageType.ROUND_END && result.data() instanceof Map) {
-			@SuppressWarnings("unchecked")
-			Map<String, Object> data = (Map<String, Object>) result.data();
-			broadcastRoundEnd(connections, result, data, roomId);
-			return WebSocketEventUtil.ok("Command executed");
-		}
-
-		// 일반 시스템 메시지
-		String messageId = UUID.randomUUID().toString();
-		String now = Instant.now().toString();
-
-		// 메시지 타입에 따라 domain 결정
-		String domain = determineDomain(result.messageType());
-
-		// domain 필드 포함을 위해 Map으로 생성
-		Map<String, Object> systemMessage = new HashMap<>();
-		systemMessage.put("domain", domain);
-		systemMessage.put("messageId", messageId);
-		systemMessage.put("roomId", roomId);
-		systemMessage.put("userId", "SYSTEM");
-		systemMessage.put("content", result.message());
-		systemMessage.put("messageType", result.messageType().getCode());
-		systemMessage.put("createdAt", now);
-		systemMessage.put("timestamp", System.currentTimeMillis());
-
-		// 추가 데이터가 있으면 포함
-		if (result.data() != null) {
-			systemMessage.put("data", result.data());
-		}
-
-		String broadcastPayload = gson.toJson(systemMessage);
-		List<String> failedConnections = broadcaster.broadcast(connections, broadcastPayload);
-		cleanupFailedConnections(failedConnections);
-
-		logger.info("Command result broadcasted: type={}, domain={}, roomId={}", result.messageType(), domain, roomId);
+		// ROUND_END 및 일반 시스템 메시지
+		roomBroadcaster.broadcastCommandResult(roomId, connections, result);
 		return WebSocketEventUtil.ok("Command executed");
 	}
 
-	/**
-	 * 메시지 타입에 따라 domain 결정
-	 */
-	private String determineDomain(MessageType messageType) {
-		return switch (messageType) {
-			// 게임 관련 메시지
-			case GAME_START, GAME_END, ROUND_START, ROUND_END, DRAWING, DRAWING_CLEAR,
-			     CORRECT_ANSWER, SCORE_UPDATE, HINT -> WebSocketMessageHelper.DOMAIN_GAME;
-			// 방 상태 관련 메시지
-			case ROOM_STATUS_CHANGE, HOST_CHANGE -> WebSocketMessageHelper.DOMAIN_ROOM;
-			// 채팅 관련 메시지 (기본값)
-			default -> WebSocketMessageHelper.DOMAIN_CHAT;
-		};
-	}
-	
 	/**
 	 * GAME_START 메시지 브로드캐스트 - 출제자에게만 제시어 포함, serverTime 추가
 	 */
@@ -456,6 +414,7 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 		GameSession session = gameResult.session();
 		String currentDrawerId = session.getCurrentDrawerId();
 		
+		Map<Connection, String> payloads = new LinkedHashMap<>();
 		for (Connection conn : connections) {
 			Map<String, Object> message = new HashMap<>();
 			message.put("domain", WebSocketMessageHelper.DOMAIN_GAME);
@@ -487,83 +446,13 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 				message.put("currentWord", wordInfo);
 			}
 			
-			String payload = gson.toJson(message);
-			try {
-				broadcaster.sendToConnection(conn.getConnectionId(), payload);
-			} catch (Exception e) {
-				logger.warn("Failed to send GAME_START to connection: {}", conn.getConnectionId());
-				connectionRepository.delete(conn.getConnectionId());
-			}
+			payloads.put(conn, gson.toJson(message));
 		}
+		roomBroadcaster.broadcastPersonalized(roomId, payloads);
 		
 		logger.info("GAME_START broadcasted: roomId={}, serverTime={}", roomId, serverTime);
 	}
 	
-	/**
-	 * ROUND_END 메시지 브로드캐스트 - 다음 출제자에게만 제시어 포함, serverTime 추가
-	 */
-	private void broadcastRoundEnd(List<Connection> connections, CommandResult result,
-	                               Map<String, Object> data, String roomId) {
-		String messageId = UUID.randomUUID().toString();
-		String now = Instant.now().toString();
-		long serverTime = System.currentTimeMillis();
-		
-		String nextDrawer = (String) data.get("nextDrawer");
-		Object nextWordObj = data.get("nextWord");
-		
-		for (Connection conn : connections) {
-			Map<String, Object> message = new HashMap<>();
-			message.put("domain", WebSocketMessageHelper.DOMAIN_GAME);
-			message.put("messageId", messageId);
-			message.put("roomId", roomId);
-			message.put("userId", "SYSTEM");
-			message.put("content", result.message());
-			message.put("messageType", result.messageType().getCode());
-			message.put("createdAt", now);
-			message.put("timestamp", serverTime);
-			
-			// 기본 데이터 복사 (nextWord 제외)
-			Map<String, Object> messageData = new HashMap<>();
-			messageData.put("answer", data.get("answer"));
-			messageData.put("nextRound", data.get("nextRound"));
-			messageData.put("nextDrawer", nextDrawer);
-			messageData.put("ranking", data.get("ranking"));
-			messageData.put("currentRound", data.get("currentRound"));
-			messageData.put("totalRounds", data.get("totalRounds"));
-			
-			// 타이머 동기화용 필드 (핵심!)
-			messageData.put("serverTime", serverTime);
-			if (data.get("roundStartTime") != null) {
-				messageData.put("roundStartTime", data.get("roundStartTime"));
-			}
-			if (data.get("roundDuration") != null) {
-				messageData.put("roundDuration", data.get("roundDuration"));
-			}
-			
-			// 다음 출제자에게만 제시어 전송
-			if (conn.getUserId().equals(nextDrawer) && nextWordObj != null) {
-				if (nextWordObj instanceof com.mzc.secondproject.serverless.domain.vocabulary.model.Word nextWord) {
-					Map<String, String> wordInfo = new HashMap<>();
-					wordInfo.put("wordId", nextWord.getWordId());
-					wordInfo.put("word", nextWord.getEnglish());
-					messageData.put("nextWord", wordInfo);
-				}
-			}
-			
-			message.put("data", messageData);
-			
-			String payload = gson.toJson(message);
-			try {
-				broadcaster.sendToConnection(conn.getConnectionId(), payload);
-			} catch (Exception e) {
-				logger.warn("Failed to send ROUND_END to connection: {}", conn.getConnectionId());
-				connectionRepository.delete(conn.getConnectionId());
-			}
-		}
-		
-		logger.info("ROUND_END broadcasted: roomId={}, serverTime={}", roomId, serverTime);
-	}
-	
 	/**
 	 * 메시지 페이로드 DTO
 	 */
@@ -572,5 +461,6 @@ public class WebSocketMessageHandler implements RequestHandler<Map<String, Objec
 		String userId;
 		String content;
 		String messageType;
+		List<DrawingStroke> strokes;
 	}
 }
@@ -1,11 +1,13 @@
 package com.mzc.secondproject.serverless.domain.chatting.model;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
 
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
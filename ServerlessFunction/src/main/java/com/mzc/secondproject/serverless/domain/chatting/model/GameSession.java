@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.chatting.model;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +14,7 @@ import java.util.Map;
  * 게임 세션 모델
  * ChatRoom에서 분리된 게임 상태 관리용 독립 모델
  */
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
@@ -55,13 +57,15 @@ public class GameSession {
 	private Boolean hintUsed;
 	private List<String> correctGuessers;
 	
-	// 스케줄링 (게임 자동 종료용)
+	// 게임 자동 종료 예정 시각 (기한 스위퍼가 처리)
 	private Long gameEndScheduledAt;
-	private String scheduleRuleArn;
 	
 	// TTL (게임 종료 후 일정 시간 뒤 삭제)
 	private Long ttl;
 	
+	// 낙관적 동시성 제어용 버전 (조건부 UpdateItem마다 1씩 증가)
+	private Long version;
+	
 	@DynamoDbPartitionKey
 	@DynamoDbAttribute("PK")
 	public String getPk() {
@@ -8,6 +8,7 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 채팅방 투표 모델
@@ -26,8 +27,9 @@ public class Poll {
 	private String roomId;
 	private String question;
 	private List<String> options;
-	private Map<String, Integer> votes;      // optionIndex -> count
-	private Map<String, Integer> userVotes;  // userId -> optionIndex
+	private Map<String, Integer> votes;      // optionIndex -> count (선택지별 카운터)
+	private Map<String, Integer> userVotes;  // userId -> optionIndex (이전 투표 호환)
+	private Set<String> voters;              // 투표한 userId 집합 (중복 투표 방지)
 	private String createdBy;
 	private String createdAt;
 	private Boolean isActive;
@@ -45,29 +47,12 @@ public class Poll {
 		return sk;
 	}
 
-	/**
-	 * 투표 추가
-	 */
-	public boolean addVote(String userId, int optionIndex) {
-		if (optionIndex < 0 || optionIndex >= options.size()) {
-			return false;
-		}
-
-		// 이미 투표했는지 확인
-		if (userVotes.containsKey(userId)) {
-			return false;
-		}
-
-		userVotes.put(userId, optionIndex);
-		votes.merge(String.valueOf(optionIndex), 1, Integer::sum);
-		return true;
-	}
-
 	/**
 	 * 사용자가 이미 투표했는지 확인
 	 */
 	public boolean hasVoted(String userId) {
-		return userVotes != null && userVotes.containsKey(userId);
+		return (userVotes != null && userVotes.containsKey(userId))
+				|| (voters != null && voters.contains(userId));
 	}
 
 	/**
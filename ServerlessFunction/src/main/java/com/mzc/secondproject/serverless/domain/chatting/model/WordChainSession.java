@@ -49,8 +49,9 @@ public class WordChainSession {
 	private Map<String, Integer> scores;
 
 	// 게임 기록
-	private List<String> usedWords;         // 사용된 단어 목록
-	private Map<String, String> wordDefinitions; // 단어 -> 뜻 (게임 종료 후 학습용)
+	private Set<String> usedWordSet;        // 사용된 단어 (String Set, 턴마다 ADD로 추가)
+	private List<String> usedWords;         // 사용된 단어 목록 (사용 순서, 단어 아이템에서 조회)
+	private Map<String, String> wordDefinitions; // 단어 -> 뜻 (게임 종료 후 학습용, 단어 아이템에서 조회)
 
 	// TTL
 	private Long ttl;
@@ -79,6 +80,26 @@ public class WordChainSession {
 		return gsi1sk;
 	}
 
+	/**
+	 * DynamoDB는 빈 Set을 저장할 수 없으므로 비어 있으면 속성 생략
+	 */
+	public Set<String> getUsedWordSet() {
+		return usedWordSet == null || usedWordSet.isEmpty() ? null : usedWordSet;
+	}
+
+	/**
+	 * 사용 순서 목록은 세션 아이템에 저장하지 않음 (WORD# 아이템으로 별도 저장)
+	 */
+	@DynamoDbIgnore
+	public List<String> getUsedWords() {
+		return usedWords;
+	}
+
+	@DynamoDbIgnore
+	public Map<String, String> getWordDefinitions() {
+		return wordDefinitions;
+	}
+
 	// ========== 비즈니스 메서드 ==========
 
 	/**
@@ -99,7 +120,7 @@ public class WordChainSession {
 	 * 단어가 이미 사용되었는지 확인
 	 */
 	public boolean isWordUsed(String word) {
-		return usedWords != null && usedWords.contains(word.toLowerCase());
+		return usedWordSet().contains(word.toLowerCase());
 	}
 
 	/**
@@ -110,6 +131,7 @@ public class WordChainSession {
 			usedWords = new ArrayList<>();
 		}
 		usedWords.add(word.toLowerCase());
+		usedWordSet().add(word.toLowerCase());
 
 		if (definition != null) {
 			if (wordDefinitions == null) {
@@ -119,6 +141,16 @@ public class WordChainSession {
 		}
 	}
 
+	/**
+	 * 사용 단어 Set (목록만 있으면 목록으로 초기화)
+	 */
+	private Set<String> usedWordSet() {
+		if (usedWordSet == null) {
+			usedWordSet = usedWords != null ? new HashSet<>(usedWords) : new HashSet<>();
+		}
+		return usedWordSet;
+	}
+
 	/**
 	 * 플레이어 탈락 처리
 	 */
@@ -3,6 +3,7 @@ package com.mzc.secondproject.serverless.domain.chatting.repository;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
 import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.CursorUtil;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage;
 import org.slf4j.Logger;
@@ -15,7 +16,15 @@ import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +33,15 @@ public class ChatMessageRepository {
 	
 	private static final Logger logger = LoggerFactory.getLogger(ChatMessageRepository.class);
 	private static final String TABLE_NAME = EnvConfig.getRequired("CHAT_TABLE_NAME");
+	// 방별 최근 메시지 아이템 SK
+	private static final String RECENT_SK = "RECENT";
+	// 최근 메시지 추가 시 동시 업데이트로 인한 최대 시도 횟수
+	private static final int RECENT_APPEND_MAX_ATTEMPTS = 3;
+	// 최근 메시지 아이템에 저장하는 속성 - 키/GSI 속성과 roomId를 뺀 메시지 속성 전체 (키/GSI 속성은 읽을 때 복원)
+	// Query로 읽은 페이지와 같은 형태가 되도록 메시지 속성이 추가되면 여기에도 추가해야 함
+	private static final List<String> RECENT_ATTRIBUTES = List.of(
+			"messageId", "userId", "nickname", "content", "messageType", "createdAt", "ttl",
+			"maleVoiceKey", "femaleVoiceKey");
 	
 	private final DynamoDbTable<ChatMessage> table;
 	
@@ -47,6 +65,240 @@ public class ChatMessageRepository {
 		return message;
 	}
 	
+	/**
+	 * 방별 최근 메시지 아이템 조회
+	 */
+	public Optional<RecentMessages> findRecentByRoomId(String roomId) {
+		GetItemRequest request = GetItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(recentKey(roomId))
+				.build();
+		
+		Map<String, AttributeValue> item = Metrics.time(Metrics.REPOSITORY_LATENCY, "ChatMessageRepository.findRecent",
+				() -> AwsClients.dynamoDb().getItem(request).item());
+		if (item == null || item.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(toRecentMessages(roomId, item));
+	}
+	
+	/**
+	 * 저장된 메시지를 최근 메시지 아이템 뒤에 추가
+	 * 보통은 응답 없는 list_append 한 번이며, count가 size + trimSlack을 넘게 되면
+	 * count/version만 읽어 오래된 메시지 제거와 추가를 한 번의 업데이트로 수행
+	 *
+	 * @throws IllegalStateException 동시 업데이트로 재시도를 모두 소진했거나 count가 없는 아이템인 경우
+	 */
+	public void appendRecent(String roomId, List<ChatMessage> messages, int size, int trimSlack) {
+		List<AttributeValue> values = toRecentValues(messages);
+		for (int attempt = 1; attempt <= RECENT_APPEND_MAX_ATTEMPTS; attempt++) {
+			if (tryAppendRecent(roomId, values, size + trimSlack - values.size())) {
+				return;
+			}
+			Optional<RecentState> state = findRecentState(roomId);
+			if (state.isPresent() && tryTrimAndAppendRecent(roomId, values, state.get(), size)) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Failed to append recent messages after retries: roomId=" + roomId);
+	}
+	
+	/**
+	 * 추가 후 개수가 maxCountBefore + 추가 개수 이하일 때만 추가 (아이템이 없으면 생성)
+	 *
+	 * @return 추가 여부 (false면 정리가 필요함)
+	 */
+	private boolean tryAppendRecent(String roomId, List<AttributeValue> values, int maxCountBefore) {
+		Map<String, AttributeValue> expressionValues = new HashMap<>();
+		expressionValues.put(":msgs", AttributeValue.builder().l(values).build());
+		expressionValues.put(":empty", AttributeValue.builder().l(List.of()).build());
+		expressionValues.put(":zero", AttributeValue.builder().n("0").build());
+		expressionValues.put(":one", AttributeValue.builder().n("1").build());
+		expressionValues.put(":n", AttributeValue.builder().n(String.valueOf(values.size())).build());
+		expressionValues.put(":max", AttributeValue.builder().n(String.valueOf(maxCountBefore)).build());
+		
+		UpdateItemRequest request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(recentKey(roomId))
+				.updateExpression("SET recent = list_append(if_not_exists(recent, :empty), :msgs), "
+						+ "#count = if_not_exists(#count, :zero) + :n, "
+						+ "version = if_not_exists(version, :zero) + :one")
+				.conditionExpression("attribute_not_exists(recent) OR #count <= :max")
+				.expressionAttributeNames(Map.of("#count", "count"))
+				.expressionAttributeValues(expressionValues)
+				.build();
+		
+		try {
+			Metrics.time(Metrics.REPOSITORY_LATENCY, "ChatMessageRepository.appendRecent",
+					() -> AwsClients.dynamoDb().updateItem(request));
+			return true;
+		} catch (ConditionalCheckFailedException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * 정리에 필요한 count/version만 조회
+	 *
+	 * @throws IllegalStateException count가 없는 아이템인 경우 (재구성 필요)
+	 */
+	private Optional<RecentState> findRecentState(String roomId) {
+		GetItemRequest request = GetItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(recentKey(roomId))
+				.projectionExpression("#count, version")
+				.expressionAttributeNames(Map.of("#count", "count"))
+				.consistentRead(true)
+				.build();
+		
+		Map<String, AttributeValue> item = AwsClients.dynamoDb().getItem(request).item();
+		if (item == null || item.isEmpty()) {
+			return Optional.empty();
+		}
+		if (item.get("count") == null || item.get("version") == null) {
+			throw new IllegalStateException("Recent messages item has no count: roomId=" + roomId);
+		}
+		return Optional.of(new RecentState(Integer.parseInt(item.get("count").n()), Long.parseLong(item.get("version").n())));
+	}
+	
+	/**
+	 * 가장 먼저 추가된 메시지를 REMOVE로 제거하고 새 메시지를 목록 끝 인덱스에 SET (한 번의 업데이트)
+	 * 추가 후 최신 size개만 남기며, 그 사이 버전이 바뀌었으면 false
+	 */
+	private boolean tryTrimAndAppendRecent(String roomId, List<AttributeValue> values, RecentState state, int size) {
+		int removeCount = Math.min(state.count(), Math.max(0, state.count() + values.size() - size));
+		
+		Map<String, AttributeValue> expressionValues = new HashMap<>();
+		List<String> sets = new ArrayList<>();
+		for (int i = 0; i < values.size(); i++) {
+			// 목록 길이 이상의 인덱스에 SET하면 끝에 추가됨
+			sets.add("recent[" + (state.count() + i) + "] = :m" + i);
+			expressionValues.put(":m" + i, values.get(i));
+		}
+		sets.add("#count = :count");
+		sets.add("version = version + :one");
+		sets.add("complete = :false");
+		List<String> removes = new ArrayList<>();
+		for (int i = 0; i < removeCount; i++) {
+			removes.add("recent[" + i + "]");
+		}
+		expressionValues.put(":count", AttributeValue.builder().n(String.valueOf(state.count() + values.size() - removeCount)).build());
+		expressionValues.put(":one", AttributeValue.builder().n("1").build());
+		expressionValues.put(":false", AttributeValue.builder().bool(false).build());
+		expressionValues.put(":v", AttributeValue.builder().n(String.valueOf(state.version())).build());
+		
+		UpdateItemRequest request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(recentKey(roomId))
+				.updateExpression("SET " + String.join(", ", sets)
+						+ (removes.isEmpty() ? "" : " REMOVE " + String.join(", ", removes)))
+				.conditionExpression("version = :v")
+				.expressionAttributeNames(Map.of("#count", "count"))
+				.expressionAttributeValues(expressionValues)
+				.build();
+		
+		try {
+			Metrics.time(Metrics.REPOSITORY_LATENCY, "ChatMessageRepository.trimRecent",
+					() -> AwsClients.dynamoDb().updateItem(request));
+			logger.debug("Trimmed recent messages: roomId={}, removed={}", roomId, removeCount);
+			return true;
+		} catch (ConditionalCheckFailedException e) {
+			logger.debug("Recent messages changed during trim, retrying: roomId={}", roomId);
+			return false;
+		}
+	}
+	
+	/**
+	 * Query 결과로 최근 메시지 아이템 재구성
+	 * 그 사이 다른 추가가 있었으면 (버전 불일치) 아무것도 하지 않음
+	 *
+	 * @param newestFirst     최신순 메시지 (첫 페이지 Query 결과)
+	 * @param complete        방의 전체 메시지인지 여부
+	 * @param expectedVersion 조회 시점의 버전 (아이템이 없었으면 null)
+	 */
+	public void seedRecent(String roomId, List<ChatMessage> newestFirst, boolean complete, Long expectedVersion) {
+		List<ChatMessage> ordered = new ArrayList<>(newestFirst);
+		Collections.reverse(ordered);
+		
+		Map<String, AttributeValue> item = new HashMap<>(recentKey(roomId));
+		item.put("recent", AttributeValue.builder().l(toRecentValues(ordered)).build());
+		item.put("complete", AttributeValue.builder().bool(complete).build());
+		item.put("count", AttributeValue.builder().n(String.valueOf(ordered.size())).build());
+		
+		PutItemRequest.Builder request = PutItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.item(item);
+		if (expectedVersion == null) {
+			item.put("version", AttributeValue.builder().n("1").build());
+			request.conditionExpression("attribute_not_exists(PK)");
+		} else {
+			item.put("version", AttributeValue.builder().n(String.valueOf(expectedVersion + 1)).build());
+			request.conditionExpression("version = :v")
+					.expressionAttributeValues(Map.of(":v", AttributeValue.builder().n(String.valueOf(expectedVersion)).build()));
+		}
+		
+		try {
+			AwsClients.dynamoDb().putItem(request.build());
+			logger.debug("Seeded recent messages: roomId={}, count={}, complete={}", roomId, ordered.size(), complete);
+		} catch (ConditionalCheckFailedException e) {
+			logger.debug("Skipped recent messages seed (concurrent append): roomId={}", roomId);
+		}
+	}
+	
+	/**
+	 * 최근 메시지 아이템 삭제 (추가 실패나 메시지 변경 시 오래된 사본이 첫 페이지로 쓰이지 않도록)
+	 */
+	public void deleteRecent(String roomId) {
+		AwsClients.dynamoDb().deleteItem(DeleteItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(recentKey(roomId))
+				.build());
+		logger.info("Deleted recent messages: roomId={}", roomId);
+	}
+	
+	private List<AttributeValue> toRecentValues(List<ChatMessage> messages) {
+		return messages.stream()
+				.map(message -> AttributeValue.builder().m(table.tableSchema().itemToMap(message, RECENT_ATTRIBUTES)).build())
+				.toList();
+	}
+	
+	private RecentMessages toRecentMessages(String roomId, Map<String, AttributeValue> item) {
+		List<ChatMessage> messages = new ArrayList<>();
+		AttributeValue recent = item.get("recent");
+		if (recent != null && recent.hasL()) {
+			for (AttributeValue value : recent.l()) {
+				ChatMessage message = table.tableSchema().mapToItem(value.m());
+				messages.add(restoreKeys(roomId, message));
+			}
+		}
+		AttributeValue version = item.get("version");
+		AttributeValue complete = item.get("complete");
+		return new RecentMessages(messages,
+				version != null ? Long.parseLong(version.n()) : 0L,
+				complete != null && Boolean.TRUE.equals(complete.bool()));
+	}
+	
+	/**
+	 * 최근 메시지 아이템에 저장하지 않은 키/GSI 속성 복원
+	 */
+	private static ChatMessage restoreKeys(String roomId, ChatMessage message) {
+		String createdAt = message.getCreatedAt();
+		message.setRoomId(roomId);
+		message.setPk("ROOM#" + roomId);
+		message.setSk("MSG#" + createdAt + "#" + message.getMessageId());
+		message.setGsi1pk("USER#" + message.getUserId());
+		message.setGsi1sk("MSG#" + createdAt);
+		message.setGsi2pk("MSG#" + message.getMessageId());
+		message.setGsi2sk("ROOM#" + roomId);
+		return message;
+	}
+	
+	private static Map<String, AttributeValue> recentKey(String roomId) {
+		return Map.of(
+				"PK", AttributeValue.builder().s("ROOM#" + roomId).build(),
+				"SK", AttributeValue.builder().s(RECENT_SK).build());
+	}
+	
 	public Optional<ChatMessage> findByRoomIdAndMessageId(String roomId, String messageId) {
 		// GSI2를 사용하여 messageId로 직접 조회 (풀스캔 방지)
 		QueryConditional queryConditional = QueryConditional
@@ -71,6 +323,13 @@ public class ChatMessageRepository {
 	 * @return 메시지 목록과 다음 페이지 커서
 	 */
 	public PaginatedResult<ChatMessage> findByRoomIdWithPagination(String roomId, int limit, String cursor) {
+		return findByRoomIdWithPagination(roomId, limit, cursor, false);
+	}
+	
+	/**
+	 * 채팅방 메시지 조회 - 강한 일관성 읽기 선택 (최근 메시지 아이템 재구성용)
+	 */
+	public PaginatedResult<ChatMessage> findByRoomIdWithPagination(String roomId, int limit, String cursor, boolean consistentRead) {
 		QueryConditional queryConditional = QueryConditional
 				.sortBeginsWith(Key.builder()
 						.partitionValue("ROOM#" + roomId)
@@ -80,6 +339,7 @@ public class ChatMessageRepository {
 		QueryEnhancedRequest.Builder requestBuilder = QueryEnhancedRequest.builder()
 				.queryConditional(queryConditional)
 				.scanIndexForward(false)  // 최신순 (역순)
+				.consistentRead(consistentRead)
 				.limit(limit);
 		
 		// 커서 기반 페이지네이션 (Base64 디코딩)
@@ -126,4 +386,13 @@ public class ChatMessageRepository {
 		String nextCursor = CursorUtil.encode(page.lastEvaluatedKey());
 		return new PaginatedResult<>(page.items(), nextCursor);
 	}
+	
+	/**
+	 * 최근 메시지 아이템의 정리용 상태
+	 *
+	 * @param count   recent 목록 길이
+	 * @param version 조건부 정리용 버전
+	 */
+	private record RecentState(int count, long version) {
+	}
 }
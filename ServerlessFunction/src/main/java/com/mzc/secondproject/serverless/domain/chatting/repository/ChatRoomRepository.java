@@ -3,7 +3,9 @@ package com.mzc.secondproject.serverless.domain.chatting.repository;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
 import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.CursorUtil;
+import com.mzc.secondproject.serverless.domain.chatting.config.LobbyCacheConfig;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,8 +14,12 @@ import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +29,13 @@ public class ChatRoomRepository {
 	
 	private static final Logger logger = LoggerFactory.getLogger(ChatRoomRepository.class);
 	private static final String TABLE_NAME = EnvConfig.getRequired("CHAT_TABLE_NAME");
+	// 로비 버전 아이템 (LOBBY / VERSION) - 방 생성/상태/멤버 변경/삭제 시 증가
+	private static final Map<String, AttributeValue> LOBBY_VERSION_KEY = Map.of(
+			"PK", AttributeValue.builder().s("LOBBY").build(),
+			"SK", AttributeValue.builder().s("VERSION").build());
+	// 컨테이너 단위 로비 스냅샷 캐시 (웜 스타트 간 공유)
+	private static final LobbyCache LOBBY_CACHE = new LobbyCache(
+			LobbyCacheConfig.ttlMs(), LobbyCacheConfig.maxAgeMs(), LobbyCacheConfig.indexLagMs(), System::currentTimeMillis);
 	
 	private final DynamoDbTable<ChatRoom> table;
 	
@@ -43,6 +56,7 @@ public class ChatRoomRepository {
 	public ChatRoom save(ChatRoom room) {
 		logger.info("Saving room to DynamoDB: {}", room.getRoomId());
 		table.putItem(room);
+		onLobbyChanged();
 		return room;
 	}
 	
@@ -64,35 +78,13 @@ public class ChatRoomRepository {
 	 * @return 채팅방 목록과 다음 페이지 커서
 	 */
 	public PaginatedResult<ChatRoom> findAllWithPagination(int limit, String cursor) {
-		QueryConditional queryConditional = QueryConditional
-				.keyEqualTo(Key.builder().partitionValue("ROOMS").build());
-		
-		QueryEnhancedRequest.Builder requestBuilder = QueryEnhancedRequest.builder()
-				.queryConditional(queryConditional)
-				.scanIndexForward(false)  // 최신순 (역순)
-				.limit(limit);
-		
-		// 커서 기반 페이지네이션 (Base64 디코딩)
-		if (cursor != null && !cursor.isEmpty()) {
-			Map<String, AttributeValue> exclusiveStartKey = CursorUtil.decode(cursor);
-			if (exclusiveStartKey != null) {
-				requestBuilder.exclusiveStartKey(exclusiveStartKey);
-			}
-		}
-		
-		DynamoDbIndex<ChatRoom> gsi1 = table.index("GSI1");
-		Page<ChatRoom> page = gsi1.query(requestBuilder.build()).iterator().next();
-		List<ChatRoom> rooms = page.items();
-		
-		// 다음 페이지 커서 (Base64 인코딩)
-		String nextCursor = CursorUtil.encode(page.lastEvaluatedKey());
-		
-		return new PaginatedResult<>(rooms, nextCursor);
+		return findByFilters(null, null, null, null, limit, cursor);
 	}
 	
 	/**
 	 * 필터 조건으로 채팅방 조회 - 최신순, 페이지네이션 지원
 	 * GSI1SK 포맷: {type}#{gameType}#{status}#{level}#{createdAt}
+	 * 로비 스냅샷이 있으면 메모리에서 필터링하고, 방이 너무 많아 스냅샷이 없으면 GSI1을 조회
 	 *
 	 * @param type     방 타입 (CHAT, GAME) - nullable
 	 * @param gameType 게임 타입 (CATCHMIND 등) - nullable
@@ -121,6 +113,11 @@ public class ChatRoomRepository {
 		
 		String prefix = prefixBuilder.toString();
 		
+		Optional<LobbySnapshot> snapshot = LOBBY_CACHE.get(this::readLobbyVersion, this::loadLobbySnapshot);
+		if (snapshot.isPresent()) {
+			return snapshot.get().page(prefix, limit, cursor);
+		}
+		
 		QueryConditional queryConditional;
 		if (prefix.isEmpty()) {
 			// 필터 없음 - 전체 조회
@@ -174,6 +171,7 @@ public class ChatRoomRepository {
 				.build();
 		
 		table.deleteItem(key);
+		onLobbyChanged();
 		logger.info("Deleted room: {}", roomId);
 	}
 	
@@ -200,29 +198,116 @@ public class ChatRoomRepository {
 		
 		room.setStatus(newStatus);
 		table.putItem(room);
+		onLobbyChanged();
 		logger.info("Updated room {} status to {} (GSI1SK: {})", room.getRoomId(), newStatus, room.getGsi1sk());
 	}
 	
 	/**
 	 * 채팅방 lastMessageAt 업데이트 (N+1 방지 - UpdateExpression 사용)
+	 * 기록된 값이 timestamp - minIntervalMs보다 오래된 경우에만 반영해 방별로 간격당 최대 한 번만 쓰며,
+	 * 더 최신 시각이나 방이 없으면 업데이트하지 않음 (지연 반영 시 역행 방지)
+	 * 메시지마다 로비 스냅샷을 무효화하지 않도록 로비 버전은 올리지 않음 (maxAge 이내 반영)
+	 *
+	 * @param minIntervalMs 업데이트 최소 간격 (0이면 더 최신 시각일 때마다 반영)
 	 */
-	public void updateLastMessageAt(String roomId, String timestamp) {
+	public void updateLastMessageAt(String roomId, String timestamp, long minIntervalMs) {
 		Map<String, AttributeValue> key = new HashMap<>();
 		key.put("PK", AttributeValue.builder().s("ROOM#" + roomId).build());
 		key.put("SK", AttributeValue.builder().s("METADATA").build());
 		
+		String threshold = minIntervalMs > 0
+				? Instant.parse(timestamp).minusMillis(minIntervalMs).toString()
+				: timestamp;
+		
 		Map<String, AttributeValue> expressionValues = new HashMap<>();
 		expressionValues.put(":ts", AttributeValue.builder().s(timestamp).build());
+		expressionValues.put(":threshold", AttributeValue.builder().s(threshold).build());
 		
 		UpdateItemRequest updateRequest = UpdateItemRequest.builder()
 				.tableName(TABLE_NAME)
 				.key(key)
 				.updateExpression("SET lastMessageAt = :ts")
+				.conditionExpression("attribute_exists(PK) AND (attribute_not_exists(lastMessageAt) OR lastMessageAt < :threshold)")
 				.expressionAttributeValues(expressionValues)
 				.build();
 		
-		AwsClients.dynamoDb().updateItem(updateRequest);
-		logger.info("Updated lastMessageAt for room: {}", roomId);
+		try {
+			AwsClients.dynamoDb().updateItem(updateRequest);
+			logger.info("Updated lastMessageAt for room: {}", roomId);
+		} catch (ConditionalCheckFailedException e) {
+			logger.debug("Skipped lastMessageAt update (room missing or updated within interval): roomId={}", roomId);
+		}
 	}
 	
+	/**
+	 * 로비 버전/마지막 증가 시각 조회 (아이템이 없으면 0)
+	 */
+	private VersionStamp readLobbyVersion() {
+		GetItemRequest request = GetItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(LOBBY_VERSION_KEY)
+				.projectionExpression("#version, #bumpedAt")
+				.expressionAttributeNames(Map.of("#version", "version", "#bumpedAt", "bumpedAt"))
+				.consistentRead(true)
+				.build();
+		
+		Map<String, AttributeValue> item = Metrics.time(Metrics.REPOSITORY_LATENCY, "ChatRoomRepository.readLobbyVersion",
+				() -> AwsClients.dynamoDb().getItem(request).item());
+		return new VersionStamp(numberOrZero(item, "version"), numberOrZero(item, "bumpedAt"));
+	}
+	
+	private static long numberOrZero(Map<String, AttributeValue> item, String attribute) {
+		AttributeValue value = item != null ? item.get(attribute) : null;
+		return value != null && value.n() != null ? Long.parseLong(value.n()) : 0L;
+	}
+	
+	/**
+	 * GSI1(ROOMS) 전체를 읽어 로비 스냅샷 생성
+	 *
+	 * @return 스냅샷 (방 수가 LOBBY_SNAPSHOT_MAX_ROOMS를 넘으면 empty)
+	 */
+	private Optional<LobbySnapshot> loadLobbySnapshot() {
+		int maxRooms = LobbyCacheConfig.maxRooms();
+		QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+				.queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue("ROOMS").build()))
+				.scanIndexForward(false)
+				.build();
+		
+		return Metrics.time(Metrics.REPOSITORY_LATENCY, "ChatRoomRepository.loadLobbySnapshot", () -> {
+			List<ChatRoom> rooms = new ArrayList<>();
+			for (Page<ChatRoom> page : table.index("GSI1").query(request)) {
+				rooms.addAll(page.items());
+				if (rooms.size() > maxRooms) {
+					logger.warn("Too many rooms for lobby snapshot: > {}", maxRooms);
+					return Optional.<LobbySnapshot>empty();
+				}
+			}
+			logger.info("Lobby snapshot loaded: rooms={}", rooms.size());
+			return Optional.of(LobbySnapshot.of(rooms));
+		});
+	}
+	
+	/**
+	 * 방 목록 변경 반영: 로비 버전 증가(다른 컨테이너 스냅샷 무효화) + 로컬 스냅샷 즉시 무효화
+	 */
+	private void onLobbyChanged() {
+		LOBBY_CACHE.invalidate();
+		
+		UpdateItemRequest request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(LOBBY_VERSION_KEY)
+				.updateExpression("ADD #version :one SET #bumpedAt = :now")
+				.expressionAttributeNames(Map.of("#version", "version", "#bumpedAt", "bumpedAt"))
+				.expressionAttributeValues(Map.of(
+						":one", AttributeValue.builder().n("1").build(),
+						":now", AttributeValue.builder().n(String.valueOf(System.currentTimeMillis())).build()))
+				.build();
+		
+		try {
+			AwsClients.dynamoDb().updateItem(request);
+		} catch (Exception e) {
+			// 버전 증가 실패 시 다른 컨테이너는 maxAge 이후 반영됨 (방 변경 자체는 성공 처리)
+			logger.warn("Failed to bump lobby version: {}", e.getMessage());
+		}
+	}
 }
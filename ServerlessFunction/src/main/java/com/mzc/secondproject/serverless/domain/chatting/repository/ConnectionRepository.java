@@ -1,43 +1,85 @@
 package com.mzc.secondproject.serverless.domain.chatting.repository;
 
+import com.mzc.secondproject.serverless.common.cache.InvocationCache;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.domain.chatting.config.ConnectionCacheConfig;
 import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.enhanced.dynamodb.*;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class ConnectionRepository {
 	
 	private static final Logger logger = LoggerFactory.getLogger(ConnectionRepository.class);
 	private static final String TABLE_NAME = EnvConfig.getRequired("CHAT_TABLE_NAME");
+	// 요청 단위 캐시 네임스페이스 (쓰기 시 전체 무효화)
+	private static final String CACHE_NAMESPACE = TABLE_NAME + ":Connection";
+	// 방 멤버십 버전 아이템 (ROOM#{roomId} / CONNECTIONS) - 연결/해제 시 증가
+	private static final String MEMBERSHIP_SK = "CONNECTIONS";
+	// (방, 사용자) 좌석 아이템 (ROOM#{roomId} / SEAT#{userId}) - 사용자의 현재 연결 ID
+	private static final String SEAT_SK_PREFIX = "SEAT#";
+	// BatchWriteItem 최대 요청 수
+	private static final int BATCH_WRITE_LIMIT = 25;
+	// 미처리 항목 재시도 횟수
+	private static final int BATCH_WRITE_MAX_ATTEMPTS = 3;
+	// 컨테이너 단위 방 연결 목록 캐시 (웜 스타트 간 공유)
+	private static final RoomConnectionCache ROOM_CACHE = new RoomConnectionCache(
+			ConnectionCacheConfig.ttlMs(), ConnectionCacheConfig.maxAgeMs(), ConnectionCacheConfig.indexLagMs(),
+			ConnectionCacheConfig.maxRooms(),
+			System::currentTimeMillis);
 	
+	private final DynamoDbEnhancedClient enhancedClient;
 	private final DynamoDbTable<Connection> table;
+	private final DynamoDbClient dynamoDbClient;
 	
 	/**
 	 * 기본 생성자 (Lambda에서 사용)
 	 */
 	public ConnectionRepository() {
-		this(AwsClients.dynamoDbEnhanced());
+		this(AwsClients.dynamoDbEnhanced(), AwsClients.dynamoDb());
 	}
 	
 	/**
 	 * 의존성 주입 생성자 (테스트 용이성)
 	 */
-	public ConnectionRepository(DynamoDbEnhancedClient enhancedClient) {
+	public ConnectionRepository(DynamoDbEnhancedClient enhancedClient, DynamoDbClient dynamoDbClient) {
+		this.enhancedClient = enhancedClient;
 		this.table = enhancedClient.table(TABLE_NAME, TableSchema.fromBean(Connection.class));
+		this.dynamoDbClient = dynamoDbClient;
 	}
 	
 	public Connection save(Connection connection) {
 		logger.info("Saving connection: {} for user: {} in room: {}",
 				connection.getConnectionId(), connection.getUserId(), connection.getRoomId());
 		table.putItem(connection);
+		InvocationCache.invalidateNamespace(CACHE_NAMESPACE);
+		onMembershipChanged(connection.getRoomId());
 		return connection;
 	}
 	
@@ -47,17 +89,181 @@ public class ConnectionRepository {
 				.sortValue("METADATA")
 				.build();
 		
-		table.deleteItem(key);
+		// 삭제된 아이템(ALL_OLD)으로 방을 확인해 추가 조회 없이 좌석 해제 및 멤버십 버전 증가
+		Connection deleted = table.deleteItem(key);
+		InvocationCache.invalidateNamespace(CACHE_NAMESPACE);
+		if (deleted != null) {
+			releaseSeat(deleted);
+			onMembershipChanged(deleted.getRoomId());
+		}
 		logger.info("Deleted connection: {}", connectionId);
 	}
 	
+	/**
+	 * 좌석 아이템 조건부 Delete - 좌석이 아직 이 연결을 가리킬 때만 삭제
+	 * 그 사이 새 연결이 좌석을 차지했으면 그대로 둠
+	 */
+	private void releaseSeat(Connection connection) {
+		if (connection.getRoomId() == null || connection.getUserId() == null) {
+			return;
+		}
+		
+		DeleteItemRequest request = DeleteItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(seatKey(connection.getRoomId(), connection.getUserId()))
+				.conditionExpression("connectionId = :connectionId")
+				.expressionAttributeValues(Map.of(":connectionId",
+						AttributeValue.builder().s(connection.getConnectionId()).build()))
+				.build();
+		
+		try {
+			Metrics.time(Metrics.REPOSITORY_LATENCY, "ConnectionRepository.releaseSeat",
+					() -> dynamoDbClient.deleteItem(request));
+		} catch (ConditionalCheckFailedException e) {
+			logger.debug("Seat already taken by a newer connection: userId={}, roomId={}",
+					connection.getUserId(), connection.getRoomId());
+		}
+	}
+	
+	/**
+	 * 같은 방의 끊어진 연결 일괄 삭제 (브로드캐스트 Gone 정리용)
+	 * BatchWriteItem(25개 단위)으로 삭제하고 멤버십 버전은 한 번만 증가
+	 */
+	public void deleteAll(String roomId, Collection<String> connectionIds) {
+		if (connectionIds == null || connectionIds.isEmpty()) {
+			return;
+		}
+		
+		int deletedCount = batchDeleteConnections(roomId, connectionIds);
+		InvocationCache.invalidateNamespace(CACHE_NAMESPACE);
+		onMembershipChanged(roomId);
+		logger.info("Deleted {} stale connections in room {}", deletedCount, roomId);
+	}
+	
+	/**
+	 * 연결 저장 + 같은 방에 남아 있는 사용자의 이전 연결 교체 (새로고침 등으로 인한 중복 연결 방지)
+	 * (방, 사용자) 좌석 아이템에 새 connectionId를 조건부 Put으로 기록하고, 덮어쓴 이전 값(ALL_OLD)의
+	 * 연결을 BatchWriteItem으로 삭제 (GSI2 조회 없음). 좌석 아이템이 없으면(첫 입장, TTL 만료) 교체할 연결도 없음
+	 * 멤버십 버전은 저장/삭제를 합쳐 한 번만 증가
+	 *
+	 * @return 좌석을 차지했으면 true, 더 늦게 연결된 다른 연결이 이미 차지했으면 false (저장하지 않음)
+	 */
+	public boolean saveReplacingUserConnection(Connection connection) {
+		String roomId = connection.getRoomId();
+		String userId = connection.getUserId();
+		String connectionId = connection.getConnectionId();
+		
+		Optional<Map<String, AttributeValue>> previousSeat;
+		try {
+			previousSeat = claimSeat(connection);
+		} catch (ConditionalCheckFailedException e) {
+			logger.warn("Connection superseded by a newer one: connectionId={}, userId={}, roomId={}",
+					connectionId, userId, roomId);
+			return false;
+		}
+		
+		table.putItem(connection);
+		
+		Set<String> staleConnectionIds = previousSeat
+				.map(seat -> seat.get("connectionId"))
+				.map(AttributeValue::s)
+				.filter(previous -> !previous.equals(connectionId))
+				.map(Set::of)
+				.orElse(Set.of());
+		
+		if (!staleConnectionIds.isEmpty()) {
+			batchDeleteConnections(roomId, staleConnectionIds);
+			logger.info("Replaced existing connection {} for user {} in room {}", staleConnectionIds, userId, roomId);
+		}
+		
+		InvocationCache.invalidateNamespace(CACHE_NAMESPACE);
+		onMembershipChanged(roomId);
+		return true;
+	}
+	
+	/**
+	 * 좌석 아이템 (ROOM#{roomId} / SEAT#{userId}) 조건부 Put
+	 * 늦게 도착한 이전 $connect가 최신 연결을 덮어쓰지 않도록 connectedAtMs가 더 크거나 같을 때만 교체
+	 *
+	 * @return 덮어쓴 이전 좌석 아이템 (없으면 empty)
+	 */
+	private Optional<Map<String, AttributeValue>> claimSeat(Connection connection) {
+		long connectedAtMs = Instant.parse(connection.getConnectedAt()).toEpochMilli();
+		
+		Map<String, AttributeValue> item = new HashMap<>(seatKey(connection.getRoomId(), connection.getUserId()));
+		item.put("connectionId", AttributeValue.builder().s(connection.getConnectionId()).build());
+		item.put("connectedAtMs", AttributeValue.builder().n(String.valueOf(connectedAtMs)).build());
+		if (connection.getTtl() != null) {
+			item.put("ttl", AttributeValue.builder().n(String.valueOf(connection.getTtl())).build());
+		}
+		
+		PutItemRequest request = PutItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.item(item)
+				.conditionExpression("attribute_not_exists(#connectedAtMs) OR #connectedAtMs <= :connectedAtMs")
+				.expressionAttributeNames(Map.of("#connectedAtMs", "connectedAtMs"))
+				.expressionAttributeValues(Map.of(":connectedAtMs", item.get("connectedAtMs")))
+				.returnValues(ReturnValue.ALL_OLD)
+				.build();
+		
+		Map<String, AttributeValue> previous = Metrics.time(Metrics.REPOSITORY_LATENCY, "ConnectionRepository.claimSeat",
+				() -> dynamoDbClient.putItem(request).attributes());
+		return previous == null || previous.isEmpty() ? Optional.empty() : Optional.of(previous);
+	}
+	
+	private static Map<String, AttributeValue> seatKey(String roomId, String userId) {
+		return Map.of(
+				"PK", AttributeValue.builder().s("ROOM#" + roomId).build(),
+				"SK", AttributeValue.builder().s(SEAT_SK_PREFIX + userId).build());
+	}
+	
+	/**
+	 * 연결 아이템 BatchWriteItem(25개 단위) 삭제 - 캐시 무효화/멤버십 버전 증가는 호출부에서 처리
+	 *
+	 * @return 삭제 요청한 연결 수
+	 */
+	private int batchDeleteConnections(String roomId, Collection<String> connectionIds) {
+		List<Key> keys = new LinkedHashSet<>(connectionIds).stream()
+				.map(connectionId -> Key.builder()
+						.partitionValue("CONN#" + connectionId)
+						.sortValue("METADATA")
+						.build())
+				.toList();
+		
+		for (int from = 0; from < keys.size(); from += BATCH_WRITE_LIMIT) {
+			List<Key> pending = keys.subList(from, Math.min(from + BATCH_WRITE_LIMIT, keys.size()));
+			for (int attempt = 1; !pending.isEmpty() && attempt <= BATCH_WRITE_MAX_ATTEMPTS; attempt++) {
+				pending = batchDelete(pending);
+			}
+			if (!pending.isEmpty()) {
+				logger.warn("Unprocessed connection deletes after retries: room={}, count={}", roomId, pending.size());
+			}
+		}
+		return keys.size();
+	}
+	
+	/**
+	 * @return 미처리 키 목록
+	 */
+	private List<Key> batchDelete(List<Key> keys) {
+		WriteBatch.Builder<Connection> batch = WriteBatch.builder(Connection.class).mappedTableResource(table);
+		keys.forEach(batch::addDeleteItem);
+		
+		BatchWriteResult result = Metrics.time(Metrics.REPOSITORY_LATENCY, "ConnectionRepository.deleteAll",
+				() -> enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+						.writeBatches(batch.build())
+						.build()));
+		return new ArrayList<>(result.unprocessedDeleteItemsForTable(table));
+	}
+	
 	public Optional<Connection> findByConnectionId(String connectionId) {
 		Key key = Key.builder()
 				.partitionValue("CONN#" + connectionId)
 				.sortValue("METADATA")
 				.build();
 		
-		Connection connection = table.getItem(key);
+		Connection connection = InvocationCache.getOrLoad(CACHE_NAMESPACE, "CONN#" + connectionId,
+				() -> Metrics.time(Metrics.REPOSITORY_LATENCY, "ConnectionRepository.findByConnectionId", () -> table.getItem(key)));
 		return Optional.ofNullable(connection);
 	}
 	
@@ -65,8 +271,74 @@ public class ConnectionRepository {
 	 * 채팅방의 모든 연결 조회 (브로드캐스트용)
 	 * GSI1: ROOM#{roomId}로 조회, GSI1SK가 CONN#으로 시작하는 항목만 반환
 	 * (GSI1에 GameSession도 포함되어 있으므로 CONN# prefix로 필터링)
+	 * 요청 스코프 내에서는 한 번만 조회하고, 요청 간에는 {@link RoomConnectionCache}로
+	 * 멤버십 버전이 바뀌지 않은 동안 GSI1 조회를 생략
 	 */
 	public List<Connection> findByRoomId(String roomId) {
+		return InvocationCache.getOrLoad(CACHE_NAMESPACE, "GSI1|ROOM#" + roomId,
+				() -> ROOM_CACHE.get(roomId,
+						() -> readMembershipVersion(roomId),
+						() -> Metrics.time(Metrics.REPOSITORY_LATENCY, "ConnectionRepository.findByRoomId", () -> queryByRoomId(roomId))));
+	}
+	
+	/**
+	 * 방 멤버십 버전/마지막 증가 시각 조회 (아이템이 없으면 0)
+	 */
+	private VersionStamp readMembershipVersion(String roomId) {
+		GetItemRequest request = GetItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(membershipKey(roomId))
+				.projectionExpression("#version, #bumpedAt")
+				.expressionAttributeNames(Map.of("#version", "version", "#bumpedAt", "bumpedAt"))
+				.consistentRead(true)
+				.build();
+		
+		Map<String, AttributeValue> item = Metrics.time(Metrics.REPOSITORY_LATENCY, "ConnectionRepository.readMembershipVersion",
+				() -> dynamoDbClient.getItem(request).item());
+		return new VersionStamp(numberOrZero(item, "version"), numberOrZero(item, "bumpedAt"));
+	}
+	
+	private static long numberOrZero(Map<String, AttributeValue> item, String attribute) {
+		AttributeValue value = item != null ? item.get(attribute) : null;
+		return value != null && value.n() != null ? Long.parseLong(value.n()) : 0L;
+	}
+	
+	/**
+	 * 연결/해제 반영: 멤버십 버전 증가(다른 컨테이너 캐시 무효화) + 로컬 캐시 즉시 무효화
+	 */
+	private void onMembershipChanged(String roomId) {
+		if (roomId == null) {
+			return;
+		}
+		ROOM_CACHE.invalidate(roomId);
+		
+		long ttl = Instant.now().getEpochSecond() + ConnectionCacheConfig.versionItemTtlSeconds();
+		UpdateItemRequest request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(membershipKey(roomId))
+				.updateExpression("ADD #version :one SET #ttl = :ttl, #bumpedAt = :now")
+				.expressionAttributeNames(Map.of("#version", "version", "#ttl", "ttl", "#bumpedAt", "bumpedAt"))
+				.expressionAttributeValues(Map.of(
+						":one", AttributeValue.builder().n("1").build(),
+						":ttl", AttributeValue.builder().n(String.valueOf(ttl)).build(),
+						":now", AttributeValue.builder().n(String.valueOf(System.currentTimeMillis())).build()))
+				.build();
+		
+		try {
+			dynamoDbClient.updateItem(request);
+		} catch (Exception e) {
+			// 버전 증가 실패 시 다른 컨테이너는 maxAge 이후 반영됨 (연결/해제 자체는 성공 처리)
+			logger.warn("Failed to bump connection version for room {}: {}", roomId, e.getMessage());
+		}
+	}
+	
+	private static Map<String, AttributeValue> membershipKey(String roomId) {
+		return Map.of(
+				"PK", AttributeValue.builder().s("ROOM#" + roomId).build(),
+				"SK", AttributeValue.builder().s(MEMBERSHIP_SK).build());
+	}
+	
+	private List<Connection> queryByRoomId(String roomId) {
 		// GSI1SK가 CONN#으로 시작하는 항목만 조회
 		QueryConditional queryConditional = QueryConditional
 				.sortBeginsWith(Key.builder()
@@ -82,7 +354,7 @@ public class ConnectionRepository {
 		
 		return gsi1.query(request).stream()
 				.flatMap(page -> page.items().stream())
-				.collect(Collectors.toList());
+				.collect(Collectors.toUnmodifiableList());
 	}
 	
 	/**
@@ -90,6 +362,11 @@ public class ConnectionRepository {
 	 * GSI2: USER#{userId}로 조회
 	 */
 	public List<Connection> findByUserId(String userId) {
+		return InvocationCache.getOrLoad(CACHE_NAMESPACE, "GSI2|USER#" + userId,
+				() -> Metrics.time(Metrics.REPOSITORY_LATENCY, "ConnectionRepository.findByUserId", () -> queryByUserId(userId)));
+	}
+	
+	private List<Connection> queryByUserId(String userId) {
 		QueryConditional queryConditional = QueryConditional
 				.keyEqualTo(Key.builder()
 						.partitionValue("USER#" + userId)
@@ -103,26 +380,6 @@ public class ConnectionRepository {
 		
 		return gsi2.query(request).stream()
 				.flatMap(page -> page.items().stream())
-				.collect(Collectors.toList());
-	}
-	
-	/**
-	 * 같은 방에서 사용자의 기존 연결 삭제 (중복 연결 방지)
-	 * 새로고침 등으로 인한 중복 연결을 정리
-	 */
-	public void deleteUserConnectionsInRoom(String userId, String roomId) {
-		List<Connection> userConnections = findByUserId(userId);
-		
-		int deletedCount = 0;
-		for (Connection conn : userConnections) {
-			if (roomId.equals(conn.getRoomId())) {
-				delete(conn.getConnectionId());
-				deletedCount++;
-			}
-		}
-		
-		if (deletedCount > 0) {
-			logger.info("Deleted {} existing connections for user {} in room {}", deletedCount, userId, roomId);
-		}
+				.collect(Collectors.toUnmodifiableList());
 	}
 }
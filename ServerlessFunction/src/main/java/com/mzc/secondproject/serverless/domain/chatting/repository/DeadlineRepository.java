@@ -0,0 +1,163 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository;
+
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.domain.chatting.config.DeadlineConfig;
+import com.mzc.secondproject.serverless.domain.chatting.deadline.Deadline;
+import com.mzc.secondproject.serverless.domain.chatting.deadline.DeadlineStore;
+import com.mzc.secondproject.serverless.domain.chatting.enums.DeadlineType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 기한 인덱스 Repository
+ * <p>
+ * 기한은 만료 시각이 속한 시간 버킷 파티션에 저장합니다.
+ * PK: DEADLINE#{bucketStart}, SK: {type}#{targetId}#{token}
+ * 스위퍼는 버킷 파티션 하나를 Query 한 번으로 읽습니다.
+ */
+public class DeadlineRepository implements DeadlineStore {
+	
+	private static final Logger logger = LoggerFactory.getLogger(DeadlineRepository.class);
+	private static final String TABLE_NAME = EnvConfig.getRequired("CHAT_TABLE_NAME");
+	private static final String PK_PREFIX = "DEADLINE#";
+	// BatchWriteItem 요청당 최대 아이템 수
+	private static final int BATCH_WRITE_LIMIT = 25;
+	// 미처리 아이템 재시도 포함 최대 시도 횟수
+	private static final int BATCH_WRITE_MAX_ATTEMPTS = 3;
+	// 처리되지 않은 기한 아이템 보관 기간 (스위퍼 lookback보다 충분히 길게)
+	private static final long TTL_SECONDS = 24 * 60 * 60;
+	
+	private final DynamoDbClient dynamoDbClient;
+	private final long bucketMs;
+	
+	/**
+	 * 기본 생성자 (Lambda에서 사용)
+	 */
+	public DeadlineRepository() {
+		this(AwsClients.dynamoDb(), DeadlineConfig.bucketMs());
+	}
+	
+	/**
+	 * 의존성 주입 생성자 (테스트 용이성)
+	 */
+	public DeadlineRepository(DynamoDbClient dynamoDbClient, long bucketMs) {
+		this.dynamoDbClient = dynamoDbClient;
+		this.bucketMs = bucketMs;
+	}
+	
+	/**
+	 * 기한 등록 (같은 대상/라운드의 기한은 덮어씀)
+	 */
+	public void schedule(Deadline deadline) {
+		Map<String, AttributeValue> item = new HashMap<>(key(deadline));
+		item.put("type", AttributeValue.builder().s(deadline.type().name()).build());
+		item.put("targetId", AttributeValue.builder().s(deadline.targetId()).build());
+		item.put("roomId", AttributeValue.builder().s(deadline.roomId()).build());
+		item.put("token", number(deadline.token()));
+		item.put("dueAt", number(deadline.dueAt()));
+		item.put("ttl", number(deadline.dueAt() / 1000 + TTL_SECONDS));
+		
+		Metrics.time(Metrics.REPOSITORY_LATENCY, "DeadlineRepository.schedule",
+				() -> dynamoDbClient.putItem(PutItemRequest.builder()
+						.tableName(TABLE_NAME)
+						.item(item)
+						.build()));
+		logger.debug("Deadline scheduled: key={}, dueAt={}", deadline.key(), deadline.dueAt());
+	}
+	
+	@Override
+	public List<Deadline> findBucket(long bucketStart) {
+		List<Deadline> deadlines = new ArrayList<>();
+		Map<String, AttributeValue> startKey = null;
+		
+		do {
+			QueryRequest.Builder request = QueryRequest.builder()
+					.tableName(TABLE_NAME)
+					.keyConditionExpression("PK = :pk")
+					.expressionAttributeValues(Map.of(":pk", AttributeValue.builder().s(PK_PREFIX + bucketStart).build()));
+			if (startKey != null) {
+				request.exclusiveStartKey(startKey);
+			}
+			
+			QueryResponse response = Metrics.time(Metrics.REPOSITORY_LATENCY, "DeadlineRepository.findBucket",
+					() -> dynamoDbClient.query(request.build()));
+			for (Map<String, AttributeValue> item : response.items()) {
+				deadlines.add(toDeadline(item));
+			}
+			startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+					? response.lastEvaluatedKey()
+					: null;
+		} while (startKey != null);
+		
+		return deadlines;
+	}
+	
+	/**
+	 * 처리된 기한 일괄 삭제 (BatchWriteItem, 25개 단위 분할)
+	 */
+	@Override
+	public void deleteAll(List<Deadline> deadlines) {
+		List<WriteRequest> requests = deadlines.stream()
+				.map(deadline -> WriteRequest.builder()
+						.deleteRequest(DeleteRequest.builder().key(key(deadline)).build())
+						.build())
+				.toList();
+		
+		for (int from = 0; from < requests.size(); from += BATCH_WRITE_LIMIT) {
+			List<WriteRequest> pending = requests.subList(from, Math.min(from + BATCH_WRITE_LIMIT, requests.size()));
+			for (int attempt = 1; !pending.isEmpty() && attempt <= BATCH_WRITE_MAX_ATTEMPTS; attempt++) {
+				pending = batchWrite(pending);
+			}
+			if (!pending.isEmpty()) {
+				// 남은 기한은 다음 스윕에서 다시 읽히지만 대상 상태가 바뀌어 무시됨
+				logger.warn("Unprocessed deadline deletes after retries: count={}", pending.size());
+			}
+		}
+	}
+	
+	/**
+	 * @return 미처리 요청 목록
+	 */
+	private List<WriteRequest> batchWrite(List<WriteRequest> requests) {
+		BatchWriteItemRequest request = BatchWriteItemRequest.builder()
+				.requestItems(Map.of(TABLE_NAME, requests))
+				.build();
+		Map<String, List<WriteRequest>> unprocessed = Metrics.time(Metrics.REPOSITORY_LATENCY, "DeadlineRepository.deleteAll",
+				() -> dynamoDbClient.batchWriteItem(request).unprocessedItems());
+		return unprocessed.getOrDefault(TABLE_NAME, List.of());
+	}
+	
+	private Map<String, AttributeValue> key(Deadline deadline) {
+		return Map.of(
+				"PK", AttributeValue.builder().s(PK_PREFIX + Deadline.bucketStart(deadline.dueAt(), bucketMs)).build(),
+				"SK", AttributeValue.builder().s(deadline.key()).build());
+	}
+	
+	private static Deadline toDeadline(Map<String, AttributeValue> item) {
+		return new Deadline(
+				DeadlineType.valueOf(item.get("type").s()),
+				item.get("targetId").s(),
+				item.get("roomId").s(),
+				Long.parseLong(item.get("token").n()),
+				Long.parseLong(item.get("dueAt").n()));
+	}
+	
+	private static AttributeValue number(long value) {
+		return AttributeValue.builder().n(String.valueOf(value)).build();
+	}
+}
@@ -2,6 +2,7 @@ package com.mzc.secondproject.serverless.domain.chatting.repository;
 
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.chatting.model.GameRound;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,8 +13,13 @@ import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -60,6 +66,75 @@ public class GameRoundRepository {
 		return Optional.ofNullable(round);
 	}
 	
+	/**
+	 * 정답 기록 추가 (읽기 없이 필드 단위 UpdateItem)
+	 */
+	public void recordCorrectGuess(String roomId, int roundNumber, String userId, long elapsedTime, int score) {
+		Map<String, AttributeValue> expressionValues = new HashMap<>();
+		expressionValues.put(":userList", AttributeValue.builder().l(AttributeValue.builder().s(userId).build()).build());
+		expressionValues.put(":emptyList", AttributeValue.builder().l(List.of()).build());
+		expressionValues.put(":elapsed", AttributeValue.builder().n(String.valueOf(elapsedTime)).build());
+		expressionValues.put(":score", AttributeValue.builder().n(String.valueOf(score)).build());
+		
+		String updateExpression = "SET correctGuessers = list_append(if_not_exists(correctGuessers, :emptyList), :userList), " +
+				"guessTimes.#user = :elapsed, " +
+				"roundScores.#user = :score";
+		
+		updateRound(roomId, roundNumber, updateExpression, Map.of("#user", userId), expressionValues);
+	}
+	
+	/**
+	 * 힌트 사용 기록
+	 */
+	public void markHintUsed(String roomId, int roundNumber) {
+		updateRound(roomId, roundNumber, "SET hintUsed = :hintUsed", Map.of(),
+				Map.of(":hintUsed", AttributeValue.builder().bool(true).build()));
+	}
+	
+	/**
+	 * 라운드 종료 기록 (이미 종료 기록이 있으면 덮어쓰지 않음 - 먼저 종료한 요청의 사유 유지)
+	 */
+	public void endRound(String roomId, int roundNumber, long endTime, String endReason) {
+		Map<String, AttributeValue> expressionValues = new HashMap<>();
+		expressionValues.put(":endTime", AttributeValue.builder().n(String.valueOf(endTime)).build());
+		expressionValues.put(":endReason", AttributeValue.builder().s(endReason).build());
+		
+		updateRound(roomId, roundNumber, "SET endTime = :endTime, endReason = :endReason",
+				"attribute_exists(PK) AND attribute_not_exists(endReason)", Map.of(), expressionValues);
+	}
+	
+	private void updateRound(String roomId, int roundNumber, String updateExpression,
+	                         Map<String, String> expressionNames, Map<String, AttributeValue> expressionValues) {
+		updateRound(roomId, roundNumber, updateExpression, "attribute_exists(PK)", expressionNames, expressionValues);
+	}
+	
+	/**
+	 * 존재하는 라운드 기록에만 UpdateItem 적용 (없는 라운드를 새로 만들지 않음)
+	 */
+	private void updateRound(String roomId, int roundNumber, String updateExpression, String conditionExpression,
+	                         Map<String, String> expressionNames, Map<String, AttributeValue> expressionValues) {
+		Map<String, AttributeValue> key = new HashMap<>();
+		key.put("PK", AttributeValue.builder().s("ROOM#" + roomId + "#GAME").build());
+		key.put("SK", AttributeValue.builder().s("ROUND#" + roundNumber).build());
+		
+		UpdateItemRequest.Builder request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(key)
+				.updateExpression(updateExpression)
+				.conditionExpression(conditionExpression)
+				.expressionAttributeValues(expressionValues);
+		if (!expressionNames.isEmpty()) {
+			request.expressionAttributeNames(expressionNames);
+		}
+		
+		try {
+			Metrics.time(Metrics.REPOSITORY_LATENCY, "GameRoundRepository.updateRound",
+					() -> AwsClients.dynamoDb().updateItem(request.build()));
+		} catch (ConditionalCheckFailedException e) {
+			logger.warn("Game round not updated (not found or already ended): roomId={}, round={}", roomId, roundNumber);
+		}
+	}
+	
 	/**
 	 * 특정 게임의 모든 라운드 조회
 	 */
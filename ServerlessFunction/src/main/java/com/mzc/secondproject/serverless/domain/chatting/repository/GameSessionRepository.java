@@ -1,16 +1,23 @@
 package com.mzc.secondproject.serverless.domain.chatting.repository;
 
+import com.mzc.secondproject.serverless.common.cache.InvocationCache;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.chatting.model.GameSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.enhanced.dynamodb.*;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,21 +31,29 @@ public class GameSessionRepository {
 	
 	private static final Logger logger = LoggerFactory.getLogger(GameSessionRepository.class);
 	private static final String TABLE_NAME = EnvConfig.getRequired("CHAT_TABLE_NAME");
+	// 요청 단위 캐시 네임스페이스 (쓰기 시 전체 무효화)
+	private static final String CACHE_NAMESPACE = TABLE_NAME + ":GameSession";
+	// 진행 중인 라운드에만 적용되는 조건
+	private static final String PLAYING_ROUND_CONDITION = "#status = :playing AND currentRound = :round";
+	// version 증가 (version 도입 전 세션은 0부터 시작)
+	private static final String VERSION_INCREMENT = "#version = if_not_exists(#version, :zero) + :one";
 	
 	private final DynamoDbTable<GameSession> table;
+	private final DynamoDbClient dynamoDbClient;
 	
 	/**
 	 * 기본 생성자 (Lambda에서 사용)
 	 */
 	public GameSessionRepository() {
-		this(AwsClients.dynamoDbEnhanced());
+		this(AwsClients.dynamoDbEnhanced(), AwsClients.dynamoDb());
 	}
 	
 	/**
 	 * 의존성 주입 생성자 (테스트 용이성)
 	 */
-	public GameSessionRepository(DynamoDbEnhancedClient enhancedClient) {
+	public GameSessionRepository(DynamoDbEnhancedClient enhancedClient, DynamoDbClient dynamoDbClient) {
 		this.table = enhancedClient.table(TABLE_NAME, TableSchema.fromBean(GameSession.class));
+		this.dynamoDbClient = dynamoDbClient;
 	}
 	
 	/**
@@ -47,6 +62,7 @@ public class GameSessionRepository {
 	public GameSession save(GameSession session) {
 		logger.info("Saving game session: {}", session.getGameSessionId());
 		table.putItem(session);
+		InvocationCache.invalidateNamespace(CACHE_NAMESPACE);
 		return session;
 	}
 	
@@ -59,7 +75,8 @@ public class GameSessionRepository {
 				.sortValue("METADATA")
 				.build();
 		
-		GameSession session = table.getItem(key);
+		GameSession session = InvocationCache.getOrLoad(CACHE_NAMESPACE, "GAME#" + gameSessionId,
+				() -> Metrics.time(Metrics.REPOSITORY_LATENCY, "GameSessionRepository.findById", () -> table.getItem(key)));
 		return Optional.ofNullable(session);
 	}
 	
@@ -73,6 +90,7 @@ public class GameSessionRepository {
 				.build();
 		
 		table.deleteItem(key);
+		InvocationCache.invalidateNamespace(CACHE_NAMESPACE);
 		logger.info("Deleted game session: {}", gameSessionId);
 	}
 	
@@ -89,8 +107,14 @@ public class GameSessionRepository {
 	
 	/**
 	 * roomId로 모든 게임 세션 조회 (최신순)
+	 * 요청 스코프 내에서는 한 번만 조회
 	 */
 	public List<GameSession> findByRoomId(String roomId) {
+		return InvocationCache.getOrLoad(CACHE_NAMESPACE, "GSI1|ROOM#" + roomId,
+				() -> Metrics.time(Metrics.REPOSITORY_LATENCY, "GameSessionRepository.findByRoomId", () -> queryByRoomId(roomId)));
+	}
+	
+	private List<GameSession> queryByRoomId(String roomId) {
 		QueryConditional queryConditional = QueryConditional
 				.keyEqualTo(Key.builder()
 						.partitionValue("ROOM#" + roomId)
@@ -116,169 +140,230 @@ public class GameSessionRepository {
 		
 		Map<String, AttributeValue> expressionValues = new HashMap<>();
 		expressionValues.put(":status", AttributeValue.builder().s(status).build());
+		expressionValues.put(":zero", AttributeValue.builder().n("0").build());
+		expressionValues.put(":one", AttributeValue.builder().n("1").build());
 		
 		UpdateItemRequest updateRequest = UpdateItemRequest.builder()
 				.tableName(TABLE_NAME)
 				.key(key)
-				.updateExpression("SET #status = :status")
-				.expressionAttributeNames(Map.of("#status", "status"))
+				.updateExpression("SET #status = :status, " + VERSION_INCREMENT)
+				.expressionAttributeNames(Map.of("#status", "status", "#version", "version"))
 				.expressionAttributeValues(expressionValues)
 				.build();
 		
-		AwsClients.dynamoDb().updateItem(updateRequest);
+		updateItem(updateRequest);
 		logger.info("Updated game session status: {} -> {}", gameSessionId, status);
 	}
 	
 	/**
-	 * 라운드 정보 업데이트
+	 * 힌트 사용 처리 (조건부)
+	 * 해당 라운드가 진행 중이고 아직 힌트를 쓰지 않은 경우에만 반영
+	 *
+	 * @return 반영 여부 (false: 이미 사용했거나 라운드가 바뀜)
 	 */
-	public void updateRoundInfo(String gameSessionId, int currentRound, String drawerId,
-	                            String wordId, String word, long roundStartTime, int roundDuration) {
-		Map<String, AttributeValue> key = buildKey(gameSessionId);
-		
-		Map<String, AttributeValue> expressionValues = new HashMap<>();
-		expressionValues.put(":round", AttributeValue.builder().n(String.valueOf(currentRound)).build());
-		expressionValues.put(":drawer", AttributeValue.builder().s(drawerId).build());
-		expressionValues.put(":wordId", AttributeValue.builder().s(wordId).build());
-		expressionValues.put(":word", AttributeValue.builder().s(word).build());
-		expressionValues.put(":startTime", AttributeValue.builder().n(String.valueOf(roundStartTime)).build());
-		expressionValues.put(":duration", AttributeValue.builder().n(String.valueOf(roundDuration)).build());
-		expressionValues.put(":hintUsed", AttributeValue.builder().bool(false).build());
-		expressionValues.put(":emptyList", AttributeValue.builder().l(List.of()).build());
-		
-		String updateExpression = "SET currentRound = :round, " +
-				"currentDrawerId = :drawer, " +
-				"currentWordId = :wordId, " +
-				"currentWord = :word, " +
-				"roundStartTime = :startTime, " +
-				"roundDuration = :duration, " +
-				"hintUsed = :hintUsed, " +
-				"correctGuessers = :emptyList";
+	public boolean markHintUsed(String gameSessionId, int round) {
+		Map<String, AttributeValue> expressionValues = playingRoundValues(round);
+		expressionValues.put(":true", AttributeValue.builder().bool(true).build());
+		expressionValues.put(":false", AttributeValue.builder().bool(false).build());
 		
 		UpdateItemRequest updateRequest = UpdateItemRequest.builder()
 				.tableName(TABLE_NAME)
-				.key(key)
-				.updateExpression(updateExpression)
+				.key(buildKey(gameSessionId))
+				.updateExpression("SET hintUsed = :true, " + VERSION_INCREMENT)
+				.conditionExpression(PLAYING_ROUND_CONDITION + " AND (attribute_not_exists(hintUsed) OR hintUsed = :false)")
+				.expressionAttributeNames(Map.of("#status", "status", "#version", "version"))
 				.expressionAttributeValues(expressionValues)
 				.build();
 		
-		AwsClients.dynamoDb().updateItem(updateRequest);
-		logger.info("Updated round info: gameSession={}, round={}, drawer={}", gameSessionId, currentRound, drawerId);
+		boolean updated = conditionalUpdate(updateRequest).isPresent();
+		logger.info("Mark hint used: gameSession={}, round={}, updated={}", gameSessionId, round, updated);
+		return updated;
 	}
 	
 	/**
-	 * 점수 업데이트
+	 * 정답 처리 (조건부 단일 UpdateItem)
+	 * 정답자 추가, 정답자/출제자 점수 가산, 연속 정답, version 증가를 한 번에 원자적으로 반영
+	 * 동시 정답이 서로의 점수를 덮어쓰지 않도록 점수는 ADD 방식(기존값 + 점수)으로 갱신
+	 *
+	 * @return 갱신 후 세션 (empty: 라운드가 끝났거나 이미 정답 처리된 사용자)
 	 */
-	public void updateScores(String gameSessionId, Map<String, Integer> scores) {
-		Map<String, AttributeValue> key = buildKey(gameSessionId);
+	public Optional<GameSession> recordCorrectGuess(String gameSessionId, int round, String userId, int score,
+	                                                String drawerId, int drawerScore, int streak) {
+		Map<String, AttributeValue> expressionValues = playingRoundValues(round);
+		expressionValues.put(":userId", AttributeValue.builder().s(userId).build());
+		expressionValues.put(":userList", AttributeValue.builder().l(AttributeValue.builder().s(userId).build()).build());
+		expressionValues.put(":emptyList", AttributeValue.builder().l(List.of()).build());
+		expressionValues.put(":score", AttributeValue.builder().n(String.valueOf(score)).build());
+		expressionValues.put(":drawerScore", AttributeValue.builder().n(String.valueOf(drawerScore)).build());
+		expressionValues.put(":streak", AttributeValue.builder().n(String.valueOf(streak)).build());
 		
-		Map<String, AttributeValue> scoresMap = new HashMap<>();
-		scores.forEach((userId, score) ->
-				scoresMap.put(userId, AttributeValue.builder().n(String.valueOf(score)).build()));
+		Map<String, String> expressionNames = new HashMap<>();
+		expressionNames.put("#status", "status");
+		expressionNames.put("#version", "version");
+		expressionNames.put("#user", userId);
+		expressionNames.put("#drawer", drawerId);
 		
-		Map<String, AttributeValue> expressionValues = new HashMap<>();
-		expressionValues.put(":scores", AttributeValue.builder().m(scoresMap).build());
+		String updateExpression = "SET correctGuessers = list_append(if_not_exists(correctGuessers, :emptyList), :userList), " +
+				"scores.#user = if_not_exists(scores.#user, :zero) + :score, " +
+				"scores.#drawer = if_not_exists(scores.#drawer, :zero) + :drawerScore, " +
+				"streaks.#user = :streak, " +
+				VERSION_INCREMENT;
 		
 		UpdateItemRequest updateRequest = UpdateItemRequest.builder()
 				.tableName(TABLE_NAME)
-				.key(key)
-				.updateExpression("SET scores = :scores")
+				.key(buildKey(gameSessionId))
+				.updateExpression(updateExpression)
+				.conditionExpression(PLAYING_ROUND_CONDITION + " AND NOT contains(correctGuessers, :userId)")
+				.expressionAttributeNames(expressionNames)
 				.expressionAttributeValues(expressionValues)
+				.returnValues(ReturnValue.ALL_NEW)
 				.build();
 		
-		AwsClients.dynamoDb().updateItem(updateRequest);
-		logger.info("Updated scores for game session: {}", gameSessionId);
+		Optional<GameSession> updated = conditionalUpdate(updateRequest)
+				.map(response -> table.tableSchema().mapToItem(response.attributes()));
+		logger.info("Record correct guess: gameSession={}, round={}, userId={}, applied={}",
+				gameSessionId, round, userId, updated.isPresent());
+		return updated;
 	}
 	
 	/**
-	 * 정답자 추가
+	 * 다음 라운드로 전환 (version 기반 낙관적 잠금)
+	 * 읽은 이후 다른 쓰기(정답, 힌트, 다른 라운드 종료)가 있었다면 반영하지 않음
+	 *
+	 * @param expectedVersion     세션을 읽었을 때의 version
+	 * @param resetStreakUserIds 연속 정답을 0으로 초기화할 사용자 (이번 라운드 미정답자)
+	 * @return 반영 여부 (false: 동시 변경 발생 - 재조회 후 재시도 필요)
 	 */
-	public void addCorrectGuesser(String gameSessionId, String userId) {
-		Map<String, AttributeValue> key = buildKey(gameSessionId);
-		
+	public boolean advanceRound(String gameSessionId, long expectedVersion, int nextRound, String drawerId,
+	                            String wordId, String word, String wordEnglish, long roundStartTime,
+	                            Collection<String> resetStreakUserIds) {
 		Map<String, AttributeValue> expressionValues = new HashMap<>();
-		expressionValues.put(":userId", AttributeValue.builder().l(
-				AttributeValue.builder().s(userId).build()
-		).build());
+		expressionValues.put(":playing", AttributeValue.builder().s("PLAYING").build());
+		expressionValues.put(":expectedVersion", AttributeValue.builder().n(String.valueOf(expectedVersion)).build());
+		expressionValues.put(":nextVersion", AttributeValue.builder().n(String.valueOf(expectedVersion + 1)).build());
+		expressionValues.put(":round", AttributeValue.builder().n(String.valueOf(nextRound)).build());
+		expressionValues.put(":drawer", AttributeValue.builder().s(drawerId).build());
+		expressionValues.put(":wordId", AttributeValue.builder().s(wordId).build());
+		expressionValues.put(":word", AttributeValue.builder().s(word).build());
+		expressionValues.put(":wordEnglish", AttributeValue.builder().s(wordEnglish).build());
+		expressionValues.put(":startTime", AttributeValue.builder().n(String.valueOf(roundStartTime)).build());
+		expressionValues.put(":hintUsed", AttributeValue.builder().bool(false).build());
 		expressionValues.put(":emptyList", AttributeValue.builder().l(List.of()).build());
 		
-		UpdateItemRequest updateRequest = UpdateItemRequest.builder()
-				.tableName(TABLE_NAME)
-				.key(key)
-				.updateExpression("SET correctGuessers = list_append(if_not_exists(correctGuessers, :emptyList), :userId)")
-				.expressionAttributeValues(expressionValues)
-				.build();
+		Map<String, String> expressionNames = new HashMap<>();
+		expressionNames.put("#status", "status");
+		expressionNames.put("#version", "version");
 		
-		AwsClients.dynamoDb().updateItem(updateRequest);
-		logger.info("Added correct guesser: gameSession={}, userId={}", gameSessionId, userId);
-	}
-	
-	/**
-	 * 연속 정답(streak) 업데이트
-	 */
-	public void updateStreak(String gameSessionId, String userId, int streak) {
-		Map<String, AttributeValue> key = buildKey(gameSessionId);
+		StringBuilder updateExpression = new StringBuilder("SET currentRound = :round, " +
+				"currentDrawerId = :drawer, " +
+				"currentWordId = :wordId, " +
+				"currentWord = :word, " +
+				"currentWordEnglish = :wordEnglish, " +
+				"roundStartTime = :startTime, " +
+				"hintUsed = :hintUsed, " +
+				"correctGuessers = :emptyList, " +
+				"#version = :nextVersion");
 		
-		Map<String, AttributeValue> expressionValues = new HashMap<>();
-		expressionValues.put(":streak", AttributeValue.builder().n(String.valueOf(streak)).build());
+		int index = 0;
+		for (String userId : resetStreakUserIds) {
+			String name = "#reset" + index++;
+			expressionNames.put(name, userId);
+			updateExpression.append(", streaks.").append(name).append(" = :zero");
+		}
+		if (index > 0) {
+			expressionValues.put(":zero", AttributeValue.builder().n("0").build());
+		}
 		
-		Map<String, String> expressionNames = new HashMap<>();
-		expressionNames.put("#streaks", "streaks");
-		expressionNames.put("#userId", userId);
+		// version 도입 전에 생성된 세션은 version 속성이 없음
+		String versionCondition = expectedVersion == 0
+				? "(attribute_not_exists(#version) OR #version = :expectedVersion)"
+				: "#version = :expectedVersion";
 		
 		UpdateItemRequest updateRequest = UpdateItemRequest.builder()
 				.tableName(TABLE_NAME)
-				.key(key)
-				.updateExpression("SET #streaks.#userId = :streak")
+				.key(buildKey(gameSessionId))
+				.updateExpression(updateExpression.toString())
+				.conditionExpression("#status = :playing AND " + versionCondition)
 				.expressionAttributeNames(expressionNames)
 				.expressionAttributeValues(expressionValues)
 				.build();
 		
-		AwsClients.dynamoDb().updateItem(updateRequest);
-		logger.info("Updated streak: gameSession={}, userId={}, streak={}", gameSessionId, userId, streak);
+		boolean updated = conditionalUpdate(updateRequest).isPresent();
+		logger.info("Advance round: gameSession={}, nextRound={}, drawer={}, updated={}",
+				gameSessionId, nextRound, drawerId, updated);
+		return updated;
 	}
 	
 	/**
-	 * 힌트 사용 처리
+	 * 게임 종료 처리 (조건부)
+	 * 진행 중(PLAYING / ROUND_END)인 세션만 종료 - 타임아웃/중단/마지막 라운드가 겹쳐도 한 번만 반영
+	 *
+	 * @return 종료 직후 세션 (empty: 이미 종료된 세션)
 	 */
-	public void markHintUsed(String gameSessionId) {
+	public Optional<GameSession> finishGame(String gameSessionId, long endedAt, long ttl) {
 		Map<String, AttributeValue> key = buildKey(gameSessionId);
 		
 		Map<String, AttributeValue> expressionValues = new HashMap<>();
-		expressionValues.put(":hintUsed", AttributeValue.builder().bool(true).build());
+		expressionValues.put(":status", AttributeValue.builder().s("FINISHED").build());
+		expressionValues.put(":endedAt", AttributeValue.builder().n(String.valueOf(endedAt)).build());
+		expressionValues.put(":ttl", AttributeValue.builder().n(String.valueOf(ttl)).build());
+		expressionValues.put(":playing", AttributeValue.builder().s("PLAYING").build());
+		expressionValues.put(":roundEnd", AttributeValue.builder().s("ROUND_END").build());
+		expressionValues.put(":zero", AttributeValue.builder().n("0").build());
+		expressionValues.put(":one", AttributeValue.builder().n("1").build());
 		
 		UpdateItemRequest updateRequest = UpdateItemRequest.builder()
 				.tableName(TABLE_NAME)
 				.key(key)
-				.updateExpression("SET hintUsed = :hintUsed")
+				.updateExpression("SET #status = :status, endedAt = :endedAt, #ttl = :ttl, " + VERSION_INCREMENT)
+				.conditionExpression("#status IN (:playing, :roundEnd)")
+				.expressionAttributeNames(Map.of("#status", "status", "#ttl", "ttl", "#version", "version"))
 				.expressionAttributeValues(expressionValues)
+				.returnValues(ReturnValue.ALL_NEW)
 				.build();
 		
-		AwsClients.dynamoDb().updateItem(updateRequest);
-		logger.info("Marked hint used for game session: {}", gameSessionId);
+		Optional<GameSession> finished = conditionalUpdate(updateRequest)
+				.map(response -> table.tableSchema().mapToItem(response.attributes()));
+		logger.info("Finish game session: {}, applied={}", gameSessionId, finished.isPresent());
+		return finished;
 	}
 	
 	/**
-	 * 게임 종료 처리
+	 * UpdateItem 실행 후 요청 단위 캐시 무효화
 	 */
-	public void finishGame(String gameSessionId, long endedAt, long ttl) {
-		Map<String, AttributeValue> key = buildKey(gameSessionId);
-		
+	private void updateItem(UpdateItemRequest updateRequest) {
+		Metrics.time(Metrics.REPOSITORY_LATENCY, "GameSessionRepository.updateItem",
+				() -> dynamoDbClient.updateItem(updateRequest));
+		InvocationCache.invalidateNamespace(CACHE_NAMESPACE);
+	}
+	
+	/**
+	 * 조건부 UpdateItem 실행
+	 * 조건 불일치 시에도 다른 요청이 세션을 바꾼 것이므로 요청 단위 캐시는 무효화
+	 *
+	 * @return 응답 (empty: ConditionalCheckFailed)
+	 */
+	private Optional<UpdateItemResponse> conditionalUpdate(UpdateItemRequest updateRequest) {
+		try {
+			return Optional.of(Metrics.time(Metrics.REPOSITORY_LATENCY, "GameSessionRepository.conditionalUpdate",
+					() -> dynamoDbClient.updateItem(updateRequest)));
+		} catch (ConditionalCheckFailedException e) {
+			return Optional.empty();
+		} finally {
+			InvocationCache.invalidateNamespace(CACHE_NAMESPACE);
+		}
+	}
+	
+	/**
+	 * 진행 중 라운드 조건 + version 증가용 공통 값
+	 */
+	private Map<String, AttributeValue> playingRoundValues(int round) {
 		Map<String, AttributeValue> expressionValues = new HashMap<>();
-		expressionValues.put(":status", AttributeValue.builder().s("FINISHED").build());
-		expressionValues.put(":endedAt", AttributeValue.builder().n(String.valueOf(endedAt)).build());
-		expressionValues.put(":ttl", AttributeValue.builder().n(String.valueOf(ttl)).build());
-		
-		UpdateItemRequest updateRequest = UpdateItemRequest.builder()
-				.tableName(TABLE_NAME)
-				.key(key)
-				.updateExpression("SET #status = :status, endedAt = :endedAt, #ttl = :ttl")
-				.expressionAttributeNames(Map.of("#status", "status", "#ttl", "ttl"))
-				.expressionAttributeValues(expressionValues)
-				.build();
-		
-		AwsClients.dynamoDb().updateItem(updateRequest);
-		logger.info("Finished game session: {}", gameSessionId);
+		expressionValues.put(":playing", AttributeValue.builder().s("PLAYING").build());
+		expressionValues.put(":round", AttributeValue.builder().n(String.valueOf(round)).build());
+		expressionValues.put(":zero", AttributeValue.builder().n("0").build());
+		expressionValues.put(":one", AttributeValue.builder().n("1").build());
+		return expressionValues;
 	}
 	
 	/**
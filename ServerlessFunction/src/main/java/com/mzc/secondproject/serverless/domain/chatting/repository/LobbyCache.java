@@ -0,0 +1,79 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository;
+
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 로비 스냅샷 컨테이너 캐시 (버전 검증)
+ * <p>
+ * 방 생성/상태 변경/멤버 변경/삭제 시 로비 버전 아이템(LOBBY / VERSION)이 증가하며,
+ * 목록 조회는 다음 규칙으로 GSI1 조회 횟수를 줄입니다.
+ * - ttl 이내: 스냅샷 그대로 사용 (DynamoDB 호출 없음)
+ * - ttl 경과: 버전 아이템만 GetItem → 같으면 스냅샷 재사용, 다르면 GSI1 전체 재조회
+ * - maxAge 경과: 버전과 무관하게 GSI1 재조회 (버전을 올리지 않는 변경 반영)
+ * 버전 증가 후 indexLag 이내에 만든 스냅샷은 GSI 전파 전일 수 있으므로 ttl 동안만 사용하고
+ * 버전이 같아도 재사용하지 않습니다 (다음 검증 시 재조회).
+ * 같은 컨테이너에서 발생한 쓰기는 {@link #invalidate}로 즉시 반영합니다.
+ */
+final class LobbyCache {
+	
+	private static final String METRIC_OPERATION = "LobbyCache";
+	
+	private final long ttlMs;
+	private final long maxAgeMs;
+	private final long indexLagMs;
+	private final LongSupplier clock;
+	private volatile Entry entry;
+	
+	LobbyCache(long ttlMs, long maxAgeMs, long indexLagMs, LongSupplier clock) {
+		this.ttlMs = ttlMs;
+		this.maxAgeMs = maxAgeMs;
+		this.indexLagMs = indexLagMs;
+		this.clock = clock;
+	}
+	
+	/**
+	 * 캐시된 스냅샷 조회
+	 *
+	 * @param versionReader  현재 로비 버전/증가 시각 조회 (ttl 경과 시에만 호출)
+	 * @param snapshotLoader GSI1 전체 조회 (버전 변경/미캐시/maxAge 경과 시에만 호출, 방이 너무 많으면 empty)
+	 * @return 스냅샷 (empty: 방이 너무 많아 스냅샷을 만들지 않음)
+	 */
+	Optional<LobbySnapshot> get(Supplier<VersionStamp> versionReader, Supplier<Optional<LobbySnapshot>> snapshotLoader) {
+		long now = clock.getAsLong();
+		Entry current = entry;
+		
+		if (current != null && now - current.verifiedAt < ttlMs) {
+			Metrics.increment(Metrics.CACHE_HIT, METRIC_OPERATION);
+			return current.snapshot;
+		}
+		
+		// 목록 조회 전에 버전을 읽어야 조회 도중의 변경이 다음 검증에서 감지됨
+		VersionStamp stamp = versionReader.get();
+		if (current != null && current.settled && current.version == stamp.version()
+				&& now - current.loadedAt < maxAgeMs) {
+			Metrics.increment(Metrics.CACHE_HIT, METRIC_OPERATION);
+			entry = new Entry(current.snapshot, current.version, current.loadedAt, now, true);
+			return current.snapshot;
+		}
+		
+		Metrics.increment(Metrics.CACHE_MISS, METRIC_OPERATION);
+		Optional<LobbySnapshot> snapshot = snapshotLoader.get();
+		// 증가 직후 만든 스냅샷은 방금 생성/변경된 방이 GSI에 없을 수 있으므로 검증된 것으로 취급하지 않음
+		entry = new Entry(snapshot, stamp.version(), now, now, stamp.settledAt(now, indexLagMs));
+		return snapshot;
+	}
+	
+	/**
+	 * 로컬 쓰기 후 즉시 무효화
+	 */
+	void invalidate() {
+		entry = null;
+	}
+	
+	private record Entry(Optional<LobbySnapshot> snapshot, long version, long loadedAt, long verifiedAt, boolean settled) {
+	}
+}
@@ -0,0 +1,112 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository;
+
+import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
+import com.mzc.secondproject.serverless.common.util.CursorUtil;
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 목록(로비) 스냅샷
+ * <p>
+ * GSI1(ROOMS) 전체를 GSI1SK 역순으로 보관하고 필터/페이지네이션을 메모리에서 처리합니다.
+ * 필터는 GSI1SK prefix({type}#{gameType}#{status}#{level}#), 커서는 GSI1 lastEvaluatedKey와 같은 형식이므로
+ * 스냅샷과 GSI 조회 결과의 커서를 서로 이어서 사용할 수 있습니다.
+ */
+final class LobbySnapshot {
+	
+	// GSI1 정렬 순서 (GSI1SK 역순, 같으면 PK 역순)
+	private static final Comparator<ChatRoom> ORDER = Comparator
+			.comparing(ChatRoom::getGsi1sk, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+			.thenComparing(ChatRoom::getPk, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+			.reversed();
+	
+	private final List<ChatRoom> rooms;
+	
+	private LobbySnapshot(List<ChatRoom> rooms) {
+		this.rooms = rooms;
+	}
+	
+	static LobbySnapshot of(List<ChatRoom> rooms) {
+		List<ChatRoom> sorted = new ArrayList<>(rooms);
+		sorted.sort(ORDER);
+		return new LobbySnapshot(List.copyOf(sorted));
+	}
+	
+	/**
+	 * GSI1SK prefix로 필터링한 한 페이지 조회
+	 *
+	 * @param prefix GSI1SK prefix (빈 문자열이면 전체)
+	 * @param limit  조회 개수
+	 * @param cursor 페이지네이션 커서 (null이면 첫 페이지)
+	 * @return 방 목록과 다음 페이지 커서 (남은 방이 없으면 null)
+	 */
+	PaginatedResult<ChatRoom> page(String prefix, int limit, String cursor) {
+		int start = startIndex(cursor);
+		List<ChatRoom> items = new ArrayList<>(Math.min(limit, rooms.size()));
+		ChatRoom last = null;
+		boolean hasMore = false;
+		
+		for (int i = start; i < rooms.size(); i++) {
+			ChatRoom room = rooms.get(i);
+			if (room.getGsi1sk() == null || !room.getGsi1sk().startsWith(prefix)) {
+				continue;
+			}
+			if (items.size() == limit) {
+				hasMore = true;
+				break;
+			}
+			items.add(room);
+			last = room;
+		}
+		
+		String nextCursor = hasMore ? CursorUtil.encode(cursorKey(last)) : null;
+		return new PaginatedResult<>(items, nextCursor);
+	}
+	
+	int size() {
+		return rooms.size();
+	}
+	
+	/**
+	 * 커서가 가리키는 방 다음 위치 (커서가 없거나 잘못되었으면 0)
+	 */
+	private int startIndex(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return 0;
+		}
+		Map<String, AttributeValue> key = CursorUtil.decode(cursor);
+		if (key == null || key.get("GSI1SK") == null) {
+			return 0;
+		}
+		
+		ChatRoom probe = new ChatRoom();
+		probe.setGsi1sk(key.get("GSI1SK").s());
+		probe.setPk(key.get("PK") != null ? key.get("PK").s() : null);
+		
+		// 커서 방보다 정렬 순서가 뒤인 첫 위치 (커서 방이 삭제되었어도 그 다음부터 이어짐)
+		int low = 0;
+		int high = rooms.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (ORDER.compare(rooms.get(mid), probe) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+	
+	private static Map<String, AttributeValue> cursorKey(ChatRoom room) {
+		return Map.of(
+				"PK", AttributeValue.builder().s(room.getPk()).build(),
+				"SK", AttributeValue.builder().s(room.getSk()).build(),
+				"GSI1PK", AttributeValue.builder().s(room.getGsi1pk()).build(),
+				"GSI1SK", AttributeValue.builder().s(room.getGsi1sk()).build());
+	}
+}
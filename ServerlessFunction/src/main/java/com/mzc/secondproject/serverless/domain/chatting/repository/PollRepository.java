@@ -2,6 +2,7 @@ package com.mzc.secondproject.serverless.domain.chatting.repository;
 
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.chatting.model.Poll;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,7 +10,14 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,13 +29,15 @@ public class PollRepository {
 	private static final String TABLE_NAME = EnvConfig.getRequired("CHAT_TABLE_NAME");
 
 	private final DynamoDbTable<Poll> table;
+	private final DynamoDbClient dynamoDbClient;
 
 	public PollRepository() {
-		this.table = AwsClients.dynamoDbEnhanced().table(TABLE_NAME, TableSchema.fromBean(Poll.class));
+		this(AwsClients.dynamoDbEnhanced().table(TABLE_NAME, TableSchema.fromBean(Poll.class)), AwsClients.dynamoDb());
 	}
 
-	public PollRepository(DynamoDbTable<Poll> table) {
+	public PollRepository(DynamoDbTable<Poll> table, DynamoDbClient dynamoDbClient) {
 		this.table = table;
+		this.dynamoDbClient = dynamoDbClient;
 	}
 
 	public void save(Poll poll) {
@@ -59,6 +69,83 @@ public class PollRepository {
 				.findFirst();
 	}
 
+	/**
+	 * 투표 기록 (단일 조건부 UpdateItem)
+	 * 선택지 카운터만 원자적으로 1 증가시키고 voters 문자열 집합에 사용자를 추가
+	 * 진행 중이며 아직 투표하지 않은 사용자일 때만 반영되므로 동시 투표에서도 표가 유실/중복되지 않음
+	 *
+	 * @return 반영 후 투표 (empty: 이미 투표했거나 종료된 투표)
+	 */
+	public Optional<Poll> addVote(String roomId, String pollId, String userId, int optionIndex) {
+		Map<String, String> names = new HashMap<>();
+		names.put("#votes", "votes");
+		names.put("#option", String.valueOf(optionIndex));
+		names.put("#voters", "voters");
+		names.put("#userVotes", "userVotes");
+		names.put("#userId", userId);
+		names.put("#isActive", "isActive");
+
+		Map<String, AttributeValue> values = new HashMap<>();
+		values.put(":one", AttributeValue.builder().n("1").build());
+		values.put(":voter", AttributeValue.builder().ss(userId).build());
+		values.put(":userId", AttributeValue.builder().s(userId).build());
+		values.put(":active", AttributeValue.builder().bool(true).build());
+
+		UpdateItemRequest request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(pollKey(roomId, pollId))
+				.updateExpression("SET #votes.#option = #votes.#option + :one ADD #voters :voter")
+				// userVotes: voters 도입 이전에 생성된 투표의 기존 투표자
+				.conditionExpression("#isActive = :active AND attribute_exists(#votes.#option)"
+						+ " AND NOT contains(#voters, :userId) AND attribute_not_exists(#userVotes.#userId)")
+				.expressionAttributeNames(names)
+				.expressionAttributeValues(values)
+				.returnValues(ReturnValue.ALL_NEW)
+				.build();
+
+		return conditionalUpdate(request, "PollRepository.addVote");
+	}
+
+	/**
+	 * 투표 종료 (생성자만, 진행 중일 때만)
+	 * isActive만 갱신하므로 종료 직전 반영된 표를 덮어쓰지 않음
+	 *
+	 * @return 종료된 투표 (최종 집계 포함, empty: 이미 종료되었거나 생성자가 아님)
+	 */
+	public Optional<Poll> close(String roomId, String pollId, String userId) {
+		UpdateItemRequest request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(pollKey(roomId, pollId))
+				.updateExpression("SET #isActive = :inactive")
+				.conditionExpression("#isActive = :active AND #createdBy = :userId")
+				.expressionAttributeNames(Map.of("#isActive", "isActive", "#createdBy", "createdBy"))
+				.expressionAttributeValues(Map.of(
+						":inactive", AttributeValue.builder().bool(false).build(),
+						":active", AttributeValue.builder().bool(true).build(),
+						":userId", AttributeValue.builder().s(userId).build()))
+				.returnValues(ReturnValue.ALL_NEW)
+				.build();
+
+		return conditionalUpdate(request, "PollRepository.close");
+	}
+
+	private Optional<Poll> conditionalUpdate(UpdateItemRequest request, String operation) {
+		try {
+			Map<String, AttributeValue> attributes = Metrics.time(Metrics.REPOSITORY_LATENCY, operation,
+					() -> dynamoDbClient.updateItem(request).attributes());
+			return Optional.of(table.tableSchema().mapToItem(attributes));
+		} catch (ConditionalCheckFailedException e) {
+			logger.debug("Poll update condition failed: {}", operation);
+			return Optional.empty();
+		}
+	}
+
+	private static Map<String, AttributeValue> pollKey(String roomId, String pollId) {
+		return Map.of(
+				"PK", AttributeValue.builder().s("ROOM#" + roomId).build(),
+				"SK", AttributeValue.builder().s("POLL#" + pollId).build());
+	}
+
 	public void delete(String roomId, String pollId) {
 		Key key = Key.builder()
 				.partitionValue("ROOM#" + roomId)
@@ -0,0 +1,58 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository;
+
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 방별 최근 메시지 아이템 (ROOM#{roomId} / RECENT)
+ * <p>
+ * 메시지 저장 시 list_append로 뒤에 추가되므로 컨테이너 간 저장 순서가 섞일 수 있어
+ * 읽을 때 SK(MSG#{createdAt}#{messageId}) 역순으로 정렬하고 messageId로 중복을 제거합니다.
+ *
+ * @param messages 최근 메시지 (저장 순서)
+ * @param version  추가/정리마다 증가하는 버전 (조건부 정리/재구성용)
+ * @param complete 방의 전체 메시지를 담고 있는지 여부 (개수가 limit보다 적어도 첫 페이지로 사용 가능)
+ */
+public record RecentMessages(List<ChatMessage> messages, long version, boolean complete) {
+	
+	private static final Comparator<ChatMessage> NEWEST_FIRST =
+			Comparator.comparing(ChatMessage::getSk, Comparator.nullsFirst(Comparator.naturalOrder())).reversed();
+	
+	/**
+	 * 첫 페이지 조회 - 최근 메시지만으로 응답할 수 없으면 empty (DynamoDB Query로 대체)
+	 */
+	public Optional<List<ChatMessage>> firstPage(int limit) {
+		List<ChatMessage> newest = newest(messages, Integer.MAX_VALUE);
+		if (newest.size() < limit && !complete) {
+			return Optional.empty();
+		}
+		return Optional.of(newest.subList(0, Math.min(limit, newest.size())));
+	}
+	
+	/**
+	 * 첫 페이지 이후에 더 오래된 메시지가 있을 수 있는지 여부
+	 */
+	public boolean hasOlder(int limit) {
+		return !complete || newest(messages, Integer.MAX_VALUE).size() > limit;
+	}
+	
+	/**
+	 * 중복 제거 후 최신순 상위 n개
+	 */
+	public static List<ChatMessage> newest(Collection<ChatMessage> messages, int n) {
+		Map<String, ChatMessage> unique = new LinkedHashMap<>();
+		for (ChatMessage message : messages) {
+			unique.putIfAbsent(message.getMessageId(), message);
+		}
+		return unique.values().stream()
+				.sorted(NEWEST_FIRST)
+				.limit(n)
+				.toList();
+	}
+}
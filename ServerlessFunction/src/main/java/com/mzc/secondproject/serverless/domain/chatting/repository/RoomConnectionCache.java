@@ -0,0 +1,107 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository;
+
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 방별 연결 목록 컨테이너 캐시 (버전 검증)
+ * <p>
+ * 연결/해제 시 방의 멤버십 버전 아이템(ROOM#{roomId} / CONNECTIONS)이 증가하며,
+ * 다른 컨테이너는 다음 규칙으로 GSI1 조회 횟수를 줄입니다.
+ * - ttl 이내: 캐시 그대로 사용 (DynamoDB 호출 없음)
+ * - ttl 경과: 버전 아이템만 GetItem → 같으면 캐시 재사용, 다르면 GSI1 재조회
+ * - maxAge 경과: 버전과 무관하게 GSI1 재조회 (TTL로 만료된 연결 반영)
+ * 버전 증가 후 indexLag 이내에 조회한 목록은 GSI 전파 전일 수 있으므로 ttl 동안만 사용하고
+ * 버전이 같아도 재사용하지 않습니다 (다음 검증 시 재조회).
+ * 같은 컨테이너에서 발생한 쓰기는 {@link #invalidate}로 즉시 반영합니다.
+ */
+final class RoomConnectionCache {
+
+	private static final String METRIC_OPERATION = "RoomConnectionCache";
+
+	private final long ttlMs;
+	private final long maxAgeMs;
+	private final long indexLagMs;
+	private final LongSupplier clock;
+	private final Map<String, Snapshot> snapshots;
+
+	RoomConnectionCache(long ttlMs, long maxAgeMs, long indexLagMs, int maxRooms, LongSupplier clock) {
+		this.ttlMs = ttlMs;
+		this.maxAgeMs = maxAgeMs;
+		this.indexLagMs = indexLagMs;
+		this.clock = clock;
+		this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+				return size() > maxRooms;
+			}
+		};
+	}
+
+	/**
+	 * 캐시된 연결 목록 조회
+	 *
+	 * @param versionReader    현재 멤버십 버전/증가 시각 조회 (ttl 경과 시에만 호출)
+	 * @param connectionLoader GSI1 조회 (버전 변경/미캐시/maxAge 경과 시에만 호출)
+	 */
+	List<Connection> get(String roomId, Supplier<VersionStamp> versionReader, Supplier<List<Connection>> connectionLoader) {
+		long now = clock.getAsLong();
+		Snapshot snapshot = snapshot(roomId);
+
+		if (snapshot != null && now - snapshot.verifiedAt < ttlMs) {
+			Metrics.increment(Metrics.CACHE_HIT, METRIC_OPERATION);
+			return snapshot.connections;
+		}
+
+		// 목록 조회 전에 버전을 읽어야 조회 도중의 변경이 다음 검증에서 감지됨
+		VersionStamp stamp = versionReader.get();
+		if (snapshot != null && snapshot.settled && snapshot.version == stamp.version()
+				&& now - snapshot.loadedAt < maxAgeMs) {
+			Metrics.increment(Metrics.CACHE_HIT, METRIC_OPERATION);
+			put(roomId, new Snapshot(snapshot.connections, snapshot.version, snapshot.loadedAt, now, true));
+			return snapshot.connections;
+		}
+
+		Metrics.increment(Metrics.CACHE_MISS, METRIC_OPERATION);
+		List<Connection> connections = connectionLoader.get();
+		// 증가 직후 조회한 목록은 방금 연결된 항목이 GSI에 없을 수 있으므로 검증된 것으로 취급하지 않음
+		put(roomId, new Snapshot(connections, stamp.version(), now, now, stamp.settledAt(now, indexLagMs)));
+		return connections;
+	}
+
+	/**
+	 * 로컬 쓰기 후 즉시 무효화
+	 */
+	void invalidate(String roomId) {
+		synchronized (snapshots) {
+			snapshots.remove(roomId);
+		}
+	}
+
+	int size() {
+		synchronized (snapshots) {
+			return snapshots.size();
+		}
+	}
+
+	private Snapshot snapshot(String roomId) {
+		synchronized (snapshots) {
+			return snapshots.get(roomId);
+		}
+	}
+
+	private void put(String roomId, Snapshot snapshot) {
+		synchronized (snapshots) {
+			snapshots.put(roomId, snapshot);
+		}
+	}
+
+	private record Snapshot(List<Connection> connections, long version, long loadedAt, long verifiedAt, boolean settled) {
+	}
+}
@@ -0,0 +1,21 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository;
+
+/**
+ * 버전 아이템 조회 결과 (버전 + 마지막 증가 시각)
+ * <p>
+ * 쓰기는 아이템 저장 직후 버전을 올리지만 GSI는 비동기로 전파되므로, 증가 직후 읽은 GSI 목록에는
+ * 방금 반영된 변경이 빠져 있을 수 있습니다. 증가 후 indexLagMs가 지나기 전에 만든 캐시는
+ * 버전이 같아도 재사용하지 않도록 {@link #settledAt}으로 판단합니다.
+ *
+ * @param version  버전 (아이템이 없으면 0)
+ * @param bumpedAt 마지막 증가 시각 (epoch ms, 없으면 0)
+ */
+record VersionStamp(long version, long bumpedAt) {
+	
+	/**
+	 * now 시점에 GSI 전파 대기 시간이 지났는지 여부
+	 */
+	boolean settledAt(long now, long indexLagMs) {
+		return now - bumpedAt >= indexLagMs;
+	}
+}
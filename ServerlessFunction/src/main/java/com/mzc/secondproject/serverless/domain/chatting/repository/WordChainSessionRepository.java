@@ -2,15 +2,29 @@ package com.mzc.secondproject.serverless.domain.chatting.repository;
 
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.chatting.model.WordChainSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -21,6 +35,9 @@ public class WordChainSessionRepository {
 	private static final Logger logger = LoggerFactory.getLogger(WordChainSessionRepository.class);
 	private static final String TABLE_NAME = EnvConfig.getRequired("CHAT_TABLE_NAME");
 	private static final String GSI1_INDEX_NAME = "GSI1";
+	// 사용 단어 아이템 SK 접두사 (WORD#{round}, 라운드 순 정렬)
+	private static final String WORD_SK_PREFIX = "WORD#";
+	private static final long WORD_TTL_SECONDS = 7 * 24 * 60 * 60;
 
 	private final DynamoDbTable<WordChainSession> table;
 	private final DynamoDbIndex<WordChainSession> gsi1Index;
@@ -44,6 +61,136 @@ public class WordChainSessionRepository {
 		logger.debug("Saved WordChainSession: {}", session.getSessionId());
 	}
 
+	/**
+	 * 라운드가 바뀌지 않았을 때만 세션 저장 (타임아웃 탈락 처리용)
+	 * 같은 턴에 정답 제출이나 다른 타임아웃 처리가 먼저 반영됐으면 저장하지 않습니다.
+	 *
+	 * @return 저장 여부 (라운드 불일치 시 false)
+	 */
+	public boolean saveIfRound(WordChainSession session, int expectedRound) {
+		Expression condition = Expression.builder()
+				.expression("currentRound = :expectedRound")
+				.expressionValues(Map.of(":expectedRound", number(expectedRound)))
+				.build();
+		try {
+			table.putItem(PutItemEnhancedRequest.builder(WordChainSession.class)
+					.item(session)
+					.conditionExpression(condition)
+					.build());
+			logger.debug("Saved WordChainSession: {}, expectedRound={}", session.getSessionId(), expectedRound);
+			return true;
+		} catch (ConditionalCheckFailedException e) {
+			logger.info("Round already advanced: sessionId={}, expectedRound={}", session.getSessionId(), expectedRound);
+			return false;
+		}
+	}
+
+	/**
+	 * 정답 턴 반영 - 턴 정보만 SET, 사용 단어는 String Set에 ADD
+	 * 세션 전체를 다시 쓰지 않으므로 쓰기 크기가 게임 길이와 무관합니다.
+	 * 차례/라운드가 바뀌었거나 이미 사용된 단어면 반영하지 않습니다.
+	 *
+	 * @param session       다음 턴 정보가 반영된 세션
+	 * @param playerId      단어를 제출한 플레이어
+	 * @param expectedRound 제출 시점의 라운드
+	 * @param word          제출 단어 (소문자)
+	 * @param points        획득 점수
+	 * @return 반영 여부 (조건 불일치 시 false)
+	 */
+	public boolean recordTurn(WordChainSession session, String playerId, int expectedRound, String word, int points) {
+		Map<String, AttributeValue> values = new HashMap<>();
+		values.put(":round", number(session.getCurrentRound()));
+		values.put(":word", AttributeValue.builder().s(word).build());
+		values.put(":nextLetter", AttributeValue.builder().s(String.valueOf(session.getNextLetter())).build());
+		values.put(":nextPlayer", AttributeValue.builder().s(session.getCurrentPlayerId()).build());
+		values.put(":turnStart", number(session.getTurnStartTime()));
+		values.put(":timeLimit", number(session.getTimeLimit()));
+		values.put(":points", number(points));
+		values.put(":zero", number(0));
+		values.put(":words", AttributeValue.builder().ss(word).build());
+		values.put(":player", AttributeValue.builder().s(playerId).build());
+		values.put(":expectedRound", number(expectedRound));
+		values.put(":playing", AttributeValue.builder().s("PLAYING").build());
+		
+		UpdateItemRequest request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(sessionKey(session.getSessionId()))
+				.updateExpression("SET currentRound = :round, currentWord = :word, nextLetter = :nextLetter, "
+						+ "currentPlayerId = :nextPlayer, turnStartTime = :turnStart, timeLimit = :timeLimit, "
+						+ "scores.#player = if_not_exists(scores.#player, :zero) + :points "
+						+ "ADD usedWordSet :words")
+				.conditionExpression("#status = :playing AND currentPlayerId = :player "
+						+ "AND currentRound = :expectedRound AND NOT contains(usedWordSet, :word)")
+				.expressionAttributeNames(Map.of("#status", "status", "#player", playerId))
+				.expressionAttributeValues(values)
+				.build();
+		
+		try {
+			Metrics.time(Metrics.REPOSITORY_LATENCY, "WordChainSessionRepository.recordTurn",
+					() -> AwsClients.dynamoDb().updateItem(request));
+			return true;
+		} catch (ConditionalCheckFailedException e) {
+			logger.info("Rejected stale word submission: sessionId={}, player={}, round={}",
+					session.getSessionId(), playerId, expectedRound);
+			return false;
+		}
+	}
+
+	/**
+	 * 사용 단어 아이템 저장 (사용 순서 + 뜻, 게임 종료 후 학습용)
+	 */
+	public void saveWord(String sessionId, int round, String word, String definition) {
+		Map<String, AttributeValue> item = new HashMap<>();
+		item.put("PK", AttributeValue.builder().s("WORDCHAIN#" + sessionId).build());
+		item.put("SK", AttributeValue.builder().s(wordSk(round)).build());
+		item.put("word", AttributeValue.builder().s(word).build());
+		if (definition != null) {
+			item.put("definition", AttributeValue.builder().s(definition).build());
+		}
+		item.put("ttl", number(Instant.now().getEpochSecond() + WORD_TTL_SECONDS));
+		
+		AwsClients.dynamoDb().putItem(PutItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.item(item)
+				.build());
+	}
+
+	/**
+	 * 사용 단어 아이템으로 usedWords(사용 순서)와 wordDefinitions 채우기
+	 */
+	public void loadHistory(WordChainSession session) {
+		List<String> words = new ArrayList<>();
+		Map<String, String> definitions = new HashMap<>();
+		Map<String, AttributeValue> startKey = null;
+		
+		do {
+			QueryRequest.Builder request = QueryRequest.builder()
+					.tableName(TABLE_NAME)
+					.keyConditionExpression("PK = :pk AND begins_with(SK, :prefix)")
+					.expressionAttributeValues(Map.of(
+							":pk", AttributeValue.builder().s("WORDCHAIN#" + session.getSessionId()).build(),
+							":prefix", AttributeValue.builder().s(WORD_SK_PREFIX).build()));
+			if (startKey != null) {
+				request.exclusiveStartKey(startKey);
+			}
+			
+			QueryResponse response = AwsClients.dynamoDb().query(request.build());
+			for (Map<String, AttributeValue> item : response.items()) {
+				String word = item.get("word").s();
+				words.add(word);
+				if (item.containsKey("definition")) {
+					definitions.put(word, item.get("definition").s());
+				}
+			}
+			startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+					? response.lastEvaluatedKey()
+					: null;
+		} while (startKey != null);
+		
+		session.setUsedWords(words);
+		session.setWordDefinitions(definitions);
+	}
+
 	/**
 	 * 세션 ID로 조회
 	 */
@@ -95,4 +242,18 @@ public class WordChainSessionRepository {
 			logger.info("Finished WordChainSession: {}", sessionId);
 		});
 	}
+
+	private static Map<String, AttributeValue> sessionKey(String sessionId) {
+		return Map.of(
+				"PK", AttributeValue.builder().s("WORDCHAIN#" + sessionId).build(),
+				"SK", AttributeValue.builder().s("METADATA").build());
+	}
+
+	private static String wordSk(int round) {
+		return String.format("%s%05d", WORD_SK_PREFIX, round);
+	}
+
+	private static AttributeValue number(long value) {
+		return AttributeValue.builder().n(String.valueOf(value)).build();
+	}
 }
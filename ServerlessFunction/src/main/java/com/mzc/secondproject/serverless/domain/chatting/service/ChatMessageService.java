@@ -1,36 +1,83 @@
 package com.mzc.secondproject.serverless.domain.chatting.service;
 
 import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.common.util.CursorUtil;
+import com.mzc.secondproject.serverless.domain.chatting.config.ChatWriteConfig;
+import com.mzc.secondproject.serverless.domain.chatting.config.RecentMessagesConfig;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage;
 import com.mzc.secondproject.serverless.domain.chatting.repository.ChatMessageRepository;
+import com.mzc.secondproject.serverless.domain.chatting.repository.ChatRoomRepository;
+import com.mzc.secondproject.serverless.domain.chatting.repository.RecentMessages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class ChatMessageService {
 	
 	private static final Logger logger = LoggerFactory.getLogger(ChatMessageService.class);
+	private static final String RECENT_METRIC_OPERATION = "RecentMessages";
 	
 	private final ChatMessageRepository repository;
+	private final ChatRoomRepository chatRoomRepository;
 	
 	/**
 	 * 기본 생성자 (Lambda에서 사용)
 	 */
 	public ChatMessageService() {
-		this(new ChatMessageRepository());
+		this(new ChatMessageRepository(), new ChatRoomRepository());
 	}
 	
 	/**
 	 * 의존성 주입 생성자 (테스트 용이성)
 	 */
-	public ChatMessageService(ChatMessageRepository repository) {
+	public ChatMessageService(ChatMessageRepository repository, ChatRoomRepository chatRoomRepository) {
 		this.repository = repository;
+		this.chatRoomRepository = chatRoomRepository;
 	}
 	
+	/**
+	 * 메시지 저장 (PutItem) 후 최근 메시지 아이템과 방의 lastMessageAt 반영
+	 * lastMessageAt은 조건부 업데이트로 방별 간격당 최대 한 번만 기록 (컨테이너 상태 없음)
+	 */
 	public ChatMessage saveMessage(ChatMessage message) {
 		logger.info("Saving message: {}", message.getMessageId());
-		return repository.save(message);
+		ChatMessage saved = repository.save(message);
+		appendRecentMessage(saved);
+		updateLastMessageAt(saved);
+		return saved;
+	}
+	
+	/**
+	 * 이미 브로드캐스트한 메시지 저장
+	 * 방에는 이미 전달되었으므로 저장 실패를 호출 실패로 알리지 않고 로그/메트릭으로만 남김
+	 * (클라이언트가 오류로 보고 다시 보내면 다른 messageId로 중복 전달되므로)
+	 *
+	 * @return 저장 여부
+	 */
+	public boolean saveBroadcastMessage(ChatMessage message) {
+		try {
+			saveMessage(message);
+			return true;
+		} catch (RuntimeException e) {
+			logger.error("Failed to save broadcast message: messageId={}, roomId={}",
+					message.getMessageId(), message.getRoomId(), e);
+			Metrics.increment(Metrics.AWS_CALL_ERROR, "ChatMessageService.saveMessage");
+			return false;
+		}
+	}
+	
+	private void updateLastMessageAt(ChatMessage message) {
+		try {
+			chatRoomRepository.updateLastMessageAt(message.getRoomId(), message.getCreatedAt(),
+					ChatWriteConfig.lastMessageAtIntervalMs());
+		} catch (RuntimeException e) {
+			logger.warn("Failed to update lastMessageAt: roomId={}, error={}", message.getRoomId(), e.getMessage());
+		}
 	}
 	
 	public Optional<ChatMessage> getMessage(String roomId, String messageId) {
@@ -38,9 +85,73 @@ public class ChatMessageService {
 		return repository.findByRoomIdAndMessageId(roomId, messageId);
 	}
 	
+	/**
+	 * 방 메시지 조회 (최신순)
+	 * 첫 페이지는 최근 메시지 아이템으로 응답하고, 이전 페이지나 최근 메시지가 부족한 경우 Query로 조회
+	 */
 	public PaginatedResult<ChatMessage> getMessagesByRoomWithPagination(String roomId, int limit, String cursor) {
 		logger.info("Getting messages for room: {} with limit: {}", roomId, limit);
-		return repository.findByRoomIdWithPagination(roomId, limit, cursor);
+		if ((cursor != null && !cursor.isEmpty()) || limit > RecentMessagesConfig.size()) {
+			return repository.findByRoomIdWithPagination(roomId, limit, cursor);
+		}
+		
+		Optional<RecentMessages> recent;
+		try {
+			recent = repository.findRecentByRoomId(roomId);
+		} catch (RuntimeException e) {
+			logger.warn("Failed to read recent messages, falling back to query: roomId={}, error={}", roomId, e.getMessage());
+			return repository.findByRoomIdWithPagination(roomId, limit, cursor);
+		}
+		
+		Optional<List<ChatMessage>> firstPage = recent.flatMap(r -> r.firstPage(limit));
+		if (firstPage.isPresent()) {
+			Metrics.increment(Metrics.CACHE_HIT, RECENT_METRIC_OPERATION);
+			List<ChatMessage> items = firstPage.get();
+			boolean hasOlder = recent.get().hasOlder(limit) && !items.isEmpty();
+			return new PaginatedResult<>(items, hasOlder ? cursorAfter(items.get(items.size() - 1)) : null);
+		}
+		
+		// 재구성용 Query는 강한 일관성으로 읽어야 직전에 추가된 메시지가 빠지지 않음
+		// (조회한 버전이 오래된 경우 재구성 조건이 실패하므로 최근 메시지 아이템은 일반 읽기로 충분)
+		Metrics.increment(Metrics.CACHE_MISS, RECENT_METRIC_OPERATION);
+		PaginatedResult<ChatMessage> page = repository.findByRoomIdWithPagination(roomId, limit, null, true);
+		try {
+			repository.seedRecent(roomId, page.items(), page.nextCursor() == null,
+					recent.map(RecentMessages::version).orElse(null));
+		} catch (RuntimeException e) {
+			logger.warn("Failed to seed recent messages: roomId={}, error={}", roomId, e.getMessage());
+		}
+		return page;
+	}
+	
+	/**
+	 * 저장된 메시지를 방별 최근 메시지 아이템에 반영
+	 * 실패하면 아이템을 지워 누락된 목록이 첫 페이지로 쓰이지 않게 함 (다음 조회 때 Query로 재구성)
+	 */
+	private void appendRecentMessage(ChatMessage saved) {
+		if (RecentMessagesConfig.size() <= 0) {
+			return;
+		}
+		String roomId = saved.getRoomId();
+		try {
+			repository.appendRecent(roomId, List.of(saved), RecentMessagesConfig.size(), RecentMessagesConfig.trimSlack());
+		} catch (RuntimeException e) {
+			logger.warn("Failed to append recent messages, invalidating: roomId={}, error={}", roomId, e.getMessage());
+			try {
+				repository.deleteRecent(roomId);
+			} catch (RuntimeException deleteError) {
+				logger.error("Failed to invalidate recent messages: roomId={}", roomId, deleteError);
+			}
+		}
+	}
+	
+	/**
+	 * 마지막 메시지 다음부터 조회하는 커서 (base table Query의 LastEvaluatedKey와 동일한 형태)
+	 */
+	private static String cursorAfter(ChatMessage last) {
+		return CursorUtil.encode(Map.of(
+				"PK", AttributeValue.builder().s(last.getPk()).build(),
+				"SK", AttributeValue.builder().s(last.getSk()).build()));
 	}
 	
 	public PaginatedResult<ChatMessage> getMessagesByUserWithPagination(String userId, int limit, String cursor) {
@@ -4,12 +4,12 @@ import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
 import com.mzc.secondproject.serverless.domain.chatting.dto.response.RoomParticipant;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom;
 import com.mzc.secondproject.serverless.domain.chatting.repository.ChatRoomRepository;
-import com.mzc.secondproject.serverless.domain.user.model.User;
-import com.mzc.secondproject.serverless.domain.user.repository.UserRepository;
+import com.mzc.secondproject.serverless.domain.user.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,21 +20,21 @@ public class ChatRoomQueryService {
 	private static final Logger logger = LoggerFactory.getLogger(ChatRoomQueryService.class);
 	
 	private final ChatRoomRepository roomRepository;
-	private final UserRepository userRepository;
+	private final UserService userService;
 	
 	/**
 	 * 기본 생성자 (Lambda에서 사용)
 	 */
 	public ChatRoomQueryService() {
-		this(new ChatRoomRepository(), new UserRepository());
+		this(new ChatRoomRepository(), new UserService());
 	}
 	
 	/**
 	 * 의존성 주입 생성자 (테스트 용이성)
 	 */
-	public ChatRoomQueryService(ChatRoomRepository roomRepository, UserRepository userRepository) {
+	public ChatRoomQueryService(ChatRoomRepository roomRepository, UserService userService) {
 		this.roomRepository = roomRepository;
-		this.userRepository = userRepository;
+		this.userService = userService;
 	}
 	
 	public Optional<ChatRoom> getRoom(String roomId) {
@@ -74,18 +74,15 @@ public class ChatRoomQueryService {
 		if (room.getMemberIds() == null) return List.of();
 		
 		String hostId = room.getHostId() != null ? room.getHostId() : room.getCreatedBy();
+		// 참가자 닉네임 일괄 조회 (없으면 userId)
+		Map<String, String> nicknames = userService.getNicknames(room.getMemberIds());
 		
 		return room.getMemberIds().stream()
-				.map(userId -> {
-					String nickname = userRepository.findByCognitoSub(userId)
-							.map(User::getNickname)
-							.orElse(userId);  // fallback to userId if not found
-					return RoomParticipant.builder()
-							.userId(userId)
-							.nickname(nickname)
-							.isHost(userId.equals(hostId))
-							.build();
-				})
+				.map(userId -> RoomParticipant.builder()
+						.userId(userId)
+						.nickname(nicknames.get(userId))
+						.isHost(userId.equals(hostId))
+						.build())
 				.toList();
 	}
 	
@@ -97,8 +94,6 @@ public class ChatRoomQueryService {
 	 */
 	public String getHostNickname(ChatRoom room) {
 		String hostId = room.getHostId() != null ? room.getHostId() : room.getCreatedBy();
-		return userRepository.findByCognitoSub(hostId)
-				.map(User::getNickname)
-				.orElse(hostId);
+		return userService.getNickname(hostId);
 	}
 }
@@ -6,8 +6,7 @@ import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
 import com.mzc.secondproject.serverless.domain.chatting.model.Poll;
 import com.mzc.secondproject.serverless.domain.chatting.repository.ConnectionRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.PollRepository;
-import com.mzc.secondproject.serverless.domain.user.model.User;
-import com.mzc.secondproject.serverless.domain.user.repository.UserRepository;
+import com.mzc.secondproject.serverless.domain.user.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,14 +23,14 @@ public class CommandService {
 
 	private final ConnectionRepository connectionRepository;
 	private final PollRepository pollRepository;
-	private final UserRepository userRepository;
+	private final UserService userService;
 	private final Random random;
 
 	/**
 	 * 기본 생성자 (Lambda에서 사용)
 	 */
 	public CommandService() {
-		this(new ConnectionRepository(), new PollRepository(), new UserRepository());
+		this(new ConnectionRepository(), new PollRepository(), new UserService());
 	}
 
 	/**
@@ -39,10 +38,10 @@ public class CommandService {
 	 */
 	public CommandService(ConnectionRepository connectionRepository,
 	                      PollRepository pollRepository,
-	                      UserRepository userRepository) {
+	                      UserService userService) {
 		this.connectionRepository = connectionRepository;
 		this.pollRepository = pollRepository;
-		this.userRepository = userRepository;
+		this.userService = userService;
 		this.random = new Random();
 	}
 
@@ -127,11 +126,12 @@ public class CommandService {
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("👥 현재 접속자: %d명\n", connections.size()));
 
+		// 접속자 닉네임 일괄 조회 (없으면 userId)
+		Map<String, String> nicknames = userService.getNicknames(connections.stream()
+				.map(Connection::getUserId)
+				.toList());
 		for (Connection conn : connections) {
-			String nickname = userRepository.findByCognitoSub(conn.getUserId())
-					.map(User::getNickname)
-					.orElse(conn.getUserId());
-			sb.append(String.format("  • %s\n", nickname));
+			sb.append(String.format("  • %s\n", nicknames.get(conn.getUserId())));
 		}
 
 		Map<String, Object> data = new HashMap<>();
@@ -140,8 +140,7 @@ public class CommandService {
 				.map(c -> {
 					Map<String, String> member = new HashMap<>();
 					member.put("userId", c.getUserId());
-					member.put("nickname", userRepository.findByCognitoSub(c.getUserId())
-							.map(User::getNickname).orElse(c.getUserId()));
+					member.put("nickname", nicknames.get(c.getUserId()));
 					return member;
 				})
 				.collect(Collectors.toList()));
@@ -153,9 +152,7 @@ public class CommandService {
 	 * /leave - 채팅방 나가기
 	 */
 	private CommandResult handleLeaveCommand(String roomId, String userId) {
-		String nickname = userRepository.findByCognitoSub(userId)
-				.map(User::getNickname)
-				.orElse(userId);
+		String nickname = userService.getNickname(userId);
 
 		Map<String, Object> data = new HashMap<>();
 		data.put("userId", userId);
@@ -186,9 +183,7 @@ public class CommandService {
 	private CommandResult handleDiceCommand(String roomId, String userId) {
 		int result = random.nextInt(6) + 1;
 
-		String nickname = userRepository.findByCognitoSub(userId)
-				.map(User::getNickname)
-				.orElse(userId);
+		String nickname = userService.getNickname(userId);
 
 		String emoji = switch (result) {
 			case 1 -> "⚀";
@@ -218,9 +213,7 @@ public class CommandService {
 		String result = isHeads ? "앞면 (Heads)" : "뒷면 (Tails)";
 		String emoji = isHeads ? "🪙" : "💿";
 
-		String nickname = userRepository.findByCognitoSub(userId)
-				.map(User::getNickname)
-				.orElse(userId);
+		String nickname = userService.getNickname(userId);
 
 		Map<String, Object> data = new HashMap<>();
 		data.put("userId", userId);
@@ -247,9 +240,7 @@ public class CommandService {
 
 		String selected = options[random.nextInt(options.length)];
 
-		String nickname = userRepository.findByCognitoSub(userId)
-				.map(User::getNickname)
-				.orElse(userId);
+		String nickname = userService.getNickname(userId);
 
 		Map<String, Object> data = new HashMap<>();
 		data.put("userId", userId);
@@ -319,7 +310,6 @@ public class CommandService {
 				.question(question)
 				.options(options)
 				.votes(votes)
-				.userVotes(new HashMap<>())
 				.createdBy(userId)
 				.createdAt(now)
 				.isActive(true)
@@ -328,9 +318,7 @@ public class CommandService {
 
 		pollRepository.save(poll);
 
-		String nickname = userRepository.findByCognitoSub(userId)
-				.map(User::getNickname)
-				.orElse(userId);
+		String nickname = userService.getNickname(userId);
 
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("📊 %s님이 투표를 시작했습니다!\n\n", nickname));
@@ -378,13 +366,14 @@ public class CommandService {
 			return CommandResult.error(String.format("1~%d 사이의 번호를 입력하세요.", poll.getOptions().size()));
 		}
 
-		// 투표 추가
-		poll.addVote(userId, optionIndex);
-		pollRepository.save(poll);
+		// 투표 추가 (선택지 카운터 원자적 증가, 집계는 반영 후 카운터 기준)
+		Optional<Poll> voted = pollRepository.addVote(roomId, poll.getPollId(), userId, optionIndex);
+		if (voted.isEmpty()) {
+			return CommandResult.error("이미 투표했거나 종료된 투표입니다.");
+		}
+		poll = voted.get();
 
-		String nickname = userRepository.findByCognitoSub(userId)
-				.map(User::getNickname)
-				.orElse(userId);
+		String nickname = userService.getNickname(userId);
 
 		String selectedOption = poll.getOptions().get(optionIndex);
 
@@ -428,8 +417,12 @@ public class CommandService {
 			return CommandResult.error("투표 생성자만 종료할 수 있습니다.");
 		}
 
-		poll.setIsActive(false);
-		pollRepository.save(poll);
+		// 종료 (최종 집계는 종료 시점의 카운터 기준)
+		Optional<Poll> closed = pollRepository.close(roomId, poll.getPollId(), userId);
+		if (closed.isEmpty()) {
+			return CommandResult.error("진행 중인 투표가 없습니다.");
+		}
+		poll = closed.get();
 
 		// 최종 결과 계산
 		int maxVotes = 0;
@@ -445,9 +438,7 @@ public class CommandService {
 			}
 		}
 
-		String nickname = userRepository.findByCognitoSub(userId)
-				.map(User::getNickname)
-				.orElse(userId);
+		String nickname = userService.getNickname(userId);
 
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("🏁 %s님이 투표를 종료했습니다!\n\n", nickname));
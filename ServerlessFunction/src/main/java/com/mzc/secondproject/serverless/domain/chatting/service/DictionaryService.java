@@ -4,6 +4,9 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
+import com.mzc.secondproject.serverless.domain.chatting.config.DictionaryConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,31 +15,72 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
- * 외부 사전 API 연동 서비스
- * Free Dictionary API (https://dictionaryapi.dev/) 사용
+ * 끝말잇기 단어 검증 서비스
+ * <p>
+ * 유효성은 jar에 포함된 단어 사전({@link Lexicon})으로 네트워크 없이 판단하고,
+ * 정의/발음만 Free Dictionary API (https://dictionaryapi.dev/)에서 조회해 LRU에 보관합니다.
+ * 정의 조회는 definitionWaitMs까지만 기다리며, 늦게 도착한 결과는 이후 요청에서 사용합니다.
+ * 단어 사전은 첫 단어 검증 시 로드하며, 리소스가 없거나 DICTIONARY_LEXICON_RESOURCE=none이면
+ * 기존처럼 사전 API 응답으로 유효성을 판단합니다.
  */
 public class DictionaryService {
 
 	private static final Logger logger = LoggerFactory.getLogger(DictionaryService.class);
 	private static final String API_BASE_URL = "https://api.dictionaryapi.dev/api/v2/entries/en/";
 	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+	private static final String METRIC_OPERATION = "DictionaryService";
+
+	private static final Map<String, DictionaryResult> SHARED_CACHE =
+			newLruCache(DictionaryConfig.definitionCacheMaxEntries());
 
 	private final HttpClient httpClient;
 	private final Gson gson;
+	private final Supplier<Lexicon> lexicon;
+	private final long definitionWaitMs;
 
-	// 간단한 인메모리 캐시 (Lambda 인스턴스 내에서만 유효)
-	private final ConcurrentHashMap<String, DictionaryResult> cache;
+	// 단어별 조회 결과 (크기 제한 LRU)
+	private final Map<String, DictionaryResult> cache;
+	// 진행 중인 정의 조회 (같은 단어 동시 조회 합치기)
+	private final ConcurrentHashMap<String, CompletableFuture<DictionaryResult>> inFlight = new ConcurrentHashMap<>();
 
+	/**
+	 * 기본 생성자 (Lambda에서 사용)
+	 */
 	public DictionaryService() {
-		this.httpClient = HttpClient.newBuilder()
-				.connectTimeout(TIMEOUT)
-				.build();
-		this.gson = new Gson();
-		this.cache = new ConcurrentHashMap<>();
+		this(BundledLexicon::get,
+				HttpClient.newBuilder().connectTimeout(TIMEOUT).build(),
+				SHARED_CACHE,
+				DictionaryConfig.definitionWaitMs());
+	}
+
+	/**
+	 * 의존성 주입 생성자 (테스트 용이성)
+	 *
+	 * @param lexicon 단어 사전 (null이면 사전 API로 유효성 판단)
+	 */
+	DictionaryService(Lexicon lexicon, HttpClient httpClient, Map<String, DictionaryResult> cache, long definitionWaitMs) {
+		this(() -> lexicon, httpClient, cache, definitionWaitMs);
+	}
+	
+	private DictionaryService(Supplier<Lexicon> lexicon, HttpClient httpClient,
+	                          Map<String, DictionaryResult> cache, long definitionWaitMs) {
+		this.httpClient = httpClient;
+		this.gson = JsonUtil.gson();
+		this.lexicon = lexicon;
+		this.cache = cache;
+		this.definitionWaitMs = definitionWaitMs;
 	}
 
 	/**
@@ -51,21 +95,95 @@ public class DictionaryService {
 		}
 
 		String normalizedWord = word.trim().toLowerCase();
+		Lexicon lexicon = this.lexicon.get();
+
+		if (lexicon != null && !lexicon.contains(normalizedWord)) {
+			return DictionaryResult.invalid("사전에 없는 단어입니다: " + normalizedWord);
+		}
 
 		// 캐시 확인
-		if (cache.containsKey(normalizedWord)) {
-			logger.debug("Cache hit for word: {}", normalizedWord);
-			return cache.get(normalizedWord);
+		DictionaryResult cached = cache.get(normalizedWord);
+		if (cached != null) {
+			Metrics.increment(Metrics.CACHE_HIT, METRIC_OPERATION);
+			return cached;
+		}
+		Metrics.increment(Metrics.CACHE_MISS, METRIC_OPERATION);
+
+		return lexicon != null ? awaitDefinition(normalizedWord) : fetchBlocking(normalizedWord);
+	}
+
+	/**
+	 * 단어가 유효한지만 빠르게 확인 (정의 필요 없을 때)
+	 */
+	public boolean isValidWord(String word) {
+		Lexicon lexicon = this.lexicon.get();
+		if (lexicon != null) {
+			return lexicon.contains(word);
 		}
+		return lookupWord(word).isValid();
+	}
 
+	/**
+	 * 단어 사전에 있는 단어의 정의 조회 - definitionWaitMs까지만 대기
+	 * 유효성은 이미 확인했으므로 조회 실패/지연 시 정의 없이 유효 처리
+	 */
+	private DictionaryResult awaitDefinition(String word) {
+		CompletableFuture<DictionaryResult> future = inFlight.get(word);
+		if (future == null) {
+			CompletableFuture<DictionaryResult> created = new CompletableFuture<>();
+			future = inFlight.putIfAbsent(word, created);
+			if (future == null) {
+				future = created;
+				fetchAsync(word, created);
+			}
+		}
+
+		try {
+			return future.get(definitionWaitMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			logger.debug("Definition lookup still pending for word: {}", word);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.warn("Definition lookup failed for word '{}': {}", word, e.getCause().getMessage());
+		}
+		return DictionaryResult.validWithoutDefinition(word);
+	}
+
+	private void fetchAsync(String word, CompletableFuture<DictionaryResult> target) {
+		CompletableFuture<HttpResponse<String>> response;
 		try {
-			HttpRequest request = HttpRequest.newBuilder()
-					.uri(URI.create(API_BASE_URL + normalizedWord))
-					.timeout(TIMEOUT)
-					.GET()
-					.build();
+			response = httpClient.sendAsync(newRequest(word), HttpResponse.BodyHandlers.ofString());
+		} catch (RuntimeException e) {
+			response = CompletableFuture.failedFuture(e);
+		}
+
+		response.whenComplete((res, error) -> {
+			inFlight.remove(word);
+			if (error != null) {
+				target.completeExceptionally(error);
+				return;
+			}
 
-			HttpResponse<String> response = httpClient.send(request,
+			DictionaryResult result = parseResponse(word, res);
+			// 사전 API에 없어도 단어 사전에 있으면 유효
+			if (!result.isValid()) {
+				result = DictionaryResult.validWithoutDefinition(word);
+			}
+			// 일시적인 오류 응답은 캐시하지 않음
+			if (res.statusCode() == 200 || res.statusCode() == 404) {
+				cache.put(word, result);
+			}
+			target.complete(result);
+		});
+	}
+
+	/**
+	 * 단어 사전이 없을 때 - 사전 API 응답으로 유효성 판단
+	 */
+	private DictionaryResult fetchBlocking(String normalizedWord) {
+		try {
+			HttpResponse<String> response = httpClient.send(newRequest(normalizedWord),
 					HttpResponse.BodyHandlers.ofString());
 
 			DictionaryResult result = parseResponse(normalizedWord, response);
@@ -75,6 +193,9 @@ public class DictionaryService {
 
 			return result;
 
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return DictionaryResult.validWithoutDefinition(normalizedWord);
 		} catch (Exception e) {
 			logger.error("Dictionary API error for word '{}': {}", normalizedWord, e.getMessage());
 			// API 실패 시 일단 유효한 것으로 처리 (fallback)
@@ -82,6 +203,23 @@ public class DictionaryService {
 		}
 	}
 
+	private HttpRequest newRequest(String word) {
+		return HttpRequest.newBuilder()
+				.uri(URI.create(API_BASE_URL + word))
+				.timeout(TIMEOUT)
+				.GET()
+				.build();
+	}
+
+	static Map<String, DictionaryResult> newLruCache(int maxEntries) {
+		return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, DictionaryResult> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
 	/**
 	 * API 응답 파싱
 	 */
@@ -177,13 +315,6 @@ public class DictionaryService {
 		}
 	}
 
-	/**
-	 * 단어가 유효한지만 빠르게 확인 (정의 필요 없을 때)
-	 */
-	public boolean isValidWord(String word) {
-		return lookupWord(word).isValid();
-	}
-
 	// ========== Result DTO ==========
 
 	public record DictionaryResult(
@@ -217,4 +348,29 @@ public class DictionaryService {
 			return Optional.ofNullable(phonetic);
 		}
 	}
+
+	/**
+	 * 컨테이너 단위 공유 단어 사전 (첫 단어 검증 시 한 번 로드)
+	 * 리소스가 없으면 null - 사전 API로 유효성 판단 (기한 스위퍼 등 검증하지 않는 경로는 로드하지 않음)
+	 */
+	private static final class BundledLexicon {
+
+		private static final Lexicon LEXICON = load();
+
+		static Lexicon get() {
+			return LEXICON;
+		}
+
+		private static Lexicon load() {
+			String resource = DictionaryConfig.lexiconResource();
+			if (resource == null) {
+				logger.warn("Lexicon disabled, validating words with the dictionary API");
+				return null;
+			}
+			return Lexicon.loadResource(resource).orElseGet(() -> {
+				logger.error("Lexicon not available, validating words with the dictionary API: resource={}", resource);
+				return null;
+			});
+		}
+	}
 }
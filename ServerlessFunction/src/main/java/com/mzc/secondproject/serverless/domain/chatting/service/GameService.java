@@ -1,8 +1,9 @@
 package com.mzc.secondproject.serverless.domain.chatting.service;
 
-import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
 import com.mzc.secondproject.serverless.domain.chatting.config.GameConfig;
+import com.mzc.secondproject.serverless.domain.chatting.deadline.Deadline;
 import com.mzc.secondproject.serverless.domain.chatting.dto.response.CommandResult;
+import com.mzc.secondproject.serverless.domain.chatting.enums.DeadlineType;
 import com.mzc.secondproject.serverless.domain.chatting.enums.GameStatus;
 import com.mzc.secondproject.serverless.domain.chatting.enums.MessageType;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom;
@@ -11,6 +12,7 @@ import com.mzc.secondproject.serverless.domain.chatting.model.GameRound;
 import com.mzc.secondproject.serverless.domain.chatting.model.GameSession;
 import com.mzc.secondproject.serverless.domain.chatting.repository.ChatRoomRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.ConnectionRepository;
+import com.mzc.secondproject.serverless.domain.chatting.repository.DeadlineRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.GameRoundRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.GameSessionRepository;
 import com.mzc.secondproject.serverless.domain.notification.service.NotificationPublisher;
@@ -30,14 +32,17 @@ import java.util.stream.Collectors;
 public class GameService {
 	
 	private static final Logger logger = LoggerFactory.getLogger(GameService.class);
+	// 정답자가 나올 때마다 출제자에게 주는 점수
+	private static final int DRAWER_BONUS = 5;
+	// 라운드 전환 중 동시 변경(정답/힌트) 발생 시 재시도 횟수
+	private static final int MAX_ROUND_TRANSITION_ATTEMPTS = 3;
 	
 	private final ChatRoomRepository chatRoomRepository;
 	private final ConnectionRepository connectionRepository;
 	private final GameRoundRepository gameRoundRepository;
 	private final GameSessionRepository gameSessionRepository;
 	private final WordRepository wordRepository;
-	private final GameStatsService gameStatsService;
-	private final GameSchedulerClient gameSchedulerClient;
+	private final DeadlineRepository deadlineRepository;
 	private final NotificationPublisher notificationPublisher;
 
 	/**
@@ -46,7 +51,7 @@ public class GameService {
 	public GameService() {
 		this(new ChatRoomRepository(), new ConnectionRepository(),
 				new GameRoundRepository(), new GameSessionRepository(),
-				new WordRepository(), new GameStatsService(), new GameSchedulerClient(),
+				new WordRepository(), new DeadlineRepository(),
 				NotificationPublisher.getInstance());
 	}
 
@@ -55,15 +60,14 @@ public class GameService {
 	 */
 	public GameService(ChatRoomRepository chatRoomRepository, ConnectionRepository connectionRepository,
 	                   GameRoundRepository gameRoundRepository, GameSessionRepository gameSessionRepository,
-	                   WordRepository wordRepository, GameStatsService gameStatsService,
-	                   GameSchedulerClient gameSchedulerClient, NotificationPublisher notificationPublisher) {
+	                   WordRepository wordRepository, DeadlineRepository deadlineRepository,
+	                   NotificationPublisher notificationPublisher) {
 		this.chatRoomRepository = chatRoomRepository;
 		this.connectionRepository = connectionRepository;
 		this.gameRoundRepository = gameRoundRepository;
 		this.gameSessionRepository = gameSessionRepository;
 		this.wordRepository = wordRepository;
-		this.gameStatsService = gameStatsService;
-		this.gameSchedulerClient = gameSchedulerClient;
+		this.deadlineRepository = deadlineRepository;
 		this.notificationPublisher = notificationPublisher;
 	}
 	
@@ -166,23 +170,22 @@ public class GameService {
 				.currentWordEnglish(firstWord.getEnglish())
 				.roundStartTime(currentTime)
 				.roundDuration(GameConfig.roundTimeLimit())
+				.gameEndScheduledAt(currentTime + GameConfig.gameTimeLimit() * 1000L)
 				.scores(new HashMap<>())
 				.streaks(new HashMap<>())
 				.players(new ArrayList<>(drawerOrder))
 				.drawerOrder(drawerOrder)
 				.hintUsed(false)
 				.correctGuessers(new ArrayList<>())
+				.version(0L)
 				.build();
 		
 		gameSessionRepository.save(session);
 		
-		// 게임 자동 종료 스케줄 생성 (7분 후)
-		GameSchedulerClient.ScheduleResult scheduleResult = gameSchedulerClient.createGameEndSchedule(gameSessionId, roomId);
-		if (scheduleResult.success()) {
-			session.setScheduleRuleArn(scheduleResult.scheduleArn());
-			session.setGameEndScheduledAt(scheduleResult.scheduledAtMs());
-			gameSessionRepository.save(session);
-		}
+		// 게임 자동 종료 및 첫 라운드 시간 만료 기한 등록 (DeadlineSweepHandler가 처리)
+		deadlineRepository.schedule(new Deadline(DeadlineType.CATCHMIND_GAME, gameSessionId, roomId,
+				0, session.getGameEndScheduledAt()));
+		scheduleRoundDeadline(session, 1, currentTime);
 		
 		// ChatRoom에 활성 게임 세션 ID 연결 및 상태 업데이트 (GSI1SK 포함)
 		room.setActiveGameSessionId(gameSessionId);
@@ -279,32 +282,31 @@ public class GameService {
 		
 		int score = calculateScore(session, elapsedTime, userId, currentStreak);
 		
-		// 정답자 목록에 추가
-		session.addCorrectGuesser(userId);
-		
-		// 점수 업데이트
-		session.addScore(userId, score);
-		
-		// 출제자 점수도 추가
-		session.addScore(session.getCurrentDrawerId(), 5);
-		
-		gameSessionRepository.save(session);
+		// 정답자/점수/연속 정답을 조건부 UpdateItem 한 번으로 반영 (동시 정답 시 유실 없음)
+		Optional<GameSession> updated = gameSessionRepository.recordCorrectGuess(session.getGameSessionId(),
+				session.getCurrentRound(), userId, score, session.getCurrentDrawerId(), DRAWER_BONUS, currentStreak);
+		if (updated.isEmpty()) {
+			// 그 사이 라운드가 끝났거나 같은 사용자의 정답이 먼저 처리됨
+			logger.info("Correct guess not applied (round changed or duplicate): roomId={}, userId={}", roomId, userId);
+			return AnswerCheckResult.alreadyGuessedCorrect();
+		}
+		GameSession updatedSession = updated.get();
 		
 		// 라운드 기록 업데이트
-		updateRoundRecord(roomId, session.getCurrentRound(), userId, elapsedTime, score);
+		gameRoundRepository.recordCorrectGuess(roomId, session.getCurrentRound(), userId, elapsedTime, score);
 		
-		// 전원 정답 체크
+		// 전원 정답 체크 (다른 정답자까지 반영된 최신 목록 기준)
 		List<Connection> connections = connectionRepository.findByRoomId(roomId);
 		int nonDrawerCount = (int) connections.stream()
-				.filter(c -> !c.getUserId().equals(session.getCurrentDrawerId()))
+				.filter(c -> !c.getUserId().equals(updatedSession.getCurrentDrawerId()))
 				.count();
 		
-		boolean allCorrect = session.getCorrectGuessers().size() >= nonDrawerCount;
+		boolean allCorrect = updatedSession.getCorrectGuessers().size() >= nonDrawerCount;
 		
 		logger.info("Answer correct: roomId={}, userId={}, score={}, allCorrect={}",
 				roomId, userId, score, allCorrect);
 		
-		return AnswerCheckResult.correctAnswer(score, elapsedTime, allCorrect, session.getScores());
+		return AnswerCheckResult.correctAnswer(score, elapsedTime, allCorrect, updatedSession.getScores());
 	}
 	
 	/**
@@ -350,41 +352,57 @@ public class GameService {
 		String currentWord = session.getCurrentWord();
 		String hint = currentWord.charAt(0) + "○".repeat(currentWord.length() - 1);
 		
-		session.setHintUsed(true);
-		gameSessionRepository.save(session);
+		// 동시에 요청돼도 한 번만 반영
+		if (!gameSessionRepository.markHintUsed(session.getGameSessionId(), session.getCurrentRound())) {
+			return CommandResult.error("이번 라운드에서 이미 힌트를 사용했습니다.");
+		}
 		
 		// 라운드 기록 업데이트
-		gameRoundRepository.findByRoomIdAndRound(roomId, session.getCurrentRound())
-				.ifPresent(round -> {
-					round.setHintUsed(true);
-					gameRoundRepository.save(round);
-				});
+		gameRoundRepository.markHintUsed(roomId, session.getCurrentRound());
 		
 		return CommandResult.success(MessageType.HINT, "💡 힌트: " + hint);
 	}
 	
 	/**
 	 * 라운드 종료 처리 (GameSession 버전)
+	 * 세션 version이 읽은 시점과 같을 때만 다음 라운드로 전환하고,
+	 * 그 사이 정답/힌트가 반영됐다면 재조회 후 같은 라운드에 대해 다시 시도
 	 */
 	public CommandResult endRound(GameSession session, ChatRoom room, String reason) {
+		Integer endingRound = session.getCurrentRound();
+		GameSession current = session;
+		
+		for (int attempt = 1; attempt <= MAX_ROUND_TRANSITION_ATTEMPTS; attempt++) {
+			Optional<CommandResult> result = tryEndRound(current, room, reason);
+			if (result.isPresent()) {
+				return result.get();
+			}
+			
+			current = gameSessionRepository.findById(session.getGameSessionId()).orElse(null);
+			if (current == null || !GameStatus.PLAYING.name().equals(current.getStatus())
+					|| !Objects.equals(current.getCurrentRound(), endingRound)) {
+				logger.info("Round already ended by another request: roomId={}, round={}", session.getRoomId(), endingRound);
+				return CommandResult.error("이미 종료된 라운드입니다.");
+			}
+		}
+		
+		logger.warn("Round transition conflict: roomId={}, round={}", session.getRoomId(), endingRound);
+		return CommandResult.error("라운드 전환 중 충돌이 발생했습니다. 다시 시도해주세요.");
+	}
+	
+	/**
+	 * 라운드 종료 1회 시도
+	 *
+	 * @return 처리 결과 (empty: 동시 변경으로 세션 version 불일치)
+	 */
+	private Optional<CommandResult> tryEndRound(GameSession session, ChatRoom room, String reason) {
 		String roomId = session.getRoomId();
 		Integer currentRound = session.getCurrentRound();
 		String answer = session.getCurrentWord();
 		
-		// 정답 못 맞춘 사용자 연속 정답 초기화
-		resetStreaksForNonGuessers(session);
-		
-		// 라운드 기록 종료
-		gameRoundRepository.findByRoomIdAndRound(roomId, currentRound)
-				.ifPresent(round -> {
-					round.setEndTime(System.currentTimeMillis());
-					round.setEndReason(reason);
-					gameRoundRepository.save(round);
-				});
-		
 		// 다음 라운드로 진행
 		if (currentRound >= session.getTotalRounds()) {
-			return finishGame(session, room, "COMPLETED");
+			return Optional.of(finishGameAfterRound(session, room, "COMPLETED", reason));
 		}
 		
 		// 현재 접속 중인 사용자 목록 조회
@@ -395,7 +413,7 @@ public class GameService {
 		
 		// 접속자가 2명 미만이면 게임 종료
 		if (connectedUserIds.size() < 2) {
-			return finishGame(session, room, "NOT_ENOUGH_PLAYERS");
+			return Optional.of(finishGameAfterRound(session, room, "NOT_ENOUGH_PLAYERS", reason));
 		}
 		
 		// 다음 라운드 준비 - 접속 중인 사용자 중에서만 출제자 선택
@@ -406,23 +424,22 @@ public class GameService {
 		String level = room.getLevel() != null ? room.getLevel() : "beginner";
 		List<Word> words = getRandomWords(level, 1);
 		if (words.isEmpty()) {
-			return finishGame(session, room, "NO_WORDS");
+			return Optional.of(finishGameAfterRound(session, room, "NO_WORDS", reason));
 		}
 		Word nextWord = words.get(0);
 		
 		long currentTime = System.currentTimeMillis();
 		
-		// 세션 상태 업데이트
-		session.setCurrentRound(nextRound);
-		session.setCurrentDrawerId(nextDrawer);
-		session.setCurrentWordId(nextWord.getWordId());
-		session.setCurrentWord(nextWord.getKorean());
-		session.setCurrentWordEnglish(nextWord.getEnglish());
-		session.setRoundStartTime(currentTime);
-		session.setHintUsed(false);
-		session.setCorrectGuessers(new ArrayList<>());
+		// 세션 상태 업데이트 (정답 못 맞춘 사용자 연속 정답 초기화 포함, version 일치 시에만)
+		boolean advanced = gameSessionRepository.advanceRound(session.getGameSessionId(), versionOf(session),
+				nextRound, nextDrawer, nextWord.getWordId(), nextWord.getKorean(), nextWord.getEnglish(),
+				currentTime, nonGuessersWithStreak(session));
+		if (!advanced) {
+			return Optional.empty();
+		}
 		
-		gameSessionRepository.save(session);
+		// 라운드 기록 종료
+		gameRoundRepository.endRound(roomId, currentRound, currentTime, reason);
 		
 		// 다음 라운드 기록 생성 (7일 후 자동 삭제)
 		long nextTtlSeconds = Instant.now().plusSeconds(7 * 24 * 60 * 60).getEpochSecond();
@@ -445,13 +462,14 @@ public class GameService {
 				.build();
 		
 		gameRoundRepository.save(nextRoundRecord);
+		scheduleRoundDeadline(session, nextRound, currentTime);
 		
 		String message = String.format("라운드 %d 종료! 정답: %s\n\n라운드 %d 시작! 출제자: %s",
 				currentRound, answer, nextRound, nextDrawer);
 		
 		logger.info("Round ended: roomId={}, round={}, reason={}", roomId, currentRound, reason);
 		
-		// ranking 생성
+		// ranking 생성 (version이 일치했으므로 읽은 점수가 최신)
 		List<Map<String, Object>> ranking = buildRankingList(session.getScores());
 		
 		Map<String, Object> data = new HashMap<>();
@@ -463,10 +481,20 @@ public class GameService {
 		data.put("currentRound", currentRound);
 		data.put("totalRounds", session.getTotalRounds());
 		// 타이머 동기화용 필드 추가
-		data.put("roundStartTime", session.getRoundStartTime());
+		data.put("roundStartTime", currentTime);
 		data.put("roundDuration", session.getRoundDuration() != null ? session.getRoundDuration() : GameConfig.roundTimeLimit());
 		
-		return CommandResult.success(MessageType.ROUND_END, message, data);
+		return Optional.of(CommandResult.success(MessageType.ROUND_END, message, data));
+	}
+	
+	/**
+	 * 마지막/중단 라운드 종료 후 게임 종료
+	 * 게임 통계는 FINISHED 전환 스트림에서 라운드 기록(endReason)을 읽으므로 라운드 기록을 먼저 닫음
+	 * (동시 종료 요청이 겹쳐도 endReason은 먼저 기록한 요청의 값만 남음)
+	 */
+	private CommandResult finishGameAfterRound(GameSession session, ChatRoom room, String finishReason, String roundReason) {
+		gameRoundRepository.endRound(session.getRoomId(), session.getCurrentRound(), System.currentTimeMillis(), roundReason);
+		return finishGame(session, room, finishReason);
 	}
 	
 	/**
@@ -493,33 +521,29 @@ public class GameService {
 		long currentTime = System.currentTimeMillis();
 		long ttlSeconds = Instant.now().plusSeconds(30 * 24 * 60 * 60).getEpochSecond(); // 30일 보관
 		
-		// 자동 종료 스케줄 취소 (TIME_EXPIRED가 아닌 경우에만)
-		if (!"TIME_EXPIRED".equals(reason)) {
-			gameSchedulerClient.cancelGameEndSchedule(session.getGameSessionId());
+		// 게임 세션 종료 처리 (진행 중인 세션만 - 동시 종료 요청은 한 번만 반영)
+		Optional<GameSession> finished = gameSessionRepository.finishGame(session.getGameSessionId(), currentTime, ttlSeconds);
+		if (finished.isEmpty()) {
+			logger.info("Game already finished: roomId={}, sessionId={}, reason={}",
+					room.getRoomId(), session.getGameSessionId(), reason);
+			return CommandResult.error("이미 종료된 게임입니다.");
 		}
-		
-		// 게임 세션 종료 처리
-		gameSessionRepository.finishGame(session.getGameSessionId(), currentTime, ttlSeconds);
+		// 종료 시점의 최신 점수 기준으로 통계/알림/순위 처리
+		GameSession finalSession = finished.get();
 		
 		// ChatRoom에서 활성 게임 세션 참조 제거 및 상태 업데이트 (GSI1SK 포함)
 		room.setActiveGameSessionId(null);
 		chatRoomRepository.updateStatus(room, "WAITING");
 		
-		// 게임 통계 업데이트 및 뱃지 체크
-		try {
-			var newBadges = gameStatsService.updateGameStats(session);
-			logger.info("Game stats updated: roomId={}, newBadges={}", room.getRoomId(), newBadges.size());
-		} catch (Exception e) {
-			logger.error("Failed to update game stats: roomId={}, error={}", room.getRoomId(), e.getMessage());
-		}
+		// 게임 통계/뱃지는 세션 FINISHED 전환 스트림에서 비동기 처리 (GameStatsStreamHandler)
 
 		// 게임 종료 알림 발행 (각 플레이어별)
-		publishGameEndNotifications(session, room.getRoomId());
+		publishGameEndNotifications(finalSession, room.getRoomId());
 
 		// 최종 점수 정렬
 		StringBuilder sb = new StringBuilder("🎮 게임 종료!\n\n📊 최종 순위:\n");
-		if (session.getScores() != null && !session.getScores().isEmpty()) {
-			List<Map.Entry<String, Integer>> sorted = session.getScores().entrySet().stream()
+		if (finalSession.getScores() != null && !finalSession.getScores().isEmpty()) {
+			List<Map.Entry<String, Integer>> sorted = finalSession.getScores().entrySet().stream()
 					.sorted((a, b) -> b.getValue().compareTo(a.getValue()))
 					.toList();
 			
@@ -541,11 +565,40 @@ public class GameService {
 		logger.info("Game finished: roomId={}, sessionId={}, reason={}",
 				room.getRoomId(), session.getGameSessionId(), reason);
 		
-		return CommandResult.success(MessageType.GAME_END, sb.toString(), session.getScores());
+		return CommandResult.success(MessageType.GAME_END, sb.toString(), finalSession.getScores());
+	}
+	
+	/**
+	 * 라운드 시간 만료 처리 (DeadlineSweepHandler에서 호출)
+	 * 이미 넘어간 라운드나 아직 시간이 남은 라운드의 기한은 무시
+	 *
+	 * @return 라운드 종료 결과 (empty: 처리할 라운드 없음)
+	 */
+	public Optional<CommandResult> endRoundByDeadline(String gameSessionId, int round) {
+		GameSession session = gameSessionRepository.findById(gameSessionId).orElse(null);
+		if (session == null || !session.isActive() || !Objects.equals(session.getCurrentRound(), round)) {
+			logger.debug("Stale round deadline ignored: sessionId={}, round={}", gameSessionId, round);
+			return Optional.empty();
+		}
+		
+		int roundDuration = session.getRoundDuration() != null ? session.getRoundDuration() : GameConfig.roundTimeLimit();
+		if (System.currentTimeMillis() - session.getRoundStartTime() < roundDuration * 1000L) {
+			logger.debug("Round deadline fired early, ignored: sessionId={}, round={}", gameSessionId, round);
+			return Optional.empty();
+		}
+		
+		ChatRoom room = chatRoomRepository.findById(session.getRoomId()).orElse(null);
+		if (room == null) {
+			logger.warn("Room not found for round deadline: {}", session.getRoomId());
+			return Optional.empty();
+		}
+		
+		CommandResult result = endRound(session, room, "TIMEOUT");
+		return result.success() ? Optional.of(result) : Optional.empty();
 	}
 	
 	/**
-	 * 시간 만료로 인한 게임 자동 종료 (GameAutoCloseHandler에서 호출)
+	 * 시간 만료로 인한 게임 자동 종료 (DeadlineSweepHandler에서 호출)
 	 */
 	public CommandResult finishGameByTimeout(String gameSessionId) {
 		GameSession session = gameSessionRepository.findById(gameSessionId).orElse(null);
@@ -572,6 +625,15 @@ public class GameService {
 		return finishGame(session, room, "TIME_EXPIRED");
 	}
 	
+	/**
+	 * 라운드 시간 만료 기한 등록 (라운드 번호를 토큰으로 사용)
+	 */
+	private void scheduleRoundDeadline(GameSession session, int round, long roundStartTime) {
+		int roundDuration = session.getRoundDuration() != null ? session.getRoundDuration() : GameConfig.roundTimeLimit();
+		deadlineRepository.schedule(new Deadline(DeadlineType.CATCHMIND_ROUND, session.getGameSessionId(),
+				session.getRoomId(), round, roundStartTime + roundDuration * 1000L));
+	}
+	
 	/**
 	 * 접속 중인 사용자 중에서 다음 출제자 선택
 	 */
@@ -600,16 +662,14 @@ public class GameService {
 	private List<Word> getRandomWords(String level, int count) {
 		// ChatRoom.level은 소문자(beginner), VocabTable GSI1PK는 대문자(BEGINNER)
 		String normalizedLevel = level != null ? level.toUpperCase() : "BEGINNER";
-		PaginatedResult<Word> result = wordRepository.findByLevelWithPagination(normalizedLevel, 50, null);
-		List<Word> words = new ArrayList<>(result.items());
-		Collections.shuffle(words);
-		return words.stream().limit(count).collect(Collectors.toList());
+		return wordRepository.sampleByLevel(normalizedLevel, count, List.of());
 	}
 	
 	/**
 	 * 정답 체크 로직 (한국어 또는 영어 둘 다 허용)
+	 * 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private static
 	 */
-	private boolean isCorrectAnswer(String input, String koreanAnswer, String englishAnswer) {
+	static boolean isCorrectAnswer(String input, String koreanAnswer, String englishAnswer) {
 		if (input == null) return false;
 		
 		String normalizedInput = input.trim().toLowerCase().replace(" ", "");
@@ -654,48 +714,26 @@ public class GameService {
 	}
 	
 	/**
-	 * 라운드 기록 업데이트
+	 * 이번 라운드에 정답을 못 맞춘 사용자 중 연속 정답이 남아 있는 사용자 (초기화 대상)
 	 */
-	private void updateRoundRecord(String roomId, Integer roundNumber, String userId, long elapsedTime, int score) {
-		gameRoundRepository.findByRoomIdAndRound(roomId, roundNumber)
-				.ifPresent(round -> {
-					if (round.getCorrectGuessers() == null) {
-						round.setCorrectGuessers(new ArrayList<>());
-					}
-					round.getCorrectGuessers().add(userId);
-					
-					if (round.getGuessTimes() == null) {
-						round.setGuessTimes(new HashMap<>());
-					}
-					round.getGuessTimes().put(userId, elapsedTime);
-					
-					if (round.getRoundScores() == null) {
-						round.setRoundScores(new HashMap<>());
-					}
-					round.getRoundScores().put(userId, score);
-					
-					gameRoundRepository.save(round);
-				});
-	}
-	
-	/**
-	 * 정답 못 맞춘 사용자 연속 정답 초기화
-	 */
-	private void resetStreaksForNonGuessers(GameSession session) {
+	private List<String> nonGuessersWithStreak(GameSession session) {
 		if (session.getStreaks() == null || session.getStreaks().isEmpty()) {
-			return;
+			return List.of();
 		}
 		
 		List<String> correctGuessers = session.getCorrectGuessers() != null
 				? session.getCorrectGuessers()
 				: List.of();
 		
-		// 정답 못 맞춘 사용자의 연속 정답 초기화
-		session.getStreaks().keySet().stream()
+		return session.getStreaks().entrySet().stream()
+				.filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+				.map(Map.Entry::getKey)
 				.filter(userId -> !correctGuessers.contains(userId))
-				.forEach(userId -> session.getStreaks().put(userId, 0));
-		
-		logger.info("Reset streaks for non-guessers: correctGuessers={}", correctGuessers);
+				.toList();
+	}
+	
+	private static long versionOf(GameSession session) {
+		return session.getVersion() != null ? session.getVersion() : 0L;
 	}
 	
 	/**
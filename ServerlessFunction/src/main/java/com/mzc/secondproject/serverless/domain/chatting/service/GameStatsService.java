@@ -8,10 +8,14 @@ import com.mzc.secondproject.serverless.domain.chatting.model.GameSession;
 import com.mzc.secondproject.serverless.domain.chatting.repository.GameRoundRepository;
 import com.mzc.secondproject.serverless.domain.stats.model.UserStats;
 import com.mzc.secondproject.serverless.domain.stats.repository.UserStatsRepository;
+import com.mzc.secondproject.serverless.domain.stats.repository.UserStatsRepository.GameStatsIncrement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * 게임 통계 및 뱃지 연동 서비스
@@ -43,91 +47,128 @@ public class GameStatsService {
 	}
 	
 	/**
-	 * 게임 종료 시 모든 참가자 통계 업데이트
+	 * 게임 종료 시 모든 참가자 통계 업데이트 (GameStatsStreamHandler에서 비동기 호출)
+	 * 라운드를 한 번 순회해 참가자별 증가분을 집계하고, 전원 통계를 하나의 트랜잭션으로 반영한 뒤
+	 * 참가자별 뱃지 체크는 병렬로 수행
 	 */
 	public Map<String, List<UserBadge>> updateGameStats(GameSession session) {
-		Map<String, List<UserBadge>> newBadges = new HashMap<>();
 		String roomId = session.getRoomId();
 		
 		// 모든 라운드 조회
 		List<GameRound> rounds = gameRoundRepository.findByRoomId(roomId);
-		
-		// 참가자별 통계 수집
-		Map<String, Integer> scores = session.getScores() != null ? session.getScores() : Map.of();
-		Set<String> participants = new HashSet<>(scores.keySet());
-		if (session.getPlayers() != null) {
-			participants.addAll(session.getPlayers());
+		List<GameStatsIncrement> increments = aggregate(session, rounds);
+		if (increments.isEmpty()) {
+			return Map.of();
 		}
 		
-		// 1등 찾기
-		String winner = findWinner(scores);
+		// 참가자 전원 통계 Atomic 업데이트 (세션 ID/종료 시각으로 재시도 시 중복 반영 방지)
+		userStatsRepository.incrementGameStats(increments, session.getGameSessionId(), endedAt(session));
 		
-		// 각 참가자 통계 업데이트
-		for (String userId : participants) {
-			List<UserBadge> badges = updateUserGameStats(userId, scores.getOrDefault(userId, 0),
-					userId.equals(winner), rounds);
-			if (!badges.isEmpty()) {
-				newBadges.put(userId, badges);
-			}
-		}
+		Map<String, List<UserBadge>> newBadges = checkBadgesInParallel(increments);
 		
-		logger.info("Game stats updated: roomId={}, participants={}, winner={}",
-				roomId, participants.size(), winner);
+		logger.info("Game stats updated: roomId={}, participants={}, newBadges={}",
+				roomId, increments.size(), newBadges.size());
 		
 		return newBadges;
 	}
 	
 	/**
-	 * 개별 사용자 게임 통계 업데이트
+	 * 재시도해도 같은 값이 되도록 처리 시각 대신 세션의 종료 시각 사용 (없으면 시작 시각)
+	 */
+	static long endedAt(GameSession session) {
+		if (session.getEndedAt() != null) {
+			return session.getEndedAt();
+		}
+		return session.getStartedAt() != null ? session.getStartedAt() : 0L;
+	}
+	
+	/**
+	 * 라운드 단일 순회로 참가자별 게임 통계 증가분 집계
+	 * 같은 방의 이전 게임 라운드(세션 시작 전)는 제외
 	 */
-	private List<UserBadge> updateUserGameStats(String userId, int score, boolean isWinner,
-	                                            List<GameRound> rounds) {
-		// 라운드별 통계 수집
-		int correctGuesses = 0;
-		int quickGuesses = 0;
-		int perfectDraws = 0;
+	static List<GameStatsIncrement> aggregate(GameSession session, List<GameRound> rounds) {
+		// 참가자별 통계 수집
+		Map<String, Integer> scores = session.getScores() != null ? session.getScores() : Map.of();
+		Set<String> participants = new LinkedHashSet<>(scores.keySet());
+		if (session.getPlayers() != null) {
+			participants.addAll(session.getPlayers());
+		}
+		
+		Map<String, Integer> correctGuesses = new HashMap<>();
+		Map<String, Integer> quickGuesses = new HashMap<>();
+		Map<String, Integer> perfectDraws = new HashMap<>();
+		Long startedAt = session.getStartedAt();
 		
 		for (GameRound round : rounds) {
-			// 정답 횟수
-			if (round.getCorrectGuessers() != null && round.getCorrectGuessers().contains(userId)) {
-				correctGuesses++;
-				
-				// 빠른 정답 체크 (5초 이내)
-				if (round.getGuessTimes() != null) {
-					Long guessTime = round.getGuessTimes().get(userId);
+			if (startedAt != null && round.getStartTime() != null && round.getStartTime() < startedAt) {
+				continue;
+			}
+			
+			// 정답 횟수 + 빠른 정답 (5초 이내)
+			if (round.getCorrectGuessers() != null) {
+				for (String userId : new HashSet<>(round.getCorrectGuessers())) {
+					correctGuesses.merge(userId, 1, Integer::sum);
+					Long guessTime = round.getGuessTimes() != null ? round.getGuessTimes().get(userId) : null;
 					if (guessTime != null && guessTime <= GameConfig.quickGuessThresholdMs()) {
-						quickGuesses++;
+						quickGuesses.merge(userId, 1, Integer::sum);
 					}
 				}
 			}
 			
-			// 완벽한 출제자 체크
-			if (userId.equals(round.getDrawerId())) {
-				// 출제자일 때 전원 정답인지 확인
-				if (round.getEndReason() != null && "ALL_CORRECT".equals(round.getEndReason())) {
-					perfectDraws++;
-				}
+			// 완벽한 출제자 (출제자일 때 전원 정답)
+			if (round.getDrawerId() != null && "ALL_CORRECT".equals(round.getEndReason())) {
+				perfectDraws.merge(round.getDrawerId(), 1, Integer::sum);
 			}
 		}
 		
-		// Atomic 업데이트
-		userStatsRepository.incrementGameStats(
-				userId,
-				1, // gamesPlayed
-				isWinner ? 1 : 0, // gamesWon
-				correctGuesses,
-				score,
-				quickGuesses,
-				perfectDraws
-		);
+		// 1등 찾기
+		String winner = findWinner(scores);
 		
+		return participants.stream()
+				.map(userId -> new GameStatsIncrement(
+						userId,
+						1, // gamesPlayed
+						userId.equals(winner) ? 1 : 0, // gamesWon
+						correctGuesses.getOrDefault(userId, 0),
+						scores.getOrDefault(userId, 0),
+						quickGuesses.getOrDefault(userId, 0),
+						perfectDraws.getOrDefault(userId, 0)))
+				.toList();
+	}
+	
+	/**
+	 * 참가자별 뱃지 체크 병렬 수행 (사용자마다 통계/뱃지 아이템이 달라 서로 독립)
+	 * 한 사용자의 실패는 다른 사용자 결과에 영향을 주지 않음
+	 */
+	private Map<String, List<UserBadge>> checkBadgesInParallel(List<GameStatsIncrement> increments) {
+		Map<String, CompletableFuture<List<UserBadge>>> futures = new LinkedHashMap<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (GameStatsIncrement increment : increments) {
+				String userId = increment.userId();
+				futures.put(userId, CompletableFuture.supplyAsync(() -> checkBadges(userId), executor)
+						.exceptionally(e -> {
+							logger.error("Failed to check badges: userId={}, error={}", userId, e.getMessage());
+							return List.of();
+						}));
+			}
+		}
+		
+		Map<String, List<UserBadge>> newBadges = new HashMap<>();
+		futures.forEach((userId, future) -> {
+			List<UserBadge> badges = future.join();
+			if (!badges.isEmpty()) {
+				newBadges.put(userId, badges);
+			}
+		});
+		return newBadges;
+	}
+	
+	private List<UserBadge> checkBadges(String userId) {
 		// 뱃지 체크를 위해 업데이트된 통계 조회
 		UserStats stats = userStatsRepository.findTotalStats(userId).orElse(null);
 		List<UserBadge> newBadges = badgeService.checkAndAwardBadges(userId, stats);
 		
-		logger.info("User game stats updated: userId={}, correctGuesses={}, newBadges={}",
-				userId, correctGuesses, newBadges.size());
-		
+		logger.info("User game badges checked: userId={}, newBadges={}", userId, newBadges.size());
 		return newBadges;
 	}
 	
@@ -146,7 +187,7 @@ public class GameStatsService {
 		return badgeService.checkAndAwardBadges(userId, stats);
 	}
 	
-	private String findWinner(Map<String, Integer> scores) {
+	private static String findWinner(Map<String, Integer> scores) {
 		if (scores == null || scores.isEmpty()) {
 			return null;
 		}
@@ -0,0 +1,199 @@
+package com.mzc.secondproject.serverless.domain.chatting.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 불변 영어 단어 사전 (정렬된 단어 배열 + Bloom 필터)
+ * <p>
+ * 모든 단어를 정렬해 하나의 char 배열에 이어 붙이고 시작 위치만 int 배열로 보관하므로
+ * 단어마다 String 객체를 만들지 않습니다.
+ * 조회는 Bloom 필터(O(length))로 없는 단어를 먼저 걸러내고, 통과한 단어만 이진 탐색으로 확인합니다.
+ */
+final class Lexicon {
+	
+	private static final Logger logger = LoggerFactory.getLogger(Lexicon.class);
+	private static final int BLOOM_BITS_PER_WORD = 10;
+	private static final int BLOOM_HASHES = 7;
+	
+	private final char[] chars;
+	private final int[] offsets;
+	private final long[] bloom;
+	private final int bloomBits;
+	
+	private Lexicon(List<String> sortedWords) {
+		int totalLength = 0;
+		for (String word : sortedWords) {
+			totalLength += word.length();
+		}
+		
+		this.chars = new char[totalLength];
+		this.offsets = new int[sortedWords.size() + 1];
+		this.bloomBits = Math.max(64, sortedWords.size() * BLOOM_BITS_PER_WORD);
+		this.bloom = new long[(bloomBits + 63) / 64];
+		
+		int position = 0;
+		for (int i = 0; i < sortedWords.size(); i++) {
+			String word = sortedWords.get(i);
+			offsets[i] = position;
+			word.getChars(0, word.length(), chars, position);
+			position += word.length();
+			addToBloom(word);
+		}
+		offsets[sortedWords.size()] = position;
+	}
+	
+	/**
+	 * 단어 목록으로 사전 생성 (소문자 변환, 공백/중복 제거)
+	 */
+	static Lexicon of(Collection<String> words) {
+		TreeSet<String> sorted = new TreeSet<>();
+		for (String word : words) {
+			String normalized = normalize(word);
+			if (normalized != null) {
+				sorted.add(normalized);
+			}
+		}
+		return new Lexicon(new ArrayList<>(sorted));
+	}
+	
+	/**
+	 * 단어 목록 스트림으로 사전 생성 (한 줄에 한 단어, '#'으로 시작하는 줄은 무시)
+	 */
+	static Lexicon read(InputStream in) throws IOException {
+		List<String> words = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.startsWith("#")) {
+					words.add(line);
+				}
+			}
+		}
+		return of(words);
+	}
+	
+	/**
+	 * 클래스패스 리소스에서 사전 로드 (.gz이면 gzip 해제)
+	 *
+	 * @return 리소스가 없거나 읽기에 실패하면 empty
+	 */
+	static Optional<Lexicon> loadResource(String resource) {
+		if (resource == null || resource.isBlank()) {
+			return Optional.empty();
+		}
+		
+		InputStream raw = Lexicon.class.getClassLoader().getResourceAsStream(resource);
+		if (raw == null) {
+			logger.warn("Lexicon resource not found: {}", resource);
+			return Optional.empty();
+		}
+		
+		long startTime = System.currentTimeMillis();
+		try (InputStream in = resource.endsWith(".gz") ? new GZIPInputStream(raw) : raw) {
+			Lexicon lexicon = read(in);
+			logger.info("Lexicon loaded: resource={}, words={}, elapsed={}ms",
+					resource, lexicon.size(), System.currentTimeMillis() - startTime);
+			return Optional.of(lexicon);
+		} catch (IOException e) {
+			logger.error("Failed to load lexicon {}: {}", resource, e.getMessage());
+			return Optional.empty();
+		}
+	}
+	
+	/**
+	 * 사전에 있는 단어인지 확인 (대소문자/앞뒤 공백 무시)
+	 */
+	boolean contains(String word) {
+		String normalized = normalize(word);
+		if (normalized == null || !mightContain(normalized)) {
+			return false;
+		}
+		
+		int low = 0;
+		int high = size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = compareAt(mid, normalized);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	int size() {
+		return offsets.length - 1;
+	}
+	
+	/**
+	 * index 위치 단어와 word 비교 (String.compareTo와 같은 순서)
+	 */
+	private int compareAt(int index, String word) {
+		int start = offsets[index];
+		int length = offsets[index + 1] - start;
+		int common = Math.min(length, word.length());
+		for (int i = 0; i < common; i++) {
+			int diff = chars[start + i] - word.charAt(i);
+			if (diff != 0) {
+				return diff;
+			}
+		}
+		return length - word.length();
+	}
+	
+	private void addToBloom(String word) {
+		int h1 = fnv1a(word);
+		int h2 = word.hashCode() | 1;
+		for (int i = 0; i < BLOOM_HASHES; i++) {
+			int bit = Math.floorMod(h1 + i * h2, bloomBits);
+			bloom[bit >>> 6] |= 1L << bit;
+		}
+	}
+	
+	private boolean mightContain(String word) {
+		int h1 = fnv1a(word);
+		int h2 = word.hashCode() | 1;
+		for (int i = 0; i < BLOOM_HASHES; i++) {
+			int bit = Math.floorMod(h1 + i * h2, bloomBits);
+			if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private static int fnv1a(String word) {
+		int hash = 0x811c9dc5;
+		for (int i = 0; i < word.length(); i++) {
+			hash ^= word.charAt(i);
+			hash *= 0x01000193;
+		}
+		return hash;
+	}
+	
+	private static String normalize(String word) {
+		if (word == null) {
+			return null;
+		}
+		String normalized = word.trim().toLowerCase(Locale.ROOT);
+		return normalized.isEmpty() ? null : normalized;
+	}
+}
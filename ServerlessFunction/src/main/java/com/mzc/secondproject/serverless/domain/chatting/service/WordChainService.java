@@ -1,14 +1,16 @@
 package com.mzc.secondproject.serverless.domain.chatting.service;
 
+import com.mzc.secondproject.serverless.domain.chatting.deadline.Deadline;
+import com.mzc.secondproject.serverless.domain.chatting.enums.DeadlineType;
 import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom;
 import com.mzc.secondproject.serverless.domain.chatting.model.Connection;
 import com.mzc.secondproject.serverless.domain.chatting.model.GameSettings;
 import com.mzc.secondproject.serverless.domain.chatting.model.WordChainSession;
 import com.mzc.secondproject.serverless.domain.chatting.repository.ChatRoomRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.ConnectionRepository;
+import com.mzc.secondproject.serverless.domain.chatting.repository.DeadlineRepository;
 import com.mzc.secondproject.serverless.domain.chatting.repository.WordChainSessionRepository;
-import com.mzc.secondproject.serverless.domain.user.model.User;
-import com.mzc.secondproject.serverless.domain.user.repository.UserRepository;
+import com.mzc.secondproject.serverless.domain.user.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,28 +35,32 @@ public class WordChainService {
 	private final WordChainSessionRepository sessionRepository;
 	private final ConnectionRepository connectionRepository;
 	private final ChatRoomRepository chatRoomRepository;
-	private final UserRepository userRepository;
+	private final UserService userService;
 	private final DictionaryService dictionaryService;
+	private final DeadlineRepository deadlineRepository;
 	private final Random random;
 
 	public WordChainService() {
 		this(new WordChainSessionRepository(),
 				new ConnectionRepository(),
 				new ChatRoomRepository(),
-				new UserRepository(),
-				new DictionaryService());
+				new UserService(),
+				new DictionaryService(),
+				new DeadlineRepository());
 	}
 
 	public WordChainService(WordChainSessionRepository sessionRepository,
 	                        ConnectionRepository connectionRepository,
 	                        ChatRoomRepository chatRoomRepository,
-	                        UserRepository userRepository,
-	                        DictionaryService dictionaryService) {
+	                        UserService userService,
+	                        DictionaryService dictionaryService,
+	                        DeadlineRepository deadlineRepository) {
 		this.sessionRepository = sessionRepository;
 		this.connectionRepository = connectionRepository;
 		this.chatRoomRepository = chatRoomRepository;
-		this.userRepository = userRepository;
+		this.userService = userService;
 		this.dictionaryService = dictionaryService;
+		this.deadlineRepository = deadlineRepository;
 		this.random = new Random();
 	}
 
@@ -123,17 +129,16 @@ public class WordChainService {
 				.activePlayers(new ArrayList<>(players))
 				.eliminatedPlayers(new ArrayList<>())
 				.scores(new HashMap<>())
-				.usedWords(new ArrayList<>(List.of(starterWord.toLowerCase())))
-				.wordDefinitions(new HashMap<>())
 				.build();
 
 		// 시작 단어 정의 조회
 		DictionaryService.DictionaryResult starterResult = dictionaryService.lookupWord(starterWord);
-		if (starterResult.getDefinition().isPresent()) {
-			session.getWordDefinitions().put(starterWord.toLowerCase(), starterResult.getDefinition().get());
-		}
+		String starterDefinition = starterResult.getDefinition().orElse(null);
+		session.addUsedWord(starterWord, starterDefinition);
 
 		sessionRepository.save(session);
+		sessionRepository.saveWord(sessionId, 0, starterWord.toLowerCase(), starterDefinition);
+		scheduleTurnDeadline(session);
 
 		logger.info("WordChain game started: sessionId={}, roomId={}, players={}",
 				sessionId, roomId, players.size());
@@ -183,13 +188,15 @@ public class WordChainService {
 
 		// 정답 처리
 		int score = WordChainSession.calculateScore(elapsed, normalizedWord.length(), session.getTimeLimit());
+		String definition = dictResult.getDefinition().orElse(null);
 		session.addScore(userId, score);
-		session.addUsedWord(normalizedWord, dictResult.getDefinition().orElse(null));
+		session.addUsedWord(normalizedWord, definition);
 
 		// 다음 턴 준비
 		char nextLetter = normalizedWord.charAt(normalizedWord.length() - 1);
 		String nextPlayerId = session.getNextPlayerId();
-		int nextRound = session.getCurrentRound() + 1;
+		int submittedRound = session.getCurrentRound();
+		int nextRound = submittedRound + 1;
 		int nextTimeLimit = session.getNextRoundTimeLimit(nextRound);
 
 		session.setCurrentRound(nextRound);
@@ -199,7 +206,12 @@ public class WordChainService {
 		session.setTurnStartTime(System.currentTimeMillis());
 		session.setTimeLimit(nextTimeLimit);
 
-		sessionRepository.save(session);
+		// 턴 정보와 사용 단어만 갱신 (동시에 같은 턴이 처리됐으면 거부)
+		if (!sessionRepository.recordTurn(session, userId, submittedRound, normalizedWord, score)) {
+			return WordSubmitResult.error("이미 사용된 단어이거나 차례가 바뀌었습니다.");
+		}
+		sessionRepository.saveWord(session.getSessionId(), submittedRound, normalizedWord, definition);
+		scheduleTurnDeadline(session);
 
 		String nickname = getNickname(userId);
 
@@ -209,7 +221,7 @@ public class WordChainService {
 		return WordSubmitResult.correct(
 				session,
 				normalizedWord,
-				dictResult.getDefinition().orElse(null),
+				definition,
 				dictResult.getPhonetic().orElse(null),
 				score,
 				nextLetter,
@@ -230,7 +242,32 @@ public class WordChainService {
 		return handleTimeout(optSession.get(), userId);
 	}
 
+	/**
+	 * 턴 시간 만료 처리 (DeadlineSweepHandler에서 호출)
+	 * 이미 넘어간 턴이나 아직 시간이 남은 턴의 기한은 무시
+	 *
+	 * @return 탈락/게임 종료 결과 (empty: 처리할 턴 없음)
+	 */
+	public Optional<WordSubmitResult> handleTurnDeadline(String sessionId, int round) {
+		WordChainSession session = sessionRepository.findById(sessionId).orElse(null);
+		if (session == null || !session.isActive() || !Objects.equals(session.getCurrentRound(), round)) {
+			logger.debug("Stale turn deadline ignored: sessionId={}, round={}", sessionId, round);
+			return Optional.empty();
+		}
+
+		long elapsed = System.currentTimeMillis() - session.getTurnStartTime();
+		if (elapsed < session.getTimeLimit() * 1000L) {
+			logger.debug("Turn deadline fired early, ignored: sessionId={}, round={}", sessionId, round);
+			return Optional.empty();
+		}
+
+		WordSubmitResult result = handleTimeout(session, session.getCurrentPlayerId());
+		return result.type() == WordSubmitResult.ResultType.ERROR ? Optional.empty() : Optional.of(result);
+	}
+
 	private WordSubmitResult handleTimeout(WordChainSession session, String userId) {
+		int expectedRound = session.getCurrentRound();
+
 		// 플레이어 탈락
 		session.eliminatePlayer(userId);
 		String nickname = getNickname(userId);
@@ -253,7 +290,11 @@ public class WordChainService {
 		session.setTurnStartTime(System.currentTimeMillis());
 		session.setTimeLimit(nextTimeLimit);
 
-		sessionRepository.save(session);
+		// 같은 턴의 정답 제출/타임아웃이 먼저 반영됐으면 탈락시키지 않음
+		if (!sessionRepository.saveIfRound(session, expectedRound)) {
+			return WordSubmitResult.error("이미 차례가 바뀌었습니다.");
+		}
+		scheduleTurnDeadline(session);
 
 		return WordSubmitResult.timeout(
 				session,
@@ -276,6 +317,9 @@ public class WordChainService {
 		session.setTtl(ttl);
 		sessionRepository.save(session);
 
+		// 게임 결과에 포함할 사용 단어/뜻 조회
+		sessionRepository.loadHistory(session);
+
 		String winnerId = session.getWinner();
 		String winnerNickname = winnerId != null ? getNickname(winnerId) : null;
 
@@ -318,12 +362,22 @@ public class WordChainService {
 				? session.getScores()
 				: new HashMap<>();
 
+		// 전체 플레이어 닉네임 일괄 조회
+		List<String> playerIds = new ArrayList<>();
+		if (session.getActivePlayers() != null) {
+			playerIds.addAll(session.getActivePlayers());
+		}
+		if (session.getEliminatedPlayers() != null) {
+			playerIds.addAll(session.getEliminatedPlayers());
+		}
+		Map<String, String> nicknames = userService.getNicknames(playerIds);
+
 		// 활성 플레이어 (생존자) 먼저
 		if (session.getActivePlayers() != null) {
 			for (String playerId : session.getActivePlayers()) {
 				ranking.add(new RankEntry(
 						playerId,
-						getNickname(playerId),
+						nicknames.get(playerId),
 						scores.getOrDefault(playerId, 0),
 						false
 				));
@@ -337,7 +391,7 @@ public class WordChainService {
 			for (String playerId : eliminated) {
 				ranking.add(new RankEntry(
 						playerId,
-						getNickname(playerId),
+						nicknames.get(playerId),
 						scores.getOrDefault(playerId, 0),
 						true
 				));
@@ -347,13 +401,20 @@ public class WordChainService {
 		return ranking;
 	}
 
+	/**
+	 * 현재 턴 시간 만료 기한 등록 (라운드 번호를 토큰으로 사용)
+	 */
+	private void scheduleTurnDeadline(WordChainSession session) {
+		long dueAt = session.getTurnStartTime() + session.getTimeLimit() * 1000L;
+		deadlineRepository.schedule(new Deadline(DeadlineType.WORDCHAIN_TURN, session.getSessionId(),
+				session.getRoomId(), session.getCurrentRound(), dueAt));
+	}
+
 	/**
 	 * 닉네임 조회
 	 */
 	private String getNickname(String userId) {
-		return userRepository.findByCognitoSub(userId)
-				.map(User::getNickname)
-				.orElse(userId);
+		return userService.getNickname(userId);
 	}
 
 	// ========== Result DTOs ==========
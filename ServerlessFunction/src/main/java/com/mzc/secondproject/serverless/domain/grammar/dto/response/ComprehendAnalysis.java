@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.grammar.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +11,7 @@ import java.util.List;
 /**
  * Comprehend 분석 결과 DTO
  */
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,6 +25,7 @@ public class ComprehendAnalysis {
 	private String language;
 	private Double languageScore;
 	
+	@GenerateTypeAdapter
 	@Data
 	@Builder
 	@NoArgsConstructor
@@ -34,6 +37,7 @@ public class ComprehendAnalysis {
 		private Double mixed;
 	}
 	
+	@GenerateTypeAdapter
 	@Data
 	@Builder
 	@NoArgsConstructor
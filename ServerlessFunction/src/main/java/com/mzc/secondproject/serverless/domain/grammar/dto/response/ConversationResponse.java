@@ -1,10 +1,12 @@
 package com.mzc.secondproject.serverless.domain.grammar.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
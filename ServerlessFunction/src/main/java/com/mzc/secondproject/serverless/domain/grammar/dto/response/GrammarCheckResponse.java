@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.grammar.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
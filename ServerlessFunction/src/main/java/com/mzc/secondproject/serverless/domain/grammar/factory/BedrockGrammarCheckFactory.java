@@ -5,6 +5,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.domain.grammar.config.GrammarConfig;
 import com.mzc.secondproject.serverless.domain.grammar.dto.response.ConversationResponse;
 import com.mzc.secondproject.serverless.domain.grammar.dto.response.GrammarCheckResponse;
@@ -29,7 +30,7 @@ import java.util.concurrent.ExecutionException;
 public class BedrockGrammarCheckFactory implements GrammarCheckFactory {
 	
 	private static final Logger logger = LoggerFactory.getLogger(BedrockGrammarCheckFactory.class);
-	private static final Gson gson = new Gson();
+	private static final Gson gson = JsonUtil.gson();
 	
 	private static final String MODEL_ID = "anthropic.claude-3-haiku-20240307-v1:0";
 	
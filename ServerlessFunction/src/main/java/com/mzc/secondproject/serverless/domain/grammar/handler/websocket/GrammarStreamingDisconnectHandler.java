@@ -2,6 +2,9 @@ package com.mzc.secondproject.serverless.domain.grammar.handler.websocket;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.WebSocketEventUtil;
 import com.mzc.secondproject.serverless.domain.grammar.repository.GrammarConnectionRepository;
 import org.slf4j.Logger;
@@ -16,6 +19,11 @@ import java.util.Map;
 public class GrammarStreamingDisconnectHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(GrammarStreamingDisconnectHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB);
+	}
 	
 	private final GrammarConnectionRepository connectionRepository;
 	
@@ -25,6 +33,10 @@ public class GrammarStreamingDisconnectHandler implements RequestHandler<Map<Str
 	
 	@Override
 	public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private Map<String, Object> handle(Map<String, Object> event, Context context) {
 		logger.info("Grammar WebSocket disconnect event");
 		
 		try {
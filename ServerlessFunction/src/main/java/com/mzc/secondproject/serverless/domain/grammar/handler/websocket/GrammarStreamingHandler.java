@@ -3,7 +3,10 @@ package com.mzc.secondproject.serverless.domain.grammar.handler.websocket;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.common.util.WebSocketEventUtil;
 import com.mzc.secondproject.serverless.domain.grammar.dto.response.ConversationResponse;
 import com.mzc.secondproject.serverless.domain.grammar.model.GrammarConnection;
@@ -34,7 +37,12 @@ import java.util.Optional;
 public class GrammarStreamingHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(GrammarStreamingHandler.class);
-	private static final Gson gson = new GsonBuilder().create();
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.BEDROCK, AwsClients.Client.BEDROCK_ASYNC, AwsClients.Client.DYNAMO_DB);
+	}
+	private static final Gson gson = JsonUtil.gson();
 	
 	private final GrammarConversationService conversationService;
 	private final GrammarConnectionRepository connectionRepository;
@@ -46,6 +54,10 @@ public class GrammarStreamingHandler implements RequestHandler<Map<String, Objec
 	
 	@Override
 	public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private Map<String, Object> handle(Map<String, Object> event, Context context) {
 		logger.info("Grammar streaming event received");
 		
 		try {
@@ -155,6 +167,7 @@ public class GrammarStreamingHandler implements RequestHandler<Map<String, Objec
 	private ApiGatewayManagementApiClient createApiClient(String endpoint) {
 		return ApiGatewayManagementApiClient.builder()
 				.endpointOverride(URI.create(endpoint))
+				.httpClient(AwsClients.httpClient())
 				.build();
 	}
 	
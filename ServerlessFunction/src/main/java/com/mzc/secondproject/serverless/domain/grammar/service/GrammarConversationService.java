@@ -1,6 +1,7 @@
 package com.mzc.secondproject.serverless.domain.grammar.service;
 
 import com.google.gson.Gson;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.domain.grammar.config.GrammarConfig;
 import com.mzc.secondproject.serverless.domain.grammar.constants.GrammarKey;
 import com.mzc.secondproject.serverless.domain.grammar.dto.request.ConversationRequest;
@@ -33,13 +34,13 @@ public class GrammarConversationService {
 	public GrammarConversationService() {
 		this.grammarFactory = new BedrockGrammarCheckFactory();
 		this.repository = new GrammarSessionRepository();
-		this.gson = new Gson();
+		this.gson = JsonUtil.gson();
 	}
 	
 	public GrammarConversationService(BedrockGrammarCheckFactory grammarFactory, GrammarSessionRepository repository) {
 		this.grammarFactory = grammarFactory;
 		this.repository = repository;
-		this.gson = new Gson();
+		this.gson = JsonUtil.gson();
 	}
 	
 	public ConversationResponse chat(ConversationRequest request) {
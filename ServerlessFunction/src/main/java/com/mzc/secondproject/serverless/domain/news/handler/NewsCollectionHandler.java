@@ -3,6 +3,9 @@ package com.mzc.secondproject.serverless.domain.news.handler;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.news.service.NewsCollectorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +19,11 @@ import java.util.Map;
 public class NewsCollectionHandler implements RequestHandler<ScheduledEvent, Map<String, Object>> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(NewsCollectionHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.BEDROCK, AwsClients.Client.COMPREHEND, AwsClients.Client.DYNAMO_DB);
+	}
 	
 	private final NewsCollectorService collectorService;
 	
@@ -29,6 +37,10 @@ public class NewsCollectionHandler implements RequestHandler<ScheduledEvent, Map
 	
 	@Override
 	public Map<String, Object> handleRequest(ScheduledEvent event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private Map<String, Object> handle(ScheduledEvent event, Context context) {
 		logger.info("뉴스 수집 Lambda 시작 - requestId: {}", context.getAwsRequestId());
 		
 		try {
@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.news.model;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +11,7 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
  * 뉴스 기사 내 키워드 정보
  * 단어, 뜻, 난이도, 위치 정보를 포함
  */
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
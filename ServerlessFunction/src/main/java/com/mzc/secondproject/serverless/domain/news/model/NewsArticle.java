@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.news.model;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,7 @@ import java.util.List;
  * GSI1: LEVEL#{level} / {publishedAt} - 레벨별 최신순 조회
  * GSI2: CATEGORY#{category} / {publishedAt} - 카테고리별 최신순 조회
  */
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
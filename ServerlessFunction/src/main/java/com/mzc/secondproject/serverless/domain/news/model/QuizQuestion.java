@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.domain.news.model;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +12,7 @@ import java.util.List;
 /**
  * 뉴스 퀴즈 문제
  */
+@GenerateTypeAdapter
 @Data
 @Builder
 @NoArgsConstructor
@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.domain.news.model.KeywordInfo;
 import com.mzc.secondproject.serverless.domain.news.model.NewsArticle;
 import com.mzc.secondproject.serverless.domain.news.model.QuizQuestion;
@@ -31,7 +32,7 @@ import java.util.List;
 public class NewsAnalysisService {
 	
 	private static final Logger logger = LoggerFactory.getLogger(NewsAnalysisService.class);
-	private static final Gson gson = new Gson();
+	private static final Gson gson = JsonUtil.gson();
 	private static final String MODEL_ID = "anthropic.claude-3-haiku-20240307-v1:0";
 	
 	private final NewsArticleRepository articleRepository;
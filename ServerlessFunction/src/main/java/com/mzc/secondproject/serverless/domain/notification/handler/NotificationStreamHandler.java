@@ -3,6 +3,8 @@ package com.mzc.secondproject.serverless.domain.notification.handler;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.domain.notification.config.NotificationConfig;
 import org.slf4j.Logger;
@@ -29,6 +31,11 @@ public class NotificationStreamHandler implements RequestStreamHandler {
 
 	private static final Logger logger = LoggerFactory.getLogger(NotificationStreamHandler.class);
 
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.SQS);
+	}
+
 	private final SqsClient sqsClient;
 
 	public NotificationStreamHandler() {
@@ -41,6 +48,14 @@ public class NotificationStreamHandler implements RequestStreamHandler {
 
 	@Override
 	public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+		try {
+			handle(input, output, context);
+		} finally {
+			Metrics.flush();
+		}
+	}
+
+	private void handle(InputStream input, OutputStream output, Context context) throws IOException {
 		Map<String, Object> event = parseEvent(input);
 		String userId = extractUserId(event);
 
@@ -3,6 +3,9 @@ package com.mzc.secondproject.serverless.domain.notification.handler;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.notification.enums.NotificationType;
 import com.mzc.secondproject.serverless.domain.notification.service.NotificationPublisher;
 import com.mzc.secondproject.serverless.domain.stats.model.UserStats;
@@ -27,6 +30,11 @@ public class StreakReminderHandler implements RequestHandler<ScheduledEvent, Str
 
 	private static final Logger logger = LoggerFactory.getLogger(StreakReminderHandler.class);
 
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.SNS);
+	}
+
 	private final DailyStudyRepository dailyStudyRepository;
 	private final UserStatsRepository userStatsRepository;
 	private final NotificationPublisher notificationPublisher;
@@ -47,6 +55,10 @@ public class StreakReminderHandler implements RequestHandler<ScheduledEvent, Str
 
 	@Override
 	public Response handleRequest(ScheduledEvent event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+
+	private Response handle(ScheduledEvent event, Context context) {
 		logger.info("Streak reminder started: requestId={}", context.getAwsRequestId());
 
 		try {
@@ -1,5 +1,8 @@
 package com.mzc.secondproject.serverless.domain.opic.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
+
+@GenerateTypeAdapter
 public record AnswerFeedbackResponse(
 		String answerId,
 		String transcript,
@@ -1,8 +1,11 @@
 package com.mzc.secondproject.serverless.domain.opic.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
+
 import java.util.List;
 
 
+@GenerateTypeAdapter
 public record FeedbackResponse(
 		List<SpeakingError> errors,     // 오류/개선점 목록
 		String correctedAnswer,          // 교정된 답변
@@ -1,10 +1,13 @@
 package com.mzc.secondproject.serverless.domain.opic.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
+
 import java.util.List;
 
 /**
  * 세션 종합 리포트 응답 DTO
  */
+@GenerateTypeAdapter
 public record SessionReportResponse(
 		String estimatedLevel,          // 예상 레벨 (IM1, IM2 등)
 		int overallScore,               // 종합 점수 (0-100)
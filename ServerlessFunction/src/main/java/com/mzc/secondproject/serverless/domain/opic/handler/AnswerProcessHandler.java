@@ -5,6 +5,9 @@ import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.SNSEvent;
 import com.google.gson.Gson;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.domain.opic.dto.response.FeedbackResponse;
 import com.mzc.secondproject.serverless.domain.opic.model.OPIcAnswer;
 import com.mzc.secondproject.serverless.domain.opic.model.OPIcQuestion;
@@ -27,15 +30,24 @@ import java.util.Map;
 public class AnswerProcessHandler implements RequestHandler<SNSEvent, Void> {
 
     private static final Logger logger = LoggerFactory.getLogger(AnswerProcessHandler.class);
+
+    static {
+        // SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+        SnapStartPriming.register(AwsClients.Client.BEDROCK, AwsClients.Client.DYNAMO_DB, AwsClients.Client.S3);
+    }
     private static final String OPIC_BUCKET = System.getenv("OPIC_BUCKET_NAME");
 
-    private final Gson gson = new Gson();
+    private final Gson gson = JsonUtil.gson();
     private final OPIcRepository repository = new OPIcRepository();
     private final TranscribeProxyService transcribeService = new TranscribeProxyService();
     private final FeedbackService feedbackService = new FeedbackService();
 
     @Override
     public Void handleRequest(SNSEvent event, Context context) {
+        return Metrics.flushAfter(() -> handle(event, context));
+    }
+
+    private Void handle(SNSEvent event, Context context) {
         for (SNSEvent.SNSRecord record : event.getRecords()) {
             processMessage(record.getSNS().getMessage());
         }
@@ -4,14 +4,20 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.SNSEvent;
 import com.google.gson.Gson;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.domain.opic.service.EmailService;
 
 public class EmailAsyncHandler implements RequestHandler<SNSEvent, Void> {
     private final EmailService emailService = new EmailService();
-    private final Gson gson = new Gson();
+    private final Gson gson = JsonUtil.gson();
 
     @Override
     public Void handleRequest(SNSEvent event, Context context) {
+        return Metrics.flushAfter(() -> handle(event, context));
+    }
+
+    private Void handle(SNSEvent event, Context context) {
         for (SNSEvent.SNSRecord record : event.getRecords()) {
             String messageBody = record.getSNS().getMessage();
             processMessage(messageBody);
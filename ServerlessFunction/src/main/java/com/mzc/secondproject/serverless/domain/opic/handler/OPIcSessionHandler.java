@@ -6,6 +6,8 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.google.gson.*;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.service.PollyService;
 import com.mzc.secondproject.serverless.common.util.CognitoUtil;
 import com.mzc.secondproject.serverless.common.util.JwtUtil;
@@ -46,6 +48,11 @@ import java.util.stream.Collectors;
 public class OPIcSessionHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
 	private static final Logger logger = LoggerFactory.getLogger(OPIcSessionHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.BEDROCK, AwsClients.Client.DYNAMO_DB, AwsClients.Client.POLLY, AwsClients.Client.S3, AwsClients.Client.S3_PRESIGNER, AwsClients.Client.SES, AwsClients.Client.SNS);
+	}
 	private static final Gson gson = new GsonBuilder()
 			.setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
 			.registerTypeAdapter(Instant.class, new InstantTypeAdapter())
@@ -69,6 +76,10 @@ public class OPIcSessionHandler implements RequestHandler<APIGatewayProxyRequest
 
 	@Override
 	public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+
+	private APIGatewayProxyResponseEvent handle(APIGatewayProxyRequestEvent event, Context context) {
 		String httpMethod = event.getHttpMethod();
 		String path = event.getPath();
 
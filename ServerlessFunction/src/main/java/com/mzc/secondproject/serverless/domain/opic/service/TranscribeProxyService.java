@@ -3,6 +3,7 @@ package com.mzc.secondproject.serverless.domain.opic.service;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.domain.opic.exception.OPIcException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +23,7 @@ import java.time.Duration;
 public class TranscribeProxyService {
 	
 	private static final Logger logger = LoggerFactory.getLogger(TranscribeProxyService.class);
-	private static final Gson gson = new Gson();
+	private static final Gson gson = JsonUtil.gson();
 	
 	private static final SsmClient ssmClient = SsmClient.builder().build();
 	
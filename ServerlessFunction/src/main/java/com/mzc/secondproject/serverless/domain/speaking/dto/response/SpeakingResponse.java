@@ -1,8 +1,11 @@
 package com.mzc.secondproject.serverless.domain.speaking.dto.response;
 
+import com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter;
+
 /**
  * Speaking API 응답 DTO
  */
+@GenerateTypeAdapter
 public record SpeakingResponse(
 		String sessionId,         // 세션 ID (다음 요청에 사용)
 		String userTranscript,    // 사용자가 말한 내용 (STT 결과)
@@ -5,9 +5,11 @@ import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.common.util.JwtUtil;
 import com.mzc.secondproject.serverless.domain.speaking.dto.response.SpeakingResponse;
 import com.mzc.secondproject.serverless.domain.speaking.service.SpeakingService;
@@ -26,7 +28,12 @@ import java.util.Optional;
 public class SpeakingHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 
     private static final Logger logger = LoggerFactory.getLogger(SpeakingHandler.class);
-    private static final Gson gson = new GsonBuilder().create();
+
+    static {
+        // SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+        SnapStartPriming.register(AwsClients.Client.BEDROCK, AwsClients.Client.DYNAMO_DB, AwsClients.Client.POLLY, AwsClients.Client.S3, AwsClients.Client.S3_PRESIGNER);
+    }
+    private static final Gson gson = JsonUtil.gson();
 
     private static final Map<String, String> CORS_HEADERS = Map.of(
             "Content-Type", "application/json",
@@ -4,6 +4,7 @@ import com.google.gson.*;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
 import com.mzc.secondproject.serverless.common.service.PollyService;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
 import com.mzc.secondproject.serverless.domain.opic.service.TranscribeProxyService;
 import com.mzc.secondproject.serverless.domain.speaking.dto.response.SpeakingResponse;
 import com.mzc.secondproject.serverless.domain.speaking.model.SpeakingSession;
@@ -25,7 +26,7 @@ import java.util.UUID;
 public class SpeakingService {
 	
 	private static final Logger logger = LoggerFactory.getLogger(SpeakingService.class);
-	private static final Gson gson = new GsonBuilder().create();
+	private static final Gson gson = JsonUtil.gson();
 	
 	private static final String MODEL_ID = "anthropic.claude-3-haiku-20240307-v1:0";
 	private static final int MAX_TOKENS = 500;
@@ -14,6 +14,9 @@ public final class StatsKey {
 	public static final String STATS_WEEKLY = "WEEKLY#";
 	public static final String STATS_MONTHLY = "MONTHLY#";
 	public static final String STATS_TOTAL = "TOTAL";
+	// Game Stats Marker
+	public static final String STATS_GAME = "STATS#GAME#";
+	public static final String MARKER_CHUNK = "CHUNK#";
 	
 	private StatsKey() {
 	}
@@ -38,4 +41,12 @@ public final class StatsKey {
 	public static String statsTotalSk() {
 		return STATS_TOTAL;
 	}
+	
+	public static String gameStatsMarkerPk(String gameId) {
+		return STATS_GAME + gameId;
+	}
+	
+	public static String gameStatsMarkerSk(int chunkIndex) {
+		return MARKER_CHUNK + chunkIndex;
+	}
 }
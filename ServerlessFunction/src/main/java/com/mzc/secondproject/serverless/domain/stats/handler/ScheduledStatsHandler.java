@@ -5,6 +5,8 @@ import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.stats.repository.UserStatsRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +27,11 @@ import java.util.Map;
 public class ScheduledStatsHandler implements RequestHandler<ScheduledEvent, String> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(ScheduledStatsHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB);
+	}
 	private static final String TABLE_NAME = EnvConfig.getRequired("VOCAB_TABLE_NAME");
 	private static final int BATCH_SIZE = 25;
 	
@@ -46,6 +53,10 @@ public class ScheduledStatsHandler implements RequestHandler<ScheduledEvent, Str
 	
 	@Override
 	public String handleRequest(ScheduledEvent event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private String handle(ScheduledEvent event, Context context) {
 		logger.info("Scheduled streak check started: {}", event.getTime());
 		
 		try {
@@ -4,6 +4,9 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.DynamodbEvent;
 import com.amazonaws.services.lambda.runtime.events.models.dynamodb.AttributeValue;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.badge.model.UserBadge;
 import com.mzc.secondproject.serverless.domain.badge.service.BadgeService;
 import com.mzc.secondproject.serverless.domain.stats.model.UserStats;
@@ -23,6 +26,11 @@ import java.util.Optional;
 public class StatsStreamHandler implements RequestHandler<DynamodbEvent, Void> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(StatsStreamHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.S3_PRESIGNER, AwsClients.Client.SNS);
+	}
 	
 	private final UserStatsRepository userStatsRepository;
 	private final BadgeService badgeService;
@@ -44,6 +52,10 @@ public class StatsStreamHandler implements RequestHandler<DynamodbEvent, Void> {
 	
 	@Override
 	public Void handleRequest(DynamodbEvent event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private Void handle(DynamodbEvent event, Context context) {
 		logger.info("Received {} DynamoDB Stream records", event.getRecords().size());
 		
 		for (DynamodbEvent.DynamodbStreamRecord record : event.getRecords()) {
@@ -3,6 +3,7 @@ package com.mzc.secondproject.serverless.domain.stats.repository;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
 import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.CursorUtil;
 import com.mzc.secondproject.serverless.domain.stats.constants.StatsKey;
 import com.mzc.secondproject.serverless.domain.stats.model.UserStats;
@@ -16,8 +17,15 @@ import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.WeekFields;
@@ -31,6 +39,10 @@ public class UserStatsRepository {
 	
 	private static final Logger logger = LoggerFactory.getLogger(UserStatsRepository.class);
 	private static final String TABLE_NAME = EnvConfig.getRequired("VOCAB_TABLE_NAME");
+	// TransactWriteItems 최대 항목 수
+	private static final int TRANSACT_WRITE_LIMIT = 100;
+	// 게임 통계 반영 마커 보관 기간 (스트림 재시도 기간보다 충분히 길게)
+	private static final Duration GAME_MARKER_TTL = Duration.ofDays(7);
 	
 	private final DynamoDbTable<UserStats> table;
 	
@@ -270,23 +282,108 @@ public class UserStatsRepository {
 	 */
 	public void incrementGameStats(String userId, int gamesPlayed, int gamesWon,
 	                               int correctGuesses, int totalScore, int quickGuesses, int perfectDraws) {
-		String pk = StatsKey.userStatsPk(userId);
-		String sk = StatsKey.statsTotalSk();
-		String now = Instant.now().toString();
+		GameStatsIncrement increment = new GameStatsIncrement(userId, gamesPlayed, gamesWon,
+				correctGuesses, totalScore, quickGuesses, perfectDraws);
+		Update update = gameStatsUpdate(increment, Instant.now().toString());
+		
+		UpdateItemRequest request = UpdateItemRequest.builder()
+				.tableName(TABLE_NAME)
+				.key(update.key())
+				.updateExpression(update.updateExpression())
+				.expressionAttributeValues(update.expressionAttributeValues())
+				.build();
 		
+		AwsClients.dynamoDb().updateItem(request);
+		logger.info("Incremented game stats: userId={}, gamesPlayed={}, gamesWon={}, correctGuesses={}",
+				userId, gamesPlayed, gamesWon, correctGuesses);
+	}
+	
+	/**
+	 * 게임 참가자 전원의 게임 통계를 TransactWriteItems로 한 번에 증가 (마커 1개 + 사용자 99명 단위)
+	 * 스트림 재시도로 같은 게임이 다시 처리되어도 중복 반영되지 않도록
+	 * 같은 트랜잭션에 게임/청크별 마커 아이템(STATS#GAME#{gameId})을 attribute_not_exists 조건으로 넣어
+	 * 마커가 이미 있으면 트랜잭션 전체가 취소되고 이미 반영된 것으로 간주
+	 *
+	 * @param gameId    게임 세션 ID (멱등 키)
+	 * @param endedAtMs 게임 종료 시각 (updatedAt으로 기록)
+	 */
+	public void incrementGameStats(List<GameStatsIncrement> increments, String gameId, long endedAtMs) {
+		if (increments == null || increments.isEmpty()) {
+			return;
+		}
+		
+		// 재시도 때도 같은 사용자가 같은 청크에 들어가도록 정렬
+		List<GameStatsIncrement> sorted = increments.stream()
+				.sorted(Comparator.comparing(GameStatsIncrement::userId))
+				.toList();
+		String endedAt = Instant.ofEpochMilli(endedAtMs).toString();
+		int chunkSize = TRANSACT_WRITE_LIMIT - 1;
+		for (int from = 0; from < sorted.size(); from += chunkSize) {
+			List<GameStatsIncrement> chunk = sorted.subList(from, Math.min(from + chunkSize, sorted.size()));
+			applyGameStats(chunk, gameId, from / chunkSize, endedAtMs, endedAt);
+		}
+		logger.info("Incremented game stats: gameId={}, users={}", gameId, increments.size());
+	}
+	
+	/**
+	 * 마커 조건 실패로 취소되면 이미 반영된 청크이므로 건너뜀
+	 * 다른 이유로 취소되면 예외를 그대로 던져 스트림 재시도에 맡김
+	 */
+	private void applyGameStats(List<GameStatsIncrement> chunk, String gameId, int chunkIndex, long endedAtMs, String endedAt) {
+		List<TransactWriteItem> items = new ArrayList<>(chunk.size() + 1);
+		items.add(TransactWriteItem.builder().put(gameStatsMarker(gameId, chunkIndex, endedAtMs)).build());
+		chunk.forEach(increment -> items.add(TransactWriteItem.builder().update(gameStatsUpdate(increment, endedAt)).build()));
+		
+		String token = UUID.nameUUIDFromBytes((gameId + "#" + chunkIndex).getBytes(StandardCharsets.UTF_8)).toString();
+		TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
+				.transactItems(items)
+				.clientRequestToken(token)
+				.build();
+		
+		try {
+			Metrics.time(Metrics.REPOSITORY_LATENCY, "UserStatsRepository.incrementGameStats",
+					() -> AwsClients.dynamoDb().transactWriteItems(request));
+		} catch (TransactionCanceledException e) {
+			if (!e.hasCancellationReasons() || e.cancellationReasons().isEmpty()
+					|| !"ConditionalCheckFailed".equals(e.cancellationReasons().get(0).code())) {
+				throw e;
+			}
+			logger.info("Game stats already applied: gameId={}, chunk={}", gameId, chunkIndex);
+		}
+	}
+	
+	/**
+	 * 게임/청크별 반영 마커 (이미 있으면 조건 실패, 재시도 기간이 지나면 TTL로 삭제)
+	 */
+	private Put gameStatsMarker(String gameId, int chunkIndex, long endedAtMs) {
+		long ttl = Instant.ofEpochMilli(endedAtMs).plus(GAME_MARKER_TTL).getEpochSecond();
+		
+		Map<String, AttributeValue> item = new HashMap<>();
+		item.put("PK", AttributeValue.builder().s(StatsKey.gameStatsMarkerPk(gameId)).build());
+		item.put("SK", AttributeValue.builder().s(StatsKey.gameStatsMarkerSk(chunkIndex)).build());
+		item.put("ttl", AttributeValue.builder().n(String.valueOf(ttl)).build());
+		
+		return Put.builder()
+				.tableName(TABLE_NAME)
+				.item(item)
+				.conditionExpression("attribute_not_exists(PK)")
+				.build();
+	}
+	
+	private Update gameStatsUpdate(GameStatsIncrement increment, String updatedAt) {
 		Map<String, AttributeValue> key = new HashMap<>();
-		key.put("PK", AttributeValue.builder().s(pk).build());
-		key.put("SK", AttributeValue.builder().s(sk).build());
+		key.put("PK", AttributeValue.builder().s(StatsKey.userStatsPk(increment.userId())).build());
+		key.put("SK", AttributeValue.builder().s(StatsKey.statsTotalSk()).build());
 		
 		Map<String, AttributeValue> values = new HashMap<>();
-		values.put(":gamesPlayed", AttributeValue.builder().n(String.valueOf(gamesPlayed)).build());
-		values.put(":gamesWon", AttributeValue.builder().n(String.valueOf(gamesWon)).build());
-		values.put(":correctGuesses", AttributeValue.builder().n(String.valueOf(correctGuesses)).build());
-		values.put(":totalScore", AttributeValue.builder().n(String.valueOf(totalScore)).build());
-		values.put(":quickGuesses", AttributeValue.builder().n(String.valueOf(quickGuesses)).build());
-		values.put(":perfectDraws", AttributeValue.builder().n(String.valueOf(perfectDraws)).build());
+		values.put(":gamesPlayed", AttributeValue.builder().n(String.valueOf(increment.gamesPlayed())).build());
+		values.put(":gamesWon", AttributeValue.builder().n(String.valueOf(increment.gamesWon())).build());
+		values.put(":correctGuesses", AttributeValue.builder().n(String.valueOf(increment.correctGuesses())).build());
+		values.put(":totalScore", AttributeValue.builder().n(String.valueOf(increment.totalScore())).build());
+		values.put(":quickGuesses", AttributeValue.builder().n(String.valueOf(increment.quickGuesses())).build());
+		values.put(":perfectDraws", AttributeValue.builder().n(String.valueOf(increment.perfectDraws())).build());
 		values.put(":zero", AttributeValue.builder().n("0").build());
-		values.put(":now", AttributeValue.builder().s(now).build());
+		values.put(":updatedAt", AttributeValue.builder().s(updatedAt).build());
 		
 		String updateExpression = "SET " +
 				"gamesPlayed = if_not_exists(gamesPlayed, :zero) + :gamesPlayed, " +
@@ -295,19 +392,15 @@ public class UserStatsRepository {
 				"totalGameScore = if_not_exists(totalGameScore, :zero) + :totalScore, " +
 				"quickGuesses = if_not_exists(quickGuesses, :zero) + :quickGuesses, " +
 				"perfectDraws = if_not_exists(perfectDraws, :zero) + :perfectDraws, " +
-				"updatedAt = :now, " +
-				"createdAt = if_not_exists(createdAt, :now)";
+				"updatedAt = :updatedAt, " +
+				"createdAt = if_not_exists(createdAt, :updatedAt)";
 		
-		UpdateItemRequest request = UpdateItemRequest.builder()
+		return Update.builder()
 				.tableName(TABLE_NAME)
 				.key(key)
 				.updateExpression(updateExpression)
 				.expressionAttributeValues(values)
 				.build();
-		
-		AwsClients.dynamoDb().updateItem(request);
-		logger.info("Incremented game stats: userId={}, gamesPlayed={}, gamesWon={}, correctGuesses={}",
-				userId, gamesPlayed, gamesWon, correctGuesses);
 	}
 	
 	/**
@@ -569,4 +662,18 @@ public class UserStatsRepository {
 		LocalDate now = LocalDate.now();
 		return String.format("%d-%02d", now.getYear(), now.getMonthValue());
 	}
+	
+	/**
+	 * 사용자 1명의 게임 통계 증가분
+	 */
+	public record GameStatsIncrement(
+			String userId,
+			int gamesPlayed,
+			int gamesWon,
+			int correctGuesses,
+			int totalScore,
+			int quickGuesses,
+			int perfectDraws
+	) {
+	}
 }
@@ -0,0 +1,34 @@
+package com.mzc.secondproject.serverless.domain.user.config;
+
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+
+/**
+ * 사용자 프로필(닉네임) 캐시 설정값
+ * 환경 변수로 오버라이드 가능
+ */
+public final class UserProfileCacheConfig {
+	
+	private static final long DEFAULT_TTL_MS = 60_000L;
+	private static final int DEFAULT_MAX_ENTRIES = 2000;
+	
+	private static final long TTL_MS = EnvConfig.getLongOrDefault("USER_PROFILE_CACHE_TTL_MS", DEFAULT_TTL_MS);
+	private static final int MAX_ENTRIES = EnvConfig.getIntOrDefault("USER_PROFILE_CACHE_MAX_ENTRIES", DEFAULT_MAX_ENTRIES);
+	
+	private UserProfileCacheConfig() {
+	}
+	
+	/**
+	 * 캐시된 프로필을 다시 조회하지 않고 사용하는 시간 (ms, 0이면 캐시 사용 안 함)
+	 * 다른 컨테이너에서 변경된 닉네임은 최대 이 시간만큼 늦게 반영됨
+	 */
+	public static long ttlMs() {
+		return TTL_MS;
+	}
+	
+	/**
+	 * 컨테이너당 캐시할 최대 사용자 수 (LRU)
+	 */
+	public static int maxEntries() {
+		return MAX_ENTRIES;
+	}
+}
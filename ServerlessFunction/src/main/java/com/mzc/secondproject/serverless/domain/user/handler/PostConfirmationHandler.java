@@ -3,6 +3,9 @@ package com.mzc.secondproject.serverless.domain.user.handler;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.CognitoUserPoolPostConfirmationEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.domain.user.model.User;
 import com.mzc.secondproject.serverless.domain.user.repository.UserRepository;
 import org.slf4j.Logger;
@@ -19,6 +22,11 @@ import java.util.UUID;
 public class PostConfirmationHandler implements RequestHandler<CognitoUserPoolPostConfirmationEvent, CognitoUserPoolPostConfirmationEvent> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(PostConfirmationHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB);
+	}
 	private static final String BUCKET_NAME = System.getenv("BUCKET_NAME");
 	private static final String DEFAULT_PROFILE_URL = getDefaultProfileUrl();
 	private final UserRepository userRepository;
@@ -37,6 +45,13 @@ public class PostConfirmationHandler implements RequestHandler<CognitoUserPoolPo
 			CognitoUserPoolPostConfirmationEvent event,
 			Context context
 	) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private CognitoUserPoolPostConfirmationEvent handle(
+			CognitoUserPoolPostConfirmationEvent event,
+			Context context
+	) {
 		
 		try {
 			// 확인 완료 이벤트만 처리 (비밀번호 재설정 등은 무시)
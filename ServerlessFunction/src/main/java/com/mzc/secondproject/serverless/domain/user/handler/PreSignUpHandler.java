@@ -2,6 +2,7 @@ package com.mzc.secondproject.serverless.domain.user.handler;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +26,10 @@ public class PreSignUpHandler implements RequestHandler<Map<String, Object>, Map
 	
 	@Override
 	public Map<String, Object> handleRequest(Map<String, Object> input, Context context) {
+		return Metrics.flushAfter(() -> handle(input, context));
+	}
+	
+	private Map<String, Object> handle(Map<String, Object> input, Context context) {
 		
 		try {
 			@SuppressWarnings("unchecked")
@@ -4,12 +4,20 @@ import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.domain.user.model.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class UserRepository {
@@ -17,10 +25,24 @@ public class UserRepository {
 	private static final Logger logger = LoggerFactory.getLogger(UserRepository.class);
 	private static final String TABLE_NAME = System.getenv("USER_TABLE_NAME");
 	
+	private static final int BATCH_GET_LIMIT = 100;
+	
+	private final DynamoDbEnhancedClient enhancedClient;
 	private final DynamoDbTable<User> table;
 	
+	/**
+	 * 기본 생성자 (Lambda에서 사용)
+	 */
 	public UserRepository() {
-		this.table = AwsClients.dynamoDbEnhanced().table(TABLE_NAME, TableSchema.fromBean(User.class));
+		this(AwsClients.dynamoDbEnhanced());
+	}
+	
+	/**
+	 * 의존성 주입 생성자 (테스트 용이성)
+	 */
+	public UserRepository(DynamoDbEnhancedClient enhancedClient) {
+		this.enhancedClient = enhancedClient;
+		this.table = enhancedClient.table(TABLE_NAME, TableSchema.fromBean(User.class));
 	}
 	
 	public User save(User user) {
@@ -47,6 +69,38 @@ public class UserRepository {
 		return Optional.ofNullable(user);
 	}
 	
+	/**
+	 * 여러 사용자를 한 번에 조회 (BatchGetItem, 100개 단위 분할)
+	 *
+	 * @param cognitoSubs Cognito sub 목록
+	 * @return cognitoSub → 사용자 (존재하는 사용자만 포함)
+	 */
+	public Map<String, User> findByCognitoSubs(Collection<String> cognitoSubs) {
+		Map<String, User> users = new HashMap<>();
+		if (cognitoSubs == null || cognitoSubs.isEmpty()) {
+			return users;
+		}
+		
+		List<String> ids = new ArrayList<>(new LinkedHashSet<>(cognitoSubs));
+		for (int i = 0; i < ids.size(); i += BATCH_GET_LIMIT) {
+			ReadBatch.Builder<User> readBatch = ReadBatch.builder(User.class).mappedTableResource(table);
+			for (String cognitoSub : ids.subList(i, Math.min(i + BATCH_GET_LIMIT, ids.size()))) {
+				readBatch.addGetItem(Key.builder()
+						.partitionValue("USER#" + cognitoSub)
+						.sortValue("METADATA")
+						.build());
+			}
+			
+			// 미처리 키(UnprocessedKeys)는 결과 페이지를 순회하며 SDK가 재요청
+			enhancedClient.batchGetItem(r -> r.readBatches(readBatch.build()))
+					.resultsForTable(table)
+					.forEach(user -> users.put(user.getCognitoSub(), user));
+		}
+		
+		logger.debug("BatchGetItem users: requested={}, retrieved={}", ids.size(), users.size());
+		return users;
+	}
+	
 	/**
 	 * 이메일로 사용자 조회
 	 * GSI1 사용: GSI1PK = EMAIL#{email}
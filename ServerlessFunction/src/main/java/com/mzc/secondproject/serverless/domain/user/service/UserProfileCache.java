@@ -0,0 +1,106 @@
+package com.mzc.secondproject.serverless.domain.user.service;
+
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.domain.user.model.User;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자 프로필 컨테이너 캐시 (LRU + TTL)
+ * <p>
+ * 채팅/게임 메시지마다 반복되는 닉네임 조회를 메모리에서 처리합니다.
+ * 캐시에 없거나 ttl이 지난 사용자만 모아 loader(BatchGetItem)로 한 번에 조회합니다.
+ * 존재하지 않는 사용자는 캐시하지 않습니다 (가입 직후 프로필 생성 반영).
+ * 같은 컨테이너에서 발생한 프로필 변경은 {@link #invalidate}로 즉시 반영합니다.
+ */
+final class UserProfileCache {
+	
+	private static final String METRIC_OPERATION = "UserProfileCache";
+	
+	private final long ttlMs;
+	private final LongSupplier clock;
+	private final Map<String, Entry> entries;
+	
+	UserProfileCache(long ttlMs, int maxEntries, LongSupplier clock) {
+		this.ttlMs = ttlMs;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+	
+	/**
+	 * 여러 사용자 프로필 조회 (존재하는 사용자만 반환)
+	 *
+	 * @param loader 캐시 미스 사용자 일괄 조회 (미스가 있을 때만 한 번 호출)
+	 */
+	Map<String, User> getAll(Collection<String> userIds, Function<Set<String>, Map<String, User>> loader) {
+		long now = clock.getAsLong();
+		Map<String, User> result = new HashMap<>();
+		Set<String> misses = new LinkedHashSet<>();
+		
+		synchronized (entries) {
+			for (String userId : userIds) {
+				if (userId == null || result.containsKey(userId)) {
+					continue;
+				}
+				Entry entry = entries.get(userId);
+				if (entry != null && now - entry.loadedAt < ttlMs) {
+					result.put(userId, entry.user);
+				} else {
+					misses.add(userId);
+				}
+			}
+		}
+		
+		if (!result.isEmpty()) {
+			Metrics.count(Metrics.CACHE_HIT, METRIC_OPERATION, result.size());
+		}
+		if (misses.isEmpty()) {
+			return result;
+		}
+		
+		Metrics.count(Metrics.CACHE_MISS, METRIC_OPERATION, misses.size());
+		Map<String, User> loaded = loader.apply(misses);
+		synchronized (entries) {
+			for (String userId : misses) {
+				User user = loaded.get(userId);
+				if (user != null) {
+					entries.put(userId, new Entry(user, now));
+					result.put(userId, user);
+				} else {
+					entries.remove(userId);
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * 로컬 쓰기 후 즉시 무효화
+	 */
+	void invalidate(String userId) {
+		synchronized (entries) {
+			entries.remove(userId);
+		}
+	}
+	
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+	
+	private record Entry(User user, long loadedAt) {
+	}
+}
@@ -2,6 +2,7 @@ package com.mzc.secondproject.serverless.domain.user.service;
 
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.domain.user.config.UserProfileCacheConfig;
 import com.mzc.secondproject.serverless.domain.user.exception.UserException;
 import com.mzc.secondproject.serverless.domain.user.model.User;
 import com.mzc.secondproject.serverless.domain.user.repository.UserRepository;
@@ -16,6 +17,8 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +32,9 @@ public class UserService {
 	private static final List<String> VALID_IMAGE_TYPES = Arrays.asList("image/jpeg", "image/png", "image/gif", "image/webp");
 	private static final int NICKNAME_MIN_LENGTH = 2;
 	private static final int NICKNAME_MAX_LENGTH = 20;
+	// 컨테이너 단위 프로필 캐시 (채팅/게임 닉네임 조회용)
+	private static final UserProfileCache PROFILE_CACHE = new UserProfileCache(
+			UserProfileCacheConfig.ttlMs(), UserProfileCacheConfig.maxEntries(), System::currentTimeMillis);
 	private final UserRepository userRepository;
 	private final S3Presigner s3Presigner;
 
@@ -72,9 +78,52 @@ public class UserService {
 		return user;
 	}
 
-	// 단순 프로필 조회 메서드 (채팅용) - DB 조회만 수행
+	/**
+	 * 단순 프로필 조회 (채팅/게임용) - 컨테이너 캐시 사용
+	 * 반환된 User는 캐시와 공유되므로 수정하지 않아야 함
+	 *
+	 * @return 사용자 정보 (없으면 null)
+	 */
 	public User getUserProfile(String userId) {
-		return userRepository.findByCognitoSub(userId).orElse(null);
+		if (userId == null) {
+			return null;
+		}
+		return getUserProfiles(List.of(userId)).get(userId);
+	}
+	
+	/**
+	 * 여러 사용자 프로필 일괄 조회 - 캐시 미스만 BatchGetItem 한 번으로 조회
+	 *
+	 * @return userId → 사용자 (존재하는 사용자만 포함)
+	 */
+	public Map<String, User> getUserProfiles(Collection<String> userIds) {
+		if (userIds == null || userIds.isEmpty()) {
+			return Map.of();
+		}
+		return PROFILE_CACHE.getAll(userIds, userRepository::findByCognitoSubs);
+	}
+	
+	/**
+	 * 닉네임 조회 (사용자가 없거나 닉네임이 없으면 userId)
+	 */
+	public String getNickname(String userId) {
+		return nicknameOf(getUserProfile(userId), userId);
+	}
+	
+	/**
+	 * 여러 사용자 닉네임 일괄 조회 (입력 순서 유지, 없으면 userId)
+	 */
+	public Map<String, String> getNicknames(Collection<String> userIds) {
+		Map<String, User> users = getUserProfiles(userIds);
+		Map<String, String> nicknames = new LinkedHashMap<>();
+		for (String userId : userIds) {
+			nicknames.put(userId, nicknameOf(users.get(userId), userId));
+		}
+		return nicknames;
+	}
+	
+	private static String nicknameOf(User user, String userId) {
+		return user != null && user.getNickname() != null ? user.getNickname() : userId;
 	}
 	
 	public String getPresignedProfileUrl(String s3Url) {
@@ -140,7 +189,9 @@ public class UserService {
 				profileUrl != null ? profileUrl : DEFAULT_PROFILE_URL
 		);
 		
-		return userRepository.save(newUser);
+		User saved = userRepository.save(newUser);
+		PROFILE_CACHE.invalidate(userId);
+		return saved;
 	}
 	
 	
@@ -172,6 +223,7 @@ public class UserService {
 		}
 		
 		User updatedUser = userRepository.update(user);
+		PROFILE_CACHE.invalidate(userId);
 		logger.info("프로필 수정 완료: email={}", updatedUser.getEmail());
 		
 		return updatedUser;
@@ -187,7 +239,9 @@ public class UserService {
 				.orElseThrow(() -> UserException.userNotFound(userId));
 		
 		user.updateProfileUrl(imageUrl);
-		return userRepository.update(user);
+		User updatedUser = userRepository.update(user);
+		PROFILE_CACHE.invalidate(userId);
+		return updatedUser;
 	}
 	
 	/**
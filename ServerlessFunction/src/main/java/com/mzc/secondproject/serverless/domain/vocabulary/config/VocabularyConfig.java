@@ -17,11 +17,17 @@ public final class VocabularyConfig {
 	private static final int DEFAULT_TRANSITION_TO_MASTERED_THRESHOLD = 5;
 	private static final int DEFAULT_SECOND_INTERVAL_DAYS = 6;
 	
+	// 난이도별 랜덤 단어 샘플링 관련
+	private static final long DEFAULT_SAMPLER_REFRESH_MS = 10 * 60 * 1000L;
+	private static final int DEFAULT_SAMPLER_MAX_WORDS_PER_LEVEL = 10_000;
+	
 	private static final int NEW_WORDS_COUNT = EnvConfig.getIntOrDefault("VOCAB_NEW_WORDS_COUNT", DEFAULT_NEW_WORDS_COUNT);
 	private static final int REVIEW_WORDS_COUNT = EnvConfig.getIntOrDefault("VOCAB_REVIEW_WORDS_COUNT", DEFAULT_REVIEW_WORDS_COUNT);
 	private static final int TRANSITION_TO_REVIEWING_THRESHOLD = EnvConfig.getIntOrDefault("VOCAB_TRANSITION_TO_REVIEWING", DEFAULT_TRANSITION_TO_REVIEWING_THRESHOLD);
 	private static final int TRANSITION_TO_MASTERED_THRESHOLD = EnvConfig.getIntOrDefault("VOCAB_TRANSITION_TO_MASTERED", DEFAULT_TRANSITION_TO_MASTERED_THRESHOLD);
 	private static final int SECOND_INTERVAL_DAYS = EnvConfig.getIntOrDefault("VOCAB_SECOND_INTERVAL_DAYS", DEFAULT_SECOND_INTERVAL_DAYS);
+	private static final long SAMPLER_REFRESH_MS = EnvConfig.getLongOrDefault("VOCAB_SAMPLER_REFRESH_MS", DEFAULT_SAMPLER_REFRESH_MS);
+	private static final int SAMPLER_MAX_WORDS_PER_LEVEL = EnvConfig.getIntOrDefault("VOCAB_SAMPLER_MAX_WORDS_PER_LEVEL", DEFAULT_SAMPLER_MAX_WORDS_PER_LEVEL);
 	
 	private VocabularyConfig() {
 	}
@@ -45,4 +51,18 @@ public final class VocabularyConfig {
 	public static int secondIntervalDays() {
 		return SECOND_INTERVAL_DAYS;
 	}
+	
+	/**
+	 * 난이도별 단어 목록을 다시 읽어오는 주기 (ms)
+	 */
+	public static long samplerRefreshMs() {
+		return SAMPLER_REFRESH_MS;
+	}
+	
+	/**
+	 * 샘플링용으로 컨테이너에 보관할 난이도별 최대 단어 수
+	 */
+	public static int samplerMaxWordsPerLevel() {
+		return SAMPLER_MAX_WORDS_PER_LEVEL;
+	}
 }
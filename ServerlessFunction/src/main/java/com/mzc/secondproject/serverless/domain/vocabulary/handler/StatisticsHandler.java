@@ -3,6 +3,9 @@ package com.mzc.secondproject.serverless.domain.vocabulary.handler;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.SQSEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.ResponseGenerator;
 import com.mzc.secondproject.serverless.domain.vocabulary.service.StatisticsService;
 import org.slf4j.Logger;
@@ -18,6 +21,11 @@ import java.util.Map;
 public class StatisticsHandler implements RequestHandler<SQSEvent, Void> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(StatisticsHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB);
+	}
 	
 	private final StatisticsService statisticsService;
 	
@@ -37,6 +45,10 @@ public class StatisticsHandler implements RequestHandler<SQSEvent, Void> {
 	
 	@Override
 	public Void handleRequest(SQSEvent event, Context context) {
+		return Metrics.flushAfter(() -> handle(event, context));
+	}
+	
+	private Void handle(SQSEvent event, Context context) {
 		logger.info("Received {} messages from SQS", event.getRecords().size());
 		
 		for (SQSEvent.SQSMessage message : event.getRecords()) {
@@ -4,8 +4,11 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.common.config.SnapStartPriming;
 import com.mzc.secondproject.serverless.common.exception.CommonErrorCode;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.service.PollyService;
 import com.mzc.secondproject.serverless.common.util.ResponseGenerator;
 import com.mzc.secondproject.serverless.common.validation.BeanValidator;
@@ -23,6 +26,11 @@ import java.util.Optional;
 public class VoiceHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
 	
 	private static final Logger logger = LoggerFactory.getLogger(VoiceHandler.class);
+
+	static {
+		// SnapStart 스냅샷 전에 초기화할 AWS 클라이언트
+		SnapStartPriming.register(AwsClients.Client.DYNAMO_DB, AwsClients.Client.POLLY, AwsClients.Client.S3, AwsClients.Client.S3_PRESIGNER);
+	}
 	private static final String BUCKET_NAME = EnvConfig.getRequired("VOCAB_BUCKET_NAME");
 	
 	private final WordRepository wordRepository;
@@ -45,6 +53,10 @@ public class VoiceHandler implements RequestHandler<APIGatewayProxyRequestEvent,
 	
 	@Override
 	public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent request, Context context) {
+		return Metrics.flushAfter(() -> handle(request, context));
+	}
+	
+	private APIGatewayProxyResponseEvent handle(APIGatewayProxyRequestEvent request, Context context) {
 		String httpMethod = request.getHttpMethod();
 		String path = request.getPath();
 		
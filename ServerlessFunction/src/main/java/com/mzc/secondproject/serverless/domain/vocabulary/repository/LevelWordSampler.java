@@ -0,0 +1,132 @@
+package com.mzc.secondproject.serverless.domain.vocabulary.repository;
+
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
+import com.mzc.secondproject.serverless.domain.vocabulary.model.Word;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 난이도별 균등 랜덤 단어 샘플러 (컨테이너 캐시)
+ * <p>
+ * 난이도별 전체 단어 목록을 컨테이너에 보관하고 refreshMs마다 다시 읽습니다.
+ * 샘플링은 Floyd 알고리즘으로 전체 목록에서 중복 없이 균등하게 뽑으므로
+ * 캐시가 유효한 동안에는 DynamoDB 호출이 없습니다.
+ * 재조회가 실패하면 이전 목록을 계속 사용합니다.
+ */
+final class LevelWordSampler {
+	
+	private static final Logger logger = LoggerFactory.getLogger(LevelWordSampler.class);
+	private static final String METRIC_OPERATION = "LevelWordSampler";
+	
+	private final long refreshMs;
+	private final LongSupplier clock;
+	private final Random random;
+	private final Map<String, Snapshot> snapshots = new HashMap<>();
+	
+	LevelWordSampler(long refreshMs, LongSupplier clock, Random random) {
+		this.refreshMs = refreshMs;
+		this.clock = clock;
+		this.random = random;
+	}
+	
+	/**
+	 * 난이도에서 count개 랜덤 추출 (순서도 랜덤)
+	 *
+	 * @param excludeWordIds 제외할 wordId (결과에 포함되지 않음)
+	 * @param loader         난이도 전체 단어 조회 (캐시 미스/만료 시에만 호출)
+	 */
+	List<Word> sample(String level, int count, Collection<String> excludeWordIds, Function<String, List<Word>> loader) {
+		List<Word> words = words(level, loader);
+		Set<String> excluded = excludeWordIds == null || excludeWordIds.isEmpty() ? Set.of() : new HashSet<>(excludeWordIds);
+		
+		// 제외 대상만큼 더 뽑은 뒤 걸러냄
+		int draw = Math.min(words.size(), count + excluded.size());
+		List<Word> sampled = new ArrayList<>(draw);
+		for (int index : sampleIndexes(words.size(), draw)) {
+			Word word = words.get(index);
+			if (!excluded.contains(word.getWordId())) {
+				sampled.add(word);
+			}
+		}
+		
+		Collections.shuffle(sampled, random);
+		return sampled.size() > count ? new ArrayList<>(sampled.subList(0, count)) : sampled;
+	}
+	
+	/**
+	 * 로컬 쓰기 후 해당 난이도 무효화
+	 */
+	void invalidate(String level) {
+		synchronized (snapshots) {
+			snapshots.remove(normalize(level));
+		}
+	}
+	
+	void invalidateAll() {
+		synchronized (snapshots) {
+			snapshots.clear();
+		}
+	}
+	
+	private List<Word> words(String level, Function<String, List<Word>> loader) {
+		String key = normalize(level);
+		long now = clock.getAsLong();
+		Snapshot snapshot;
+		synchronized (snapshots) {
+			snapshot = snapshots.get(key);
+		}
+		
+		if (snapshot != null && now - snapshot.loadedAt < refreshMs) {
+			Metrics.increment(Metrics.CACHE_HIT, METRIC_OPERATION);
+			return snapshot.words;
+		}
+		
+		Metrics.increment(Metrics.CACHE_MISS, METRIC_OPERATION);
+		try {
+			List<Word> words = List.copyOf(loader.apply(key));
+			synchronized (snapshots) {
+				snapshots.put(key, new Snapshot(words, now));
+			}
+			return words;
+		} catch (RuntimeException e) {
+			if (snapshot == null) {
+				throw e;
+			}
+			logger.warn("Failed to refresh words for level {}, using cached list: {}", key, e.getMessage());
+			return snapshot.words;
+		}
+	}
+	
+	/**
+	 * [0, n) 에서 k개 인덱스를 중복 없이 균등 추출 (Floyd 알고리즘, O(k))
+	 */
+	private Set<Integer> sampleIndexes(int n, int k) {
+		Set<Integer> chosen = new HashSet<>(k * 2);
+		for (int j = n - k; j < n; j++) {
+			int candidate = random.nextInt(j + 1);
+			if (!chosen.add(candidate)) {
+				chosen.add(j);
+			}
+		}
+		return chosen;
+	}
+	
+	private static String normalize(String level) {
+		return level != null ? level.toUpperCase() : "BEGINNER";
+	}
+	
+	private record Snapshot(List<Word> words, long loadedAt) {
+	}
+}
@@ -3,7 +3,9 @@ package com.mzc.secondproject.serverless.domain.vocabulary.repository;
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
 import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
+import com.mzc.secondproject.serverless.common.metrics.Metrics;
 import com.mzc.secondproject.serverless.common.util.CursorUtil;
+import com.mzc.secondproject.serverless.domain.vocabulary.config.VocabularyConfig;
 import com.mzc.secondproject.serverless.domain.vocabulary.model.Word;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,15 +14,21 @@ import software.amazon.awssdk.enhanced.dynamodb.model.*;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 
 public class WordRepository {
 	
 	private static final Logger logger = LoggerFactory.getLogger(WordRepository.class);
 	private static final String TABLE_NAME = EnvConfig.getRequired("VOCAB_TABLE_NAME");
 	
+	// 컨테이너 단위 난이도별 단어 목록 (게임/시험 랜덤 출제용)
+	private static final LevelWordSampler LEVEL_SAMPLER = new LevelWordSampler(
+			VocabularyConfig.samplerRefreshMs(), System::currentTimeMillis, new Random());
+	
 	private final DynamoDbEnhancedClient enhancedClient;
 	private final DynamoDbTable<Word> table;
 	
@@ -42,6 +50,7 @@ public class WordRepository {
 	public Word save(Word word) {
 		logger.info("Saving word to DynamoDB: {}", word.getWordId());
 		table.putItem(word);
+		LEVEL_SAMPLER.invalidate(word.getLevel());
 		return word;
 	}
 	
@@ -104,9 +113,43 @@ public class WordRepository {
 				.build();
 		
 		table.deleteItem(key);
+		LEVEL_SAMPLER.invalidateAll();
 		logger.info("Deleted word: {}", wordId);
 	}
 	
+	/**
+	 * 난이도 전체에서 균등하게 랜덤 추출
+	 * 난이도별 단어 목록은 컨테이너에 캐시되며 VOCAB_SAMPLER_REFRESH_MS마다 다시 조회
+	 */
+	public List<Word> sampleByLevel(String level, int count, Collection<String> excludeWordIds) {
+		return LEVEL_SAMPLER.sample(level, count, excludeWordIds, this::findAllByLevel);
+	}
+	
+	/**
+	 * 난이도 파티션 전체 조회 (최대 VOCAB_SAMPLER_MAX_WORDS_PER_LEVEL개)
+	 */
+	private List<Word> findAllByLevel(String level) {
+		int maxWords = VocabularyConfig.samplerMaxWordsPerLevel();
+		QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+				.queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue("LEVEL#" + level).build()))
+				.build();
+		
+		return Metrics.time(Metrics.REPOSITORY_LATENCY, "WordRepository.findAllByLevel", () -> {
+			List<Word> words = new ArrayList<>();
+			for (Page<Word> page : table.index("GSI1").query(request)) {
+				for (Word word : page.items()) {
+					if (words.size() >= maxWords) {
+						logger.warn("Level {} has more than {} words, sampling from the first {}", level, maxWords, maxWords);
+						return words;
+					}
+					words.add(word);
+				}
+			}
+			logger.info("Loaded words for sampling: level={}, count={}", level, words.size());
+			return words;
+		});
+	}
+	
 	/**
 	 * 난이도별 단어 조회 - 페이지네이션
 	 */
@@ -2,7 +2,6 @@ package com.mzc.secondproject.serverless.domain.vocabulary.service;
 
 import com.mzc.secondproject.serverless.common.config.AwsClients;
 import com.mzc.secondproject.serverless.common.config.EnvConfig;
-import com.mzc.secondproject.serverless.common.dto.PaginatedResult;
 import com.mzc.secondproject.serverless.common.util.ResponseGenerator;
 import com.mzc.secondproject.serverless.domain.notification.service.NotificationPublisher;
 import com.mzc.secondproject.serverless.domain.vocabulary.dto.request.SubmitTestRequest;
@@ -29,6 +28,7 @@ public class TestCommandService {
 	
 	private static final Logger logger = LoggerFactory.getLogger(TestCommandService.class);
 	private static final String TEST_RESULT_TOPIC_ARN = EnvConfig.getRequired("TEST_RESULT_TOPIC_ARN");
+	private static final int DISTRACTOR_SAMPLE_SIZE = 50;
 	
 	private final TestResultRepository testResultRepository;
 	private final DailyStudyRepository dailyStudyRepository;
@@ -243,10 +243,7 @@ public class TestCommandService {
 	}
 	
 	private List<String> getDistractorsForLevel(String level, List<String> excludeWordIds) {
-		Set<String> excludeSet = new HashSet<>(excludeWordIds);
-		PaginatedResult<Word> wordPage = wordRepository.findByLevelWithPagination(level, 50, null);
-		return wordPage.items().stream()
-				.filter(w -> !excludeSet.contains(w.getWordId()))
+		return wordRepository.sampleByLevel(level, DISTRACTOR_SAMPLE_SIZE, excludeWordIds).stream()
 				.map(Word::getKorean)
 				.collect(Collectors.toList());
 	}
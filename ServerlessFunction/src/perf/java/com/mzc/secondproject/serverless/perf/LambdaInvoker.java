@@ -0,0 +1,193 @@
+package com.mzc.secondproject.serverless.perf;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.mzc.secondproject.serverless.common.util.JsonUtil;
+import com.mzc.secondproject.serverless.perf.fake.FakeDynamoDb;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 핸들러를 API Gateway 이벤트 형태로 직접 호출하고 지연시간/DynamoDB 호출 수를 기록
+ * <p>
+ * REST 핸들러는 Cognito Authorizer claims(sub, nickname)를, WebSocket 핸들러는
+ * requestContext.connectionId / queryStringParameters / body를 채워 호출합니다.
+ */
+final class LambdaInvoker {
+
+	private static final Context CONTEXT = new PerfContext();
+
+	private final FakeDynamoDb dynamoDb;
+	private ScenarioReport report;
+
+	LambdaInvoker(FakeDynamoDb dynamoDb) {
+		this.dynamoDb = dynamoDb;
+	}
+
+	/**
+	 * 기록 대상 리포트 지정 (null이면 워밍업으로 간주하고 기록하지 않음)
+	 */
+	void recordTo(ScenarioReport report) {
+		this.report = report;
+	}
+
+	/**
+	 * REST API 호출
+	 *
+	 * @return 응답 본문의 data 필드 (실패 시 JsonNull)
+	 */
+	JsonElement rest(String label, RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> handler,
+	                 String method, String path, String userId, Object body, Map<String, String> query) {
+		APIGatewayProxyRequestEvent request = new APIGatewayProxyRequestEvent()
+				.withHttpMethod(method)
+				.withPath(path)
+				.withQueryStringParameters(query)
+				.withHeaders(Map.of("Content-Type", "application/json"))
+				.withBody(body == null ? null : body instanceof String s ? s : JsonUtil.gson().toJson(body));
+
+		APIGatewayProxyRequestEvent.ProxyRequestContext requestContext = new APIGatewayProxyRequestEvent.ProxyRequestContext();
+		Map<String, Object> authorizer = new HashMap<>();
+		authorizer.put("claims", Map.of("sub", userId, "nickname", Personas.nickname(userId)));
+		requestContext.setAuthorizer(authorizer);
+		requestContext.setRequestId(UUID.randomUUID().toString());
+		request.setRequestContext(requestContext);
+
+		long calls = dynamoDb.totalCalls();
+		long start = System.nanoTime();
+		APIGatewayProxyResponseEvent response = handler.handleRequest(request, CONTEXT);
+		long elapsed = System.nanoTime() - start;
+
+		int status = response.getStatusCode() != null ? response.getStatusCode() : 500;
+		record(label, elapsed, dynamoDb.totalCalls() - calls, status >= 400, response.getBody());
+
+		if (status >= 400 || response.getBody() == null) {
+			return JsonNull.INSTANCE;
+		}
+		JsonElement parsed = JsonParser.parseString(response.getBody());
+		return parsed.isJsonObject() && parsed.getAsJsonObject().has("data")
+				? parsed.getAsJsonObject().get("data")
+				: JsonNull.INSTANCE;
+	}
+
+	/**
+	 * WebSocket 라우트($connect/$disconnect/sendMessage) 호출
+	 *
+	 * @return 상태 코드
+	 */
+	int websocket(String label, RequestHandler<Map<String, Object>, Map<String, Object>> handler,
+	              String connectionId, Map<String, String> query, Object body) {
+		Map<String, Object> requestContext = new HashMap<>();
+		requestContext.put("connectionId", connectionId);
+		requestContext.put("requestId", UUID.randomUUID().toString());
+		requestContext.put("connectedAt", System.currentTimeMillis());
+
+		Map<String, Object> event = new HashMap<>();
+		event.put("requestContext", requestContext);
+		if (query != null) {
+			event.put("queryStringParameters", query);
+		}
+		if (body != null) {
+			event.put("body", body instanceof String s ? s : JsonUtil.gson().toJson(body));
+		}
+
+		long calls = dynamoDb.totalCalls();
+		long start = System.nanoTime();
+		Map<String, Object> response = handler.handleRequest(event, CONTEXT);
+		long elapsed = System.nanoTime() - start;
+
+		Object statusCode = response != null ? response.get("statusCode") : null;
+		int status = statusCode instanceof Number n ? n.intValue() : 500;
+		record(label, elapsed, dynamoDb.totalCalls() - calls, status >= 400, response != null ? response.get("body") : null);
+		return status;
+	}
+
+	private void record(String label, long nanos, long dynamoDbCalls, boolean error, Object body) {
+		if (error) {
+			System.err.printf("[perf] %s failed: %s%n", label, body);
+		}
+		if (report != null) {
+			report.record(label, nanos, dynamoDbCalls, error);
+		}
+	}
+
+	/**
+	 * 로컬 실행용 Lambda Context
+	 */
+	private static final class PerfContext implements Context {
+
+		private static final LambdaLogger LOGGER = new LambdaLogger() {
+			@Override
+			public void log(String message) {
+			}
+
+			@Override
+			public void log(byte[] message) {
+			}
+		};
+
+		@Override
+		public String getAwsRequestId() {
+			return UUID.randomUUID().toString();
+		}
+
+		@Override
+		public String getLogGroupName() {
+			return "/aws/lambda/perf";
+		}
+
+		@Override
+		public String getLogStreamName() {
+			return "perf";
+		}
+
+		@Override
+		public String getFunctionName() {
+			return "perf";
+		}
+
+		@Override
+		public String getFunctionVersion() {
+			return "$LATEST";
+		}
+
+		@Override
+		public String getInvokedFunctionArn() {
+			return "arn:aws:lambda:ap-northeast-2:000000000000:function:perf";
+		}
+
+		@Override
+		public CognitoIdentity getIdentity() {
+			return null;
+		}
+
+		@Override
+		public ClientContext getClientContext() {
+			return null;
+		}
+
+		@Override
+		public int getRemainingTimeInMillis() {
+			return 30_000;
+		}
+
+		@Override
+		public int getMemoryLimitInMB() {
+			return 512;
+		}
+
+		@Override
+		public LambdaLogger getLogger() {
+			return LOGGER;
+		}
+	}
+}
@@ -0,0 +1,293 @@
+package com.mzc.secondproject.serverless.perf;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mzc.secondproject.serverless.common.config.EnvConfig;
+import com.mzc.secondproject.serverless.domain.chatting.handler.ChatMessageHandler;
+import com.mzc.secondproject.serverless.domain.chatting.handler.ChatRoomHandler;
+import com.mzc.secondproject.serverless.domain.chatting.handler.GameHandler;
+import com.mzc.secondproject.serverless.domain.chatting.handler.websocket.WebSocketConnectHandler;
+import com.mzc.secondproject.serverless.domain.chatting.handler.websocket.WebSocketDisconnectHandler;
+import com.mzc.secondproject.serverless.domain.chatting.handler.websocket.WebSocketMessageHandler;
+import com.mzc.secondproject.serverless.domain.vocabulary.handler.DailyStudyHandler;
+import com.mzc.secondproject.serverless.domain.vocabulary.handler.TestHandler;
+import com.mzc.secondproject.serverless.perf.fake.FakeAwsServer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트 시나리오
+ * <p>
+ * 핸들러 인스턴스는 웜 컨테이너처럼 한 번만 생성해 재사용하고,
+ * 각 반복(iteration)은 새 방/새 학습자로 실제 사용 흐름을 재현합니다.
+ * - chat-room: 방 생성 → 입장/연결 → 메시지 전송 → 목록/이력 조회 → 연결 해제
+ * - catchmind: 게임 방 생성 → 게임 시작 → 라운드별 그림/오답/정답 → 상태 조회 → 연결 해제
+ * - daily-study: 오늘의 단어 생성 → 학습 완료 처리 → 재조회
+ * - vocab-test: 오늘의 단어 생성 → 시험 시작 → 제출 → 결과 목록 조회
+ */
+final class PerfScenarios {
+
+	private static final String CHAT_TABLE = EnvConfig.getRequired("CHAT_TABLE_NAME");
+	private static final int CHAT_MEMBERS = 5;
+	private static final int CHAT_MESSAGES = 20;
+	private static final int GAME_PLAYERS = 3;
+	private static final int DRAWING_STROKES_PER_ROUND = 10;
+	private static final int DRAWING_STROKES_PER_BATCH = 5;
+	private static final int DRAWING_POINTS_PER_STROKE = 8;
+	private static final int MAX_GAME_ROUNDS = 20;
+
+	private final FakeAwsServer aws;
+	private final LambdaInvoker invoker;
+	private final Personas personas;
+	private final AtomicInteger sequence = new AtomicInteger();
+
+	private final ChatRoomHandler chatRoomHandler = new ChatRoomHandler();
+	private final ChatMessageHandler chatMessageHandler = new ChatMessageHandler();
+	private final GameHandler gameHandler = new GameHandler();
+	private final WebSocketConnectHandler connectHandler = new WebSocketConnectHandler();
+	private final WebSocketMessageHandler messageHandler = new WebSocketMessageHandler();
+	private final WebSocketDisconnectHandler disconnectHandler = new WebSocketDisconnectHandler();
+	private final DailyStudyHandler dailyStudyHandler = new DailyStudyHandler();
+	private final TestHandler testHandler = new TestHandler();
+
+	PerfScenarios(FakeAwsServer aws, LambdaInvoker invoker, Personas personas) {
+		this.aws = aws;
+		this.invoker = invoker;
+		this.personas = personas;
+	}
+
+	/**
+	 * 시나리오 이름 → 1회 실행
+	 */
+	Map<String, Runnable> all() {
+		Map<String, Runnable> scenarios = new LinkedHashMap<>();
+		scenarios.put("chat-room", this::chatRoom);
+		scenarios.put("catchmind", this::catchmind);
+		scenarios.put("daily-study", this::dailyStudy);
+		scenarios.put("vocab-test", this::vocabTest);
+		return scenarios;
+	}
+
+	// ============ 채팅 ============
+
+	private void chatRoom() {
+		int seq = sequence.incrementAndGet();
+		String host = Personas.userId(0);
+		String roomId = createRoom(host, "perf-chat-" + seq, "CHAT", null);
+
+		// 마지막 멤버는 연결이 끊긴 상태(410)로 만들어 stale 연결 정리 경로까지 포함
+		Map<String, String> connections = connectMembers(roomId, seq, CHAT_MEMBERS);
+		String goneConnection = connections.get(Personas.userId(CHAT_MEMBERS - 1));
+		aws.apiGatewayManagement().markGone(goneConnection);
+
+		List<String> userIds = new ArrayList<>(connections.keySet());
+		for (int i = 0; i < CHAT_MESSAGES; i++) {
+			String userId = userIds.get(i % (userIds.size() - 1));
+			sendMessage(connections.get(userId), roomId, userId, "안녕하세요 " + i, "TEXT", "ws:message TEXT");
+		}
+
+		invoker.rest("GET /rooms", chatRoomHandler, "GET", "/rooms", host, null, Map.of("limit", "20"));
+		invoker.rest("GET /rooms/{roomId}", chatRoomHandler, "GET", "/rooms/" + roomId, host, null, null);
+		invoker.rest("GET /rooms/{roomId}/messages", chatMessageHandler, "GET", "/rooms/" + roomId + "/messages",
+				host, null, Map.of("limit", "20"));
+
+		disconnectAll(connections, goneConnection);
+	}
+
+	// ============ 캐치마인드 ============
+
+	private void catchmind() {
+		int seq = sequence.incrementAndGet();
+		String host = Personas.userId(0);
+		String roomId = createRoom(host, "perf-game-" + seq, "GAME", "CATCHMIND");
+		Map<String, String> connections = connectMembers(roomId, seq, GAME_PLAYERS);
+
+		invoker.rest("POST /rooms/{roomId}/game/start", gameHandler, "POST", "/rooms/" + roomId + "/game/start",
+				host, null, null);
+
+		for (int round = 0; round < MAX_GAME_ROUNDS; round++) {
+			JsonObject session = activeGameSession(roomId);
+			if (session == null || !"PLAYING".equals(attribute(session, "status"))) {
+				break;
+			}
+			String drawer = attribute(session, "currentDrawerId");
+			String answer = attribute(session, "currentWord");
+
+			for (int batch = 0; batch < DRAWING_STROKES_PER_ROUND; batch += DRAWING_STROKES_PER_BATCH) {
+				sendStrokes(connections.get(drawer), roomId, drawer, batch);
+			}
+			for (Map.Entry<String, String> player : connections.entrySet()) {
+				if (!player.getKey().equals(drawer)) {
+					sendMessage(player.getValue(), roomId, player.getKey(), "오답", "TEXT", "ws:message GUESS(wrong)");
+				}
+			}
+			invoker.rest("GET /rooms/{roomId}/game/status", gameHandler, "GET", "/rooms/" + roomId + "/game/status",
+					host, null, null);
+			for (Map.Entry<String, String> player : connections.entrySet()) {
+				if (!player.getKey().equals(drawer)) {
+					sendMessage(player.getValue(), roomId, player.getKey(), answer, "TEXT", "ws:message GUESS(correct)");
+				}
+			}
+		}
+
+		invoker.rest("GET /rooms/{roomId}/game/scores", gameHandler, "GET", "/rooms/" + roomId + "/game/scores",
+				host, null, null);
+		disconnectAll(connections, null);
+	}
+
+	// ============ 단어 학습 ============
+
+	private void dailyStudy() {
+		String userId = "perf-student-" + sequence.incrementAndGet();
+
+		JsonElement daily = invoker.rest("GET /daily (create)", dailyStudyHandler, "GET", "/daily", userId, null,
+				Map.of("level", "BEGINNER"));
+		for (String wordId : wordIds(daily, "newWords")) {
+			invoker.rest("POST /daily/words/{wordId}/learned", dailyStudyHandler, "POST",
+					"/daily/words/" + wordId + "/learned", userId, null, null);
+		}
+		invoker.rest("GET /daily (existing)", dailyStudyHandler, "GET", "/daily", userId, null, null);
+	}
+
+	private void vocabTest() {
+		String userId = "perf-student-" + sequence.incrementAndGet();
+		invoker.rest("GET /daily (create)", dailyStudyHandler, "GET", "/daily", userId, null,
+				Map.of("level", "INTERMEDIATE"));
+
+		JsonElement test = invoker.rest("POST /test/start", testHandler, "POST", "/test/start", userId,
+				Map.of("testType", "DAILY"), null);
+		if (!test.isJsonObject()) {
+			return;
+		}
+
+		// 절반은 정답, 절반은 오답으로 제출
+		List<Map<String, String>> answers = new ArrayList<>();
+		int index = 0;
+		for (JsonElement question : test.getAsJsonObject().getAsJsonArray("questions")) {
+			JsonObject q = question.getAsJsonObject();
+			String korean = personas.korean(q.get("english").getAsString());
+			answers.add(Map.of("wordId", q.get("wordId").getAsString(),
+					"answer", index++ % 2 == 0 && korean != null ? korean : "오답"));
+		}
+
+		Map<String, Object> submit = new HashMap<>();
+		submit.put("testId", test.getAsJsonObject().get("testId").getAsString());
+		submit.put("testType", "DAILY");
+		submit.put("answers", answers);
+		submit.put("startedAt", Instant.now().toString());
+		invoker.rest("POST /test/submit", testHandler, "POST", "/test/submit", userId, submit, null);
+		invoker.rest("GET /test/results", testHandler, "GET", "/test/results", userId, null, Map.of("limit", "10"));
+	}
+
+	// ============ 공통 흐름 ============
+
+	private String createRoom(String host, String name, String type, String gameType) {
+		Map<String, Object> body = new HashMap<>();
+		body.put("name", name);
+		body.put("level", "beginner");
+		body.put("maxMembers", 6);
+		body.put("type", type);
+		if (gameType != null) {
+			body.put("gameType", gameType);
+		}
+		JsonElement room = invoker.rest("POST /rooms", chatRoomHandler, "POST", "/rooms", host, body, null);
+		if (!room.isJsonObject()) {
+			throw new IllegalStateException("Room creation failed: " + name);
+		}
+		return room.getAsJsonObject().get("roomId").getAsString();
+	}
+
+	/**
+	 * 방 입장(토큰 발급) 후 WebSocket 연결
+	 *
+	 * @return userId → connectionId (입장 순서 유지)
+	 */
+	private Map<String, String> connectMembers(String roomId, int seq, int members) {
+		Map<String, String> connections = new LinkedHashMap<>();
+		for (int i = 0; i < members; i++) {
+			String userId = Personas.userId(i);
+			JsonElement joined = invoker.rest("POST /rooms/{roomId}/join", chatRoomHandler, "POST",
+					"/rooms/" + roomId + "/join", userId, "{}", null);
+			if (!joined.isJsonObject()) {
+				continue;
+			}
+			String connectionId = "conn-" + seq + "-" + i;
+			String roomToken = joined.getAsJsonObject().get("roomToken").getAsString();
+			invoker.websocket("ws:$connect", connectHandler, connectionId, Map.of("roomToken", roomToken), null);
+			connections.put(userId, connectionId);
+		}
+		return connections;
+	}
+
+	private void sendMessage(String connectionId, String roomId, String userId, String content, String messageType,
+	                         String label) {
+		Map<String, String> payload = new HashMap<>();
+		payload.put("roomId", roomId);
+		payload.put("userId", userId);
+		payload.put("content", content);
+		payload.put("messageType", messageType);
+		invoker.websocket(label, messageHandler, connectionId, null, payload);
+	}
+
+	/**
+	 * 클라이언트가 짧은 구간 동안 모은 획 묶음 (이어지는 획이라 서버에서 병합됨)
+	 */
+	private void sendStrokes(String connectionId, String roomId, String userId, int firstStroke) {
+		List<Map<String, Object>> strokes = new ArrayList<>();
+		for (int stroke = firstStroke; stroke < firstStroke + DRAWING_STROKES_PER_BATCH; stroke++) {
+			int[] points = new int[DRAWING_POINTS_PER_STROKE * 2];
+			points[0] = 100 + stroke * (DRAWING_POINTS_PER_STROKE - 1) * 3;
+			points[1] = 200 + stroke * (DRAWING_POINTS_PER_STROKE - 1);
+			for (int i = 2; i < points.length; i += 2) {
+				points[i] = 3;
+				points[i + 1] = 1;
+			}
+			strokes.add(Map.of("color", "#000000", "width", 3, "points", points));
+		}
+
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("roomId", roomId);
+		payload.put("userId", userId);
+		payload.put("messageType", "DRAWING_BATCH");
+		payload.put("strokes", strokes);
+		invoker.websocket("ws:message DRAWING_BATCH", messageHandler, connectionId, null, payload);
+	}
+
+	private void disconnectAll(Map<String, String> connections, String skipConnectionId) {
+		for (String connectionId : connections.values()) {
+			if (!connectionId.equals(skipConnectionId)) {
+				invoker.websocket("ws:$disconnect", disconnectHandler, connectionId, null, null);
+			}
+		}
+	}
+
+	/**
+	 * 현재 라운드 정보 (정답/출제자) - 측정에 포함되지 않도록 fake 저장소에서 직접 조회
+	 */
+	private JsonObject activeGameSession(String roomId) {
+		JsonObject room = aws.dynamoDb().peek(CHAT_TABLE, "ROOM#" + roomId, "METADATA");
+		String gameSessionId = room != null ? attribute(room, "activeGameSessionId") : null;
+		return gameSessionId != null ? aws.dynamoDb().peek(CHAT_TABLE, "GAME#" + gameSessionId, "METADATA") : null;
+	}
+
+	private static String attribute(JsonObject item, String name) {
+		JsonObject value = item.getAsJsonObject(name);
+		return value != null && value.has("S") ? value.get("S").getAsString() : null;
+	}
+
+	private static List<String> wordIds(JsonElement data, String field) {
+		List<String> ids = new ArrayList<>();
+		if (data.isJsonObject() && data.getAsJsonObject().has(field)) {
+			for (JsonElement word : data.getAsJsonObject().getAsJsonArray(field)) {
+				ids.add(word.getAsJsonObject().get("wordId").getAsString());
+			}
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,114 @@
+package com.mzc.secondproject.serverless.perf;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.mzc.secondproject.serverless.perf.fake.FakeAwsServer;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 부하 테스트 진입점 (./gradlew perfTest)
+ * <p>
+ * 실제 핸들러를 in-process로 부팅하고, DynamoDB / API Gateway Management API는
+ * {@link FakeAwsServer}(메모리 저장소)로 대체합니다. SDK 클라이언트는 AWS_ENDPOINT_URL /
+ * WEBSOCKET_ENDPOINT 로 fake 서버를 바라보므로 프로덕션 코드 변경 없이 직렬화/HTTP 비용까지 포함해 측정합니다.
+ * <p>
+ * 시스템 프로퍼티:
+ * - perf.iterations: 시나리오별 측정 반복 횟수 (기본 20)
+ * - perf.warmup: 시나리오별 워밍업 반복 횟수 (기본 5)
+ * - perf.seed: 단어 시드 파일 (기본 ../seed/vocabulary/words.json)
+ * - perf.report: 결과 JSON 경로 (기본 build/reports/perf/results.json)
+ * - perf.scenarios: 실행할 시나리오 (콤마 구분, 기본 전체)
+ */
+public final class PerfTest {
+
+	private PerfTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int iterations = Integer.getInteger("perf.iterations", 20);
+		int warmup = Integer.getInteger("perf.warmup", 5);
+		Path seed = Path.of(System.getProperty("perf.seed", "../seed/vocabulary/words.json"));
+		Path reportFile = Path.of(System.getProperty("perf.report", "build/reports/perf/results.json"));
+		String selected = System.getProperty("perf.scenarios", "");
+
+		int port = URI.create(requiredEnv("AWS_ENDPOINT_URL")).getPort();
+		JsonArray results = new JsonArray();
+		long errors = 0;
+
+		try (FakeAwsServer aws = new FakeAwsServer(port).start()) {
+			Personas personas = Personas.seed(seed);
+			System.out.printf("Seeded %d words, %d users into %s%n", personas.wordCount(), Personas.USER_COUNT, aws.endpoint());
+
+			LambdaInvoker invoker = new LambdaInvoker(aws.dynamoDb());
+			PerfScenarios scenarios = new PerfScenarios(aws, invoker, personas);
+
+			for (Map.Entry<String, Runnable> scenario : scenarios.all().entrySet()) {
+				if (!selected.isBlank() && !List.of(selected.split(",")).contains(scenario.getKey())) {
+					continue;
+				}
+
+				invoker.recordTo(null);
+				for (int i = 0; i < warmup; i++) {
+					scenario.getValue().run();
+				}
+
+				ScenarioReport report = new ScenarioReport(scenario.getKey());
+				invoker.recordTo(report);
+				for (int i = 0; i < iterations; i++) {
+					Map<String, Long> callsBefore = aws.dynamoDb().callCounts();
+					long postsBefore = aws.apiGatewayManagement().posts();
+
+					scenario.getValue().run();
+
+					report.completeIteration(delta(callsBefore, aws.dynamoDb().callCounts()),
+							aws.apiGatewayManagement().posts() - postsBefore);
+				}
+				invoker.recordTo(null);
+
+				System.out.print(report.format());
+				results.add(report.toJson());
+				errors += report.errors();
+			}
+		}
+
+		JsonObject json = new JsonObject();
+		json.addProperty("iterations", iterations);
+		json.addProperty("warmup", warmup);
+		json.add("scenarios", results);
+		Files.createDirectories(reportFile.toAbsolutePath().getParent());
+		Files.writeString(reportFile, new GsonBuilder().setPrettyPrinting().create().toJson(json), StandardCharsets.UTF_8);
+		System.out.printf("%nResults written to %s%n", reportFile.toAbsolutePath());
+
+		if (errors > 0) {
+			System.err.printf("%d invocation(s) returned an error status%n", errors);
+			System.exit(1);
+		}
+	}
+
+	private static Map<String, Long> delta(Map<String, Long> before, Map<String, Long> after) {
+		Map<String, Long> delta = new HashMap<>();
+		after.forEach((operation, count) -> {
+			long diff = count - before.getOrDefault(operation, 0L);
+			if (diff > 0) {
+				delta.put(operation, diff);
+			}
+		});
+		return delta;
+	}
+
+	private static String requiredEnv(String name) {
+		String value = System.getenv(name);
+		if (value == null || value.isBlank()) {
+			throw new IllegalStateException(name + " is required (run via ./gradlew perfTest)");
+		}
+		return value;
+	}
+}
@@ -0,0 +1,76 @@
+package com.mzc.secondproject.serverless.perf;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mzc.secondproject.serverless.domain.user.model.User;
+import com.mzc.secondproject.serverless.domain.user.repository.UserRepository;
+import com.mzc.secondproject.serverless.domain.vocabulary.service.WordCommandService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 시드 데이터
+ * - 단어: seed/vocabulary/words.json 을 WordCommandService로 등록 (실제 키 패턴 그대로)
+ * - 사용자: perf-user-{n} 프로필 (닉네임 조회 경로용)
+ */
+final class Personas {
+
+	static final int USER_COUNT = 8;
+
+	private final Map<String, String> koreanByEnglish = new HashMap<>();
+
+	private Personas() {
+	}
+
+	static String userId(int index) {
+		return "perf-user-" + index;
+	}
+
+	static String nickname(String userId) {
+		return "닉네임-" + userId.substring(userId.lastIndexOf('-') + 1);
+	}
+
+	/**
+	 * 단어/사용자 시드 적재
+	 */
+	static Personas seed(Path wordsJson) throws IOException {
+		Personas personas = new Personas();
+
+		JsonObject root = JsonParser.parseString(Files.readString(wordsJson, StandardCharsets.UTF_8)).getAsJsonObject();
+		JsonArray words = root.getAsJsonArray("words");
+		WordCommandService wordCommandService = new WordCommandService();
+		for (JsonElement element : words) {
+			JsonObject word = element.getAsJsonObject();
+			String english = word.get("english").getAsString();
+			String korean = word.get("korean").getAsString();
+			wordCommandService.createWord(english, korean, word.get("example").getAsString(),
+					word.get("level").getAsString(), word.get("category").getAsString());
+			personas.koreanByEnglish.put(english, korean);
+		}
+
+		UserRepository userRepository = new UserRepository();
+		for (int i = 0; i < USER_COUNT; i++) {
+			String userId = userId(i);
+			userRepository.save(User.createNew(userId, userId + "@perf.local", nickname(userId), "BEGINNER", null));
+		}
+		return personas;
+	}
+
+	int wordCount() {
+		return koreanByEnglish.size();
+	}
+
+	/**
+	 * 단어 시험 정답 (seed 기준 영어 → 한국어)
+	 */
+	String korean(String english) {
+		return koreanByEnglish.get(english);
+	}
+}
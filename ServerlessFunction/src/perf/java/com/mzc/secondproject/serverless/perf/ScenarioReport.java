@@ -0,0 +1,158 @@
+package com.mzc.secondproject.serverless.perf;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시나리오별 측정 결과
+ * <p>
+ * 호출 단위(예: "POST /rooms/{roomId}/join")로 지연시간과 DynamoDB 호출 수를 모으고,
+ * 반복(iteration) 단위로 DynamoDB 오퍼레이션별 호출 수와 WebSocket 전송 수를 집계합니다.
+ */
+final class ScenarioReport {
+
+	private final String name;
+	private final Map<String, Operation> operations = new LinkedHashMap<>();
+	private final Map<String, Long> dynamoDbCalls = new TreeMap<>();
+	private long postToConnection;
+	private long iterations;
+	private long errors;
+
+	ScenarioReport(String name) {
+		this.name = name;
+	}
+
+	String name() {
+		return name;
+	}
+
+	void record(String label, long nanos, long dynamoDbCallCount, boolean error) {
+		operations.computeIfAbsent(label, Operation::new).add(nanos, dynamoDbCallCount);
+		if (error) {
+			errors++;
+		}
+	}
+
+	void completeIteration(Map<String, Long> dynamoDbCallDelta, long postDelta) {
+		iterations++;
+		dynamoDbCallDelta.forEach((operation, count) -> dynamoDbCalls.merge(operation, count, Long::sum));
+		postToConnection += postDelta;
+	}
+
+	long errors() {
+		return errors;
+	}
+
+	/**
+	 * 콘솔 출력용 표
+	 */
+	String format() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%n== %s (iterations=%d, errors=%d)%n", name, iterations, errors));
+		sb.append(String.format("  %-40s %7s %9s %9s %9s %9s%n", "operation", "count", "p50(ms)", "p99(ms)", "mean(ms)", "ddb/call"));
+		for (Operation operation : operations.values()) {
+			sb.append(String.format("  %-40s %7d %9.2f %9.2f %9.2f %9.1f%n",
+					operation.label, operation.count(), millis(operation.percentile(50)), millis(operation.percentile(99)),
+					millis(operation.mean()), operation.dynamoDbCallsPerInvocation()));
+		}
+		sb.append("  DynamoDB calls / iteration:");
+		dynamoDbCallsPerIteration().forEach((operation, avg) -> sb.append(String.format(" %s=%.1f", operation, avg)));
+		sb.append(String.format(" (total=%.1f)%n", dynamoDbCallsPerIteration().values().stream().mapToDouble(Double::doubleValue).sum()));
+		sb.append(String.format("  PostToConnection / iteration: %.1f%n", perIteration(postToConnection)));
+		return sb.toString();
+	}
+
+	JsonObject toJson() {
+		JsonObject json = new JsonObject();
+		json.addProperty("scenario", name);
+		json.addProperty("iterations", iterations);
+		json.addProperty("errors", errors);
+
+		JsonArray operationArray = new JsonArray();
+		for (Operation operation : operations.values()) {
+			JsonObject item = new JsonObject();
+			item.addProperty("operation", operation.label);
+			item.addProperty("count", operation.count());
+			item.addProperty("p50Ms", millis(operation.percentile(50)));
+			item.addProperty("p99Ms", millis(operation.percentile(99)));
+			item.addProperty("meanMs", millis(operation.mean()));
+			item.addProperty("dynamoDbCallsPerInvocation", operation.dynamoDbCallsPerInvocation());
+			operationArray.add(item);
+		}
+		json.add("operations", operationArray);
+
+		JsonObject calls = new JsonObject();
+		dynamoDbCallsPerIteration().forEach(calls::addProperty);
+		json.add("dynamoDbCallsPerIteration", calls);
+		json.addProperty("postToConnectionPerIteration", perIteration(postToConnection));
+		return json;
+	}
+
+	private Map<String, Double> dynamoDbCallsPerIteration() {
+		Map<String, Double> result = new TreeMap<>();
+		dynamoDbCalls.forEach((operation, count) -> result.put(operation, perIteration(count)));
+		return result;
+	}
+
+	private double perIteration(long value) {
+		return iterations == 0 ? 0 : (double) value / iterations;
+	}
+
+	private static double millis(double nanos) {
+		return Math.round(nanos / 10_000.0) / 100.0;
+	}
+
+	/**
+	 * 호출 단위 샘플
+	 */
+	private static final class Operation {
+		private final String label;
+		private final List<Long> samples = new ArrayList<>();
+		private long dynamoDbCallCount;
+		private long[] sorted;
+
+		Operation(String label) {
+			this.label = label;
+		}
+
+		void add(long nanos, long dynamoDbCalls) {
+			samples.add(nanos);
+			dynamoDbCallCount += dynamoDbCalls;
+			sorted = null;
+		}
+
+		int count() {
+			return samples.size();
+		}
+
+		/**
+		 * nearest-rank 백분위수 (nanos)
+		 */
+		double percentile(int percentile) {
+			if (sorted == null) {
+				sorted = samples.stream().mapToLong(Long::longValue).toArray();
+				Arrays.sort(sorted);
+			}
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+			return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+		}
+
+		double mean() {
+			return samples.stream().mapToLong(Long::longValue).average().orElse(0);
+		}
+
+		double dynamoDbCallsPerInvocation() {
+			return samples.isEmpty() ? 0 : (double) dynamoDbCallCount / samples.size();
+		}
+	}
+}
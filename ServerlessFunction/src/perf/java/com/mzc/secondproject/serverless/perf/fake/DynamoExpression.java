@@ -0,0 +1,775 @@
+package com.mzc.secondproject.serverless.perf.fake;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DynamoDB 표현식 파서/평가기 (부하 테스트용 in-memory fake)
+ * <p>
+ * - 조건식: KeyCondition / Filter / Condition (비교, BETWEEN, IN, AND/OR/NOT, 함수)
+ * - 업데이트식: SET (+, -, if_not_exists, list_append), REMOVE, ADD, DELETE
+ * <p>
+ * 값은 DynamoDB JSON 프로토콜의 AttributeValue 형태({"S": "..."})를 그대로 사용합니다.
+ */
+final class DynamoExpression {
+
+	private DynamoExpression() {
+	}
+
+	// ============ 조건식 ============
+
+	/**
+	 * 조건식 파싱 (null/빈 문자열이면 항상 true)
+	 */
+	static Condition parseCondition(String expression, JsonObject names, JsonObject values) {
+		if (expression == null || expression.isBlank()) {
+			return item -> true;
+		}
+		Parser parser = new Parser(expression, names, values);
+		Condition condition = parser.orCondition();
+		parser.expectEnd();
+		return condition;
+	}
+
+	/**
+	 * 조건식에서 "attr = :value" 형태의 AND 결합 항을 찾아 값 반환 (Query 파티션 키 추출용)
+	 */
+	static JsonElement findEquality(Condition condition, String attribute) {
+		if (condition instanceof Comparison comparison && "=".equals(comparison.op)) {
+			if (comparison.left instanceof PathOperand path && path.isTopLevel(attribute)
+					&& comparison.right instanceof ValueOperand value) {
+				return value.value;
+			}
+			if (comparison.right instanceof PathOperand path && path.isTopLevel(attribute)
+					&& comparison.left instanceof ValueOperand value) {
+				return value.value;
+			}
+		}
+		if (condition instanceof And and) {
+			JsonElement found = findEquality(and.left, attribute);
+			return found != null ? found : findEquality(and.right, attribute);
+		}
+		return null;
+	}
+
+	@FunctionalInterface
+	interface Condition {
+		boolean test(JsonObject item);
+	}
+
+	private record And(Condition left, Condition right) implements Condition {
+		@Override
+		public boolean test(JsonObject item) {
+			return left.test(item) && right.test(item);
+		}
+	}
+
+	private record Comparison(Operand left, String op, Operand right) implements Condition {
+		@Override
+		public boolean test(JsonObject item) {
+			JsonElement l = left.evaluate(item);
+			JsonElement r = right.evaluate(item);
+			if (l == null || r == null) {
+				return "<>".equals(op) && (l != null || r != null);
+			}
+			return switch (op) {
+				case "=" -> attributeEquals(l, r);
+				case "<>" -> !attributeEquals(l, r);
+				default -> {
+					Integer cmp = compare(l, r);
+					if (cmp == null) {
+						yield false;
+					}
+					yield switch (op) {
+						case "<" -> cmp < 0;
+						case "<=" -> cmp <= 0;
+						case ">" -> cmp > 0;
+						default -> cmp >= 0;
+					};
+				}
+			};
+		}
+	}
+
+	// ============ 업데이트식 ============
+
+	/**
+	 * 업데이트식 적용
+	 *
+	 * @return 변경된 최상위 속성명 (UPDATED_NEW/UPDATED_OLD 응답용)
+	 */
+	static Set<String> applyUpdate(String expression, JsonObject names, JsonObject values, JsonObject item) {
+		Set<String> updated = new LinkedHashSet<>();
+		if (expression == null || expression.isBlank()) {
+			return updated;
+		}
+		Parser parser = new Parser(expression, names, values);
+		List<Runnable> actions = new ArrayList<>();
+		List<PathOperand> removals = new ArrayList<>();
+
+		while (!parser.atEnd()) {
+			String clause = parser.identifier().toUpperCase();
+			do {
+				PathOperand path = parser.path();
+				updated.add(path.segments.get(0).toString());
+				switch (clause) {
+					case "SET" -> {
+						parser.expect("=");
+						Operand value = parser.setValue();
+						// 모든 피연산자는 업데이트 적용 전 값 기준으로 평가
+						JsonElement evaluated = value.evaluate(item);
+						if (evaluated == null) {
+							throw new DynamoException("ValidationException",
+									"The provided expression refers to an attribute that does not exist in the item");
+						}
+						actions.add(() -> path.set(item, evaluated));
+					}
+					case "REMOVE" -> removals.add(path);
+					case "ADD" -> {
+						JsonElement value = parser.operand().evaluate(item);
+						actions.add(() -> path.set(item, add(path.evaluate(item), value)));
+					}
+					case "DELETE" -> {
+						JsonElement value = parser.operand().evaluate(item);
+						actions.add(() -> {
+							JsonElement result = deleteFromSet(path.evaluate(item), value);
+							if (result == null) {
+								path.remove(item);
+							} else {
+								path.set(item, result);
+							}
+						});
+					}
+					default -> throw new DynamoException("ValidationException", "Invalid UpdateExpression clause: " + clause);
+				}
+			} while (parser.accept(","));
+		}
+		actions.forEach(Runnable::run);
+		// 목록 인덱스 REMOVE는 원래 위치 기준이므로 뒤쪽 인덱스부터 제거
+		removals.sort(Comparator.comparingInt(PathOperand::lastIndex).reversed());
+		removals.forEach(path -> path.remove(item));
+		return updated;
+	}
+
+	/**
+	 * ProjectionExpression 적용 (최상위 속성 단위)
+	 */
+	static JsonObject project(JsonObject item, String expression, JsonObject names) {
+		if (expression == null || expression.isBlank()) {
+			return item;
+		}
+		Parser parser = new Parser(expression, names, new JsonObject());
+		JsonObject projected = new JsonObject();
+		do {
+			PathOperand path = parser.path();
+			String name = path.segments.get(0).toString();
+			if (item.has(name)) {
+				projected.add(name, item.get(name).deepCopy());
+			}
+		} while (parser.accept(","));
+		return projected;
+	}
+
+	// ============ 피연산자 ============
+
+	interface Operand {
+		JsonElement evaluate(JsonObject item);
+	}
+
+	private record ValueOperand(JsonElement value) implements Operand {
+		@Override
+		public JsonElement evaluate(JsonObject item) {
+			return value;
+		}
+	}
+
+	private record PathOperand(List<Object> segments) implements Operand {
+
+		int lastIndex() {
+			return segments.get(segments.size() - 1) instanceof Integer index ? index : -1;
+		}
+
+		boolean isTopLevel(String attribute) {
+			return segments.size() == 1 && attribute.equals(segments.get(0));
+		}
+
+		@Override
+		public JsonElement evaluate(JsonObject item) {
+			JsonElement current = item.get((String) segments.get(0));
+			for (int i = 1; i < segments.size() && current != null; i++) {
+				current = child(current, segments.get(i));
+			}
+			return current;
+		}
+
+		void set(JsonObject item, JsonElement value) {
+			if (segments.size() == 1) {
+				item.add((String) segments.get(0), value);
+				return;
+			}
+			JsonElement parent = new PathOperand(segments.subList(0, segments.size() - 1)).evaluate(item);
+			Object last = segments.get(segments.size() - 1);
+			if (last instanceof String name && parent != null && parent.getAsJsonObject().has("M")) {
+				parent.getAsJsonObject().getAsJsonObject("M").add(name, value);
+			} else if (last instanceof Integer index && parent != null && parent.getAsJsonObject().has("L")) {
+				JsonArray list = parent.getAsJsonObject().getAsJsonArray("L");
+				if (index < list.size()) {
+					list.set(index, value);
+				} else {
+					list.add(value);
+				}
+			} else {
+				throw new DynamoException("ValidationException",
+						"The document path provided in the update expression is invalid for update");
+			}
+		}
+
+		void remove(JsonObject item) {
+			if (segments.size() == 1) {
+				item.remove((String) segments.get(0));
+				return;
+			}
+			JsonElement parent = new PathOperand(segments.subList(0, segments.size() - 1)).evaluate(item);
+			Object last = segments.get(segments.size() - 1);
+			if (parent == null) {
+				return;
+			}
+			if (last instanceof String name && parent.getAsJsonObject().has("M")) {
+				parent.getAsJsonObject().getAsJsonObject("M").remove(name);
+			} else if (last instanceof Integer index && parent.getAsJsonObject().has("L")) {
+				JsonArray list = parent.getAsJsonObject().getAsJsonArray("L");
+				if (index < list.size()) {
+					list.remove((int) index);
+				}
+			}
+		}
+
+		private static JsonElement child(JsonElement value, Object segment) {
+			JsonObject attribute = value.getAsJsonObject();
+			if (segment instanceof String name && attribute.has("M")) {
+				return attribute.getAsJsonObject("M").get(name);
+			}
+			if (segment instanceof Integer index && attribute.has("L")) {
+				JsonArray list = attribute.getAsJsonArray("L");
+				return index < list.size() ? list.get(index) : null;
+			}
+			return null;
+		}
+	}
+
+	private record FunctionOperand(String name, List<Operand> args) implements Operand {
+		@Override
+		public JsonElement evaluate(JsonObject item) {
+			return switch (name) {
+				case "if_not_exists" -> {
+					JsonElement existing = args.get(0).evaluate(item);
+					yield existing != null ? existing : args.get(1).evaluate(item);
+				}
+				case "list_append" -> {
+					JsonElement first = args.get(0).evaluate(item);
+					JsonElement second = args.get(1).evaluate(item);
+					if (first == null || second == null) {
+						yield null;
+					}
+					JsonArray merged = new JsonArray();
+					merged.addAll(first.getAsJsonObject().getAsJsonArray("L"));
+					merged.addAll(second.getAsJsonObject().getAsJsonArray("L"));
+					JsonObject result = new JsonObject();
+					result.add("L", merged.deepCopy());
+					yield result;
+				}
+				case "size" -> {
+					JsonElement value = args.get(0).evaluate(item);
+					yield value == null ? null : number(BigDecimal.valueOf(size(value)));
+				}
+				default -> throw new DynamoException("ValidationException", "Unsupported function: " + name);
+			};
+		}
+	}
+
+	private record Arithmetic(Operand left, char op, Operand right) implements Operand {
+		@Override
+		public JsonElement evaluate(JsonObject item) {
+			JsonElement l = left.evaluate(item);
+			JsonElement r = right.evaluate(item);
+			if (l == null || r == null) {
+				return null;
+			}
+			BigDecimal a = numberValue(l);
+			BigDecimal b = numberValue(r);
+			return number(op == '+' ? a.add(b) : a.subtract(b));
+		}
+	}
+
+	// ============ AttributeValue 헬퍼 ============
+
+	static String type(JsonElement value) {
+		return value.getAsJsonObject().keySet().iterator().next();
+	}
+
+	static BigDecimal numberValue(JsonElement value) {
+		JsonObject attribute = value.getAsJsonObject();
+		if (!attribute.has("N")) {
+			throw new DynamoException("ValidationException", "An operand in the update expression has an incorrect data type");
+		}
+		return new BigDecimal(attribute.get("N").getAsString());
+	}
+
+	static JsonObject number(BigDecimal value) {
+		JsonObject attribute = new JsonObject();
+		attribute.addProperty("N", value.signum() == 0 ? "0" : value.stripTrailingZeros().toPlainString());
+		return attribute;
+	}
+
+	static boolean attributeEquals(JsonElement a, JsonElement b) {
+		String typeA = type(a);
+		if (!typeA.equals(type(b))) {
+			return false;
+		}
+		JsonElement va = a.getAsJsonObject().get(typeA);
+		JsonElement vb = b.getAsJsonObject().get(typeA);
+		return switch (typeA) {
+			case "N" -> new BigDecimal(va.getAsString()).compareTo(new BigDecimal(vb.getAsString())) == 0;
+			case "SS", "NS", "BS" -> toSet(va).equals(toSet(vb));
+			default -> va.equals(vb);
+		};
+	}
+
+	/**
+	 * 같은 스칼라 타입(S/N/B)끼리만 비교 가능, 그 외 null
+	 */
+	static Integer compare(JsonElement a, JsonElement b) {
+		String typeA = type(a);
+		if (!typeA.equals(type(b))) {
+			return null;
+		}
+		JsonElement va = a.getAsJsonObject().get(typeA);
+		JsonElement vb = b.getAsJsonObject().get(typeA);
+		return switch (typeA) {
+			case "S" -> va.getAsString().compareTo(vb.getAsString());
+			case "N" -> new BigDecimal(va.getAsString()).compareTo(new BigDecimal(vb.getAsString()));
+			case "B" -> java.util.Arrays.compareUnsigned(
+					Base64.getDecoder().decode(va.getAsString()), Base64.getDecoder().decode(vb.getAsString()));
+			default -> null;
+		};
+	}
+
+	private static Set<String> toSet(JsonElement array) {
+		Set<String> set = new HashSet<>();
+		for (JsonElement element : array.getAsJsonArray()) {
+			set.add(element.getAsString());
+		}
+		return set;
+	}
+
+	private static long size(JsonElement value) {
+		String type = type(value);
+		JsonElement raw = value.getAsJsonObject().get(type);
+		return switch (type) {
+			case "S" -> raw.getAsString().length();
+			case "B" -> Base64.getDecoder().decode(raw.getAsString()).length;
+			case "M" -> raw.getAsJsonObject().size();
+			case "L", "SS", "NS", "BS" -> raw.getAsJsonArray().size();
+			default -> 0;
+		};
+	}
+
+	private static boolean contains(JsonElement container, JsonElement operand) {
+		String type = type(container);
+		JsonElement raw = container.getAsJsonObject().get(type);
+		return switch (type) {
+			case "S" -> "S".equals(type(operand))
+					&& raw.getAsString().contains(operand.getAsJsonObject().get("S").getAsString());
+			case "SS", "NS", "BS" -> {
+				JsonElement member = operand.getAsJsonObject().get(type.substring(0, 1));
+				yield member != null && toSet(raw).contains(member.getAsString());
+			}
+			case "L" -> {
+				for (JsonElement element : raw.getAsJsonArray()) {
+					if (attributeEquals(element, operand)) {
+						yield true;
+					}
+				}
+				yield false;
+			}
+			default -> false;
+		};
+	}
+
+	/**
+	 * ADD: 숫자 덧셈 또는 집합 합집합 (속성이 없으면 값 그대로)
+	 */
+	private static JsonElement add(JsonElement existing, JsonElement value) {
+		if (existing == null) {
+			return value.deepCopy();
+		}
+		String type = type(value);
+		if ("N".equals(type)) {
+			return number(numberValue(existing).add(numberValue(value)));
+		}
+		if (!type.equals(type(existing))) {
+			throw new DynamoException("ValidationException", "An operand in the update expression has an incorrect data type");
+		}
+		Set<String> merged = new LinkedHashSet<>();
+		existing.getAsJsonObject().getAsJsonArray(type).forEach(e -> merged.add(e.getAsString()));
+		value.getAsJsonObject().getAsJsonArray(type).forEach(e -> merged.add(e.getAsString()));
+		return set(type, merged);
+	}
+
+	private static JsonElement deleteFromSet(JsonElement existing, JsonElement value) {
+		if (existing == null) {
+			return null;
+		}
+		String type = type(value);
+		Set<String> remaining = new LinkedHashSet<>();
+		existing.getAsJsonObject().getAsJsonArray(type).forEach(e -> remaining.add(e.getAsString()));
+		value.getAsJsonObject().getAsJsonArray(type).forEach(e -> remaining.remove(e.getAsString()));
+		return remaining.isEmpty() ? null : set(type, remaining);
+	}
+
+	private static JsonObject set(String type, Set<String> members) {
+		JsonArray array = new JsonArray();
+		members.forEach(array::add);
+		JsonObject attribute = new JsonObject();
+		attribute.add(type, array);
+		return attribute;
+	}
+
+	// ============ 파서 ============
+
+	private static final class Parser {
+
+		private final List<String> tokens;
+		private final JsonObject names;
+		private final JsonObject values;
+		private int position;
+
+		Parser(String expression, JsonObject names, JsonObject values) {
+			this.tokens = tokenize(expression);
+			this.names = names != null ? names : new JsonObject();
+			this.values = values != null ? values : new JsonObject();
+		}
+
+		Condition orCondition() {
+			Condition left = andCondition();
+			while (acceptKeyword("OR")) {
+				Condition l = left;
+				Condition r = andCondition();
+				left = item -> l.test(item) || r.test(item);
+			}
+			return left;
+		}
+
+		Condition andCondition() {
+			Condition left = notCondition();
+			while (acceptKeyword("AND")) {
+				left = new And(left, notCondition());
+			}
+			return left;
+		}
+
+		Condition notCondition() {
+			if (acceptKeyword("NOT")) {
+				Condition inner = notCondition();
+				return item -> !inner.test(item);
+			}
+			return primaryCondition();
+		}
+
+		Condition primaryCondition() {
+			if (accept("(")) {
+				Condition inner = orCondition();
+				expect(")");
+				return inner;
+			}
+
+			String next = peek();
+			if (next != null && peek(1) != null && "(".equals(peek(1)) && !next.startsWith(":") && !next.startsWith("#")) {
+				String function = next.toLowerCase();
+				switch (function) {
+					case "attribute_exists", "attribute_not_exists", "attribute_type", "begins_with", "contains" -> {
+						position += 2;
+						List<Operand> args = arguments();
+						return functionCondition(function, args);
+					}
+					default -> {
+						// size() 등 피연산자 함수는 비교식으로 처리
+					}
+				}
+			}
+
+			Operand left = operand();
+			if (acceptKeyword("BETWEEN")) {
+				Operand low = operand();
+				expectKeyword("AND");
+				Operand high = operand();
+				Condition lower = new Comparison(left, ">=", low);
+				Condition upper = new Comparison(left, "<=", high);
+				return new And(lower, upper);
+			}
+			if (acceptKeyword("IN")) {
+				expect("(");
+				List<Operand> candidates = new ArrayList<>();
+				do {
+					candidates.add(operand());
+				} while (accept(","));
+				expect(")");
+				return item -> candidates.stream()
+						.anyMatch(candidate -> new Comparison(left, "=", candidate).test(item));
+			}
+			String op = next();
+			if (!List.of("=", "<>", "<", "<=", ">", ">=").contains(op)) {
+				throw syntaxError("comparator expected but found " + op);
+			}
+			return new Comparison(left, op, operand());
+		}
+
+		private Condition functionCondition(String function, List<Operand> args) {
+			return switch (function) {
+				case "attribute_exists" -> item -> args.get(0).evaluate(item) != null;
+				case "attribute_not_exists" -> item -> args.get(0).evaluate(item) == null;
+				case "attribute_type" -> item -> {
+					JsonElement value = args.get(0).evaluate(item);
+					return value != null && type(value).equals(args.get(1).evaluate(item).getAsJsonObject().get("S").getAsString());
+				};
+				case "begins_with" -> item -> {
+					JsonElement value = args.get(0).evaluate(item);
+					JsonElement prefix = args.get(1).evaluate(item);
+					return value != null && prefix != null && "S".equals(type(value)) && "S".equals(type(prefix))
+							&& value.getAsJsonObject().get("S").getAsString()
+							.startsWith(prefix.getAsJsonObject().get("S").getAsString());
+				};
+				default -> item -> {
+					JsonElement value = args.get(0).evaluate(item);
+					JsonElement operand = args.get(1).evaluate(item);
+					return value != null && operand != null && contains(value, operand);
+				};
+			};
+		}
+
+		/**
+		 * SET 우변: operand [(+|-) operand]
+		 */
+		Operand setValue() {
+			Operand left = operand();
+			if ("+".equals(peek()) || "-".equals(peek())) {
+				char op = next().charAt(0);
+				return new Arithmetic(left, op, operand());
+			}
+			return left;
+		}
+
+		Operand operand() {
+			String token = peek();
+			if (token == null) {
+				throw syntaxError("operand expected");
+			}
+			if (token.startsWith(":")) {
+				position++;
+				JsonElement value = values.get(token);
+				if (value == null) {
+					throw new DynamoException("ValidationException",
+							"An expression attribute value used in expression is not defined; attribute value: " + token);
+				}
+				return new ValueOperand(value);
+			}
+			if ("(".equals(peek(1)) && !token.startsWith("#")) {
+				String function = token.toLowerCase();
+				if (List.of("if_not_exists", "list_append", "size").contains(function)) {
+					position += 2;
+					return new FunctionOperand(function, arguments());
+				}
+			}
+			return path();
+		}
+
+		private List<Operand> arguments() {
+			List<Operand> args = new ArrayList<>();
+			if (!accept(")")) {
+				do {
+					args.add(setValue());
+				} while (accept(","));
+				expect(")");
+			}
+			return args;
+		}
+
+		PathOperand path() {
+			List<Object> segments = new ArrayList<>();
+			segments.add(name(next()));
+			while (true) {
+				if (accept(".")) {
+					segments.add(name(next()));
+				} else if (accept("[")) {
+					segments.add(Integer.parseInt(next()));
+					expect("]");
+				} else {
+					break;
+				}
+			}
+			return new PathOperand(segments);
+		}
+
+		private String name(String token) {
+			if (token == null) {
+				throw syntaxError("attribute name expected");
+			}
+			if (token.startsWith("#")) {
+				JsonElement resolved = names.get(token);
+				if (resolved == null) {
+					throw new DynamoException("ValidationException",
+							"An expression attribute name used in the document path is not defined; attribute name: " + token);
+				}
+				return resolved.getAsString();
+			}
+			return token;
+		}
+
+		String identifier() {
+			String token = next();
+			if (token == null || !Character.isLetter(token.charAt(0))) {
+				throw syntaxError("keyword expected but found " + token);
+			}
+			return token;
+		}
+
+		boolean atEnd() {
+			return position >= tokens.size();
+		}
+
+		void expectEnd() {
+			if (!atEnd()) {
+				throw syntaxError("unexpected token " + peek());
+			}
+		}
+
+		boolean accept(String token) {
+			if (token.equals(peek())) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		boolean acceptKeyword(String keyword) {
+			if (peek() != null && keyword.equalsIgnoreCase(peek())) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		void expect(String token) {
+			if (!accept(token)) {
+				throw syntaxError("'" + token + "' expected but found " + peek());
+			}
+		}
+
+		void expectKeyword(String keyword) {
+			if (!acceptKeyword(keyword)) {
+				throw syntaxError(keyword + " expected but found " + peek());
+			}
+		}
+
+		private String peek() {
+			return peek(0);
+		}
+
+		private String peek(int offset) {
+			int index = position + offset;
+			return index < tokens.size() ? tokens.get(index) : null;
+		}
+
+		private String next() {
+			String token = peek();
+			position++;
+			return token;
+		}
+
+		private DynamoException syntaxError(String detail) {
+			return new DynamoException("ValidationException", "Invalid expression: " + detail);
+		}
+
+		private static List<String> tokenize(String expression) {
+			List<String> tokens = new ArrayList<>();
+			int i = 0;
+			while (i < expression.length()) {
+				char c = expression.charAt(i);
+				if (Character.isWhitespace(c)) {
+					i++;
+				} else if (c == '<' || c == '>') {
+					if (i + 1 < expression.length() && (expression.charAt(i + 1) == '=' || (c == '<' && expression.charAt(i + 1) == '>'))) {
+						tokens.add(expression.substring(i, i + 2));
+						i += 2;
+					} else {
+						tokens.add(String.valueOf(c));
+						i++;
+					}
+				} else if ("=(),.[]+-".indexOf(c) >= 0) {
+					tokens.add(String.valueOf(c));
+					i++;
+				} else {
+					int start = i;
+					while (i < expression.length() && isNameChar(expression.charAt(i), i == start)) {
+						i++;
+					}
+					if (i == start) {
+						throw new DynamoException("ValidationException", "Invalid expression: unexpected character " + c);
+					}
+					tokens.add(expression.substring(start, i));
+				}
+			}
+			return tokens;
+		}
+
+		private static boolean isNameChar(char c, boolean first) {
+			return Character.isLetterOrDigit(c) || c == '_' || (first && (c == '#' || c == ':'));
+		}
+	}
+
+	/**
+	 * DynamoDB 오류 (__type 이름과 메시지, 트랜잭션 취소 사유)
+	 */
+	static final class DynamoException extends RuntimeException {
+
+		private final String type;
+		private final JsonArray cancellationReasons;
+
+		DynamoException(String type, String message) {
+			this(type, message, null);
+		}
+
+		DynamoException(String type, String message, JsonArray cancellationReasons) {
+			super(message);
+			this.type = type;
+			this.cancellationReasons = cancellationReasons;
+		}
+
+		String type() {
+			return type;
+		}
+
+		/**
+		 * JSON 프로토콜 오류 응답 본문
+		 */
+		JsonObject body() {
+			JsonObject body = new JsonObject();
+			body.addProperty("__type", "com.amazonaws.dynamodb.v20120810#" + type);
+			body.addProperty("message", getMessage());
+			if (cancellationReasons != null) {
+				body.add("CancellationReasons", cancellationReasons);
+			}
+			return body;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.mzc.secondproject.serverless.perf.fake;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory API Gateway Management API (WebSocket @connections)
+ * <p>
+ * 모든 연결은 수신 성공으로 처리하며, {@link #markGone}으로 지정한 연결만 410 GoneException을 반환합니다.
+ * 전송 횟수/바이트를 집계해 브로드캐스트 비용을 측정합니다.
+ */
+public final class FakeApiGatewayManagement {
+
+	private final Set<String> goneConnections = ConcurrentHashMap.newKeySet();
+	private final LongAdder posts = new LongAdder();
+	private final LongAdder goneResponses = new LongAdder();
+	private final LongAdder bytes = new LongAdder();
+
+	/**
+	 * 끊어진 연결로 지정 (이후 PostToConnection은 410 응답)
+	 */
+	public void markGone(String connectionId) {
+		goneConnections.add(connectionId);
+	}
+
+	/**
+	 * PostToConnection 처리
+	 *
+	 * @return 연결이 살아 있으면 true
+	 */
+	boolean post(String connectionId, int payloadBytes) {
+		posts.increment();
+		if (goneConnections.contains(connectionId)) {
+			goneResponses.increment();
+			return false;
+		}
+		bytes.add(payloadBytes);
+		return true;
+	}
+
+	/**
+	 * DeleteConnection 처리
+	 */
+	void delete(String connectionId) {
+		goneConnections.add(connectionId);
+	}
+
+	public long posts() {
+		return posts.sum();
+	}
+
+	public long goneResponses() {
+		return goneResponses.sum();
+	}
+
+	public long bytes() {
+		return bytes.sum();
+	}
+}
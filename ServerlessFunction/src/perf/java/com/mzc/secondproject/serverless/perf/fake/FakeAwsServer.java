@@ -0,0 +1,162 @@
+package com.mzc.secondproject.serverless.perf.fake;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mzc.secondproject.serverless.perf.fake.DynamoExpression.DynamoException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 in-process AWS 엔드포인트
+ * <p>
+ * 실제 SDK 클라이언트(직렬화/HTTP 풀 포함)를 그대로 사용하도록 HTTP로 응답합니다.
+ * - DynamoDB: X-Amz-Target "DynamoDB_20120810.*" (JSON 1.0 프로토콜)
+ * - API Gateway Management API: POST/DELETE/GET /@connections/{connectionId}
+ * - SNS Publish (Query 프로토콜): 성공 응답만 반환 (알림/결과 발행 경로)
+ * - 그 외 서비스: 400 UnknownOperationException (호출 측 예외 처리 경로로 진행)
+ * <p>
+ * 핸들러는 AWS_ENDPOINT_URL / WEBSOCKET_ENDPOINT 환경변수로 이 서버를 바라보도록 실행합니다.
+ */
+public final class FakeAwsServer implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(FakeAwsServer.class);
+
+	private static final String DYNAMODB_TARGET_PREFIX = "DynamoDB_20120810.";
+	private static final String CONNECTIONS_PATH = "/@connections/";
+	private static final String JSON_1_0 = "application/x-amz-json-1.0";
+	private static final String SNS_PUBLISH_ACTION = "Action=Publish";
+	private static final String SNS_PUBLISH_RESPONSE = "<PublishResponse xmlns=\"http://sns.amazonaws.com/doc/2010-03-31/\">"
+			+ "<PublishResult><MessageId>perf</MessageId></PublishResult>"
+			+ "<ResponseMetadata><RequestId>perf</RequestId></ResponseMetadata></PublishResponse>";
+
+	static {
+		// 작은 응답이 Nagle + delayed ACK로 ~40ms씩 지연되지 않도록 TCP_NODELAY 사용
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	private final FakeDynamoDb dynamoDb = new FakeDynamoDb();
+	private final FakeApiGatewayManagement apiGatewayManagement = new FakeApiGatewayManagement();
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	public FakeAwsServer(int port) throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+		this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+	}
+
+	public FakeAwsServer start() {
+		server.start();
+		logger.info("Fake AWS endpoint listening on {}", endpoint());
+		return this;
+	}
+
+	public String endpoint() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	public FakeDynamoDb dynamoDb() {
+		return dynamoDb;
+	}
+
+	public FakeApiGatewayManagement apiGatewayManagement() {
+		return apiGatewayManagement;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			byte[] body = exchange.getRequestBody().readAllBytes();
+			String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+			String path = exchange.getRequestURI().getRawPath();
+
+			if (target != null && target.startsWith(DYNAMODB_TARGET_PREFIX)) {
+				handleDynamoDb(exchange, target.substring(DYNAMODB_TARGET_PREFIX.length()), body);
+			} else if (path.contains(CONNECTIONS_PATH)) {
+				handleConnections(exchange, path, body);
+			} else if (new String(body, StandardCharsets.UTF_8).contains(SNS_PUBLISH_ACTION)) {
+				send(exchange, 200, "text/xml", SNS_PUBLISH_RESPONSE, null);
+			} else {
+				logger.debug("Unsupported fake AWS request: {} {} target={}", exchange.getRequestMethod(), path, target);
+				JsonObject error = new JsonObject();
+				error.addProperty("__type", "UnknownOperationException");
+				error.addProperty("message", "Not supported by the perf fake endpoint");
+				send(exchange, 400, JSON_1_0, error.toString(), "UnknownOperationException");
+			}
+		} catch (Exception e) {
+			logger.error("Fake AWS endpoint failure: {}", e.getMessage(), e);
+		}
+	}
+
+	private void handleDynamoDb(HttpExchange exchange, String operation, byte[] body) throws IOException {
+		try {
+			JsonObject request = body.length == 0
+					? new JsonObject()
+					: JsonParser.parseString(new String(body, StandardCharsets.UTF_8)).getAsJsonObject();
+			JsonObject response = dynamoDb.handle(operation, request);
+			send(exchange, 200, JSON_1_0, response.toString(), null);
+		} catch (DynamoException e) {
+			send(exchange, 400, JSON_1_0, e.body().toString(), null);
+		} catch (RuntimeException e) {
+			// 요청 형식 오류 등은 ValidationException으로 응답
+			logger.warn("Fake DynamoDB {} failed: {}", operation, e.toString());
+			send(exchange, 400, JSON_1_0, new DynamoException("ValidationException", String.valueOf(e.getMessage())).body().toString(), null);
+		}
+	}
+
+	private void handleConnections(HttpExchange exchange, String path, byte[] body) throws IOException {
+		String connectionId = URLDecoder.decode(path.substring(path.indexOf(CONNECTIONS_PATH) + CONNECTIONS_PATH.length()),
+				StandardCharsets.UTF_8);
+		switch (exchange.getRequestMethod()) {
+			case "POST" -> {
+				if (apiGatewayManagement.post(connectionId, body.length)) {
+					send(exchange, 200, "application/json", "", null);
+				} else {
+					send(exchange, 410, "application/json", "{\"message\":\"Gone\"}", "GoneException");
+				}
+			}
+			case "DELETE" -> {
+				apiGatewayManagement.delete(connectionId);
+				send(exchange, 204, "application/json", null, null);
+			}
+			default -> send(exchange, 200, "application/json",
+					"{\"connectedAt\":\"2026-01-01T00:00:00Z\",\"identity\":{\"sourceIp\":\"127.0.0.1\"}}", null);
+		}
+	}
+
+	private static void send(HttpExchange exchange, int status, String contentType, String body, String errorType)
+			throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.getResponseHeaders().set("x-amzn-RequestId", "perf");
+		if (errorType != null) {
+			exchange.getResponseHeaders().set("x-amzn-ErrorType", errorType);
+		}
+		if (body == null) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		if (bytes.length > 0) {
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		}
+	}
+}
@@ -0,0 +1,504 @@
+package com.mzc.secondproject.serverless.perf.fake;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mzc.secondproject.serverless.perf.fake.DynamoExpression.Condition;
+import com.mzc.secondproject.serverless.perf.fake.DynamoExpression.DynamoException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * In-memory DynamoDB (JSON 프로토콜 DynamoDB_20120810 오퍼레이션 처리)
+ * <p>
+ * 이 프로젝트의 테이블 키 규칙을 따릅니다.
+ * - 기본 테이블: PK(HASH) / SK(RANGE)
+ * - GSI{n}: GSI{n}PK(HASH) / GSI{n}SK(RANGE)
+ * <p>
+ * 테이블은 첫 접근 시 자동 생성되며, 오퍼레이션별 호출 횟수를 집계합니다.
+ * 일관성보다 단순함을 우선해 테이블 단위로 동기화합니다 (트랜잭션은 전체 잠금).
+ */
+public final class FakeDynamoDb {
+
+	private static final String PARTITION_KEY = "PK";
+	private static final String SORT_KEY = "SK";
+
+	private final Map<String, Table> tables = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> callCounts = new ConcurrentHashMap<>();
+
+	/**
+	 * 오퍼레이션 처리
+	 *
+	 * @param operation X-Amz-Target의 오퍼레이션 이름 (예: PutItem)
+	 * @param request   요청 본문
+	 * @return 응답 본문
+	 * @throws DynamoException DynamoDB 오류 응답으로 변환될 예외
+	 */
+	JsonObject handle(String operation, JsonObject request) {
+		callCounts.computeIfAbsent(operation, k -> new LongAdder()).increment();
+		return switch (operation) {
+			case "GetItem" -> getItem(request);
+			case "PutItem" -> putItem(request);
+			case "DeleteItem" -> deleteItem(request);
+			case "UpdateItem" -> updateItem(request);
+			case "Query" -> query(request);
+			case "Scan" -> scan(request);
+			case "BatchGetItem" -> batchGetItem(request);
+			case "BatchWriteItem" -> batchWriteItem(request);
+			case "TransactGetItems" -> transactGetItems(request);
+			case "TransactWriteItems" -> transactWriteItems(request);
+			case "DescribeEndpoints" -> describeEndpoints();
+			default -> throw new DynamoException("UnknownOperationException", "Unsupported operation: " + operation);
+		};
+	}
+
+	// ============ 집계 / 직접 접근 (시나리오용) ============
+
+	/**
+	 * 오퍼레이션별 누적 호출 수 스냅샷
+	 */
+	public Map<String, Long> callCounts() {
+		Map<String, Long> snapshot = new TreeMap<>();
+		callCounts.forEach((operation, count) -> snapshot.put(operation, count.sum()));
+		return snapshot;
+	}
+
+	public long totalCalls() {
+		return callCounts.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	/**
+	 * 저장된 아이템 조회 (집계에 포함되지 않음)
+	 */
+	public JsonObject peek(String tableName, String pk, String sk) {
+		JsonObject key = new JsonObject();
+		key.add(PARTITION_KEY, string(pk));
+		key.add(SORT_KEY, string(sk));
+		Table table = table(tableName);
+		synchronized (table) {
+			JsonObject item = table.items.get(itemKey(key));
+			return item != null ? item.deepCopy() : null;
+		}
+	}
+
+	public int itemCount(String tableName) {
+		Table table = table(tableName);
+		synchronized (table) {
+			return table.items.size();
+		}
+	}
+
+	// ============ 단일 아이템 ============
+
+	private JsonObject getItem(JsonObject request) {
+		Table table = table(request);
+		JsonObject response = new JsonObject();
+		synchronized (table) {
+			JsonObject item = table.items.get(itemKey(request.getAsJsonObject("Key")));
+			if (item != null) {
+				response.add("Item", DynamoExpression.project(item.deepCopy(),
+						optString(request, "ProjectionExpression"), request.getAsJsonObject("ExpressionAttributeNames")));
+			}
+		}
+		return response;
+	}
+
+	private JsonObject putItem(JsonObject request) {
+		Table table = table(request);
+		JsonObject item = request.getAsJsonObject("Item").deepCopy();
+		synchronized (table) {
+			JsonObject existing = table.items.get(itemKey(item));
+			checkCondition(request, existing);
+			table.put(item);
+			return returnValues(request, existing, null, null);
+		}
+	}
+
+	private JsonObject deleteItem(JsonObject request) {
+		Table table = table(request);
+		String key = itemKey(request.getAsJsonObject("Key"));
+		synchronized (table) {
+			JsonObject existing = table.items.get(key);
+			checkCondition(request, existing);
+			table.remove(key);
+			return returnValues(request, existing, null, null);
+		}
+	}
+
+	private JsonObject updateItem(JsonObject request) {
+		Table table = table(request);
+		JsonObject keyAttributes = request.getAsJsonObject("Key");
+		synchronized (table) {
+			JsonObject existing = table.items.get(itemKey(keyAttributes));
+			checkCondition(request, existing);
+			JsonObject updated = existing != null ? existing.deepCopy() : keyAttributes.deepCopy();
+			Set<String> changed = DynamoExpression.applyUpdate(optString(request, "UpdateExpression"),
+					request.getAsJsonObject("ExpressionAttributeNames"),
+					request.getAsJsonObject("ExpressionAttributeValues"), updated);
+			table.put(updated);
+			return returnValues(request, existing, updated, changed);
+		}
+	}
+
+	private static JsonObject returnValues(JsonObject request, JsonObject oldItem, JsonObject newItem, Set<String> changed) {
+		JsonObject response = new JsonObject();
+		String returnValues = optString(request, "ReturnValues");
+		if (returnValues == null || "NONE".equals(returnValues)) {
+			return response;
+		}
+		JsonObject source = returnValues.endsWith("_NEW") ? newItem : oldItem;
+		if (source == null) {
+			return response;
+		}
+		JsonObject attributes = source.deepCopy();
+		if (returnValues.startsWith("UPDATED_") && changed != null) {
+			attributes = new JsonObject();
+			for (String name : changed) {
+				if (source.has(name)) {
+					attributes.add(name, source.get(name).deepCopy());
+				}
+			}
+		}
+		response.add("Attributes", attributes);
+		return response;
+	}
+
+	private static void checkCondition(JsonObject request, JsonObject existing) {
+		String expression = optString(request, "ConditionExpression");
+		if (expression == null) {
+			return;
+		}
+		Condition condition = DynamoExpression.parseCondition(expression,
+				request.getAsJsonObject("ExpressionAttributeNames"), request.getAsJsonObject("ExpressionAttributeValues"));
+		if (!condition.test(existing != null ? existing : new JsonObject())) {
+			throw new DynamoException("ConditionalCheckFailedException", "The conditional request failed");
+		}
+	}
+
+	// ============ Query / Scan ============
+
+	private JsonObject query(JsonObject request) {
+		Table table = table(request);
+		String index = optString(request, "IndexName");
+		String partitionAttribute = index == null ? PARTITION_KEY : index + "PK";
+		String sortAttribute = index == null ? SORT_KEY : index + "SK";
+		JsonObject names = request.getAsJsonObject("ExpressionAttributeNames");
+		JsonObject values = request.getAsJsonObject("ExpressionAttributeValues");
+
+		Condition keyCondition = DynamoExpression.parseCondition(
+				optString(request, "KeyConditionExpression"), names, values);
+		JsonElement partitionValue = DynamoExpression.findEquality(keyCondition, partitionAttribute);
+		if (partitionValue == null) {
+			throw new DynamoException("ValidationException", "Query condition missed key schema element: " + partitionAttribute);
+		}
+
+		List<JsonObject> candidates;
+		synchronized (table) {
+			candidates = new ArrayList<>();
+			for (String key : table.partition(partitionAttribute, scalar(partitionValue))) {
+				JsonObject item = table.items.get(key);
+				if (item != null && keyCondition.test(item)) {
+					candidates.add(item.deepCopy());
+				}
+			}
+		}
+		candidates.sort(Comparator.comparing((JsonObject item) -> item.get(sortAttribute),
+				FakeDynamoDb::compareNullable).thenComparing(FakeDynamoDb::itemKey));
+		if (request.has("ScanIndexForward") && !request.get("ScanIndexForward").getAsBoolean()) {
+			Collections.reverse(candidates);
+		}
+		return page(request, candidates, index);
+	}
+
+	private JsonObject scan(JsonObject request) {
+		Table table = table(request);
+		String index = optString(request, "IndexName");
+		List<JsonObject> candidates = new ArrayList<>();
+		synchronized (table) {
+			for (JsonObject item : table.items.values()) {
+				if (index == null || item.has(index + "PK")) {
+					candidates.add(item.deepCopy());
+				}
+			}
+		}
+		return page(request, candidates, index);
+	}
+
+	/**
+	 * Limit(필터 전 평가 개수) / ExclusiveStartKey / FilterExpression / Select / Projection 적용
+	 */
+	private static JsonObject page(JsonObject request, List<JsonObject> candidates, String index) {
+		int start = 0;
+		if (request.has("ExclusiveStartKey")) {
+			String startKey = itemKey(request.getAsJsonObject("ExclusiveStartKey"));
+			for (int i = 0; i < candidates.size(); i++) {
+				if (itemKey(candidates.get(i)).equals(startKey)) {
+					start = i + 1;
+					break;
+				}
+			}
+		}
+		int limit = request.has("Limit") ? request.get("Limit").getAsInt() : Integer.MAX_VALUE;
+		int end = (int) Math.min(candidates.size(), (long) start + limit);
+
+		JsonObject names = request.getAsJsonObject("ExpressionAttributeNames");
+		Condition filter = DynamoExpression.parseCondition(optString(request, "FilterExpression"), names,
+				request.getAsJsonObject("ExpressionAttributeValues"));
+		String projection = optString(request, "ProjectionExpression");
+		boolean countOnly = "COUNT".equals(optString(request, "Select"));
+
+		JsonArray items = new JsonArray();
+		int count = 0;
+		for (int i = start; i < end; i++) {
+			JsonObject item = candidates.get(i);
+			if (filter.test(item)) {
+				count++;
+				if (!countOnly) {
+					items.add(DynamoExpression.project(item, projection, names));
+				}
+			}
+		}
+
+		JsonObject response = new JsonObject();
+		if (!countOnly) {
+			response.add("Items", items);
+		}
+		response.addProperty("Count", count);
+		response.addProperty("ScannedCount", end - start);
+		if (end < candidates.size() && end > start) {
+			response.add("LastEvaluatedKey", lastEvaluatedKey(candidates.get(end - 1), index));
+		}
+		return response;
+	}
+
+	private static JsonObject lastEvaluatedKey(JsonObject item, String index) {
+		JsonObject key = new JsonObject();
+		List<String> attributes = index == null
+				? List.of(PARTITION_KEY, SORT_KEY)
+				: List.of(PARTITION_KEY, SORT_KEY, index + "PK", index + "SK");
+		for (String attribute : attributes) {
+			if (item.has(attribute)) {
+				key.add(attribute, item.get(attribute).deepCopy());
+			}
+		}
+		return key;
+	}
+
+	// ============ Batch / Transaction ============
+
+	private JsonObject batchGetItem(JsonObject request) {
+		JsonObject responses = new JsonObject();
+		for (Map.Entry<String, JsonElement> entry : request.getAsJsonObject("RequestItems").entrySet()) {
+			JsonObject tableRequest = entry.getValue().getAsJsonObject();
+			Table table = table(entry.getKey());
+			JsonArray found = new JsonArray();
+			synchronized (table) {
+				for (JsonElement key : tableRequest.getAsJsonArray("Keys")) {
+					JsonObject item = table.items.get(itemKey(key.getAsJsonObject()));
+					if (item != null) {
+						found.add(DynamoExpression.project(item.deepCopy(), optString(tableRequest, "ProjectionExpression"),
+								tableRequest.getAsJsonObject("ExpressionAttributeNames")));
+					}
+				}
+			}
+			responses.add(entry.getKey(), found);
+		}
+		JsonObject response = new JsonObject();
+		response.add("Responses", responses);
+		response.add("UnprocessedKeys", new JsonObject());
+		return response;
+	}
+
+	private JsonObject batchWriteItem(JsonObject request) {
+		for (Map.Entry<String, JsonElement> entry : request.getAsJsonObject("RequestItems").entrySet()) {
+			Table table = table(entry.getKey());
+			synchronized (table) {
+				for (JsonElement element : entry.getValue().getAsJsonArray()) {
+					JsonObject writeRequest = element.getAsJsonObject();
+					if (writeRequest.has("PutRequest")) {
+						table.put(writeRequest.getAsJsonObject("PutRequest").getAsJsonObject("Item").deepCopy());
+					} else if (writeRequest.has("DeleteRequest")) {
+						table.remove(itemKey(writeRequest.getAsJsonObject("DeleteRequest").getAsJsonObject("Key")));
+					}
+				}
+			}
+		}
+		JsonObject response = new JsonObject();
+		response.add("UnprocessedItems", new JsonObject());
+		return response;
+	}
+
+	private JsonObject transactGetItems(JsonObject request) {
+		JsonArray responses = new JsonArray();
+		for (JsonElement element : request.getAsJsonArray("TransactItems")) {
+			JsonObject get = element.getAsJsonObject().getAsJsonObject("Get");
+			JsonObject itemResponse = getItem(get);
+			responses.add(itemResponse);
+		}
+		JsonObject response = new JsonObject();
+		response.add("Responses", responses);
+		return response;
+	}
+
+	/**
+	 * 모든 조건을 먼저 검사한 뒤 일괄 적용 (하나라도 실패하면 TransactionCanceledException)
+	 */
+	private JsonObject transactWriteItems(JsonObject request) {
+		synchronized (tables) {
+			JsonArray items = request.getAsJsonArray("TransactItems");
+			JsonArray reasons = new JsonArray();
+			boolean failed = false;
+			for (JsonElement element : items) {
+				Map.Entry<String, JsonElement> action = element.getAsJsonObject().entrySet().iterator().next();
+				JsonObject body = action.getValue().getAsJsonObject();
+				Table table = table(body);
+				JsonObject key = "Put".equals(action.getKey()) ? body.getAsJsonObject("Item") : body.getAsJsonObject("Key");
+				JsonObject reason = new JsonObject();
+				try {
+					synchronized (table) {
+						checkCondition(body, table.items.get(itemKey(key)));
+					}
+					reason.addProperty("Code", "None");
+				} catch (DynamoException e) {
+					reason.addProperty("Code", "ConditionalCheckFailed");
+					reason.addProperty("Message", e.getMessage());
+					failed = true;
+				}
+				reasons.add(reason);
+			}
+			if (failed) {
+				throw new DynamoException("TransactionCanceledException",
+						"Transaction cancelled, please refer cancellation reasons for specific reasons", reasons);
+			}
+
+			for (JsonElement element : items) {
+				Map.Entry<String, JsonElement> action = element.getAsJsonObject().entrySet().iterator().next();
+				JsonObject body = action.getValue().deepCopy().getAsJsonObject();
+				body.remove("ConditionExpression");
+				switch (action.getKey()) {
+					case "Put" -> putItem(body);
+					case "Delete" -> deleteItem(body);
+					case "Update" -> updateItem(body);
+					default -> {
+						// ConditionCheck: 조건 검사만 수행
+					}
+				}
+			}
+			return new JsonObject();
+		}
+	}
+
+	private static JsonObject describeEndpoints() {
+		JsonObject endpoint = new JsonObject();
+		endpoint.addProperty("Address", "localhost");
+		endpoint.addProperty("CachePeriodInMinutes", 1440);
+		JsonArray endpoints = new JsonArray();
+		endpoints.add(endpoint);
+		JsonObject response = new JsonObject();
+		response.add("Endpoints", endpoints);
+		return response;
+	}
+
+	// ============ 헬퍼 ============
+
+	private Table table(JsonObject request) {
+		return table(request.get("TableName").getAsString());
+	}
+
+	private Table table(String name) {
+		return tables.computeIfAbsent(name, k -> new Table());
+	}
+
+	private static String itemKey(JsonObject attributes) {
+		JsonElement pk = attributes.get(PARTITION_KEY);
+		if (pk == null) {
+			throw new DynamoException("ValidationException", "One of the required keys was not given a value");
+		}
+		JsonElement sk = attributes.get(SORT_KEY);
+		return scalar(pk) + '\u0000' + (sk != null ? scalar(sk) : "");
+	}
+
+	private static String scalar(JsonElement value) {
+		JsonObject attribute = value.getAsJsonObject();
+		String type = DynamoExpression.type(attribute);
+		return type + ':' + attribute.get(type).getAsString();
+	}
+
+	private static int compareNullable(JsonElement a, JsonElement b) {
+		if (a == null || b == null) {
+			return a == null ? (b == null ? 0 : -1) : 1;
+		}
+		Integer cmp = DynamoExpression.compare(a, b);
+		return cmp != null ? cmp : 0;
+	}
+
+	private static String optString(JsonObject request, String name) {
+		JsonElement value = request.get(name);
+		return value != null && !value.isJsonNull() ? value.getAsString() : null;
+	}
+
+	private static JsonObject string(String value) {
+		JsonObject attribute = new JsonObject();
+		attribute.addProperty("S", value);
+		return attribute;
+	}
+
+	/**
+	 * 테이블 (아이템 + 인덱스별 파티션 목록)
+	 * 파티션 목록은 "PK" 및 "GSI{n}PK" 속성으로 자동 관리
+	 */
+	private static final class Table {
+
+		private final Map<String, JsonObject> items = new TreeMap<>();
+		private final Map<String, Map<String, Set<String>>> partitions = new HashMap<>();
+
+		void put(JsonObject item) {
+			String key = itemKey(item);
+			remove(key);
+			items.put(key, item);
+			forEachPartition(item, (attribute, value) -> partitions
+					.computeIfAbsent(attribute, k -> new HashMap<>())
+					.computeIfAbsent(value, k -> new LinkedHashSet<>())
+					.add(key));
+		}
+
+		void remove(String key) {
+			JsonObject existing = items.remove(key);
+			if (existing != null) {
+				forEachPartition(existing, (attribute, value) -> {
+					Map<String, Set<String>> byValue = partitions.get(attribute);
+					Set<String> keys = byValue.get(value);
+					keys.remove(key);
+					if (keys.isEmpty()) {
+						byValue.remove(value);
+					}
+				});
+			}
+		}
+
+		List<String> partition(String attribute, String value) {
+			Set<String> keys = partitions.getOrDefault(attribute, Map.of()).get(value);
+			return keys != null ? new ArrayList<>(keys) : List.of();
+		}
+
+		private static void forEachPartition(JsonObject item, BiConsumer<String, String> action) {
+			for (Map.Entry<String, JsonElement> entry : item.entrySet()) {
+				String name = entry.getKey();
+				if (name.equals(PARTITION_KEY) || (name.startsWith("GSI") && name.endsWith("PK"))) {
+					action.accept(name, scalar(entry.getValue()));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,653 @@
+package com.mzc.secondproject.serverless.processor;
+
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.ExpressionStatementTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.tree.StatementTree;
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code @GenerateTypeAdapter} 어노테이션 프로세서
+ * <p>
+ * 어노테이션이 붙은 record / Lombok(@Data) 클래스마다 리플렉션 없는 Gson TypeAdapter를 생성하고,
+ * 전체 어댑터를 등록하는 {@code GeneratedTypeAdapterFactory}를 생성합니다.
+ * <p>
+ * 직렬화 결과는 Gson 리플렉션 어댑터와 동일하도록 맞춥니다.
+ * - 필드 선언 순서, static/transient 제외, null 필드 생략 (serializeNulls 설정 따름)
+ * - {@code @SerializedName} 지원
+ * - Object/타입 변수 필드는 런타임 타입으로 직렬화, 역직렬화는 Factory에 전달된 TypeToken의 타입 인자로 해석
+ * <p>
+ * 클래스는 Lombok 규칙의 getter/setter와 기본 생성자를, record는 canonical 생성자를 사용합니다.
+ * Gson 리플렉션은 클래스의 필드를 직접 읽고 쓰므로, 필드를 그대로 반환/대입하지 않는 접근자가 있으면 컴파일 오류로 거부합니다.
+ * (record는 Gson도 접근자 메서드를 사용하므로 검사하지 않음)
+ */
+@SupportedAnnotationTypes(TypeAdapterProcessor.ANNOTATION)
+public class TypeAdapterProcessor extends AbstractProcessor {
+
+	static final String ANNOTATION = "com.mzc.secondproject.serverless.common.json.GenerateTypeAdapter";
+	static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+	static final String FACTORY_PACKAGE = "com.mzc.secondproject.serverless.common.json";
+	static final String FACTORY_NAME = "GeneratedTypeAdapterFactory";
+	static final String ADAPTER_SUFFIX = "_GsonTypeAdapter";
+
+	private final Map<String, String> adapters = new LinkedHashMap<>();
+	private final Set<String> genericAdapters = new HashSet<>();
+	private boolean factoryWritten;
+	private Filer filer;
+	private Messager messager;
+	private Trees trees;
+
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+		this.filer = processingEnv.getFiler();
+		this.messager = processingEnv.getMessager();
+		this.trees = trees(processingEnv);
+		if (trees == null) {
+			messager.printMessage(Diagnostic.Kind.WARNING,
+					"Compiler tree API unavailable; @GenerateTypeAdapter accessors are not verified");
+		}
+	}
+
+	/**
+	 * Gradle 증분 처리 환경은 javac ProcessingEnvironment를 감싸므로 delegate를 꺼내 Trees 생성
+	 */
+	private static Trees trees(ProcessingEnvironment env) {
+		try {
+			return Trees.instance(env);
+		} catch (IllegalArgumentException e) {
+			try {
+				Field delegate = env.getClass().getDeclaredField("delegate");
+				delegate.setAccessible(true);
+				return trees((ProcessingEnvironment) delegate.get(env));
+			} catch (ReflectiveOperationException | RuntimeException ex) {
+				return null;
+			}
+		}
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+		if (annotation == null || roundEnv.processingOver()) {
+			return false;
+		}
+
+		boolean found = false;
+		for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+			if (element instanceof TypeElement type) {
+				if (factoryWritten) {
+					error(type, "@GenerateTypeAdapter on generated sources is not supported");
+					continue;
+				}
+				generateAdapter(type);
+				found = true;
+			}
+		}
+
+		// 소스 코드(JsonUtil)가 Factory를 참조하므로 마지막 라운드가 아닌 같은 라운드에서 생성
+		if (found && !adapters.isEmpty()) {
+			generateFactory();
+			factoryWritten = true;
+		}
+		return false;
+	}
+
+	// ============ TypeAdapter 생성 ============
+
+	private void generateAdapter(TypeElement type) {
+		if (type.getKind() != ElementKind.RECORD && type.getKind() != ElementKind.CLASS) {
+			error(type, "@GenerateTypeAdapter supports only classes and records");
+			return;
+		}
+		if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)
+				&& type.getKind() != ElementKind.RECORD) {
+			error(type, "@GenerateTypeAdapter does not support inner (non-static) classes");
+			return;
+		}
+		TypeMirror superclass = type.getSuperclass();
+		if (type.getKind() == ElementKind.CLASS && superclass.getKind() == TypeKind.DECLARED
+				&& !"java.lang.Object".equals(erasure(superclass))) {
+			error(type, "@GenerateTypeAdapter does not support subclasses");
+			return;
+		}
+
+		String packageName = packageOf(type).getQualifiedName().toString();
+		String adapterName = binarySimpleName(type) + ADAPTER_SUFFIX;
+		String typeName = type.getQualifiedName().toString();
+		boolean record = type.getKind() == ElementKind.RECORD;
+		boolean generic = !type.getTypeParameters().isEmpty();
+		List<Property> properties = record ? recordProperties(type) : beanProperties(type);
+		if (properties == null) {
+			return;
+		}
+		boolean runtimeTyped = properties.stream().anyMatch(p -> p.type().getKind() == TypeKind.TYPEVAR);
+
+		StringBuilder sb = new StringBuilder(4096);
+		if (!packageName.isEmpty()) {
+			sb.append("package ").append(packageName).append(";\n\n");
+		}
+		sb.append("import com.google.gson.Gson;\n")
+				.append("import com.google.gson.TypeAdapter;\n")
+				.append("import com.google.gson.reflect.TypeToken;\n")
+				.append("import com.google.gson.stream.JsonReader;\n")
+				.append("import com.google.gson.stream.JsonToken;\n")
+				.append("import com.google.gson.stream.JsonWriter;\n")
+				.append("import java.io.IOException;\n\n")
+				.append("/**\n * ").append(typeName).append(" Gson TypeAdapter (TypeAdapterProcessor 생성 코드, 수정 금지)\n */\n")
+				.append("@javax.annotation.processing.Generated(\"").append(TypeAdapterProcessor.class.getName()).append("\")\n")
+				.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+				.append("public final class ").append(adapterName).append(" extends TypeAdapter<").append(typeName).append("> {\n\n");
+
+		// 위임 어댑터 필드
+		for (Property p : properties) {
+			sb.append("\tprivate final TypeAdapter ").append(p.adapterField()).append(";\n");
+		}
+		if (runtimeTyped) {
+			sb.append("\tprivate final TypeAdapter objectAdapter;\n");
+		}
+		sb.append("\n\tpublic ").append(adapterName).append(generic ? "(Gson gson, TypeToken<?> type) {\n" : "(Gson gson) {\n");
+		for (Property p : properties) {
+			String lookup = containsTypeVariable(p.type())
+					? "gson.getAdapter(TypeToken.get(" + typeExpression(p.type(), type) + "))"
+					: adapterLookup(p.type());
+			sb.append("\t\tthis.").append(p.adapterField()).append(" = ").append(lookup).append(";\n");
+		}
+		if (runtimeTyped) {
+			sb.append("\t\tthis.objectAdapter = gson.getAdapter(Object.class);\n");
+		}
+		sb.append("\t}\n\n");
+
+		// 타입 인자 해석 (원시 타입으로 요청되면 Object)
+		if (generic) {
+			sb.append("\tprivate static java.lang.reflect.Type typeArgument(TypeToken<?> type, int index) {\n")
+					.append("\t\treturn type.getType() instanceof java.lang.reflect.ParameterizedType parameterized\n")
+					.append("\t\t\t\t? parameterized.getActualTypeArguments()[index]\n")
+					.append("\t\t\t\t: Object.class;\n")
+					.append("\t}\n\n");
+		}
+
+		// write
+		sb.append("\t@Override\n\tpublic void write(JsonWriter out, ").append(typeName).append(" value) throws IOException {\n")
+				.append("\t\tif (value == null) {\n\t\t\tout.nullValue();\n\t\t\treturn;\n\t\t}\n")
+				.append("\t\tout.beginObject();\n");
+		for (Property p : properties) {
+			sb.append("\t\tout.name(\"").append(escape(p.jsonName())).append("\");\n");
+			if (p.type().getKind().isPrimitive() && p.type().getKind() != TypeKind.CHAR) {
+				sb.append("\t\tout.value(value.").append(p.getter()).append("());\n");
+			} else if ("java.lang.String".equals(erasure(p.type()))) {
+				sb.append("\t\tout.value(value.").append(p.getter()).append("());\n");
+			} else {
+				// 타입 변수 필드는 리플렉션 Gson처럼 런타임 타입으로 직렬화
+				String adapter = p.type().getKind() == TypeKind.TYPEVAR ? "objectAdapter" : p.adapterField();
+				sb.append("\t\t").append(adapter).append(".write(out, value.").append(p.getter()).append("());\n");
+			}
+		}
+		sb.append("\t\tout.endObject();\n\t}\n\n");
+
+		// read
+		sb.append("\t@Override\n\tpublic ").append(typeName).append(" read(JsonReader in) throws IOException {\n")
+				.append("\t\tif (in.peek() == JsonToken.NULL) {\n\t\t\tin.nextNull();\n\t\t\treturn null;\n\t\t}\n");
+		if (record) {
+			for (Property p : properties) {
+				sb.append("\t\t").append(localType(p.type())).append(' ').append(p.local())
+						.append(" = ").append(defaultValue(p.type())).append(";\n");
+			}
+		} else {
+			sb.append("\t\t").append(typeName).append(" result = new ").append(typeName).append("();\n");
+		}
+		sb.append("\t\tin.beginObject();\n\t\twhile (in.hasNext()) {\n\t\t\tswitch (in.nextName()) {\n");
+		for (Property p : properties) {
+			sb.append("\t\t\t\tcase \"").append(escape(p.jsonName())).append("\" -> ");
+			String read = "(" + boxedType(p.type()) + ") " + p.adapterField() + ".read(in)";
+			if (p.type().getKind().isPrimitive()) {
+				sb.append("{\n\t\t\t\t\t").append(boxedType(p.type())).append(" v = ").append(read).append(";\n")
+						.append("\t\t\t\t\tif (v != null) {\n\t\t\t\t\t\t")
+						.append(record ? p.local() + " = v;" : "result." + p.setter() + "(v);")
+						.append("\n\t\t\t\t\t}\n\t\t\t\t}\n");
+			} else if (record) {
+				sb.append(p.local()).append(" = ").append(read).append(";\n");
+			} else {
+				sb.append("result.").append(p.setter()).append('(').append(read).append(");\n");
+			}
+		}
+		sb.append("\t\t\t\tdefault -> in.skipValue();\n\t\t\t}\n\t\t}\n\t\tin.endObject();\n");
+		if (record) {
+			sb.append("\t\treturn new ").append(typeName).append('(');
+			for (int i = 0; i < properties.size(); i++) {
+				sb.append(i > 0 ? ", " : "").append(properties.get(i).local());
+			}
+			sb.append(");\n");
+		} else {
+			sb.append("\t\treturn result;\n");
+		}
+		sb.append("\t}\n}\n");
+
+		String qualifiedAdapter = packageName.isEmpty() ? adapterName : packageName + "." + adapterName;
+		if (write(qualifiedAdapter, sb.toString(), type)) {
+			adapters.put(typeName, qualifiedAdapter);
+			if (generic) {
+				genericAdapters.add(typeName);
+			}
+		}
+	}
+
+	private List<Property> recordProperties(TypeElement type) {
+		List<Property> properties = new ArrayList<>();
+		for (RecordComponentElement component : type.getRecordComponents()) {
+			String name = component.getSimpleName().toString();
+			VariableElement field = findField(type, name);
+			properties.add(new Property(serializedName(field, name), name, component.asType(),
+					name, null));
+		}
+		return properties;
+	}
+
+	/**
+	 * 클래스 필드 목록 (접근자가 필드를 그대로 반환/대입하지 않으면 오류 후 null)
+	 */
+	private List<Property> beanProperties(TypeElement type) {
+		List<Property> properties = new ArrayList<>();
+		boolean valid = true;
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			Set<Modifier> modifiers = field.getModifiers();
+			if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+				continue;
+			}
+			String name = field.getSimpleName().toString();
+			TypeMirror fieldType = field.asType();
+			String getter = lombokGetter(name, fieldType);
+			String setter = lombokSetter(name, fieldType);
+			valid &= verifyAccessor(type, field, getter, 0);
+			valid &= verifyAccessor(type, field, setter, 1);
+			properties.add(new Property(serializedName(field, name), name, fieldType, getter, setter));
+		}
+		return valid ? properties : null;
+	}
+
+	/**
+	 * Gson 리플렉션은 필드를 직접 사용하므로, 접근자가 필드를 그대로 반환(getter)/대입(setter)하는지 확인
+	 */
+	private boolean verifyAccessor(TypeElement type, VariableElement field, String methodName, int parameterCount) {
+		// 직접 작성한 접근자만 보임 (Lombok 접근자는 이후에 필드를 그대로 반환/대입하도록 생성되고, 없으면 생성 코드가 컴파일 오류)
+		ExecutableElement method = findMethod(type, methodName, parameterCount);
+		if (method == null || trees == null) {
+			return true;
+		}
+		MethodTree tree = trees.getTree(method);
+		boolean trivial = tree != null && tree.getBody() != null && tree.getBody().getStatements().size() == 1
+				&& (parameterCount == 0
+				? isFieldReturn(tree.getBody().getStatements().get(0), field)
+				: isFieldAssignment(tree.getBody().getStatements().get(0), field, method.getParameters().get(0)));
+		if (!trivial) {
+			error(method, "@GenerateTypeAdapter accessor " + methodName + "() must only "
+					+ (parameterCount == 0 ? "return" : "assign") + " field '" + field.getSimpleName()
+					+ "' (Gson reflection serializes fields, not accessors)");
+		}
+		return trivial;
+	}
+
+	private static ExecutableElement findMethod(TypeElement type, String name, int parameterCount) {
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameterCount
+					&& !method.getModifiers().contains(Modifier.STATIC)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isFieldReturn(StatementTree statement, VariableElement field) {
+		return statement instanceof ReturnTree returnTree && isFieldReference(returnTree.getExpression(), field);
+	}
+
+	private static boolean isFieldAssignment(StatementTree statement, VariableElement field, VariableElement parameter) {
+		return statement instanceof ExpressionStatementTree expression
+				&& expression.getExpression() instanceof AssignmentTree assignment
+				&& isFieldReference(assignment.getVariable(), field)
+				&& assignment.getExpression() instanceof IdentifierTree value
+				&& value.getName().contentEquals(parameter.getSimpleName());
+	}
+
+	/**
+	 * {@code field} 또는 {@code this.field}
+	 */
+	private static boolean isFieldReference(ExpressionTree expression, VariableElement field) {
+		if (expression instanceof IdentifierTree identifier) {
+			return identifier.getName().contentEquals(field.getSimpleName());
+		}
+		return expression instanceof MemberSelectTree select
+				&& select.getIdentifier().contentEquals(field.getSimpleName())
+				&& select.getExpression() instanceof IdentifierTree owner
+				&& owner.getName().contentEquals("this");
+	}
+
+	/**
+	 * Lombok getter 이름 규칙 (boolean 필드는 isXxx, "is" 접두사 필드는 그대로)
+	 */
+	static String lombokGetter(String field, TypeMirror type) {
+		if (type.getKind() == TypeKind.BOOLEAN) {
+			return hasIsPrefix(field) ? field : "is" + capitalize(field);
+		}
+		return "get" + capitalize(field);
+	}
+
+	static String lombokSetter(String field, TypeMirror type) {
+		if (type.getKind() == TypeKind.BOOLEAN && hasIsPrefix(field)) {
+			return "set" + field.substring(2);
+		}
+		return "set" + capitalize(field);
+	}
+
+	private static boolean hasIsPrefix(String field) {
+		return field.length() > 2 && field.startsWith("is") && Character.isUpperCase(field.charAt(2));
+	}
+
+	private static String capitalize(String name) {
+		return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private String serializedName(VariableElement field, String defaultName) {
+		if (field == null) {
+			return defaultName;
+		}
+		for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+			if (SERIALIZED_NAME.equals(mirror.getAnnotationType().toString())) {
+				for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+						: mirror.getElementValues().entrySet()) {
+					if (entry.getKey().getSimpleName().contentEquals("value")) {
+						return entry.getValue().getValue().toString();
+					}
+				}
+			}
+		}
+		return defaultName;
+	}
+
+	private VariableElement findField(TypeElement type, String name) {
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (field.getSimpleName().contentEquals(name)) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	// ============ 타입 헬퍼 ============
+
+	/**
+	 * 위임 어댑터 조회 코드 (타입 변수/Object는 런타임 타입으로 직렬화하는 Object 어댑터 사용)
+	 */
+	private String adapterLookup(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return "gson.getAdapter(" + boxedType(type) + ".class)";
+		}
+		String generic = genericType(type);
+		if ("java.lang.Object".equals(generic)) {
+			return "gson.getAdapter(Object.class)";
+		}
+		if (generic.indexOf('<') < 0) {
+			return "gson.getAdapter(" + generic + ".class)";
+		}
+		return "gson.getAdapter(new TypeToken<" + generic + ">() {})";
+	}
+
+	/**
+	 * 타입 변수를 포함한 타입의 런타임 Type 생성 코드 (타입 변수는 Factory에 전달된 TypeToken의 타입 인자로 치환)
+	 */
+	private String typeExpression(TypeMirror type, TypeElement owner) {
+		if (!containsTypeVariable(type)) {
+			String generic = genericType(type);
+			return generic.indexOf('<') < 0 ? generic + ".class" : "new TypeToken<" + generic + ">() {}.getType()";
+		}
+		return switch (type.getKind()) {
+			case TYPEVAR -> "typeArgument(type, " + typeParameterIndex((TypeVariable) type, owner) + ")";
+			case ARRAY -> "TypeToken.getArray(" + typeExpression(((ArrayType) type).getComponentType(), owner) + ").getType()";
+			// ? extends X는 X로, 나머지 와일드카드는 Object로 해석 (Gson 리플렉션과 동일)
+			case WILDCARD -> ((WildcardType) type).getExtendsBound() != null
+					? typeExpression(((WildcardType) type).getExtendsBound(), owner)
+					: "Object.class";
+			default -> {
+				StringBuilder sb = new StringBuilder("TypeToken.getParameterized(").append(erasure(type)).append(".class");
+				for (TypeMirror arg : ((DeclaredType) type).getTypeArguments()) {
+					sb.append(", ").append(typeExpression(arg, owner));
+				}
+				yield sb.append(").getType()").toString();
+			}
+		};
+	}
+
+	private static int typeParameterIndex(TypeVariable variable, TypeElement owner) {
+		List<? extends TypeParameterElement> parameters = owner.getTypeParameters();
+		for (int i = 0; i < parameters.size(); i++) {
+			if (parameters.get(i).getSimpleName().contentEquals(variable.asElement().getSimpleName())) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Unknown type variable " + variable + " in " + owner);
+	}
+
+	private static boolean containsTypeVariable(TypeMirror type) {
+		return switch (type.getKind()) {
+			case TYPEVAR -> true;
+			case ARRAY -> containsTypeVariable(((ArrayType) type).getComponentType());
+			case WILDCARD -> {
+				WildcardType wildcard = (WildcardType) type;
+				yield (wildcard.getExtendsBound() != null && containsTypeVariable(wildcard.getExtendsBound()))
+						|| (wildcard.getSuperBound() != null && containsTypeVariable(wildcard.getSuperBound()));
+			}
+			case DECLARED -> ((DeclaredType) type).getTypeArguments().stream().anyMatch(TypeAdapterProcessor::containsTypeVariable);
+			default -> false;
+		};
+	}
+
+	/**
+	 * 소스 코드용 제네릭 타입 문자열 (타입 변수는 Object로 치환)
+	 */
+	private String genericType(TypeMirror type) {
+		return switch (type.getKind()) {
+			case TYPEVAR -> "java.lang.Object";
+			case ARRAY -> genericType(((ArrayType) type).getComponentType()) + "[]";
+			case WILDCARD -> {
+				WildcardType wildcard = (WildcardType) type;
+				if (wildcard.getExtendsBound() != null) {
+					yield "? extends " + genericType(wildcard.getExtendsBound());
+				}
+				if (wildcard.getSuperBound() != null) {
+					yield "? super " + genericType(wildcard.getSuperBound());
+				}
+				yield "?";
+			}
+			case DECLARED -> {
+				DeclaredType declared = (DeclaredType) type;
+				StringBuilder sb = new StringBuilder(erasure(type));
+				List<? extends TypeMirror> args = declared.getTypeArguments();
+				if (!args.isEmpty()) {
+					sb.append('<');
+					for (int i = 0; i < args.size(); i++) {
+						sb.append(i > 0 ? ", " : "").append(genericType(args.get(i)));
+					}
+					sb.append('>');
+				}
+				yield sb.toString();
+			}
+			default -> type.getKind().isPrimitive() ? type.toString() : "java.lang.Object";
+		};
+	}
+
+	private String erasure(TypeMirror type) {
+		if (type.getKind() == TypeKind.DECLARED) {
+			return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+		}
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private String localType(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return type.toString();
+		}
+		String generic = genericType(type);
+		int index = generic.indexOf('<');
+		return index < 0 ? generic : generic.substring(0, index);
+	}
+
+	private String boxedType(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) type)
+					.getQualifiedName().toString();
+		}
+		return localType(type);
+	}
+
+	private static String defaultValue(TypeMirror type) {
+		return switch (type.getKind()) {
+			case BOOLEAN -> "false";
+			case CHAR -> "'\\0'";
+			case BYTE, SHORT, INT -> "0";
+			case LONG -> "0L";
+			case FLOAT -> "0f";
+			case DOUBLE -> "0d";
+			default -> "null";
+		};
+	}
+
+	private static PackageElement packageOf(Element element) {
+		Element current = element;
+		while (!(current instanceof PackageElement)) {
+			current = current.getEnclosingElement();
+		}
+		return (PackageElement) current;
+	}
+
+	/**
+	 * 중첩 클래스는 Outer_Inner 형태의 이름 사용
+	 */
+	private static String binarySimpleName(TypeElement type) {
+		String name = type.getSimpleName().toString();
+		Element enclosing = type.getEnclosingElement();
+		while (enclosing instanceof TypeElement outer) {
+			name = outer.getSimpleName() + "_" + name;
+			enclosing = outer.getEnclosingElement();
+		}
+		return name;
+	}
+
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	// ============ Factory 생성 ============
+
+	private void generateFactory() {
+		StringBuilder sb = new StringBuilder(2048);
+		sb.append("package ").append(FACTORY_PACKAGE).append(";\n\n")
+				.append("import com.google.gson.Gson;\n")
+				.append("import com.google.gson.TypeAdapter;\n")
+				.append("import com.google.gson.TypeAdapterFactory;\n")
+				.append("import com.google.gson.reflect.TypeToken;\n\n")
+				.append("/**\n * 컴파일 시 생성된 TypeAdapter 등록 (TypeAdapterProcessor 생성 코드, 수정 금지)\n */\n")
+				.append("@javax.annotation.processing.Generated(\"").append(TypeAdapterProcessor.class.getName()).append("\")\n")
+				.append("public final class ").append(FACTORY_NAME).append(" implements TypeAdapterFactory {\n\n")
+				.append("\t/**\n\t * 생성된 어댑터 수\n\t */\n")
+				.append("\tpublic static final int ADAPTER_COUNT = ").append(adapters.size()).append(";\n\n")
+				.append("\t/**\n\t * 어댑터가 생성된 타입 목록\n\t */\n")
+				.append("\tpublic static final java.util.List<Class<?>> TYPES = java.util.List.of(");
+		int index = 0;
+		for (String typeName : adapters.keySet()) {
+			sb.append(index++ > 0 ? ",\n\t\t\t" : "\n\t\t\t").append(typeName).append(".class");
+		}
+		sb.append(");\n\n")
+				.append("\t@Override\n\t@SuppressWarnings(\"unchecked\")\n")
+				.append("\tpublic <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {\n")
+				.append("\t\tClass<?> raw = type.getRawType();\n");
+		for (Map.Entry<String, String> entry : adapters.entrySet()) {
+			sb.append("\t\tif (raw == ").append(entry.getKey()).append(".class) {\n")
+					.append("\t\t\treturn (TypeAdapter<T>) new ").append(entry.getValue())
+					.append(genericAdapters.contains(entry.getKey()) ? "(gson, type);\n" : "(gson);\n")
+					.append("\t\t}\n");
+		}
+		sb.append("\t\treturn null;\n\t}\n}\n");
+
+		write(FACTORY_PACKAGE + "." + FACTORY_NAME, sb.toString(), null);
+	}
+
+	private boolean write(String qualifiedName, String source, Element origin) {
+		try (Writer writer = (origin != null
+				? filer.createSourceFile(qualifiedName, origin)
+				: filer.createSourceFile(qualifiedName)).openWriter()) {
+			writer.write(source);
+			return true;
+		} catch (IOException e) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write " + qualifiedName + ": " + e.getMessage(), origin);
+			return false;
+		}
+	}
+
+	private void error(Element element, String message) {
+		messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	/**
+	 * 직렬화 대상 프로퍼티
+	 *
+	 * @param jsonName JSON 필드명
+	 * @param name     Java 필드/컴포넌트명
+	 * @param type     필드 타입
+	 * @param getter   접근자 메서드명
+	 * @param setter   설정자 메서드명 (record는 null)
+	 */
+	private record Property(String jsonName, String name, TypeMirror type, String getter, String setter) {
+		String adapterField() {
+			return name + "Adapter";
+		}
+
+		String local() {
+			return name + "Value";
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.mzc.secondproject.serverless.common.cache
+
+import spock.lang.Specification
+
+class InvocationCacheSpec extends Specification {
+
+    def cleanup() {
+        InvocationCache.Scope.OWNER.close()
+    }
+
+    // ==================== 스코프 Tests ====================
+
+    def "스코프 밖에서는 매번 loader 호출"() {
+        given:
+        def calls = 0
+
+        when:
+        2.times { InvocationCache.getOrLoad("ns", "k", { ++calls }) }
+
+        then:
+        calls == 2
+        !InvocationCache.isActive()
+    }
+
+    def "스코프 안에서는 같은 키를 한 번만 조회"() {
+        given:
+        def calls = 0
+
+        when:
+        def first
+        def second
+        try (def scope = InvocationCache.begin()) {
+            first = InvocationCache.getOrLoad("ns", "k", { ++calls })
+            second = InvocationCache.getOrLoad("ns", "k", { ++calls })
+        }
+
+        then:
+        calls == 1
+        first == second
+    }
+
+    def "null 결과도 캐싱"() {
+        given:
+        def calls = 0
+
+        when:
+        try (def scope = InvocationCache.begin()) {
+            2.times { InvocationCache.getOrLoad("ns", "missing", { calls++; null }) }
+        }
+
+        then:
+        calls == 1
+    }
+
+    def "스코프 종료 후 캐시 제거"() {
+        when:
+        try (def scope = InvocationCache.begin()) {
+            InvocationCache.getOrLoad("ns", "k", { "v" })
+        }
+
+        then:
+        !InvocationCache.isActive()
+    }
+
+    def "중첩 스코프는 바깥 스코프를 공유하고 닫아도 유지"() {
+        given:
+        def calls = 0
+        def outer = InvocationCache.begin()
+
+        when:
+        try (def inner = InvocationCache.begin()) {
+            InvocationCache.getOrLoad("ns", "k", { ++calls })
+        }
+        InvocationCache.getOrLoad("ns", "k", { ++calls })
+
+        then:
+        InvocationCache.isActive()
+        calls == 1
+
+        cleanup:
+        outer.close()
+    }
+
+    // ==================== 무효화 Tests ====================
+
+    def "invalidate: 단일 키만 다시 조회"() {
+        given:
+        def calls = [a: 0, b: 0]
+
+        when:
+        try (def scope = InvocationCache.begin()) {
+            InvocationCache.getOrLoad("ns", "a", { ++calls.a })
+            InvocationCache.getOrLoad("ns", "b", { ++calls.b })
+            InvocationCache.invalidate("ns", "a")
+            InvocationCache.getOrLoad("ns", "a", { ++calls.a })
+            InvocationCache.getOrLoad("ns", "b", { ++calls.b })
+        }
+
+        then:
+        calls == [a: 2, b: 1]
+    }
+
+    def "invalidateNamespace: 해당 네임스페이스만 무효화"() {
+        given:
+        def calls = [conn: 0, game: 0]
+
+        when:
+        try (def scope = InvocationCache.begin()) {
+            InvocationCache.getOrLoad("chat:Connection", "GSI1|ROOM#r1", { ++calls.conn })
+            InvocationCache.getOrLoad("chat:GameSession", "GSI1|ROOM#r1", { ++calls.game })
+            InvocationCache.invalidateNamespace("chat:Connection")
+            InvocationCache.getOrLoad("chat:Connection", "GSI1|ROOM#r1", { ++calls.conn })
+            InvocationCache.getOrLoad("chat:GameSession", "GSI1|ROOM#r1", { ++calls.game })
+        }
+
+        then:
+        calls == [conn: 2, game: 1]
+    }
+}
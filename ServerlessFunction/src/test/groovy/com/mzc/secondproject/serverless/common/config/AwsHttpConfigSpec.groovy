@@ -0,0 +1,51 @@
+package com.mzc.secondproject.serverless.common.config
+
+import spock.lang.Requires
+import spock.lang.Specification
+
+import java.time.Duration
+
+class AwsHttpConfigSpec extends Specification {
+
+    // ==================== 기본값 Tests ====================
+
+    @Requires({ !System.getenv("AWS_HTTP_MAX_CONNECTIONS") })
+    def "커넥션 풀 기본값 확인"() {
+        expect:
+        AwsHttpConfig.maxConnections() == 50
+    }
+
+    @Requires({ !System.getenv("AWS_HTTP_CONNECTION_TIMEOUT_MS") && !System.getenv("AWS_HTTP_SOCKET_TIMEOUT_MS") && !System.getenv("AWS_HTTP_CONNECTION_MAX_IDLE_MS") })
+    def "타임아웃 기본값 확인"() {
+        expect:
+        AwsHttpConfig.connectionTimeout() == Duration.ofSeconds(2)
+        AwsHttpConfig.socketTimeout() == Duration.ofSeconds(30)
+        AwsHttpConfig.connectionMaxIdle() == Duration.ofSeconds(60)
+    }
+
+    // ==================== 엔드포인트 오버라이드 Tests ====================
+
+    @Requires({ !System.getenv("AWS_ENDPOINT_URL") && !System.getenv("AWS_ENDPOINT_URL_DYNAMODB") })
+    def "엔드포인트 환경변수가 없으면 null"() {
+        expect:
+        AwsHttpConfig.endpointOverride("DYNAMODB") == null
+    }
+
+    @Requires({ !System.getenv("AWS_ENDPOINT_URL_APIGATEWAYMANAGEMENTAPI") })
+    def "서비스 전용 엔드포인트가 없으면 null"() {
+        expect:
+        AwsHttpConfig.serviceEndpointOverride("APIGATEWAYMANAGEMENTAPI") == null
+    }
+
+    // ==================== Business Logic Tests ====================
+
+    def "커넥션 풀 크기는 양수"() {
+        expect:
+        AwsHttpConfig.maxConnections() > 0
+    }
+
+    def "연결 타임아웃이 소켓 타임아웃보다 짧음"() {
+        expect:
+        AwsHttpConfig.connectionTimeout() <= AwsHttpConfig.socketTimeout()
+    }
+}
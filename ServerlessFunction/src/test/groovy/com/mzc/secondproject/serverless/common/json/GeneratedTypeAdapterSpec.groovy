@@ -0,0 +1,174 @@
+package com.mzc.secondproject.serverless.common.json
+
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.reflect.TypeToken
+import com.mzc.secondproject.serverless.common.dto.ApiResponse
+import com.mzc.secondproject.serverless.common.dto.ErrorInfo
+import com.mzc.secondproject.serverless.common.dto.PaginatedResult
+import com.mzc.secondproject.serverless.common.util.JsonUtil
+import com.mzc.secondproject.serverless.domain.chatting.dto.response.ScoreUpdateMessage
+import com.mzc.secondproject.serverless.domain.chatting.dto.response.ScoreboardResponse
+import com.mzc.secondproject.serverless.domain.chatting.dto.response.ScoreboardResponse_RankEntry_GsonTypeAdapter
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage_GsonTypeAdapter
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.lang.reflect.Modifier
+import java.lang.reflect.ParameterizedType
+import java.lang.reflect.Type
+
+class GeneratedTypeAdapterSpec extends Specification {
+
+    // 리플렉션 기반 기준 Gson (생성 어댑터 미등록)
+    @Shared
+    Gson reflective = new Gson()
+
+    @Shared
+    Gson generated = JsonUtil.gson()
+
+    def "생성된 어댑터가 JsonUtil Gson에 등록됨"() {
+        expect:
+        GeneratedTypeAdapterFactory.ADAPTER_COUNT > 0
+        generated.getAdapter(ChatMessage) instanceof ChatMessage_GsonTypeAdapter
+        generated.getAdapter(ScoreboardResponse.RankEntry) instanceof ScoreboardResponse_RankEntry_GsonTypeAdapter
+        !(reflective.getAdapter(ChatMessage) instanceof ChatMessage_GsonTypeAdapter)
+    }
+
+    def "직렬화 결과가 리플렉션 Gson과 동일: #name"() {
+        expect:
+        generated.toJson(value) == reflective.toJson(value)
+
+        where:
+        name                 | value
+        "record + 제네릭 데이터" | ApiResponse.ok("성공", [id: "room-1", count: 3])
+        "실패 응답 (null 생략)"   | ApiResponse.fail("error")
+        "record 원시 타입"      | ErrorInfo.of("COMMON_001", "잘못된 요청", 400, [field: "name"])
+        "제네릭 목록"           | new PaginatedResult<>([new ScoreboardResponse.RankEntry(1, "user-1", 30)], "cursor")
+        "중첩 record 목록"      | new ScoreboardResponse([a: 3, b: 1], [new ScoreboardResponse.RankEntry(1, "a", 3)], "PLAYING", 2, 5)
+        "Lombok 클래스"        | chatMessage()
+        "Lombok 중첩 클래스"     | ScoreUpdateMessage.RankEntry.builder().rank(1).userId("u1").score(10).change(2).build()
+    }
+
+    def "모든 생성 대상 타입이 리플렉션 Gson과 같은 JSON으로 왕복: #type.simpleName"() {
+        given:
+        def value = sample(type, type.simpleName, 0)
+        def json = reflective.toJson(value)
+
+        expect:
+        generated.toJson(value) == json
+        reflective.toJson(generated.fromJson(json, type)) == json
+
+        where:
+        type << GeneratedTypeAdapterFactory.TYPES
+    }
+
+    def "제네릭 타입 인자는 TypeToken으로 해석해 역직렬화"() {
+        given:
+        def entry = new ScoreboardResponse.RankEntry(1, "user-1", 30)
+        def responseType = TypeToken.getParameterized(ApiResponse, ScoreboardResponse.RankEntry).getType()
+        def pageType = TypeToken.getParameterized(PaginatedResult, ChatMessage).getType()
+
+        when:
+        ApiResponse<ScoreboardResponse.RankEntry> response = generated.fromJson(generated.toJson(ApiResponse.ok(entry)), responseType)
+        PaginatedResult<ChatMessage> page = generated.fromJson(generated.toJson(new PaginatedResult<>([chatMessage()], null)), pageType)
+
+        then:
+        response.data() == entry
+        page.items() == [chatMessage()]
+        response == reflective.fromJson(reflective.toJson(ApiResponse.ok(entry)), responseType)
+    }
+
+    def "serializeNulls 설정을 따름"() {
+        given:
+        def withNulls = new GsonBuilder()
+                .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+                .serializeNulls()
+                .create()
+
+        expect:
+        withNulls.toJson(ApiResponse.fail("error")) == new GsonBuilder().serializeNulls().create().toJson(ApiResponse.fail("error"))
+    }
+
+    def "record 역직렬화: 알 수 없는 필드는 무시, 누락된 원시 타입은 기본값"() {
+        when:
+        def entry = generated.fromJson('{"userId":"u1","unknown":{"x":[1,2]},"score":7}', ScoreboardResponse.RankEntry)
+
+        then:
+        entry == new ScoreboardResponse.RankEntry(0, "u1", 7)
+    }
+
+    def "Lombok 클래스 왕복 직렬화"() {
+        given:
+        def original = chatMessage()
+
+        when:
+        def restored = generated.fromJson(generated.toJson(original), ChatMessage)
+
+        then:
+        restored == original
+    }
+
+    def "null 입력 처리"() {
+        expect:
+        generated.toJson(null, ChatMessage) == "null"
+        generated.fromJson("null", ChatMessage) == null
+    }
+
+    /**
+     * 필드마다 서로 다른 값을 채운 샘플 (필드 이름 기반, 중첩 타입은 재귀)
+     */
+    private static Object sample(Type type, String name, int depth) {
+        if (type instanceof ParameterizedType) {
+            def args = type.actualTypeArguments
+            if (List.isAssignableFrom(type.rawType as Class)) {
+                return [sample(args[0], name + "-0", depth + 1), sample(args[0], name + "-1", depth + 1)]
+            }
+            if (Map.isAssignableFrom(type.rawType as Class)) {
+                return [(sample(args[0], name + "-key", depth + 1)): sample(args[1], name + "-value", depth + 1)]
+            }
+            return sample(type.rawType, name, depth)
+        }
+        if (!(type instanceof Class) || type == Object || type == String) {
+            return name
+        }
+        Class<?> cls = type as Class
+        int number = Math.abs(name.hashCode() % 1000) + 1
+        if (cls in [int, Integer]) return number
+        if (cls in [long, Long]) return number * 1000L
+        if (cls in [double, Double]) return number / 8d
+        if (cls in [boolean, Boolean]) return true
+        if (cls.isEnum()) return cls.enumConstants[number % cls.enumConstants.length]
+        if (depth > 3) return null
+        if (cls.isRecord()) {
+            def components = cls.recordComponents
+            def constructor = cls.getDeclaredConstructor(components*.type as Class[])
+            constructor.accessible = true
+            return constructor.newInstance(components.collect { sample(it.genericType, it.name, depth + 1) } as Object[])
+        }
+        def constructor = cls.getDeclaredConstructor()
+        constructor.accessible = true
+        def instance = constructor.newInstance()
+        cls.declaredFields.findAll { !Modifier.isStatic(it.modifiers) && !Modifier.isTransient(it.modifiers) && !it.synthetic }.each {
+            it.accessible = true
+            it.set(instance, sample(it.genericType, it.name, depth + 1))
+        }
+        return instance
+    }
+
+    private static ChatMessage chatMessage() {
+        ChatMessage.builder()
+                .pk("ROOM#room-1")
+                .sk("MSG#2026-01-01T00:00:00Z#msg-1")
+                .messageId("msg-1")
+                .roomId("room-1")
+                .userId("user-1")
+                .nickname("tester")
+                .content("hello \"world\"")
+                .messageType("TEXT")
+                .createdAt("2026-01-01T00:00:00Z")
+                .ttl(1767225600L)
+                .build()
+    }
+}
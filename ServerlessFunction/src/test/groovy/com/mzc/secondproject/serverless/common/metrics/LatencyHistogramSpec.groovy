@@ -0,0 +1,50 @@
+package com.mzc.secondproject.serverless.common.metrics
+
+import spock.lang.Specification
+
+class LatencyHistogramSpec extends Specification {
+
+    // ==================== 버킷 Tests ====================
+
+    def "bucketIndex: 16 미만은 정확한 값으로 기록"() {
+        expect:
+        (0..15).every { LatencyHistogram.bucketIndex(it) == it }
+    }
+
+    def "bucketIndex: 값은 자신의 버킷 범위 안에 포함"() {
+        expect:
+        [16L, 17L, 31L, 32L, 33L, 1000L, 123_456L, 60_000_000L, Long.MAX_VALUE].every { long v ->
+            int index = LatencyHistogram.bucketIndex(v)
+            LatencyHistogram.bucketLowerBound(index) <= v &&
+                    (index + 1 >= 960 || v < LatencyHistogram.bucketLowerBound(index + 1))
+        }
+    }
+
+    def "bucketMidpoint: 상대 오차 약 6% 이내"() {
+        expect:
+        [100L, 1_500L, 250_000L, 30_000_000L].every { long v ->
+            long mid = LatencyHistogram.bucketMidpoint(LatencyHistogram.bucketIndex(v))
+            Math.abs(mid - v) / (double) v <= 0.0625
+        }
+    }
+
+    // ==================== drain Tests ====================
+
+    def "drain: 통계 계산 후 초기화"() {
+        given:
+        def histogram = new LatencyHistogram()
+        [1_000L, 1_000L, 5_000L, -3L].each { histogram.record(it) }
+
+        when:
+        def snapshot = histogram.drain()
+
+        then:
+        snapshot.count() == 4
+        snapshot.sum() == 7_000
+        snapshot.min() == 0
+        snapshot.max() == 5_000
+        snapshot.counts().sum() == 4
+        snapshot.values().length == 3
+        histogram.isEmpty()
+    }
+}
@@ -0,0 +1,90 @@
+package com.mzc.secondproject.serverless.common.metrics
+
+import com.google.gson.JsonParser
+import spock.lang.Specification
+
+class MetricsSpec extends Specification {
+
+    def setup() {
+        Metrics.drain(0L)
+    }
+
+    def "drain: Operation별 EMF 문서 생성"() {
+        given:
+        Metrics.recordMicros(Metrics.ROUTE_LATENCY, "GET /news", 12_000)
+        Metrics.recordMicros(Metrics.ROUTE_LATENCY, "GET /news", 20_000)
+        Metrics.increment(Metrics.CACHE_HIT, "InvocationCache")
+
+        when:
+        def documents = Metrics.drain(1_700_000_000_000L).collect { JsonParser.parseString(it).asJsonObject }
+
+        then:
+        documents.size() == 2
+
+        and: "지연시간은 분포(Values/Counts)로 출력"
+        def route = documents.find { it.get("Operation").asString == "GET /news" }
+        def aws = route.getAsJsonObject("_aws")
+        aws.get("Timestamp").asLong == 1_700_000_000_000L
+        aws.getAsJsonArray("CloudWatchMetrics")[0].asJsonObject.getAsJsonArray("Metrics")[0].asJsonObject.get("Unit").asString == "Milliseconds"
+        def latency = route.getAsJsonObject(Metrics.ROUTE_LATENCY)
+        latency.get("Count").asLong == 2
+        latency.get("Min").asDouble == 12.0d
+        latency.get("Max").asDouble == 20.0d
+        latency.getAsJsonArray("Values").size() == latency.getAsJsonArray("Counts").size()
+
+        and: "카운터는 Count 단위 숫자"
+        def cache = documents.find { it.get("Operation").asString == "InvocationCache" }
+        cache.get(Metrics.CACHE_HIT).asLong == 1
+    }
+
+    def "drain: 전송 후 초기화되어 빈 메트릭은 출력하지 않음"() {
+        given:
+        Metrics.increment(Metrics.BROADCAST_FAILURE, "WebSocketBroadcaster.Gone")
+        Metrics.drain(0L)
+
+        expect:
+        Metrics.drain(0L).isEmpty()
+    }
+
+    def "drain: 버킷이 100개를 넘으면 병합"() {
+        given:
+        (1..400).each { Metrics.recordMicros(Metrics.AWS_CALL_LATENCY, "DynamoDb.Query", it * 1_000L) }
+
+        when:
+        def document = JsonParser.parseString(Metrics.drain(0L)[0]).asJsonObject
+        def latency = document.getAsJsonObject(Metrics.AWS_CALL_LATENCY)
+
+        then:
+        latency.getAsJsonArray("Values").size() <= 100
+        latency.getAsJsonArray("Counts").collect { it.asLong }.sum() == 400
+    }
+
+    def "drain: Operation 문자열 JSON 이스케이프"() {
+        given:
+        Metrics.increment(Metrics.CACHE_MISS, 'a"b\\c')
+
+        expect:
+        JsonParser.parseString(Metrics.drain(0L)[0]).asJsonObject.get("Operation").asString == 'a"b\\c'
+    }
+
+    def "time: 예외가 발생해도 지연시간 기록"() {
+        when:
+        Metrics.time(Metrics.REPOSITORY_LATENCY, "Repo.fail", { throw new IllegalStateException("x") })
+
+        then:
+        thrown(IllegalStateException)
+        Metrics.drain(0L).size() == 1
+    }
+
+    def "flushAfter: 핸들러 예외가 발생해도 누적 메트릭을 전송"() {
+        when:
+        Metrics.flushAfter({
+            Metrics.increment(Metrics.AWS_CALL_ERROR, "DynamoDb.PutItem")
+            throw new IllegalStateException("x")
+        })
+
+        then:
+        thrown(IllegalStateException)
+        Metrics.drain(0L).isEmpty()
+    }
+}
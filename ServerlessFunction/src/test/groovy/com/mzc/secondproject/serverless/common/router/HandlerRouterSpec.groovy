@@ -0,0 +1,100 @@
+package com.mzc.secondproject.serverless.common.router
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent
+import spock.lang.Specification
+
+class HandlerRouterSpec extends Specification {
+
+    def router = new HandlerRouter().addRoutes(
+            Route.get("/news/today", { respond("today") }),
+            Route.get("/news/{articleId}/words/{word}", { req -> respond("word:" + req.pathParameters["articleId"] + ":" + req.pathParameters["word"]) }),
+            Route.post("/news/words/{word}/sync", { req -> respond("sync:" + req.pathParameters["word"]) }),
+            Route.get("/news/{articleId}", { req -> respond("detail:" + req.pathParameters["articleId"]) }),
+            Route.get("/news", { respond("list") }),
+            Route.delete("/rooms/{roomId}", { respond("delete") }).requireQueryParams("userId"),
+            Route.get("/fail", { throw new IllegalArgumentException("bad") })
+    )
+
+    private static APIGatewayProxyResponseEvent respond(String body) {
+        new APIGatewayProxyResponseEvent().withStatusCode(200).withBody(body)
+    }
+
+    private static APIGatewayProxyRequestEvent request(String method, String path, Map<String, String> pathParams = null,
+                                                       Map<String, String> queryParams = null) {
+        new APIGatewayProxyRequestEvent()
+                .withHttpMethod(method)
+                .withPath(path)
+                .withPathParameters(pathParams)
+                .withQueryStringParameters(queryParams)
+    }
+
+    // ==================== 매칭 Tests ====================
+
+    def "route: 리터럴 세그먼트가 파라미터보다 우선"() {
+        expect:
+        router.route(request("GET", "/news/today")).body == "today"
+        router.route(request("GET", "/news/abc")).body == "detail:abc"
+    }
+
+    def "route: 마지막에 등록된 라우트도 매칭"() {
+        expect:
+        router.route(request("GET", "/news")).body == "list"
+    }
+
+    def "route: 메서드는 대소문자 무시"() {
+        expect:
+        router.route(request("get", "/news/today")).body == "today"
+    }
+
+    def "route: stage 접두사가 붙은 경로도 매칭"() {
+        expect:
+        router.route(request("GET", "/dev/news/today")).body == "today"
+        router.route(request("GET", "/api/v1/news/a1/words/apple")).body == "word:a1:apple"
+    }
+
+    def "route: 리터럴 경로 실패 시 파라미터 경로로 백트래킹"() {
+        expect: "news/words 리터럴 노드에 GET 라우트가 없으므로 {articleId}로 매칭"
+        router.route(request("GET", "/news/words")).body == "detail:words"
+        router.route(request("POST", "/news/words/apple/sync")).body == "sync:apple"
+    }
+
+    // ==================== Path 파라미터 Tests ====================
+
+    def "route: API Gateway가 pathParameters를 전달하지 않으면 직접 추출"() {
+        expect:
+        router.route(request("GET", "/news/a1/words/apple", null)).body == "word:a1:apple"
+    }
+
+    def "route: API Gateway가 전달한 pathParameters 우선"() {
+        expect:
+        router.route(request("GET", "/news/a1/words/apple", ["articleId": "decoded id", "word": "apple"])).body == "word:decoded id:apple"
+    }
+
+    // ==================== 에러 처리 Tests ====================
+
+    def "route: 매칭되는 라우트가 없으면 404"() {
+        expect:
+        router.route(request("PATCH", "/news/today")).statusCode == 404
+        router.route(request("GET", "/unknown")).statusCode == 404
+    }
+
+    def "route: 필수 Query 파라미터 누락 시 400"() {
+        when:
+        def response = router.route(request("DELETE", "/rooms/r1"))
+
+        then:
+        response.statusCode == 400
+        response.body.contains("userId is required")
+    }
+
+    def "route: 필수 Query 파라미터가 있으면 핸들러 호출"() {
+        expect:
+        router.route(request("DELETE", "/rooms/r1", null, ["userId": "u1"])).body == "delete"
+    }
+
+    def "route: IllegalArgumentException은 400으로 변환"() {
+        expect:
+        router.route(request("GET", "/fail")).statusCode == 400
+    }
+}
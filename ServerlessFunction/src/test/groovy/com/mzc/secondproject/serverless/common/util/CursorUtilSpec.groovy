@@ -1,5 +1,6 @@
 package com.mzc.secondproject.serverless.common.util
 
+import software.amazon.awssdk.core.SdkBytes
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue
 import spock.lang.Specification
 
@@ -95,4 +96,117 @@ class CursorUtilSpec extends Specification {
         decoded != null
         decoded["PK"].s() == "SINGLE#key"
     }
+
+    // ==================== 타입 보존 Tests ====================
+
+    def "encode-decode: 숫자 정렬 키 타입 보존"() {
+        given:
+        def original = [
+                "PK"       : AttributeValue.builder().s("ROOM#r1").build(),
+                "createdAt": AttributeValue.builder().n("1768900000123").build()
+        ]
+
+        when:
+        def decoded = CursorUtil.decode(CursorUtil.encode(original))
+
+        then:
+        decoded == original
+        decoded["createdAt"].n() == "1768900000123"
+        decoded["createdAt"].s() == null
+    }
+
+    def "encode-decode: 구분자 문자(|, =)와 유니코드가 포함된 값"() {
+        given:
+        def original = ["PK": AttributeValue.builder().s("a|b=c|단어=뜻").build()]
+
+        expect:
+        CursorUtil.decode(CursorUtil.encode(original)) == original
+    }
+
+    def "encode-decode: 바이너리/불리언/중첩 타입 왕복"() {
+        given:
+        def original = [
+                "B"   : AttributeValue.builder().b(SdkBytes.fromByteArray([0, 1, 127, -1] as byte[])).build(),
+                "BOOL": AttributeValue.builder().bool(true).build(),
+                "NUL" : AttributeValue.builder().nul(true).build(),
+                "SS"  : AttributeValue.builder().ss("a", "b").build(),
+                "NS"  : AttributeValue.builder().ns("1", "2.5").build(),
+                "L"   : AttributeValue.builder().l(AttributeValue.builder().s("x").build()).build(),
+                "M"   : AttributeValue.builder().m(["k": AttributeValue.builder().n("3").build()]).build()
+        ]
+
+        expect:
+        CursorUtil.decode(CursorUtil.encode(original)) == original
+    }
+
+    def "encode-decode: 긴 값(varint 다중 바이트 길이)"() {
+        given:
+        def original = ["PK": AttributeValue.builder().s("x" * 20000).build()]
+
+        expect:
+        CursorUtil.decode(CursorUtil.encode(original)) == original
+    }
+
+    def "decode: 이전 텍스트 포맷 커서 호환"() {
+        given:
+        def legacy = Base64.urlEncoder.encodeToString("PK=USER#u1|SK=WORD#w1".bytes)
+
+        when:
+        def decoded = CursorUtil.decode(legacy)
+
+        then:
+        decoded["PK"].s() == "USER#u1"
+        decoded["SK"].s() == "WORD#w1"
+    }
+
+    def "decode: 잘린 바이너리 커서는 null"() {
+        given:
+        def cursor = CursorUtil.encode(["PK": AttributeValue.builder().s("USER#u1").build()])
+        def bytes = Base64.urlDecoder.decode(cursor)
+        def truncated = Base64.urlEncoder.encodeToString(Arrays.copyOf(bytes, bytes.length - 2))
+
+        expect:
+        CursorUtil.decode(truncated) == null
+    }
+
+    // ==================== HMAC Tests ====================
+
+    def "HMAC: 서명된 커서 왕복"() {
+        given:
+        def secret = "test-secret".bytes
+        def original = ["PK": AttributeValue.builder().s("USER#u1").build()]
+
+        expect:
+        CursorUtil.decode(CursorUtil.encode(original, secret), secret) == original
+    }
+
+    def "HMAC: 변조된 커서는 null"() {
+        given:
+        def secret = "test-secret".bytes
+        def bytes = Base64.urlDecoder.decode(CursorUtil.encode(["PK": AttributeValue.builder().s("USER#u1").build()], secret))
+        bytes[bytes.length - 20] ^= 0x01
+        def tampered = Base64.urlEncoder.withoutPadding().encodeToString(bytes)
+
+        expect:
+        CursorUtil.decode(tampered, secret) == null
+    }
+
+    def "HMAC: 다른 키, 미서명 커서, 이전 포맷은 거부"() {
+        given:
+        def secret = "test-secret".bytes
+        def original = ["PK": AttributeValue.builder().s("USER#u1").build()]
+
+        expect:
+        CursorUtil.decode(CursorUtil.encode(original, "other".bytes), secret) == null
+        CursorUtil.decode(CursorUtil.encode(original, null), secret) == null
+        CursorUtil.decode(Base64.urlEncoder.encodeToString("PK=USER#u1".bytes), secret) == null
+    }
+
+    def "HMAC: 키가 없으면 서명된 커서를 검증할 수 없어 거부"() {
+        given:
+        def cursor = CursorUtil.encode(["PK": AttributeValue.builder().s("USER#u1").build()], "test-secret".bytes)
+
+        expect:
+        CursorUtil.decode(cursor, null) == null
+    }
 }
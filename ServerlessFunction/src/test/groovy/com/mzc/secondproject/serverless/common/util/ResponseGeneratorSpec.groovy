@@ -0,0 +1,110 @@
+package com.mzc.secondproject.serverless.common.util
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent
+import spock.lang.Specification
+
+import java.util.zip.GZIPInputStream
+
+class ResponseGeneratorSpec extends Specification {
+
+    private static APIGatewayProxyRequestEvent request(String method, Map<String, String> headers = null) {
+        new APIGatewayProxyRequestEvent().withHttpMethod(method).withHeaders(headers)
+    }
+
+    // ==================== 직렬화 Tests ====================
+
+    def "createResponse: pretty print 없이 compact JSON으로 직렬화"() {
+        when:
+        def response = ResponseGenerator.ok([name: "apple", level: 1])
+
+        then:
+        response.statusCode == 200
+        !response.body.contains("\n")
+        response.body.contains('"name":"apple"')
+    }
+
+    def "toJson: 재사용 버퍼에 이전 결과가 남지 않음"() {
+        expect:
+        ResponseGenerator.toJson([a: "x" * 1000]).length() > ResponseGenerator.toJson([b: 1]).length()
+        ResponseGenerator.toJson([b: 1]) == '{"b":1}'
+    }
+
+    // ==================== ETag Tests ====================
+
+    def "negotiate: GET 200 응답에 ETag 추가"() {
+        when:
+        def response = ResponseGenerator.negotiate(request("GET"), ResponseGenerator.ok([1, 2, 3]))
+
+        then:
+        response.statusCode == 200
+        response.headers["ETag"] ==~ /"[A-Za-z0-9_-]+"/
+        response.headers["Access-Control-Allow-Origin"] == "*"
+    }
+
+    def "negotiate: 같은 본문은 같은 ETag"() {
+        expect:
+        ResponseGenerator.negotiate(request("GET"), ResponseGenerator.ok([1, 2])).headers["ETag"] ==
+                ResponseGenerator.negotiate(request("GET"), ResponseGenerator.ok([1, 2])).headers["ETag"]
+    }
+
+    def "negotiate: If-None-Match 일치 시 본문 없는 304"() {
+        given:
+        def etag = ResponseGenerator.negotiate(request("GET"), ResponseGenerator.ok("words")).headers["ETag"]
+
+        when:
+        def response = ResponseGenerator.negotiate(request("GET", ["if-none-match": "W/" + etag]), ResponseGenerator.ok("words"))
+
+        then:
+        response.statusCode == 304
+        response.body == null
+        response.headers["ETag"] == etag
+    }
+
+    def "negotiate: If-None-Match 불일치 시 200 유지"() {
+        when:
+        def response = ResponseGenerator.negotiate(request("GET", ["If-None-Match": '"stale"']), ResponseGenerator.ok("words"))
+
+        then:
+        response.statusCode == 200
+        response.body != null
+    }
+
+    def "negotiate: GET이 아니거나 200이 아니면 ETag 미적용"() {
+        expect:
+        ResponseGenerator.negotiate(request("POST"), ResponseGenerator.ok("a")).headers["ETag"] == null
+        ResponseGenerator.negotiate(request("GET"), ResponseGenerator.notFound("a")).headers["ETag"] == null
+    }
+
+    // ==================== gzip Tests ====================
+
+    def "negotiate: Accept-Encoding gzip + 임계값 이상이면 압축"() {
+        given:
+        def original = ResponseGenerator.ok("x" * 2000)
+        def originalBody = original.body
+
+        when:
+        def response = ResponseGenerator.negotiate(request("POST", ["Accept-Encoding": "gzip, deflate"]), original, 1024)
+
+        then:
+        response.isBase64Encoded
+        response.headers["Content-Encoding"] == "gzip"
+        new GZIPInputStream(new ByteArrayInputStream(Base64.decoder.decode(response.body))).text == originalBody
+    }
+
+    def "negotiate: 임계값 미만, gzip 미지원, q=0이면 압축하지 않음"() {
+        expect:
+        !ResponseGenerator.negotiate(request("POST", headers), ResponseGenerator.ok("x" * size), 1024).isBase64Encoded
+
+        where:
+        headers                         | size
+        ["Accept-Encoding": "gzip"]     | 10
+        ["Accept-Encoding": "br"]       | 2000
+        ["Accept-Encoding": "gzip;q=0"] | 2000
+        null                            | 2000
+    }
+
+    def "negotiate: 기본 설정은 gzip 비활성화"() {
+        expect:
+        !ResponseGenerator.negotiate(request("POST", ["Accept-Encoding": "gzip"]), ResponseGenerator.ok("x" * 5000)).isBase64Encoded
+    }
+}
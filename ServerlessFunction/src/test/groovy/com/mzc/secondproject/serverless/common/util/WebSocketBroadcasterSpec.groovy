@@ -0,0 +1,153 @@
+package com.mzc.secondproject.serverless.common.util
+
+import com.mzc.secondproject.serverless.domain.chatting.model.Connection
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException
+import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiAsyncClient
+import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagementApiClient
+import software.amazon.awssdk.services.apigatewaymanagementapi.model.GoneException
+import software.amazon.awssdk.services.apigatewaymanagementapi.model.PostToConnectionRequest
+import software.amazon.awssdk.services.apigatewaymanagementapi.model.PostToConnectionResponse
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+
+class WebSocketBroadcasterSpec extends Specification {
+
+    ApiGatewayManagementApiClient syncClient = Mock()
+    ApiGatewayManagementApiAsyncClient asyncClient = Mock()
+
+    static List<Connection> connections(String... ids) {
+        ids.collect { Connection.builder().connectionId(it).roomId("room-1").build() }
+    }
+
+    static CompletableFuture<PostToConnectionResponse> ok() {
+        CompletableFuture.completedFuture(PostToConnectionResponse.builder().build())
+    }
+
+    static CompletableFuture<PostToConnectionResponse> gone() {
+        CompletableFuture.failedFuture(GoneException.builder().message("gone").build())
+    }
+
+    // ==================== fanOut (async) Tests ====================
+
+    def "fanOut: Gone 연결과 실패 연결을 구분해 집계"() {
+        given:
+        def broadcaster = new WebSocketBroadcaster(syncClient, asyncClient, 4, 500)
+
+        when:
+        def result = broadcaster.fanOut(connections("c1", "c2", "c3"), "hello")
+
+        then:
+        3 * asyncClient.postToConnection(_ as PostToConnectionRequest) >> { PostToConnectionRequest request ->
+            switch (request.connectionId()) {
+                case "c1": return ok()
+                case "c2": return gone()
+                default: return CompletableFuture.failedFuture(new RuntimeException("boom"))
+            }
+        }
+        0 * syncClient._
+
+        and:
+        result.total() == 3
+        result.delivered() == 1
+        result.goneConnectionIds() == ["c2"]
+        result.failedConnectionIds() == ["c3"]
+    }
+
+    def "fanOut: 일시 오류는 애플리케이션에서 다시 보내지 않음 (재시도는 SDK 정책)"() {
+        given:
+        def broadcaster = new WebSocketBroadcaster(syncClient, asyncClient, 4, 500)
+
+        when:
+        def result = broadcaster.fanOut(connections("c1", "c2"), "hello")
+
+        then:
+        2 * asyncClient.postToConnection(_ as PostToConnectionRequest) >> { PostToConnectionRequest request ->
+            request.connectionId() == "c1" ? ok() : CompletableFuture.failedFuture(new RuntimeException("throttled"))
+        }
+
+        and:
+        result.delivered() == 1
+        result.failedConnectionIds() == ["c2"]
+    }
+
+    def "fanOut: Gone은 재시도하지 않음"() {
+        given:
+        def broadcaster = new WebSocketBroadcaster(syncClient, asyncClient, 4, 500)
+
+        when:
+        def result = broadcaster.fanOut(connections("c1", "c2"), "hello")
+
+        then:
+        2 * asyncClient.postToConnection(_ as PostToConnectionRequest) >> { gone() }
+
+        and:
+        result.goneConnectionIds() == ["c1", "c2"]
+    }
+
+    def "fanOut: 요청마다 apiCallTimeout을 지정하고 타임아웃 후 다시 보내지 않음"() {
+        given:
+        def broadcaster = new WebSocketBroadcaster(syncClient, asyncClient, 4, 50)
+        def timeouts = []
+
+        when:
+        def result = broadcaster.fanOut(connections("c1", "c2"), "hello")
+
+        then:
+        2 * asyncClient.postToConnection(_ as PostToConnectionRequest) >> { PostToConnectionRequest request ->
+            timeouts << request.overrideConfiguration().flatMap { it.apiCallTimeout() }.orElse(null)
+            CompletableFuture.failedFuture(ApiCallTimeoutException.create(50))
+        }
+
+        and:
+        timeouts == [Duration.ofMillis(50), Duration.ofMillis(50)]
+        result.failedConnectionIds() == ["c1", "c2"]
+    }
+
+    // ==================== sequential mode Tests ====================
+
+    def "fanOut: async 클라이언트가 없으면 순차 전송"() {
+        given:
+        def broadcaster = new WebSocketBroadcaster(syncClient, null, 4, 500)
+
+        when:
+        def result = broadcaster.fanOut(connections("c1", "c2"), "hello")
+
+        then:
+        1 * syncClient.postToConnection({ it.connectionId() == "c1" } as PostToConnectionRequest) >> PostToConnectionResponse.builder().build()
+        1 * syncClient.postToConnection({ it.connectionId() == "c2" } as PostToConnectionRequest) >> { throw GoneException.builder().message("gone").build() }
+
+        and:
+        result.goneConnectionIds() == ["c2"]
+        result.delivered() == 1
+    }
+
+    def "broadcast: Gone과 실패 연결을 모두 반환 (기존 호출부 호환)"() {
+        given:
+        def broadcaster = new WebSocketBroadcaster(syncClient, asyncClient, 4, 500)
+
+        when:
+        def failed = broadcaster.broadcast(connections("c1", "c2", "c3"), "hello")
+
+        then:
+        3 * asyncClient.postToConnection(_ as PostToConnectionRequest) >> { PostToConnectionRequest request ->
+            request.connectionId() == "c1" ? ok() : (request.connectionId() == "c2" ? gone() : CompletableFuture.failedFuture(new RuntimeException("boom")))
+        }
+
+        and:
+        failed == ["c2", "c3"]
+    }
+
+    def "fanOut: 빈 목록은 전송하지 않음"() {
+        given:
+        def broadcaster = new WebSocketBroadcaster(syncClient, asyncClient, 4, 500)
+
+        when:
+        def result = broadcaster.fanOut([], "hello")
+
+        then:
+        0 * asyncClient._
+        result.total() == 0
+    }
+}
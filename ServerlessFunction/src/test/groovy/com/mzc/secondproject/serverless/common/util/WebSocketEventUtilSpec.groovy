@@ -0,0 +1,24 @@
+package com.mzc.secondproject.serverless.common.util
+
+import spock.lang.Specification
+
+class WebSocketEventUtilSpec extends Specification {
+
+    def "extractConnectedAt: requestContext.connectedAt(epoch ms) 추출"() {
+        expect:
+        WebSocketEventUtil.extractConnectedAt([requestContext: [connectedAt: connectedAt]]) == expected
+
+        where:
+        connectedAt        | expected
+        1767225610000L     | 1767225610000L
+        1.76722561E12d     | 1767225610000L
+        "1767225610000"    | 1767225610000L
+        "not-a-number"     | null
+        null               | null
+    }
+
+    def "extractConnectedAt: requestContext가 없으면 null"() {
+        expect:
+        WebSocketEventUtil.extractConnectedAt([:]) == null
+    }
+}
@@ -0,0 +1,175 @@
+package com.mzc.secondproject.serverless.domain.chatting.deadline
+
+import com.mzc.secondproject.serverless.domain.chatting.enums.DeadlineType
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicLong
+
+class DeadlineSweeperSpec extends Specification {
+
+    static final long BUCKET_MS = 10_000
+    static final long TICK_MS = 250
+    static final long POLL_MS = 1_000
+    static final long LOOKBACK_MS = 60_000
+
+    AtomicLong clock = new AtomicLong(1_000_000)
+    InMemoryStore store = new InMemoryStore()
+    List<List> fired = []
+
+    DeadlineSweeper sweeper(Closure dispatch = { Deadline d -> fired << [d.targetId(), clock.get()] }) {
+        new DeadlineSweeper(store, dispatch as java.util.function.Consumer<Deadline>,
+                { clock.get() }, { long ms -> clock.addAndGet(ms) },
+                BUCKET_MS, TICK_MS, POLL_MS, LOOKBACK_MS)
+    }
+
+    static Deadline deadline(String id, long dueAt) {
+        new Deadline(DeadlineType.CATCHMIND_ROUND, id, "room-1", 1, dueAt)
+    }
+
+    def "sweep: 만료 시각 이후 한 틱 안에 처리하고 처리한 기한은 삭제"() {
+        given:
+        store.put(deadline("a", 1_003_100))
+        store.put(deadline("b", 1_025_000))
+
+        when:
+        def result = sweeper().sweep(30_000)
+
+        then:
+        fired.collect { it[0] } == ["a", "b"]
+        fired[0][1] >= 1_003_100 && fired[0][1] < 1_003_100 + TICK_MS
+        fired[1][1] >= 1_025_000 && fired[1][1] < 1_025_000 + TICK_MS
+        result.fired() == 2
+        store.isEmpty()
+    }
+
+    def "sweep: 이전 실행 사이에 만료된 기한은 시작하자마자 처리"() {
+        given:
+        store.put(deadline("missed", clock.get() - 30_000))
+
+        when:
+        sweeper().sweep(1_000)
+
+        then:
+        fired == [["missed", 1_000_000L]]
+    }
+
+    def "sweep: 실행 중 등록된 기한도 처리"() {
+        given:
+        def sweeper = sweeper { Deadline d ->
+            fired << [d.targetId(), clock.get()]
+            if (d.targetId() == "first") {
+                store.put(deadline("second", clock.get() + 4_000))
+            }
+        }
+        store.put(deadline("first", clock.get() + 2_000))
+
+        when:
+        sweeper.sweep(10_000)
+
+        then:
+        fired.collect { it[0] } == ["first", "second"]
+        fired[1][1] >= 1_006_000 && fired[1][1] < 1_006_000 + TICK_MS
+    }
+
+    def "sweep: 처리에 실패한 기한은 삭제하지 않고 다음 실행으로 남김"() {
+        given:
+        store.put(deadline("ok", clock.get() + 500))
+        store.put(deadline("boom", clock.get() + 500))
+
+        when:
+        def result = sweeper { Deadline d ->
+            if (d.targetId() == "boom") {
+                throw new IllegalStateException("fail")
+            }
+        }.sweep(2_000)
+
+        then:
+        result.fired() == 1
+        result.failed() == 1
+        store.keys() == ["CATCHMIND_ROUND#boom#1"] as Set
+    }
+
+    def "sweep: 실행 시간 안에 만료되지 않은 기한은 남겨두고 다음 실행에서 처리"() {
+        given:
+        store.put(deadline("soon", clock.get() + 5_500))
+        store.put(deadline("later", clock.get() + 120_000))
+
+        when:
+        def result = sweeper().sweep(5_000)
+
+        then:
+        fired.isEmpty()
+        result.pending() == 1
+        store.keys().size() == 2
+    }
+
+    def "sweep: 실행 시간 안에 만료될 기한이 없으면 기다리지 않고 바로 종료"() {
+        given:
+        store.put(deadline("next-run", clock.get() + 120_000))
+
+        when:
+        def result = sweeper().sweep(55_000)
+
+        then:
+        clock.get() == 1_000_000
+        result.fired() == 0
+        store.keys().size() == 1
+    }
+
+    def "sweep: 현재/다음 버킷이 비어 있어도 실행 시간 안에 만료될 기한이 있으면 기다려서 처리"() {
+        given:
+        store.put(deadline("far", clock.get() + 40_000))
+
+        when:
+        def result = sweeper().sweep(55_000)
+
+        then:
+        result.fired() == 1
+        fired[0][1] >= 1_040_000 && fired[0][1] < 1_040_000 + TICK_MS
+        clock.get() < 1_041_000
+    }
+
+    def "sweep: 마지막 기한 처리 중 등록된 기한이 있으면 종료하지 않고 처리"() {
+        given:
+        def sweeper = sweeper { Deadline d ->
+            fired << [d.targetId(), clock.get()]
+            if (d.targetId() == "round-1") {
+                store.put(deadline("round-2", clock.get() + 30_000))
+            }
+        }
+        store.put(deadline("round-1", clock.get() + 1_000))
+
+        when:
+        sweeper.sweep(55_000)
+
+        then:
+        fired.collect { it[0] } == ["round-1", "round-2"]
+    }
+
+    static class InMemoryStore implements DeadlineStore {
+        private final Map<Long, Map<String, Deadline>> buckets = [:]
+
+        void put(Deadline deadline) {
+            buckets.computeIfAbsent(Deadline.bucketStart(deadline.dueAt(), BUCKET_MS)) { [:] }
+                    .put(deadline.key(), deadline)
+        }
+
+        @Override
+        List<Deadline> findBucket(long bucketStart) {
+            new ArrayList<>(buckets.getOrDefault(bucketStart, [:]).values())
+        }
+
+        @Override
+        void deleteAll(List<Deadline> deadlines) {
+            deadlines.each { buckets.get(Deadline.bucketStart(it.dueAt(), BUCKET_MS))?.remove(it.key()) }
+        }
+
+        boolean isEmpty() {
+            buckets.values().every { it.isEmpty() }
+        }
+
+        Set<String> keys() {
+            buckets.values().collectMany { it.keySet() } as Set
+        }
+    }
+}
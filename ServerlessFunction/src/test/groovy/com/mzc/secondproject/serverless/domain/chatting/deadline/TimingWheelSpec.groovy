@@ -0,0 +1,92 @@
+package com.mzc.secondproject.serverless.domain.chatting.deadline
+
+import spock.lang.Specification
+
+class TimingWheelSpec extends Specification {
+
+    def "advance: 만료 시각 전에는 반환하지 않고 만료 시각에 반환"() {
+        given:
+        def wheel = new TimingWheel<String>(100, 8, 0)
+        wheel.add(350, "a")
+
+        expect:
+        wheel.advance(300).isEmpty()
+        wheel.advance(349).isEmpty()
+        wheel.advance(350) == ["a"]
+        wheel.size() == 0
+    }
+
+    def "advance: 하위 단계 범위를 넘는 항목도 상위 단계에서 내려와 만료"() {
+        given:
+        def wheel = new TimingWheel<String>(100, 4, 0)
+        wheel.add(250, "near")
+        wheel.add(1_050, "far")
+        wheel.add(7_320, "farther")
+
+        when:
+        def fired = []
+        def firedAt = [:]
+        for (long now = 0; now <= 8_000; now += 50) {
+            wheel.advance(now).each {
+                fired << it
+                firedAt[it] = now
+            }
+        }
+
+        then:
+        fired == ["near", "far", "farther"]
+        firedAt == [near: 250L, far: 1_050L, farther: 7_350L]
+        wheel.size() == 0
+    }
+
+    def "advance: 한 번에 여러 틱을 건너뛰어도 만료 순서대로 반환"() {
+        given:
+        def wheel = new TimingWheel<String>(100, 4, 0)
+        wheel.add(2_500, "c")
+        wheel.add(120, "a")
+        wheel.add(990, "b")
+        wheel.add(9_000, "d")
+
+        expect:
+        wheel.advance(3_000) == ["a", "b", "c"]
+        wheel.size() == 1
+        wheel.advance(8_999).isEmpty()
+        wheel.advance(9_000) == ["d"]
+    }
+
+    def "add: 이미 지난 시각의 항목은 다음 advance에서 바로 반환"() {
+        given:
+        def wheel = new TimingWheel<String>(100, 8, 1_000)
+        wheel.advance(1_500)
+        wheel.add(200, "late")
+
+        expect:
+        wheel.advance(1_500) == ["late"]
+    }
+
+    def "advance: 비어 있으면 먼 시각으로 바로 이동"() {
+        given:
+        def wheel = new TimingWheel<String>(1, 4, 0)
+
+        when:
+        def fired = wheel.advance(Long.MAX_VALUE / 2 as long)
+        wheel.add(Long.MAX_VALUE / 2 + 3 as long, "x")
+
+        then:
+        fired.isEmpty()
+        wheel.advance(Long.MAX_VALUE / 2 + 3 as long) == ["x"]
+    }
+
+    def "생성자: 잘못된 설정이면 예외"() {
+        when:
+        new TimingWheel<String>(tickMs, wheelSize, 0)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        tickMs | wheelSize
+        0      | 8
+        100    | 1
+    }
+}
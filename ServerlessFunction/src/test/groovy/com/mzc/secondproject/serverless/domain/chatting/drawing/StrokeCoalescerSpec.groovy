@@ -0,0 +1,92 @@
+package com.mzc.secondproject.serverless.domain.chatting.drawing
+
+import com.mzc.secondproject.serverless.domain.chatting.dto.request.DrawingStroke
+import spock.lang.Specification
+
+class StrokeCoalescerSpec extends Specification {
+
+    def coalescer = new StrokeCoalescer(8, 32)
+
+    static DrawingStroke stroke(String color, Integer width, List<Integer> points) {
+        DrawingStroke.builder().color(color).width(width).points(points as int[]).build()
+    }
+
+    // ==================== coalesce Tests ====================
+
+    def "coalesce: 이어지는 같은 스타일 획은 하나로 병합"() {
+        given: "첫 획 끝점 (13, 22) 에서 두 번째 획 시작"
+        def strokes = [
+                stroke("#000000", 3, [10, 20, 1, 1, 2, 1]),
+                stroke("#000000", 3, [13, 22, 4, -2]),
+                stroke("#000000", 3, [17, 20, 0, 5])
+        ]
+
+        when:
+        def merged = coalescer.coalesce(strokes)
+
+        then: "중복 시작점은 제외되고 delta만 이어붙음"
+        merged.size() == 1
+        merged[0].points == [10, 20, 1, 1, 2, 1, 4, -2, 0, 5] as int[]
+        StrokeCoalescer.endPoint(merged[0].points) == [17, 25] as int[]
+    }
+
+    def "coalesce: 스타일이 다르거나 끊어진 획은 유지"() {
+        given:
+        def strokes = [
+                stroke("#000000", 3, [10, 20, 1, 1]),
+                stroke("#ff0000", 3, [11, 21, 1, 1]),
+                stroke("#ff0000", 5, [12, 22, 1, 1]),
+                stroke("#ff0000", 5, [50, 50, 1, 1])
+        ]
+
+        when:
+        def merged = coalescer.coalesce(strokes)
+
+        then:
+        merged.size() == 4
+    }
+
+    def "coalesce: 지우개 여부가 다르면 병합하지 않음"() {
+        given:
+        def strokes = [
+                stroke("#000000", 3, [0, 0, 1, 0]),
+                DrawingStroke.builder().color("#000000").width(3).eraser(true).points([1, 0, 1, 0] as int[]).build()
+        ]
+
+        expect:
+        coalescer.coalesce(strokes).size() == 2
+    }
+
+    // ==================== 검증 Tests ====================
+
+    def "coalesce: 획 수 초과"() {
+        when:
+        coalescer.coalesce((1..9).collect { stroke("#000000", 3, [it * 10, 0]) })
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "coalesce: 좌표 수 초과"() {
+        when:
+        coalescer.coalesce([stroke("#000000", 3, [0] * 66)])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "coalesce: 잘못된 좌표 배열"() {
+        when:
+        coalescer.coalesce([stroke("#000000", width, points)])
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        width | points
+        3     | null
+        3     | []
+        3     | [1, 2, 3]
+        0     | [1, 2]
+    }
+}
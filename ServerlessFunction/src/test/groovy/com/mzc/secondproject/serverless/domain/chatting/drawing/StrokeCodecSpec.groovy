@@ -0,0 +1,84 @@
+package com.mzc.secondproject.serverless.domain.chatting.drawing
+
+import com.mzc.secondproject.serverless.domain.chatting.dto.request.DrawingStroke
+import spock.lang.Specification
+
+class StrokeCodecSpec extends Specification {
+
+    static DrawingStroke stroke(String color, Integer width, Boolean eraser, List<Integer> points) {
+        DrawingStroke.builder().color(color).width(width).eraser(eraser).points(points as int[]).build()
+    }
+
+    // ==================== encode/decode Tests ====================
+
+    def "encode/decode: 획 목록 왕복 변환"() {
+        given:
+        def strokes = [
+                stroke("#FF8800", 3, false, [120, 340, 1, -1, 2, 0, -3, 5]),
+                stroke("#000000", 12, true, [0, 0]),
+                stroke("#12ab34", 1, null, [800, 600, -70000, 70000])
+        ]
+
+        when:
+        def decoded = StrokeCodec.decode(StrokeCodec.encode(strokes))
+
+        then:
+        decoded.size() == 3
+        decoded[0].color == "#ff8800"
+        decoded[0].width == 3
+        !decoded[0].eraser
+        decoded[0].points == [120, 340, 1, -1, 2, 0, -3, 5] as int[]
+        decoded[1].eraser
+        decoded[1].width == 12
+        decoded[2].points == [800, 600, -70000, 70000] as int[]
+    }
+
+    def "encode: 색상이 없으면 검정, 굵기가 없으면 1"() {
+        when:
+        def decoded = StrokeCodec.decode(StrokeCodec.encode([stroke(null, null, null, [5, 5])]))
+
+        then:
+        decoded[0].color == "#000000"
+        decoded[0].width == 1
+    }
+
+    def "encode: 작은 delta는 좌표당 1바이트"() {
+        given: "100개 점, 모든 delta가 -64 ~ 63 범위"
+        def points = [400, 300] + (1..99).collectMany { [it % 2 == 0 ? 3 : -2, 1] }
+
+        when:
+        def bytes = Base64.decoder.decode(StrokeCodec.encode([stroke("#000000", 3, false, points)]))
+
+        then: "헤더(version 1 + count 1 + rgb 3 + width 1 + flags 1 + pointCount 1) + 첫 점 4 + delta 198"
+        bytes.length == 8 + 4 + 198
+    }
+
+    def "encode: 잘못된 색상 형식"() {
+        when:
+        StrokeCodec.encode([stroke(color, 3, false, [0, 0])])
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        color << ["red", "#12345", "#GGGGGG"]
+    }
+
+    // ==================== decode 오류 Tests ====================
+
+    def "decode: 손상된 프레임 거부"() {
+        when:
+        StrokeCodec.decode(frame)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        frame << [
+                "!!not-base64!!",
+                Base64.encoder.encodeToString([2, 0] as byte[]),
+                Base64.encoder.encodeToString([1, 1, 0, 0, 0, 3, 0, 100] as byte[]),
+                StrokeCodec.encode([stroke("#000000", 3, false, [1, 2, 3, 4])]).with { it.substring(0, it.length() - 4) }
+        ]
+    }
+}
@@ -138,6 +138,38 @@ class WordChainSessionSpec extends Specification {
         !session.wordDefinitions.containsKey("apple")
     }
 
+    def "isWordUsed: DynamoDB에서 읽은 usedWordSet으로 확인"() {
+        given:
+        def session = WordChainSession.builder()
+                .usedWordSet(new HashSet<>(["apple", "elephant"]))
+                .build()
+
+        expect:
+        session.isWordUsed("Elephant")
+        !session.isWordUsed("tiger")
+        session.usedWords == null
+    }
+
+    def "addUsedWord: usedWordSet에도 추가"() {
+        given:
+        def session = WordChainSession.builder()
+                .usedWordSet(new HashSet<>(["apple"]))
+                .build()
+
+        when:
+        session.addUsedWord("Elephant", null)
+
+        then:
+        session.usedWordSet == ["apple", "elephant"] as Set
+        session.isWordUsed("elephant")
+    }
+
+    def "getUsedWordSet: 비어 있으면 null (빈 Set 저장 방지)"() {
+        expect:
+        WordChainSession.builder().build().usedWordSet == null
+        WordChainSession.builder().usedWordSet(new HashSet<>()).build().usedWordSet == null
+    }
+
     def "eliminatePlayer: 플레이어 탈락 처리"() {
         given:
         def session = WordChainSession.builder()
@@ -0,0 +1,190 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository
+
+import com.mzc.secondproject.serverless.domain.chatting.model.Connection
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse
+import spock.lang.Specification
+
+class ConnectionRepositorySpec extends Specification {
+
+    DynamoDbClient dynamoDb = Mock()
+    ConnectionRepository repository = new ConnectionRepository(
+            DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(), dynamoDb)
+
+    List<PutItemRequest> seatPuts = []
+    List<PutItemRequest> connectionPuts = []
+    List<BatchWriteItemRequest> batchWrites = []
+    List<DeleteItemRequest> seatDeletes = []
+
+    def setup() {
+        dynamoDb.updateItem(_ as UpdateItemRequest) >> UpdateItemResponse.builder().build()
+        dynamoDb.batchWriteItem(_ as BatchWriteItemRequest) >> { BatchWriteItemRequest request ->
+            batchWrites << request
+            BatchWriteItemResponse.builder().build()
+        }
+    }
+
+    static AttributeValue s(String value) { AttributeValue.builder().s(value).build() }
+
+    static Connection connection(String connectionId, String connectedAt = "2026-01-01T00:00:10Z") {
+        Connection.builder()
+                .pk("CONN#$connectionId".toString()).sk("METADATA")
+                .connectionId(connectionId).userId("user1").roomId("room1")
+                .connectedAt(connectedAt).ttl(9999L)
+                .build()
+    }
+
+    static ConditionalCheckFailedException conditionFailed() {
+        ConditionalCheckFailedException.builder().message("The conditional request failed").build()
+    }
+
+    static boolean isSeat(Map<String, AttributeValue> keyOrItem) {
+        keyOrItem["SK"].s().startsWith("SEAT#")
+    }
+
+    /**
+     * 좌석 Put 응답 지정 (그 외 PutItem은 연결 아이템 저장)
+     */
+    void seatPutReturns(Closure<PutItemResponse> response) {
+        dynamoDb.putItem(_ as PutItemRequest) >> { PutItemRequest request ->
+            if (isSeat(request.item())) {
+                seatPuts << request
+                return response.call()
+            }
+            connectionPuts << request
+            PutItemResponse.builder().build()
+        }
+    }
+
+    // ==================== saveReplacingUserConnection Tests ====================
+
+    def "saveReplacingUserConnection: 좌석이 비어 있으면 차지하고 연결 저장"() {
+        given:
+        seatPutReturns { PutItemResponse.builder().build() }
+
+        when:
+        def saved = repository.saveReplacingUserConnection(connection("conn-new"))
+
+        then:
+        saved
+        seatPuts.size() == 1
+        with(seatPuts[0]) {
+            item()["PK"].s() == "ROOM#room1"
+            item()["SK"].s() == "SEAT#user1"
+            item()["connectionId"].s() == "conn-new"
+            item()["connectedAtMs"].n() == "1767225610000"
+            conditionExpression() == "attribute_not_exists(#connectedAtMs) OR #connectedAtMs <= :connectedAtMs"
+            expressionAttributeValues()[":connectedAtMs"].n() == "1767225610000"
+            returnValues() == ReturnValue.ALL_OLD
+        }
+        connectionPuts*.item()*.get("connectionId")*.s() == ["conn-new"]
+        batchWrites.isEmpty()
+    }
+
+    def "saveReplacingUserConnection: 이전 연결이 차지한 좌석은 교체하고 이전 연결 삭제"() {
+        given:
+        seatPutReturns {
+            PutItemResponse.builder().attributes([connectionId: s("conn-old")]).build()
+        }
+
+        when:
+        def saved = repository.saveReplacingUserConnection(connection("conn-new"))
+
+        then:
+        saved
+        connectionPuts.size() == 1
+        batchWrites.size() == 1
+        batchWrites[0].requestItems().values().flatten()*.deleteRequest()*.key()*.get("PK")*.s() == ["CONN#conn-old"]
+    }
+
+    def "saveReplacingUserConnection: 더 늦게 연결된 연결이 좌석을 차지했으면 저장하지 않고 false"() {
+        given: "API Gateway 연결 시각이 더 늦은 연결이 이미 좌석을 차지함"
+        seatPutReturns { throw conditionFailed() }
+
+        when:
+        def saved = repository.saveReplacingUserConnection(connection("conn-stale", "2026-01-01T00:00:05Z"))
+
+        then:
+        !saved
+        seatPuts.size() == 1
+        seatPuts[0].expressionAttributeValues()[":connectedAtMs"].n() == "1767225605000"
+        connectionPuts.isEmpty()
+        batchWrites.isEmpty()
+    }
+
+    // ==================== delete (좌석 해제) Tests ====================
+
+    def "delete: 삭제한 연결이 아직 좌석을 가리킬 때만 좌석 해제"() {
+        given:
+        dynamoDb.deleteItem(_ as DeleteItemRequest) >> { DeleteItemRequest request ->
+            if (isSeat(request.key())) {
+                seatDeletes << request
+                return DeleteItemResponse.builder().build()
+            }
+            DeleteItemResponse.builder().attributes([
+                    PK          : s("CONN#conn1"), SK: s("METADATA"),
+                    connectionId: s("conn1"), userId: s("user1"), roomId: s("room1")
+            ]).build()
+        }
+
+        when:
+        repository.delete("conn1")
+
+        then:
+        seatDeletes.size() == 1
+        with(seatDeletes[0]) {
+            key()["PK"].s() == "ROOM#room1"
+            key()["SK"].s() == "SEAT#user1"
+            conditionExpression() == "connectionId = :connectionId"
+            expressionAttributeValues()[":connectionId"].s() == "conn1"
+        }
+    }
+
+    def "delete: 새 연결이 좌석을 차지했으면 좌석은 그대로 두고 정상 종료"() {
+        given:
+        dynamoDb.deleteItem(_ as DeleteItemRequest) >> { DeleteItemRequest request ->
+            if (isSeat(request.key())) {
+                seatDeletes << request
+                throw conditionFailed()
+            }
+            DeleteItemResponse.builder().attributes([
+                    PK          : s("CONN#conn1"), SK: s("METADATA"),
+                    connectionId: s("conn1"), userId: s("user1"), roomId: s("room1")
+            ]).build()
+        }
+
+        when:
+        repository.delete("conn1")
+
+        then:
+        noExceptionThrown()
+        seatDeletes.size() == 1
+    }
+
+    def "delete: 이미 없는 연결이면 좌석을 건드리지 않음"() {
+        given:
+        dynamoDb.deleteItem(_ as DeleteItemRequest) >> { DeleteItemRequest request ->
+            if (isSeat(request.key())) {
+                seatDeletes << request
+            }
+            DeleteItemResponse.builder().build()
+        }
+
+        when:
+        repository.delete("conn1")
+
+        then:
+        seatDeletes.isEmpty()
+    }
+}
@@ -0,0 +1,148 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse
+import spock.lang.Specification
+
+class GameSessionRepositorySpec extends Specification {
+
+    DynamoDbClient dynamoDb = Mock()
+    GameSessionRepository repository = new GameSessionRepository(
+            DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(), dynamoDb)
+
+    static AttributeValue s(String value) { AttributeValue.builder().s(value).build() }
+
+    static AttributeValue n(long value) { AttributeValue.builder().n(String.valueOf(value)).build() }
+
+    static ConditionalCheckFailedException conditionFailed() {
+        ConditionalCheckFailedException.builder().message("The conditional request failed").build()
+    }
+
+    // ==================== recordCorrectGuess Tests ====================
+
+    def "recordCorrectGuess: 진행 중인 라운드 + 아직 정답 처리되지 않은 사용자에만 점수를 더함"() {
+        given:
+        UpdateItemRequest captured = null
+
+        when:
+        def result = repository.recordCorrectGuess("game1", 2, "user1", 80, "drawer1", 40, 3)
+
+        then:
+        1 * dynamoDb.updateItem(_ as UpdateItemRequest) >> { UpdateItemRequest request ->
+            captured = request
+            UpdateItemResponse.builder().attributes([
+                    PK     : s("GAME#game1"), SK: s("METADATA"), gameSessionId: s("game1"),
+                    status : s("PLAYING"), currentRound: n(2), version: n(8),
+                    scores : AttributeValue.builder().m([user1: n(180), drawer1: n(40)]).build()
+            ]).build()
+        }
+        captured.conditionExpression() ==
+                "#status = :playing AND currentRound = :round AND NOT contains(correctGuessers, :userId)"
+        captured.expressionAttributeValues()[":round"].n() == "2"
+        captured.expressionAttributeValues()[":userId"].s() == "user1"
+        captured.updateExpression().contains("scores.#user = if_not_exists(scores.#user, :zero) + :score")
+        captured.updateExpression().contains("scores.#drawer = if_not_exists(scores.#drawer, :zero) + :drawerScore")
+        captured.expressionAttributeNames()["#user"] == "user1"
+        captured.expressionAttributeNames()["#drawer"] == "drawer1"
+        captured.returnValues() == ReturnValue.ALL_NEW
+
+        and: "갱신 후 점수로 세션 반환"
+        result.isPresent()
+        result.get().scores == [user1: 180, drawer1: 40]
+        result.get().version == 8L
+    }
+
+    def "recordCorrectGuess: 라운드가 끝났거나 이미 정답 처리된 사용자면 반영 없이 empty"() {
+        given:
+        dynamoDb.updateItem(_ as UpdateItemRequest) >> { throw conditionFailed() }
+
+        expect:
+        repository.recordCorrectGuess("game1", 2, "user1", 80, "drawer1", 40, 3).isEmpty()
+    }
+
+    // ==================== advanceRound Tests ====================
+
+    def "advanceRound: 읽은 version과 같을 때만 다음 라운드로 전환하고 version을 1 올림"() {
+        given:
+        UpdateItemRequest captured = null
+
+        when:
+        def advanced = repository.advanceRound("game1", 7L, 3, "drawer2", "w1", "사과", "apple", 1000L, ["user1"])
+
+        then:
+        1 * dynamoDb.updateItem(_ as UpdateItemRequest) >> { UpdateItemRequest request ->
+            captured = request
+            UpdateItemResponse.builder().build()
+        }
+        advanced
+        captured.conditionExpression() == "#status = :playing AND #version = :expectedVersion"
+        captured.expressionAttributeValues()[":expectedVersion"].n() == "7"
+        captured.expressionAttributeValues()[":nextVersion"].n() == "8"
+        captured.updateExpression().contains("#version = :nextVersion")
+        captured.updateExpression().contains("streaks.#reset0 = :zero")
+        captured.expressionAttributeNames()["#reset0"] == "user1"
+    }
+
+    def "advanceRound: version 도입 전 세션(0)은 version 속성이 없어도 전환"() {
+        given:
+        UpdateItemRequest captured = null
+
+        when:
+        repository.advanceRound("game1", 0L, 2, "drawer2", "w1", "사과", "apple", 1000L, [])
+
+        then:
+        1 * dynamoDb.updateItem(_ as UpdateItemRequest) >> { UpdateItemRequest request ->
+            captured = request
+            UpdateItemResponse.builder().build()
+        }
+        captured.conditionExpression() ==
+                "#status = :playing AND (attribute_not_exists(#version) OR #version = :expectedVersion)"
+        !captured.expressionAttributeValues().containsKey(":zero")
+    }
+
+    def "advanceRound: 다른 요청이 먼저 세션을 바꿨으면(version 불일치) false"() {
+        given:
+        dynamoDb.updateItem(_ as UpdateItemRequest) >> { throw conditionFailed() }
+
+        expect:
+        !repository.advanceRound("game1", 7L, 3, "drawer2", "w1", "사과", "apple", 1000L, [])
+    }
+
+    // ==================== finishGame Tests ====================
+
+    def "finishGame: 진행 중(PLAYING / ROUND_END)인 세션만 FINISHED로 전환"() {
+        given:
+        UpdateItemRequest captured = null
+
+        when:
+        def finished = repository.finishGame("game1", 5000L, 9999L)
+
+        then:
+        1 * dynamoDb.updateItem(_ as UpdateItemRequest) >> { UpdateItemRequest request ->
+            captured = request
+            UpdateItemResponse.builder().attributes([
+                    PK     : s("GAME#game1"), SK: s("METADATA"), gameSessionId: s("game1"),
+                    status : s("FINISHED"), endedAt: n(5000L)
+            ]).build()
+        }
+        captured.conditionExpression() == "#status IN (:playing, :roundEnd)"
+        captured.expressionAttributeValues()[":playing"].s() == "PLAYING"
+        captured.expressionAttributeValues()[":roundEnd"].s() == "ROUND_END"
+        captured.expressionAttributeValues()[":status"].s() == "FINISHED"
+        finished.get().status == "FINISHED"
+        finished.get().endedAt == 5000L
+    }
+
+    def "finishGame: 이미 종료된 세션이면 반영 없이 empty"() {
+        given:
+        dynamoDb.updateItem(_ as UpdateItemRequest) >> { throw conditionFailed() }
+
+        expect:
+        repository.finishGame("game1", 5000L, 9999L).isEmpty()
+    }
+}
@@ -0,0 +1,132 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository
+
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom
+import spock.lang.Specification
+
+class LobbyCacheSpec extends Specification {
+
+    long now = 0L
+    long version = 1L
+    long bumpedAt = -10_000L
+    int versionReads = 0
+    int loads = 0
+    boolean tooMany = false
+
+    LobbyCache cache = new LobbyCache(2000L, 30_000L, 2000L, { now })
+
+    def get() {
+        cache.get({ versionReads++; new VersionStamp(version, bumpedAt) }, {
+            loads++
+            tooMany ? Optional.empty() : Optional.of(LobbySnapshot.of([ChatRoom.builder().pk("ROOM#r" + loads).gsi1sk("CHAT#r" + loads).build()]))
+        })
+    }
+
+    def "첫 조회는 버전 확인 후 스냅샷 생성"() {
+        when:
+        def snapshot = get()
+
+        then:
+        snapshot.get().size() == 1
+        versionReads == 1
+        loads == 1
+    }
+
+    def "TTL 이내에는 DynamoDB 호출 없이 스냅샷 사용"() {
+        given:
+        def first = get()
+
+        when:
+        now = 1999L
+        def second = get()
+
+        then:
+        second.get().is(first.get())
+        versionReads == 1
+        loads == 1
+    }
+
+    def "TTL 경과 후 버전이 같으면 스냅샷 재사용, 다르면 재생성"() {
+        given:
+        get()
+
+        when:
+        now = 2000L
+        get()
+
+        then:
+        versionReads == 2
+        loads == 1
+
+        when:
+        now = 4000L
+        version = 2L
+        get()
+
+        then:
+        versionReads == 3
+        loads == 2
+    }
+
+    def "버전이 같아도 maxAge가 지나면 재생성"() {
+        given:
+        get()
+
+        when:
+        now = 30_000L
+        get()
+
+        then:
+        loads == 2
+    }
+
+    def "버전 증가 직후 만든 스냅샷은 버전이 같아도 재사용하지 않음"() {
+        given: "다른 컨테이너가 방금 방을 만들고 버전을 올림 (GSI1에는 아직 없음)"
+        version = 2L
+        bumpedAt = 0L
+        get()
+
+        when: "TTL 경과, 버전은 그대로지만 전파 대기 시간 이내에 만든 스냅샷"
+        now = 2000L
+        get()
+
+        then:
+        loads == 2
+
+        when: "전파 대기 시간 이후 만든 스냅샷은 재사용"
+        now = 4000L
+        get()
+
+        then:
+        loads == 2
+        versionReads == 3
+    }
+
+    def "invalidate 후에는 다시 조회"() {
+        given:
+        get()
+
+        when:
+        cache.invalidate()
+        now = 10L
+        get()
+
+        then:
+        versionReads == 2
+        loads == 2
+    }
+
+    def "방이 너무 많으면 empty를 캐시하고 TTL 동안 다시 읽지 않음"() {
+        given:
+        tooMany = true
+
+        when:
+        def first = get()
+        now = 100L
+        def second = get()
+
+        then:
+        first.isEmpty()
+        second.isEmpty()
+        loads == 1
+    }
+}
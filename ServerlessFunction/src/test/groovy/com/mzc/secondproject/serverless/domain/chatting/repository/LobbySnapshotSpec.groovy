@@ -0,0 +1,91 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository
+
+import com.mzc.secondproject.serverless.common.util.CursorUtil
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatRoom
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue
+import spock.lang.Specification
+
+class LobbySnapshotSpec extends Specification {
+
+    static ChatRoom room(String id, String type, String status, String level, String createdAt) {
+        def gameType = type == "GAME" ? "CATCHMIND" : "-"
+        ChatRoom.builder()
+                .pk("ROOM#" + id).sk("METADATA")
+                .gsi1pk("ROOMS").gsi1sk("${type}#${gameType}#${status}#${level}#${createdAt}".toString())
+                .roomId(id).type(type).status(status).level(level).createdAt(createdAt)
+                .build()
+    }
+
+    LobbySnapshot snapshot = LobbySnapshot.of([
+            room("c1", "CHAT", "WAITING", "beginner", "2026-01-01T00:00:01Z"),
+            room("g1", "GAME", "WAITING", "beginner", "2026-01-01T00:00:02Z"),
+            room("c2", "CHAT", "WAITING", "advanced", "2026-01-01T00:00:03Z"),
+            room("g2", "GAME", "PLAYING", "beginner", "2026-01-01T00:00:04Z"),
+            room("c3", "CHAT", "WAITING", "beginner", "2026-01-01T00:00:05Z"),
+    ])
+
+    def "page: 필터 없으면 GSI1SK 역순으로 전체 조회"() {
+        when:
+        def page = snapshot.page("", 10, null)
+
+        then:
+        page.items()*.roomId == ["g1", "g2", "c3", "c1", "c2"]
+        page.nextCursor() == null
+    }
+
+    def "page: GSI1SK prefix로 필터링"() {
+        expect:
+        snapshot.page(prefix, 10, null).items()*.roomId == expected
+
+        where:
+        prefix                            | expected
+        "CHAT#"                           | ["c3", "c1", "c2"]
+        "GAME#CATCHMIND#WAITING#"         | ["g1"]
+        "CHAT#-#WAITING#beginner#"        | ["c3", "c1"]
+        "GAME#CATCHMIND#FINISHED#"        | []
+    }
+
+    def "page: 커서로 다음 페이지를 이어서 조회하고 마지막 페이지에는 커서 없음"() {
+        when:
+        def first = snapshot.page("CHAT#", 2, null)
+        def second = snapshot.page("CHAT#", 2, first.nextCursor())
+
+        then:
+        first.items()*.roomId == ["c3", "c1"]
+        first.hasMore()
+        second.items()*.roomId == ["c2"]
+        !second.hasMore()
+    }
+
+    def "page: GSI 조회 커서(lastEvaluatedKey)와 호환"() {
+        given:
+        def cursor = CursorUtil.encode([
+                PK    : AttributeValue.builder().s("ROOM#g1").build(),
+                SK    : AttributeValue.builder().s("METADATA").build(),
+                GSI1PK: AttributeValue.builder().s("ROOMS").build(),
+                GSI1SK: AttributeValue.builder().s("GAME#CATCHMIND#WAITING#beginner#2026-01-01T00:00:02Z").build(),
+        ])
+
+        expect:
+        snapshot.page("", 10, cursor).items()*.roomId == ["g2", "c3", "c1", "c2"]
+    }
+
+    def "page: 커서 방이 삭제되었어도 그 다음 위치부터 조회"() {
+        given:
+        def cursor = snapshot.page("", 2, null).nextCursor()
+        def withoutG2 = LobbySnapshot.of([
+                room("c1", "CHAT", "WAITING", "beginner", "2026-01-01T00:00:01Z"),
+                room("g1", "GAME", "WAITING", "beginner", "2026-01-01T00:00:02Z"),
+                room("c2", "CHAT", "WAITING", "advanced", "2026-01-01T00:00:03Z"),
+                room("c3", "CHAT", "WAITING", "beginner", "2026-01-01T00:00:05Z"),
+        ])
+
+        expect:
+        withoutG2.page("", 10, cursor).items()*.roomId == ["c3", "c1", "c2"]
+    }
+
+    def "page: 잘못된 커서는 첫 페이지부터 조회"() {
+        expect:
+        snapshot.page("", 1, "not-a-cursor").items()*.roomId == ["g1"]
+    }
+}
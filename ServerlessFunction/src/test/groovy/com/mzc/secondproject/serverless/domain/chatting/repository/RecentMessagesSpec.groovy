@@ -0,0 +1,75 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository
+
+import com.mzc.secondproject.serverless.domain.chatting.model.ChatMessage
+import spock.lang.Specification
+
+class RecentMessagesSpec extends Specification {
+
+    static ChatMessage message(int second, String id = "m$second") {
+        def createdAt = String.format("2026-01-01T00:00:%02dZ", second)
+        ChatMessage.builder().messageId(id).createdAt(createdAt).sk("MSG#$createdAt#$id".toString()).build()
+    }
+
+    // ==================== newest Tests ====================
+
+    def "newest: 저장 순서와 관계없이 최신순 정렬 후 상위 n개"() {
+        given: "다른 컨테이너의 추가로 순서가 섞인 목록"
+        def messages = [message(1), message(3), message(2), message(5), message(4)]
+
+        expect:
+        RecentMessages.newest(messages, 3)*.messageId == ["m5", "m4", "m3"]
+    }
+
+    def "newest: 같은 messageId는 한 번만 포함"() {
+        given:
+        def messages = [message(1), message(2), message(2), message(1)]
+
+        expect:
+        RecentMessages.newest(messages, 10)*.messageId == ["m2", "m1"]
+    }
+
+    // ==================== firstPage Tests ====================
+
+    def "firstPage: 메시지가 limit 이상이면 최신 limit개 반환"() {
+        given:
+        def recent = new RecentMessages((1..5).collect { message(it) }, 3, false)
+
+        expect:
+        recent.firstPage(3).get()*.messageId == ["m5", "m4", "m3"]
+        recent.hasOlder(3)
+    }
+
+    def "firstPage: limit보다 적고 전체 목록이 아니면 Query로 대체"() {
+        given:
+        def recent = new RecentMessages([message(1), message(2)], 1, false)
+
+        expect:
+        recent.firstPage(3).isEmpty()
+    }
+
+    def "firstPage: 전체 목록이면 limit보다 적어도 반환하고 다음 페이지 없음"() {
+        given:
+        def recent = new RecentMessages([message(1), message(2)], 1, true)
+
+        expect:
+        recent.firstPage(3).get()*.messageId == ["m2", "m1"]
+        !recent.hasOlder(3)
+    }
+
+    def "firstPage: 전체 목록이 비어 있으면 빈 페이지"() {
+        given:
+        def recent = new RecentMessages([], 1, true)
+
+        expect:
+        recent.firstPage(20).get().isEmpty()
+        !recent.hasOlder(20)
+    }
+
+    def "hasOlder: 전체 목록이라도 limit보다 많으면 다음 페이지 있음"() {
+        given:
+        def recent = new RecentMessages((1..4).collect { message(it) }, 2, true)
+
+        expect:
+        recent.hasOlder(3)
+    }
+}
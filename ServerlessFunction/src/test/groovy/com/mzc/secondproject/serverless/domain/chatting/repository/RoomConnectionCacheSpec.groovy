@@ -0,0 +1,183 @@
+package com.mzc.secondproject.serverless.domain.chatting.repository
+
+import com.mzc.secondproject.serverless.domain.chatting.model.Connection
+import spock.lang.Specification
+
+class RoomConnectionCacheSpec extends Specification {
+
+    long now = 0L
+    long version = 1L
+    long bumpedAt = -10_000L
+    int versionReads = 0
+    int loads = 0
+
+    Closure onLoad = {}
+
+    RoomConnectionCache cache = new RoomConnectionCache(1000L, 30_000L, 2000L, 2, { now })
+
+    def get(String roomId = "room-1") {
+        cache.get(roomId, { versionReads++; new VersionStamp(version, bumpedAt) },
+                { loads++; onLoad(); [Connection.builder().connectionId("c" + loads).build()] })
+    }
+
+    // ==================== TTL Tests ====================
+
+    def "첫 조회는 버전 확인 후 목록 조회"() {
+        when:
+        def connections = get()
+
+        then:
+        connections*.connectionId == ["c1"]
+        versionReads == 1
+        loads == 1
+    }
+
+    def "TTL 이내에는 DynamoDB 호출 없이 캐시 사용"() {
+        given:
+        get()
+
+        when:
+        now = 999L
+        def connections = get()
+
+        then:
+        connections*.connectionId == ["c1"]
+        versionReads == 1
+        loads == 1
+    }
+
+    // ==================== 버전 검증 Tests ====================
+
+    def "TTL 경과 후 버전이 같으면 목록 재사용"() {
+        given:
+        get()
+
+        when:
+        now = 1500L
+        def connections = get()
+
+        then:
+        connections*.connectionId == ["c1"]
+        versionReads == 2
+        loads == 1
+    }
+
+    def "버전 확인 후에는 TTL 동안 다시 확인하지 않음"() {
+        given:
+        get()
+        now = 1500L
+        get()
+
+        when:
+        now = 2000L
+        get()
+
+        then:
+        versionReads == 2
+    }
+
+    def "TTL 경과 후 버전이 바뀌면 목록 재조회"() {
+        given:
+        get()
+
+        when:
+        now = 1500L
+        version = 2L
+        def connections = get()
+
+        then:
+        connections*.connectionId == ["c2"]
+        loads == 2
+    }
+
+    def "maxAge 경과 시 버전이 같아도 목록 재조회"() {
+        given:
+        get()
+
+        when:
+        now = 30_000L
+        def connections = get()
+
+        then:
+        connections*.connectionId == ["c2"]
+        loads == 2
+    }
+
+    // ==================== GSI 전파 지연 Tests ====================
+
+    def "버전 증가 직후 조회한 목록은 버전이 같아도 재사용하지 않음"() {
+        given: "다른 컨테이너가 방금 연결을 저장하고 버전을 올림 (GSI1에는 아직 없음)"
+        version = 2L
+        bumpedAt = 0L
+        get()
+
+        when: "TTL 경과, 버전은 그대로지만 전파 대기 시간 이내"
+        now = 1500L
+        def connections = get()
+
+        then:
+        connections*.connectionId == ["c2"]
+        loads == 2
+
+        when: "전파 대기 시간 이후 조회한 목록은 검증된 것으로 재사용"
+        now = 3000L
+        get()
+        now = 4500L
+        connections = get()
+
+        then:
+        connections*.connectionId == ["c3"]
+        loads == 3
+    }
+
+    def "목록 조회 중 버전이 증가하면 다음 검증에서 재조회"() {
+        given:
+        onLoad = { if (loads == 1) { version = 2L; bumpedAt = now } }
+        get()
+
+        when:
+        now = 2500L
+        def connections = get()
+
+        then:
+        connections*.connectionId == ["c2"]
+        loads == 2
+    }
+
+    // ==================== 무효화 / 용량 Tests ====================
+
+    def "로컬 무효화 후에는 즉시 재조회"() {
+        given:
+        get()
+
+        when:
+        cache.invalidate("room-1")
+        get()
+
+        then:
+        loads == 2
+    }
+
+    def "최대 방 수를 넘으면 가장 오래 사용하지 않은 방 제거"() {
+        when:
+        get("room-1")
+        get("room-2")
+        get("room-1")
+        get("room-3")
+
+        then:
+        cache.size() == 2
+
+        when:
+        get("room-1")
+
+        then:
+        loads == 3
+
+        when:
+        get("room-2")
+
+        then:
+        loads == 4
+    }
+}
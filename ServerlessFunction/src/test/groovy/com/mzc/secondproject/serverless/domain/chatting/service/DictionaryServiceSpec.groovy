@@ -51,4 +51,73 @@ class DictionaryServiceSpec extends Specification {
         DictionaryService.DictionaryResult.valid("test", null, "/test/").getPhonetic().isPresent()
         DictionaryService.DictionaryResult.valid("test", null, null).getPhonetic().isEmpty()
     }
+
+    def "lookupWord: 단어 사전에 없는 단어는 네트워크 없이 invalid"() {
+        given:
+        def service = new DictionaryService(Lexicon.of(["apple"]), null, DictionaryService.newLruCache(10), 100L)
+
+        when:
+        def result = service.lookupWord("Banana")
+
+        then:
+        !result.isValid()
+        result.errorMessage().contains("banana")
+    }
+
+    def "lookupWord: 캐시된 정의가 있으면 그대로 반환"() {
+        given:
+        def cache = DictionaryService.newLruCache(10)
+        cache.put("apple", DictionaryService.DictionaryResult.valid("apple", "(noun) A fruit", null))
+        def service = new DictionaryService(Lexicon.of(["apple"]), null, cache, 100L)
+
+        when:
+        def result = service.lookupWord(" APPLE ")
+
+        then:
+        result.isValid()
+        result.getDefinition().get() == "(noun) A fruit"
+    }
+
+    def "isValidWord: 단어 사전이 있으면 사전으로만 판단"() {
+        given:
+        def service = new DictionaryService(Lexicon.of(["apple"]), null, DictionaryService.newLruCache(10), 100L)
+
+        expect:
+        service.isValidWord("apple")
+        !service.isValidWord("banana")
+    }
+
+    def "isValidWord: 단어 사전이 없으면 사전 API 조회 결과(캐시)로 판단"() {
+        given:
+        def cache = DictionaryService.newLruCache(10)
+        cache.put("apple", DictionaryService.DictionaryResult.validWithoutDefinition("apple"))
+        cache.put("banana", DictionaryService.DictionaryResult.invalid("사전에 없는 단어입니다."))
+        def service = new DictionaryService(null as Lexicon, null, cache, 100L)
+
+        expect:
+        service.isValidWord("apple")
+        !service.isValidWord("banana")
+    }
+
+    def "기본 생성자: 단어 사전 리소스를 로드하지 않으므로 사전이 없어도 생성 가능"() {
+        when:
+        new DictionaryService()
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "newLruCache: 최대 개수를 넘으면 가장 오래 사용하지 않은 항목 제거"() {
+        given:
+        def cache = DictionaryService.newLruCache(2)
+        cache.put("a", DictionaryService.DictionaryResult.validWithoutDefinition("a"))
+        cache.put("b", DictionaryService.DictionaryResult.validWithoutDefinition("b"))
+        cache.get("a")
+
+        when:
+        cache.put("c", DictionaryService.DictionaryResult.validWithoutDefinition("c"))
+
+        then:
+        cache.keySet() == ["a", "c"] as Set
+    }
 }
@@ -0,0 +1,94 @@
+package com.mzc.secondproject.serverless.domain.chatting.service
+
+import com.mzc.secondproject.serverless.domain.chatting.model.GameRound
+import com.mzc.secondproject.serverless.domain.chatting.model.GameSession
+import spock.lang.Specification
+
+class GameStatsServiceSpec extends Specification {
+
+    def "aggregate: 라운드 단일 순회로 참가자별 증가분 집계"() {
+        given:
+        def session = GameSession.builder()
+                .gameSessionId("s1")
+                .roomId("room1")
+                .startedAt(1000L)
+                .scores(["u1": 30, "u2": 10])
+                .players(["u1", "u2", "u3"])
+                .build()
+        def rounds = [
+                round("u3", ["u1", "u2"], ["u1": 3000L, "u2": 8000L], "ALL_CORRECT", 1000L),
+                round("u1", ["u2"], ["u2": 4000L], "TIME_UP", 2000L),
+                round("u2", ["u1"], ["u1": 6000L], "TIME_UP", 3000L)
+        ]
+
+        when:
+        def increments = GameStatsService.aggregate(session, rounds).collectEntries { [(it.userId()): it] }
+
+        then:
+        increments.keySet() == ["u1", "u2", "u3"] as Set
+        increments.values().every { it.gamesPlayed() == 1 }
+
+        with(increments["u1"]) {
+            gamesWon() == 1
+            correctGuesses() == 2
+            quickGuesses() == 1
+            totalScore() == 30
+            perfectDraws() == 0
+        }
+        with(increments["u2"]) {
+            gamesWon() == 0
+            correctGuesses() == 2
+            quickGuesses() == 1
+            totalScore() == 10
+        }
+        with(increments["u3"]) {
+            gamesWon() == 0
+            correctGuesses() == 0
+            totalScore() == 0
+            perfectDraws() == 1
+        }
+    }
+
+    def "aggregate: 세션 시작 전 이전 게임 라운드는 제외"() {
+        given:
+        def session = GameSession.builder()
+                .startedAt(5000L)
+                .scores(["u1": 0])
+                .build()
+        def rounds = [
+                round("u2", ["u1"], ["u1": 1000L], "ALL_CORRECT", 1000L),
+                round("u2", ["u1"], ["u1": 9000L], "TIME_UP", 5000L)
+        ]
+
+        when:
+        def increments = GameStatsService.aggregate(session, rounds)
+
+        then:
+        increments.size() == 1
+        increments[0].correctGuesses() == 1
+        increments[0].quickGuesses() == 0
+    }
+
+    def "aggregate: 참가자가 없으면 빈 목록"() {
+        expect:
+        GameStatsService.aggregate(GameSession.builder().build(), []).isEmpty()
+    }
+
+    def "endedAt: 재시도해도 같은 값 - 종료 시각, 없으면 시작 시각"() {
+        expect:
+        GameStatsService.endedAt(GameSession.builder().startedAt(1000L).endedAt(5000L).build()) == 5000L
+        GameStatsService.endedAt(GameSession.builder().startedAt(1000L).build()) == 1000L
+        GameStatsService.endedAt(GameSession.builder().build()) == 0L
+    }
+
+    private static GameRound round(String drawerId, List<String> correctGuessers, Map<String, Long> guessTimes,
+                                   String endReason, Long startTime) {
+        GameRound.builder()
+                .drawerId(drawerId)
+                .correctGuessers(correctGuessers)
+                .guessTimes(guessTimes)
+                .endReason(endReason)
+                .startTime(startTime)
+                .build()
+    }
+}
@@ -0,0 +1,110 @@
+package com.mzc.secondproject.serverless.domain.chatting.service
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+class LexiconSpec extends Specification {
+
+    def "contains: 등록된 단어만 true"() {
+        given:
+        def lexicon = Lexicon.of(["apple", "banana", "cherry", "app"])
+
+        expect:
+        lexicon.contains(word) == expected
+
+        where:
+        word      | expected
+        "apple"   | true
+        "app"     | true
+        "banana"  | true
+        "cherry"  | true
+        "appl"    | false
+        "apples"  | false
+        "durian"  | false
+        "a"       | false
+    }
+
+    def "contains: 대소문자와 앞뒤 공백 무시"() {
+        given:
+        def lexicon = Lexicon.of(["  Apple ", "BANANA"])
+
+        expect:
+        lexicon.contains("apple")
+        lexicon.contains(" APPLE")
+        lexicon.contains("banana")
+        lexicon.size() == 2
+    }
+
+    def "contains: null/빈 문자열은 false"() {
+        given:
+        def lexicon = Lexicon.of(["apple"])
+
+        expect:
+        !lexicon.contains(null)
+        !lexicon.contains("")
+        !lexicon.contains("   ")
+    }
+
+    def "of: 중복/빈 줄 제거"() {
+        when:
+        def lexicon = Lexicon.of(["apple", "apple", "", " ", "Apple"])
+
+        then:
+        lexicon.size() == 1
+    }
+
+    def "of: 빈 사전은 모든 단어가 없음"() {
+        when:
+        def lexicon = Lexicon.of([])
+
+        then:
+        lexicon.size() == 0
+        !lexicon.contains("apple")
+    }
+
+    def "contains: 많은 단어에서도 등록 단어는 모두 찾고 미등록 단어는 거부"() {
+        given:
+        def words = (0..<5000).collect { "word" + it }
+        def lexicon = Lexicon.of(words)
+
+        expect:
+        words.every { lexicon.contains(it) }
+        (5000..<6000).every { !lexicon.contains("word" + it) }
+    }
+
+    def "read: 한 줄에 한 단어, 주석 줄 무시"() {
+        given:
+        def text = "# english words\napple\nbanana\n\ncherry\n"
+
+        when:
+        def lexicon = Lexicon.read(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)))
+
+        then:
+        lexicon.size() == 3
+        lexicon.contains("cherry")
+        !lexicon.contains("# english words")
+    }
+
+    def "read: gzip 스트림도 동일하게 읽음"() {
+        given:
+        def bytes = new ByteArrayOutputStream()
+        new GZIPOutputStream(bytes).withCloseable { it.write("apple\nbanana\n".getBytes(StandardCharsets.UTF_8)) }
+
+        when:
+        def lexicon = Lexicon.read(new GZIPInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+
+        then:
+        lexicon.size() == 2
+        lexicon.contains("banana")
+    }
+
+    def "loadResource: 리소스가 없으면 empty"() {
+        expect:
+        Lexicon.loadResource("dictionary/not-exists.txt.gz").isEmpty()
+        Lexicon.loadResource(null).isEmpty()
+        Lexicon.loadResource("").isEmpty()
+    }
+}
@@ -0,0 +1,118 @@
+package com.mzc.secondproject.serverless.domain.user.service
+
+import com.mzc.secondproject.serverless.domain.user.model.User
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class UserProfileCacheSpec extends Specification {
+
+    static final long TTL_MS = 60_000L
+
+    long now = 1_000_000L
+    def cache = new UserProfileCache(TTL_MS, 3, { now })
+    List<Set<String>> requested = []
+
+    static User user(String id, String nickname = "nick-$id") {
+        User.builder().cognitoSub(id).nickname(nickname).build()
+    }
+
+    Function<Set<String>, Map<String, User>> loaderOf(Map<String, User> users) {
+        return { Set<String> ids ->
+            requested << new LinkedHashSet<>(ids)
+            users.subMap(ids)
+        } as Function<Set<String>, Map<String, User>>
+    }
+
+    // ==================== getAll Tests ====================
+
+    def "getAll: 캐시 미스 사용자만 한 번에 조회"() {
+        given:
+        def loader = loaderOf([u1: user("u1"), u2: user("u2"), u3: user("u3")])
+        cache.getAll(["u1"], loader)
+
+        when:
+        def result = cache.getAll(["u1", "u2", "u3", "u2"], loader)
+
+        then:
+        result.keySet() == ["u1", "u2", "u3"] as Set
+        requested == [["u1"] as Set, ["u2", "u3"] as Set]
+    }
+
+    def "getAll: ttl 이내 반복 조회는 loader를 호출하지 않음"() {
+        given:
+        def loader = loaderOf([u1: user("u1")])
+
+        when:
+        cache.getAll(["u1"], loader)
+        now += TTL_MS - 1
+        def result = cache.getAll(["u1"], loader)
+
+        then:
+        result.u1.nickname == "nick-u1"
+        requested.size() == 1
+    }
+
+    def "getAll: ttl이 지나면 다시 조회"() {
+        given:
+        cache.getAll(["u1"], loaderOf([u1: user("u1", "old")]))
+        now += TTL_MS
+
+        when:
+        def result = cache.getAll(["u1"], loaderOf([u1: user("u1", "new")]))
+
+        then:
+        result.u1.nickname == "new"
+    }
+
+    def "getAll: 존재하지 않는 사용자는 캐시하지 않음"() {
+        given:
+        def loader = loaderOf([:])
+
+        when:
+        def first = cache.getAll(["ghost"], loader)
+        def second = cache.getAll(["ghost"], loader)
+
+        then:
+        first.isEmpty()
+        second.isEmpty()
+        requested.size() == 2
+        cache.size() == 0
+    }
+
+    def "getAll: null userId는 무시"() {
+        expect:
+        cache.getAll([null, "u1"], loaderOf([u1: user("u1")])).keySet() == ["u1"] as Set
+    }
+
+    // ==================== LRU / 무효화 Tests ====================
+
+    def "getAll: 최대 개수를 넘으면 가장 오래 사용하지 않은 사용자 제거"() {
+        given:
+        def loader = loaderOf((1..4).collectEntries { ["u$it".toString(), user("u$it")] })
+        cache.getAll(["u1", "u2", "u3"], loader)
+        cache.getAll(["u1"], loader)
+
+        when:
+        cache.getAll(["u4"], loader)
+        requested.clear()
+        cache.getAll(["u1", "u2"], loader)
+
+        then:
+        cache.size() == 3
+        requested == [["u2"] as Set]
+    }
+
+    def "invalidate: 무효화된 사용자는 다시 조회"() {
+        given:
+        def loader = loaderOf([u1: user("u1")])
+        cache.getAll(["u1"], loader)
+
+        when:
+        cache.invalidate("u1")
+        cache.getAll(["u1"], loader)
+
+        then:
+        requested.size() == 2
+    }
+}
@@ -29,6 +29,16 @@ class VocabularyConfigSpec extends Specification {
         VocabularyConfig.secondIntervalDays() > 0
     }
 
+    def "samplerRefreshMs 기본값 확인"() {
+        expect: "기본값은 10분"
+        VocabularyConfig.samplerRefreshMs() > 0
+    }
+
+    def "samplerMaxWordsPerLevel 기본값 확인"() {
+        expect: "기본값은 10000"
+        VocabularyConfig.samplerMaxWordsPerLevel() > 0
+    }
+
     // ==================== Business Logic Tests ====================
 
     def "transitionToMasteredThreshold가 transitionToReviewingThreshold보다 큼"() {
@@ -0,0 +1,126 @@
+package com.mzc.secondproject.serverless.domain.vocabulary.repository
+
+import com.mzc.secondproject.serverless.domain.vocabulary.model.Word
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class LevelWordSamplerSpec extends Specification {
+
+    static final long REFRESH_MS = 60_000L
+
+    long now = 1_000_000L
+    def sampler = new LevelWordSampler(REFRESH_MS, { now }, new Random(42))
+    def loads = 0
+
+    static List<Word> words(int n) {
+        (0..<n).collect { Word.builder().wordId("w$it").english("e$it").korean("k$it").build() }
+    }
+
+    Function<String, List<Word>> loaderOf(List<Word> words) {
+        return { String level -> loads++; words } as Function<String, List<Word>>
+    }
+
+    // ==================== sample Tests ====================
+
+    def "sample: 중복 없이 요청 개수만큼 반환"() {
+        when:
+        def result = sampler.sample("BEGINNER", 10, [], loaderOf(words(200)))
+
+        then:
+        result.size() == 10
+        result*.wordId.toSet().size() == 10
+    }
+
+    def "sample: 첫 50개 이후 단어도 고르게 선택됨"() {
+        given:
+        def loader = loaderOf(words(200))
+        def seen = [] as Set
+
+        when:
+        200.times { seen.addAll(sampler.sample("BEGINNER", 5, [], loader)*.wordId) }
+
+        then:
+        seen.count { (it.substring(1) as int) >= 50 } > 100
+        seen.size() > 180
+    }
+
+    def "sample: 제외 대상은 결과에 포함되지 않음"() {
+        given:
+        def excluded = (0..<8).collect { "w$it".toString() }
+
+        when:
+        def result = sampler.sample("BEGINNER", 5, excluded, loaderOf(words(10)))
+
+        then:
+        result*.wordId.toSet() == ["w8", "w9"] as Set
+    }
+
+    def "sample: 단어가 부족하면 가능한 만큼만 반환"() {
+        expect:
+        sampler.sample("BEGINNER", 10, null, loaderOf(words(3))).size() == 3
+    }
+
+    // ==================== 캐시 Tests ====================
+
+    def "sample: 갱신 주기 내에는 다시 조회하지 않음"() {
+        given:
+        def loader = loaderOf(words(20))
+
+        when:
+        sampler.sample("beginner", 3, [], loader)
+        now += REFRESH_MS - 1
+        sampler.sample("BEGINNER", 3, [], loader)
+
+        then: "난이도는 대소문자 구분 없이 같은 캐시 사용"
+        loads == 1
+    }
+
+    def "sample: 갱신 주기가 지나면 다시 조회"() {
+        given:
+        sampler.sample("BEGINNER", 3, [], loaderOf(words(20)))
+        now += REFRESH_MS
+
+        when:
+        def result = sampler.sample("BEGINNER", 5, [], loaderOf(words(2)))
+
+        then:
+        loads == 2
+        result.size() == 2
+    }
+
+    def "sample: 재조회 실패 시 이전 목록 사용"() {
+        given:
+        sampler.sample("BEGINNER", 3, [], loaderOf(words(20)))
+        now += REFRESH_MS
+
+        when:
+        def result = sampler.sample("BEGINNER", 3, [], { throw new IllegalStateException("throttled") } as Function)
+
+        then:
+        result.size() == 3
+    }
+
+    def "sample: 캐시가 없을 때 조회 실패는 그대로 전파"() {
+        when:
+        sampler.sample("BEGINNER", 3, [], { throw new IllegalStateException("throttled") } as Function)
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "invalidate: 무효화한 난이도만 다시 조회"() {
+        given:
+        def loader = loaderOf(words(20))
+        sampler.sample("BEGINNER", 3, [], loader)
+        sampler.sample("ADVANCED", 3, [], loader)
+
+        when:
+        sampler.invalidate("beginner")
+        sampler.sample("BEGINNER", 3, [], loader)
+        sampler.sample("ADVANCED", 3, [], loader)
+
+        then:
+        loads == 3
+    }
+}